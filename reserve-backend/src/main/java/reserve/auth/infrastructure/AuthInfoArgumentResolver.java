@@ -44,11 +44,10 @@ public class AuthInfoArgumentResolver implements HandlerMethodArgumentResolver {
         if (authorizationHeader == null) {
             return AuthInfo.guest();
         }
-        String token = extractAccessToken(authorizationHeader);
-        if (token == null) {
+        TokenDetails tokenDetails = jwtProvider.findAccessTokenDetails(extractAccessToken(authorizationHeader));
+        if (tokenDetails == null) {
             return AuthInfo.guest(true);
         }
-        TokenDetails tokenDetails = jwtProvider.extractAccessTokenDetails(token);
         Long userId = Long.valueOf(tokenDetails.getUserId());
         return AuthInfo.user(userId);
     }
@@ -58,9 +57,6 @@ public class AuthInfoArgumentResolver implements HandlerMethodArgumentResolver {
         if (authParts.length != 2 || !authParts[0].equalsIgnoreCase("Bearer")) {
             throw new InvalidAuthorizationException(ErrorCode.INVALID_ACCESS_TOKEN_FORMAT);
         }
-        if (jwtProvider.isAccessTokenExpired(authParts[1])) {
-            return null;
-        }
         return authParts[1];
     }
 
@@ -0,0 +1,174 @@
+package reserve.auth.infrastructure;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reserve.global.exception.ErrorCode;
+import reserve.global.exception.ResourceNotFoundException;
+import reserve.global.transaction.TransactionCallbacks;
+import reserve.menu.dto.MenuOwnerDto;
+import reserve.menu.infrastructure.MenuQueryRepository;
+import reserve.store.dto.StoreChange;
+import reserve.store.infrastructure.StoreChangeListener;
+import reserve.store.infrastructure.StoreRepository;
+import reserve.user.infrastructure.UserRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Facts checked before most writes that rarely change once true: that a user exists, and who owns a store or a menu.
+ *
+ * <p> Only facts found to hold are cached, since IDs not yet created may be created later. A store or menu never
+ * changes owner, so entries are evicted only when the user, store or menu is deleted, together with the entries that
+ * depend on it, once the deletion commits. If broadcasting is enabled, evictions are also published through Redis
+ * pub/sub to the other nodes, except those of stores, which follow the deletions delivered by
+ * {@link reserve.store.infrastructure.StoreChangeChannel}; a missed message is covered by the TTL of the entries. </p>
+ *
+ * <p> Facts are loaded through the cache, so that an eviction waits for a load of the same key in flight and then
+ * removes what it loaded. A load in flight is not seen by the evictions of dependent entries, which scan the cached
+ * values, so every eviction moves a generation, and a value loaded while the generation moved is not kept. </p>
+ */
+@Component
+@Slf4j
+public class AuthorizationFactCache implements MessageListener, StoreChangeListener {
+
+    public static final String CHANNEL = "authorization-facts";
+
+    private static final String USER = "user:";
+    private static final String STORE = "store:";
+    private static final String MENU = "menu:";
+
+    private final UserRepository userRepository;
+    private final StoreRepository storeRepository;
+    private final MenuQueryRepository menuQueryRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final boolean broadcast;
+
+    private final Cache<Long, Boolean> availableUsers;
+    private final Cache<Long, Long> storeOwners;
+    private final Cache<Long, MenuOwnerDto> menuOwners;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    public AuthorizationFactCache(
+            UserRepository userRepository,
+            StoreRepository storeRepository,
+            MenuQueryRepository menuQueryRepository,
+            StringRedisTemplate redisTemplate,
+            @Value("${application.auth.factCache.ttl:10m}") Duration ttl,
+            @Value("${application.auth.factCache.maximumSize:100000}") long maximumSize,
+            @Value("${application.auth.factCache.broadcast:true}") boolean broadcast
+    ) {
+        this.userRepository = userRepository;
+        this.storeRepository = storeRepository;
+        this.menuQueryRepository = menuQueryRepository;
+        this.redisTemplate = redisTemplate;
+        this.broadcast = broadcast;
+        this.availableUsers = Caffeine.newBuilder().expireAfterWrite(ttl).maximumSize(maximumSize).build();
+        this.storeOwners = Caffeine.newBuilder().expireAfterWrite(ttl).maximumSize(maximumSize).build();
+        this.menuOwners = Caffeine.newBuilder().expireAfterWrite(ttl).maximumSize(maximumSize).build();
+    }
+
+    public boolean isUserAvailable(Long userId) {
+        return load(availableUsers, userId, id -> userRepository.existsById(id) ? Boolean.TRUE : null) != null;
+    }
+
+    public boolean isStoreOwner(Long storeId, Long userId) {
+        Long ownerId = load(storeOwners, storeId, id -> storeRepository.findUserIdById(id).orElse(null));
+        return ownerId != null && ownerId.equals(userId);
+    }
+
+    /**
+     * @throws ResourceNotFoundException if the menu does not exist
+     */
+    public boolean isMenuOwner(Long menuId, Long userId) {
+        MenuOwnerDto owner = load(menuOwners, menuId, id -> menuQueryRepository.findOwnerById(id).orElse(null));
+        if (owner == null) {
+            throw new ResourceNotFoundException(ErrorCode.MENU_NOT_FOUND);
+        }
+        return owner.getUserId().equals(userId);
+    }
+
+    /**
+     * @param loader returns {@code null} if the fact does not hold, which is then not cached
+     */
+    private <V> V load(Cache<Long, V> cache, Long key, Function<Long, V> loader) {
+        long loadGeneration = generation.get();
+        V value = cache.get(key, loader);
+        if (value != null && generation.get() != loadGeneration) {
+            // May have been loaded before an eviction whose scan could not see it yet.
+            cache.asMap().remove(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Evicts the user with the stores and menus the user owns, once the current transaction commits.
+     */
+    public void evictUser(Long userId) {
+        evictAfterCommit(USER + userId);
+    }
+
+    /**
+     * Evicts a deleted store with its menus.
+     */
+    @Override
+    public void storeChanged(StoreChange change) {
+        if (change.deleted()) {
+            evict(STORE + change.storeId());
+        }
+    }
+
+    public void evictMenu(Long menuId) {
+        evictAfterCommit(MENU + menuId);
+    }
+
+    private void evictAfterCommit(String fact) {
+        TransactionCallbacks.runAfterCommit(() -> {
+            evict(fact);
+            if (broadcast) {
+                try {
+                    redisTemplate.convertAndSend(CHANNEL, fact);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to broadcast eviction of {}", fact, e);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            evict(new String(message.getBody(), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed authorization fact eviction", e);
+        }
+    }
+
+    private void evict(String fact) {
+        generation.incrementAndGet();
+        if (fact.startsWith(USER)) {
+            Long userId = Long.valueOf(fact.substring(USER.length()));
+            availableUsers.invalidate(userId);
+            storeOwners.asMap().values().removeIf(ownerId -> ownerId.equals(userId));
+            menuOwners.asMap().values().removeIf(owner -> owner.getUserId().equals(userId));
+        } else if (fact.startsWith(STORE)) {
+            Long storeId = Long.valueOf(fact.substring(STORE.length()));
+            storeOwners.invalidate(storeId);
+            menuOwners.asMap().values().removeIf(owner -> owner.getStoreId().equals(storeId));
+        } else if (fact.startsWith(MENU)) {
+            menuOwners.invalidate(Long.valueOf(fact.substring(MENU.length())));
+        } else {
+            throw new IllegalArgumentException("Unknown authorization fact: " + fact);
+        }
+    }
+
+}
@@ -0,0 +1,30 @@
+package reserve.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import reserve.auth.infrastructure.AuthorizationFactCache;
+import reserve.notification.infrastructure.NotificationEventChannel;
+import reserve.store.infrastructure.StoreChangeChannel;
+
+@Configuration
+public class RedisConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory redisConnectionFactory,
+            NotificationEventChannel notificationEventChannel,
+            AuthorizationFactCache authorizationFactCache,
+            StoreChangeChannel storeChangeChannel
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(notificationEventChannel, new ChannelTopic(NotificationEventChannel.CHANNEL));
+        container.addMessageListener(authorizationFactCache, new ChannelTopic(AuthorizationFactCache.CHANNEL));
+        container.addMessageListener(storeChangeChannel, new ChannelTopic(StoreChangeChannel.CHANNEL));
+        return container;
+    }
+
+}
@@ -1,16 +1,34 @@
 package reserve.global.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import reserve.signup.infrastructure.BoundedPasswordEncoder;
 import reserve.signup.infrastructure.PasswordEncoder;
 import reserve.signup.infrastructure.Pbkdf2PasswordEncoder;
 
+import java.time.Duration;
+
 @Configuration
 public class SecurityConfig {
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new Pbkdf2PasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${application.security.passwordHashing.threads:4}") int threads,
+            @Value("${application.security.passwordHashing.queueCapacity:100}") int queueCapacity,
+            @Value("${application.security.passwordHashing.waitTimeout:2s}") Duration waitTimeout,
+            @Value("${application.security.passwordHashing.targetLatency:100ms}") Duration targetLatency,
+            @Value("${application.security.passwordHashing.minIterations:65536}") int minIterations
+    ) {
+        return new BoundedPasswordEncoder(
+                Pbkdf2PasswordEncoder.calibrated(targetLatency, minIterations),
+                meterRegistry,
+                threads,
+                queueCapacity,
+                waitTimeout
+        );
     }
 
 }
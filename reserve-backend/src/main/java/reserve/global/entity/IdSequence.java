@@ -0,0 +1,20 @@
+package reserve.global.entity;
+
+/**
+ * Table-backed identifier allocation shared by entities that are inserted in bulk.
+ * <p>
+ * Unlike {@code IDENTITY}, ids are reserved in blocks of {@link #ALLOCATION_SIZE} ahead of the insert,
+ * so Hibernate can defer and batch the insert statements.
+ * Each entity has its own row in {@link #TABLE}, named by its table name.
+ */
+public final class IdSequence {
+
+    public static final String TABLE = "id_sequences";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdSequence() {
+    }
+
+}
@@ -26,9 +26,13 @@ public enum ErrorCode {
 
     // 2xx: Wrong request.
     INVALID_REQUEST(200, "Request is invalid."),
+    INVALID_DATE_RANGE(201, "The date range is invalid."),
+    INVALID_CURSOR(202, "The page cursor is invalid."),
+    INVALID_LOCATION(203, "Latitude and longitude must be given together."),
     RESERVATION_CANNOT_CANCEL(211, "Failed to cancel the reservation as it is already in service or completed."),
     RESERVATION_CANNOT_START(212, "Failed to start the reservation as it is not ready state."),
     RESERVATION_CANNOT_COMPLETE(213, "Failed to complete the reservation as it is not in service."),
+    RESERVATION_SLOT_FULL(214, "The requested reservation hour is fully booked."),
 
     // 3xx: Not found errors.
     USER_NOT_FOUND(301, "User does not exist."),
@@ -44,7 +48,8 @@ public enum ErrorCode {
     USERNAME_DUPLICATE(501, "Username already exists."),
 
     // 9xx: server errors.
-    INTERNAL_SERVER_ERROR(900, "An internal server error has occurred. Please try again later.");
+    INTERNAL_SERVER_ERROR(900, "An internal server error has occurred. Please try again later."),
+    TOO_MANY_SIGN_IN_REQUESTS(902, "The server has too many sign-in requests in progress. Please try again later.");
 
     @Schema(description = "Error code", example = "101")
     private final int code;
@@ -0,0 +1,9 @@
+package reserve.global.exception;
+
+public class InvalidRequestException extends ErrorCodeException {
+
+    public InvalidRequestException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+
+}
@@ -6,4 +6,8 @@ public class RefreshTokenException extends ErrorCodeException {
         super(errorCode);
     }
 
+    public RefreshTokenException(ErrorCode errorCode, Throwable e) {
+        super(errorCode, e);
+    }
+
 }
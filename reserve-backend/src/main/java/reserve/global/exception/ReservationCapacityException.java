@@ -0,0 +1,9 @@
+package reserve.global.exception;
+
+public class ReservationCapacityException extends ErrorCodeException {
+
+    public ReservationCapacityException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+
+}
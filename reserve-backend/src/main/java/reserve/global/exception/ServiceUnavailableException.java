@@ -0,0 +1,9 @@
+package reserve.global.exception;
+
+public class ServiceUnavailableException extends ErrorCodeException {
+
+    public ServiceUnavailableException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+
+}
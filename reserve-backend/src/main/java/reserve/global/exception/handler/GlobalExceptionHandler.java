@@ -47,6 +47,12 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return ErrorCode.INVALID_REQUEST;
     }
 
+    @ExceptionHandler(InvalidRequestException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorCode handleInvalidRequest(InvalidRequestException e, HttpServletRequest request) {
+        return handleErrorCodeException(e, request);
+    }
+
     @ExceptionHandler(WrongCredentialException.class)
     @ResponseStatus(HttpStatus.UNAUTHORIZED)
     public ErrorCode handleWrongCredential(WrongCredentialException e, HttpServletRequest request) {
@@ -83,6 +89,12 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return handleErrorCodeException(e, request);
     }
 
+    @ExceptionHandler(ReservationCapacityException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorCode handleReservationCapacity(ReservationCapacityException e, HttpServletRequest request) {
+        return handleErrorCodeException(e, request);
+    }
+
     @ExceptionHandler(ResourceNotFoundException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public ErrorCode handleResourceNotFound(ResourceNotFoundException e, HttpServletRequest request) {
@@ -101,6 +113,12 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return handleErrorCodeException(e, request);
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ErrorCode handleServiceUnavailable(ServiceUnavailableException e, HttpServletRequest request) {
+        return handleErrorCodeException(e, request);
+    }
+
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public ErrorCode handleException(Exception e, HttpServletRequest request) {
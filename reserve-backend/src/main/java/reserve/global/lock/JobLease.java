@@ -0,0 +1,72 @@
+package reserve.global.lock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Lets a scheduled job run on one application node at a time.
+ *
+ * <p> A node takes a lease on the job in Redis before running it and gives the lease back afterward. The lease
+ * expires on its own if the node dies while holding it, so the lease time must exceed the longest run of the job;
+ * otherwise another node may start the job while it is still running. </p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobLease {
+
+    public static final String KEY_PREFIX = "job-leases:";
+
+    // Gives the lease back only if it is still held by the caller, so an expired lease taken over by another node is
+    // left alone.
+    private static final RedisScript<Long> RELEASE = RedisScript.of(
+            """
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """,
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * Runs the job if no other node holds its lease. The job is skipped if Redis is unavailable, since whether
+     * another node is running it cannot be told.
+     *
+     * @return {@code true} if the job ran on this node
+     */
+    public boolean runExclusively(String job, Duration leaseTime, Runnable action) {
+        String key = KEY_PREFIX + job;
+        String token = UUID.randomUUID().toString();
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, token, leaseTime))) {
+                log.debug("Skipping job {} held by another node", job);
+                return false;
+            }
+        } catch (DataAccessException e) {
+            log.warn("Skipping job {} as its lease could not be taken", job, e);
+            return false;
+        }
+        try {
+            action.run();
+            return true;
+        } finally {
+            try {
+                redisTemplate.execute(RELEASE, List.of(key), token);
+            } catch (DataAccessException e) {
+                log.warn("Failed to give back the lease of job {}; it expires in {}", job, leaseTime, e);
+            }
+        }
+    }
+
+}
@@ -10,7 +10,7 @@ import reserve.global.entity.DeletableBaseEntity;
 import reserve.store.domain.Store;
 
 @Entity
-@Table(name = "menus")
+@Table(name = "menus", indexes = @Index(name = "ix_menus_storeid_status", columnList = "store_id, status"))
 @SQLRestriction("status = 'AVAILABLE'")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
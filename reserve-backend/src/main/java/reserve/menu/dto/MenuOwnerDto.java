@@ -0,0 +1,16 @@
+package reserve.menu.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public class MenuOwnerDto {
+
+    private final Long menuId;
+
+    private final Long storeId;
+
+    private final Long userId;
+
+}
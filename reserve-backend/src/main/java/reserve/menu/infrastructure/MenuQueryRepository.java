@@ -1,11 +1,10 @@
 package reserve.menu.infrastructure;
 
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import org.springframework.stereotype.Repository;
-import reserve.global.exception.ErrorCode;
-import reserve.global.exception.ResourceNotFoundException;
-import reserve.menu.domain.Menu;
+import reserve.menu.dto.MenuOwnerDto;
 
 import java.util.Optional;
 
@@ -20,15 +19,13 @@ public class MenuQueryRepository {
         this.queryFactory = new JPAQueryFactory(em);
     }
 
-    public boolean hasAccessToMenu(Long menuId, Long userId) {
-        Boolean result = queryFactory.select(menu.store.user.id.eq(userId))
+    public Optional<MenuOwnerDto> findOwnerById(Long menuId) {
+        MenuOwnerDto result = queryFactory
+                .select(Projections.constructor(MenuOwnerDto.class, menu.id, menu.store.id, menu.store.user.id))
                 .from(menu)
                 .where(menu.id.eq(menuId))
                 .fetchOne();
-        if (result == null) {
-            throw new ResourceNotFoundException(ErrorCode.MENU_NOT_FOUND);
-        }
-        return result;
+        return Optional.ofNullable(result);
     }
 
 }
@@ -3,6 +3,7 @@ package reserve.menu.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reserve.auth.infrastructure.AuthorizationFactCache;
 import reserve.global.exception.ErrorCode;
 import reserve.global.exception.InvalidAccessException;
 import reserve.global.exception.ResourceNotFoundException;
@@ -11,7 +12,6 @@ import reserve.menu.dto.request.MenuCreateRequest;
 import reserve.menu.dto.request.MenuUpdateRequest;
 import reserve.menu.dto.response.MenuInfoListResponse;
 import reserve.menu.dto.response.MenuInfoResponse;
-import reserve.menu.infrastructure.MenuQueryRepository;
 import reserve.menu.infrastructure.MenuRepository;
 import reserve.store.infrastructure.StoreRepository;
 
@@ -23,11 +23,11 @@ public class MenuService {
 
     private final MenuRepository menuRepository;
 
-    private final MenuQueryRepository menuQueryRepository;
+    private final AuthorizationFactCache authorizationFactCache;
 
     @Transactional
     public Long create(Long userId, Long storeId, MenuCreateRequest menuCreateRequest) {
-        if (!storeRepository.existsByIdAndUserId(storeId, userId)) {
+        if (!authorizationFactCache.isStoreOwner(storeId, userId)) {
             throw new ResourceNotFoundException(ErrorCode.STORE_NOT_FOUND);
         }
         Menu menu = menuRepository.save(new Menu(
@@ -54,7 +54,7 @@ public class MenuService {
     public void update(Long userId, Long menuId, MenuUpdateRequest menuUpdateRequest) {
         Menu menu = menuRepository.findById(menuId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.MENU_NOT_FOUND));
-        if (!menuQueryRepository.hasAccessToMenu(menuId, userId)) {
+        if (!authorizationFactCache.isMenuOwner(menuId, userId)) {
             throw new InvalidAccessException(ErrorCode.ACCESS_DENIED);
         }
         if (menuUpdateRequest.getName() != null) {
@@ -70,10 +70,11 @@ public class MenuService {
 
     @Transactional
     public void delete(Long userId, Long menuId) {
-        if (!menuQueryRepository.hasAccessToMenu(menuId, userId)) {
+        if (!authorizationFactCache.isMenuOwner(menuId, userId)) {
             throw new InvalidAccessException(ErrorCode.ACCESS_DENIED);
         }
         menuRepository.deleteById(menuId);
+        authorizationFactCache.evictMenu(menuId);
     }
 
 }
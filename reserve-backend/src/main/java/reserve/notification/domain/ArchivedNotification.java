@@ -0,0 +1,47 @@
+package reserve.notification.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A notification moved out of {@code notifications} after the retention period. Rows are only inserted by
+ * {@code NotificationRepository#archiveByIdIn}, and keep no foreign key so that they do not hold back user deletion.
+ */
+@Entity
+@Table(name = "notifications_archive")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class ArchivedNotification {
+
+    @Id
+    @Column(name = "notification_id")
+    private Long id;
+
+    @Column(nullable = false, updatable = false)
+    private Long userId;
+
+    @Column(nullable = false, updatable = false)
+    @Enumerated(EnumType.STRING)
+    private ResourceType resourceType;
+
+    @Column(nullable = false, updatable = false)
+    private Long resourceId;
+
+    @Column(nullable = false, updatable = false)
+    private String message;
+
+    @Column(nullable = false, updatable = false)
+    @Enumerated(EnumType.STRING)
+    private NotificationStatus status;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime modifiedAt;
+
+}
@@ -5,17 +5,34 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import reserve.global.entity.BaseEntity;
+import reserve.global.entity.IdSequence;
 import reserve.reservation.domain.Reservation;
 import reserve.user.domain.User;
 
+
 @Entity
-@Table(name = "notifications")
+@Table(
+        name = "notifications",
+        indexes = {
+                @Index(name = "ix_notifications_userid_createdat", columnList = "user_id, created_at"),
+                @Index(name = "ix_notifications_userid_modifiedat", columnList = "user_id, modified_at"),
+                @Index(name = "ix_notifications_createdat", columnList = "created_at")
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class Notification extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "notificationIdGenerator")
+    @TableGenerator(
+            name = "notificationIdGenerator",
+            table = IdSequence.TABLE,
+            pkColumnName = IdSequence.NAME_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN,
+            pkColumnValue = "notifications",
+            allocationSize = IdSequence.ALLOCATION_SIZE
+    )
     @Column(name = "notification_id")
     private Long id;
 
@@ -30,7 +47,7 @@ public class Notification extends BaseEntity {
     @JoinColumn(nullable = false, updatable = false)
     private Long resourceId;
 
-    @Column(nullable = false, updatable = false)
+    @Column(nullable = false)
     private String message;
 
     @Column(nullable = false)
@@ -44,10 +61,29 @@ public class Notification extends BaseEntity {
         this.message = message;
     }
 
+    /**
+     * @param readUntilId read watermark of the user
+     * @return {@code READ} if the notification has been read on its own or is covered by the watermark
+     */
+    public NotificationStatus getStatus(long readUntilId) {
+        if (getId() <= readUntilId) {
+            return NotificationStatus.READ;
+        }
+        return status;
+    }
+
     public boolean isStatusRead() {
         return status.equals(NotificationStatus.READ);
     }
 
+    /**
+     * Replaces the message with that of a later notification about the same resource, instead of notifying again.
+     * The change moves {@code modifiedAt} once flushed, so clients syncing by it receive the new message.
+     */
+    public void coalesce(String message) {
+        this.message = message;
+    }
+
     public void read() {
         this.status = NotificationStatus.READ;
     }
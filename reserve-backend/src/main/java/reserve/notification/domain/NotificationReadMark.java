@@ -0,0 +1,59 @@
+package reserve.notification.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Read watermark of a user: every notification of the user with an ID up to {@code readUntilId} is read, whatever its
+ * own {@code status}. Marking all notifications as read moves the watermark instead of updating each of them.
+ *
+ * <p> The watermark is the highest ID the user has seen rather than a time, since IDs are allocated from pools ahead
+ * of the notifications' creation and a notification created after a time may still have a lower ID. </p>
+ */
+@Entity
+@Table(name = "notification_read_marks")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class NotificationReadMark implements Persistable<Long> {
+
+    /**
+     * Watermark of users who have never marked all notifications as read.
+     */
+    public static final long NONE = 0L;
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long readUntilId;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean isNew = true;
+
+    public NotificationReadMark(Long userId, Long readUntilId) {
+        this.userId = userId;
+        this.readUntilId = readUntilId;
+    }
+
+    @Override
+    public Long getId() {
+        return userId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+}
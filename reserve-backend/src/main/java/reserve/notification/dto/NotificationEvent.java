@@ -0,0 +1,43 @@
+package reserve.notification.dto;
+
+import reserve.notification.domain.Notification;
+import reserve.notification.domain.NotificationStatus;
+import reserve.notification.domain.ResourceType;
+import reserve.notification.dto.response.NotificationInfo;
+
+import java.time.LocalDateTime;
+
+/**
+ * A created or coalesced notification, as published to the other nodes to be pushed to the streams of its user.
+ */
+public record NotificationEvent(
+        Long userId,
+        Long notificationId,
+        ResourceType resourceType,
+        Long resourceId,
+        String message,
+        LocalDateTime notifiedTime,
+        NotificationStatus status,
+        LocalDateTime modifiedTime
+) {
+
+    public static NotificationEvent from(Notification notification) {
+        return new NotificationEvent(
+                notification.getUser().getId(),
+                notification.getId(),
+                notification.getResourceType(),
+                notification.getResourceId(),
+                notification.getMessage(),
+                notification.getCreatedAt(),
+                notification.getStatus(),
+                notification.getModifiedAt()
+        );
+    }
+
+    public NotificationInfo toNotificationInfo() {
+        return new NotificationInfo(
+                notificationId, resourceType, resourceId, message, notifiedTime, status, modifiedTime
+        );
+    }
+
+}
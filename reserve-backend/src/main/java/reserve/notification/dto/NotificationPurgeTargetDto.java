@@ -0,0 +1,21 @@
+package reserve.notification.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import reserve.notification.domain.NotificationStatus;
+
+import java.time.LocalDateTime;
+
+@RequiredArgsConstructor
+@Getter
+public class NotificationPurgeTargetDto {
+
+    private final Long notificationId;
+
+    private final Long userId;
+
+    private final NotificationStatus status;
+
+    private final LocalDateTime createdAt;
+
+}
@@ -0,0 +1,28 @@
+package reserve.notification.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Notifications to create for the customer and the store registrant of a reservation.
+ */
+@RequiredArgsConstructor
+@Getter
+public class ReservationNotificationDto {
+
+    private final Long reservationId;
+
+    private final String message;
+
+    private final String registrantMessage;
+
+    /**
+     * {@link System#nanoTime()} when the notification was requested.
+     */
+    private final long requestedAt;
+
+    public static ReservationNotificationDto of(Long reservationId, String message, String registrantMessage) {
+        return new ReservationNotificationDto(reservationId, message, registrantMessage, System.nanoTime());
+    }
+
+}
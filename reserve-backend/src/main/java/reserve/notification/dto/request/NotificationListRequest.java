@@ -0,0 +1,31 @@
+package reserve.notification.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class NotificationListRequest {
+
+    @Schema(description = "ID of the last notification the client has. " +
+                          "If present, returns only the notifications created or changed since it was created, " +
+                          "least recently changed first, and skips the total count. This may include that " +
+                          "notification itself if its message has changed. If it no longer exists, falls back to " +
+                          "'since', or asks the client to reload without either.",
+            example = "100")
+    private Long afterId;
+
+    @Schema(description = "Returns only the notifications created or changed after this time, such as the " +
+                          "'modifiedTime' of the last notification received, least recently changed first, " +
+                          "and skips the total count. Ignored if the notification of 'afterId' exists.",
+            example = "2025-01-01T00:00:00")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime since;
+
+}
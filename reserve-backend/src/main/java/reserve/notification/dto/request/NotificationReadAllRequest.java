@@ -0,0 +1,22 @@
+package reserve.notification.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.Schema.RequiredMode;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class NotificationReadAllRequest {
+
+    @Schema(description = "Highest notification ID in the list the user has seen. " +
+                          "Notifications with higher IDs, such as those received since, are left unread.",
+            example = "100",
+            requiredMode = RequiredMode.REQUIRED)
+    @NotNull(message = "Notification ID required.")
+    private Long untilId;
+
+}
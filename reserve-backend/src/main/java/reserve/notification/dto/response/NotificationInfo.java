@@ -32,14 +32,41 @@ public class NotificationInfo {
             example = "READ")
     private final NotificationStatus status;
 
-    public static NotificationInfo from(Notification notification) {
+    @Schema(description = "Time of the last change of the message, to pass as 'since' when syncing",
+            example = "2021-07-01T00:00:00")
+    private final LocalDateTime modifiedTime;
+
+    /**
+     * @param readUntilId read watermark of the user
+     * @return this, or a copy with status {@code READ} if the watermark covers the notification
+     */
+    public NotificationInfo withReadUntilId(long readUntilId) {
+        if (status == NotificationStatus.READ || notificationId > readUntilId) {
+            return this;
+        }
+        return new NotificationInfo(
+                notificationId,
+                resourceType,
+                resourceId,
+                message,
+                notifiedTime,
+                NotificationStatus.READ,
+                modifiedTime
+        );
+    }
+
+    /**
+     * @param readUntilId read watermark of the user
+     */
+    public static NotificationInfo from(Notification notification, long readUntilId) {
         return new NotificationInfo(
                 notification.getId(),
                 notification.getResourceType(),
                 notification.getResourceId(),
                 notification.getMessage(),
                 notification.getCreatedAt(),
-                notification.getStatus()
+                notification.getStatus(readUntilId),
+                notification.getModifiedAt()
         );
     }
 
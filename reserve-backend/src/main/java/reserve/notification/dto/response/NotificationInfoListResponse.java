@@ -7,15 +7,16 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
 @RequiredArgsConstructor
 @Getter
-@JsonPropertyOrder({"count", "pageSize", "pageNumber", "hasNext", "results"})
+@JsonPropertyOrder({"count", "pageSize", "pageNumber", "hasNext", "reloadRequired", "results"})
 public class NotificationInfoListResponse {
 
-    @Schema(description = "Number of results", example = "1")
+    @Schema(description = "Number of results (only of this page when listing by 'afterId' or 'since')", example = "1")
     private final long count;
 
     @Schema(description = "Page size", example = "20")
@@ -27,6 +28,11 @@ public class NotificationInfoListResponse {
     @Getter(AccessLevel.PRIVATE)
     private final boolean hasNext;
 
+    @Schema(description = "Whether the client must reload its notifications without 'afterId' or 'since', " +
+                          "because the notification of 'afterId' no longer exists",
+            example = "false")
+    private final boolean reloadRequired;
+
     @Schema(description = "List of notification info")
     private final List<NotificationInfo> results;
 
@@ -42,8 +48,24 @@ public class NotificationInfoListResponse {
                 page.getPageable().getPageSize(),
                 page.getPageable().getPageNumber(),
                 page.hasNext(),
+                false,
                 page.getContent()
         );
     }
 
+    public static NotificationInfoListResponse from(Slice<NotificationInfo> slice) {
+        return new NotificationInfoListResponse(
+                slice.getNumberOfElements(),
+                slice.getSize(),
+                0,
+                slice.hasNext(),
+                false,
+                slice.getContent()
+        );
+    }
+
+    public static NotificationInfoListResponse reloadRequired(int pageSize) {
+        return new NotificationInfoListResponse(0, pageSize, 0, false, true, List.of());
+    }
+
 }
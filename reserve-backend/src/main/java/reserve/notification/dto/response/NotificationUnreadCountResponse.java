@@ -0,0 +1,14 @@
+package reserve.notification.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public class NotificationUnreadCountResponse {
+
+    @Schema(description = "Number of unread notifications", example = "3")
+    private final long count;
+
+}
@@ -0,0 +1,60 @@
+package reserve.notification.infrastructure;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reserve.notification.dto.NotificationEvent;
+import reserve.notification.service.NotificationStreamService;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Fans created notifications out to every node through Redis pub/sub. Each batch of notifications is published as
+ * one message, and every node, including the publishing one, pushes them to the streams connected to it.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationEventChannel implements MessageListener {
+
+    public static final String CHANNEL = "notifications";
+
+    private static final TypeReference<List<NotificationEvent>> EVENTS_TYPE = new TypeReference<>() {
+    };
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final NotificationStreamService notificationStreamService;
+
+    public void publish(List<NotificationEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(events));
+        } catch (JsonProcessingException | RuntimeException e) {
+            // The notifications are stored; clients still get them on the next list request or reconnection.
+            log.warn("Failed to publish {} notification events", events.size(), e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        List<NotificationEvent> events;
+        try {
+            events = objectMapper.readValue(message.getBody(), EVENTS_TYPE);
+        } catch (IOException e) {
+            log.warn("Ignoring malformed notification events", e);
+            return;
+        }
+        events.forEach(notificationStreamService::deliver);
+    }
+
+}
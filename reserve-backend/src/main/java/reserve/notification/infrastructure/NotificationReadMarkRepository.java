@@ -0,0 +1,32 @@
+package reserve.notification.infrastructure;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import reserve.notification.domain.NotificationReadMark;
+
+public interface NotificationReadMarkRepository extends JpaRepository<NotificationReadMark, Long> {
+
+    /**
+     * @return the read watermark of the user, or {@link NotificationReadMark#NONE} if the user has none
+     */
+    default long findReadUntilIdByUserId(Long userId) {
+        return findById(userId).map(NotificationReadMark::getReadUntilId).orElse(NotificationReadMark.NONE);
+    }
+
+    /**
+     * Moves the read watermark of the user forward to {@code readUntilId}, never backward, in one statement.
+     *
+     * @return 0 if the user has no read watermark, or it is already at or after {@code readUntilId}
+     */
+    @Transactional
+    @Modifying
+    @Query(
+            "UPDATE NotificationReadMark m SET m.readUntilId = :readUntilId " +
+            "WHERE m.userId = :userId AND m.readUntilId < :readUntilId"
+    )
+    int moveReadUntilId(@Param("userId") Long userId, @Param("readUntilId") Long readUntilId);
+
+}
@@ -2,22 +2,109 @@ package reserve.notification.infrastructure;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import reserve.notification.domain.Notification;
+import reserve.notification.domain.NotificationStatus;
+import reserve.notification.domain.ResourceType;
+import reserve.notification.dto.NotificationPurgeTargetDto;
+import reserve.notification.dto.response.NotificationInfo;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
     Page<Notification> findAllByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
 
+    Optional<Notification> findByIdAndUserId(Long id, Long userId);
+
+    /**
+     * Finds the unread notifications of the users about the resources created since {@code since}, into which new
+     * notifications can be coalesced. Notifications covered by a read watermark are not excluded.
+     */
+    @Query(
+            "SELECT n FROM Notification n " +
+            "WHERE n.user.id IN :userIds AND n.createdAt >= :since " +
+            "AND n.resourceType = :resourceType AND n.resourceId IN :resourceIds AND n.status = 'UNREAD'"
+    )
+    List<Notification> findCoalescable(
+            @Param("userIds") Collection<Long> userIds,
+            @Param("resourceType") ResourceType resourceType,
+            @Param("resourceIds") Collection<Long> resourceIds,
+            @Param("since") LocalDateTime since
+    );
+
+    /**
+     * Finds the notifications of the user created or coalesced after {@code (modifiedAt, id)}, least recently changed
+     * first, without a count query. Statuses are as stored, not yet applied the read watermark.
+     */
+    @Query(
+            "SELECT new reserve.notification.dto.response.NotificationInfo(" +
+            "n.id, n.resourceType, n.resourceId, n.message, n.createdAt, n.status, n.modifiedAt) " +
+            "FROM Notification n " +
+            "WHERE n.user.id = :userId AND n.modifiedAt >= :modifiedAt " +
+            "AND (n.modifiedAt > :modifiedAt OR n.id > :id) " +
+            "ORDER BY n.modifiedAt ASC, n.id ASC"
+    )
+    Slice<NotificationInfo> findInfosByUserIdAfter(
+            @Param("userId") Long userId,
+            @Param("modifiedAt") LocalDateTime modifiedAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    long countByUserIdAndStatusAndIdGreaterThan(Long userId, NotificationStatus status, Long id);
+
+    /**
+     * Marks the notification as read unless it is already read, on its own or by the read watermark.
+     *
+     * @param readUntilId read watermark of the user
+     * @return 1 if the notification was unread, 0 otherwise
+     */
+    @Modifying
+    @Query(
+            "UPDATE Notification n SET n.status = 'READ' " +
+            "WHERE n.user.id = :userId AND n.id = :notificationId AND n.status = 'UNREAD' " +
+            "AND n.id > :readUntilId"
+    )
+    int setReadByUserIdAndId(
+            @Param("userId") Long userId,
+            @Param("notificationId") Long notificationId,
+            @Param("readUntilId") Long readUntilId
+    );
+
+    /**
+     * Finds the oldest notifications created in {@code [from, cutoff)}, in the order of {@code created_at}.
+     */
+    @Query(
+            "SELECT new reserve.notification.dto.NotificationPurgeTargetDto(n.id, n.user.id, n.status, n.createdAt) " +
+            "FROM Notification n " +
+            "WHERE n.createdAt >= :from AND n.createdAt < :cutoff " +
+            "ORDER BY n.createdAt ASC, n.id ASC"
+    )
+    List<NotificationPurgeTargetDto> findPurgeTargets(
+            @Param("from") LocalDateTime from,
+            @Param("cutoff") LocalDateTime cutoff,
+            Pageable pageable
+    );
+
     @Modifying
-    @Query("UPDATE Notification n SET n.status = 'READ' WHERE n.user.id = :userId AND n.id = :notificationId")
-    void setReadByUserIdAndId(@Param("userId") Long userId, @Param("notificationId") Long notificationId);
+    @Query(
+            "INSERT INTO ArchivedNotification " +
+            "(id, userId, resourceType, resourceId, message, status, createdAt, modifiedAt) " +
+            "SELECT n.id, n.user.id, n.resourceType, n.resourceId, n.message, n.status, n.createdAt, n.modifiedAt " +
+            "FROM Notification n WHERE n.id IN :notificationIds"
+    )
+    int archiveByIdIn(@Param("notificationIds") Collection<Long> notificationIds);
 
     @Modifying
-    @Query("UPDATE Notification n SET n.status = 'READ' WHERE n.user.id = :userId")
-    void setReadAllByUserId(@Param("userId") Long userId);
+    @Query("DELETE FROM Notification n WHERE n.id IN :notificationIds")
+    int deleteByIdIn(@Param("notificationIds") Collection<Long> notificationIds);
 
 }
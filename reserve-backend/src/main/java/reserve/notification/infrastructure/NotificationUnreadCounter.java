@@ -0,0 +1,239 @@
+package reserve.notification.infrastructure;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reserve.notification.domain.NotificationStatus;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-user counts of unread notifications, kept in Redis so that the unread badge does not count notifications on
+ * every request.
+ *
+ * <p> A count is loaded from the {@code notifications} table when it is first read, and from then on adjusted as
+ * notifications are created and read. Adjustments are skipped for users whose count is not loaded, since the next
+ * read loads the adjusted count anyway. While Redis is unavailable, counts are read from the table. </p>
+ *
+ * <p> A count read from the table may miss an adjustment made while it is being read. A load or reconciliation
+ * therefore leaves a marker while it reads the table, which adjustments flag, and does not store its count if the
+ * marker has been flagged; the next read loads it again. </p>
+ */
+@Component
+@Slf4j
+public class NotificationUnreadCounter {
+
+    public static final String KEY_PREFIX = "notifications:unread:";
+    public static final String LOADING_KEY_PREFIX = "notifications:unread-loading:";
+
+    private static final long SCAN_COUNT = 500;
+
+    // Longer than any read of a count from the table; a load outlasting its marker does not store its count.
+    private static final Duration LOADING_TIMEOUT = Duration.ofSeconds(10);
+
+    // Returns the count, or marks the start of its load if it is not loaded. KEYS[2] is the loading marker.
+    private static final RedisScript<Long> GET_OR_START_LOAD = RedisScript.of(
+            """
+            local count = redis.call('GET', KEYS[1])
+            if count then
+                return tonumber(count)
+            end
+            redis.call('SET', KEYS[2], 0, 'PX', ARGV[1], 'NX')
+            return nil
+            """,
+            Long.class
+    );
+
+    // Stores a count read from the table unless the count was adjusted meanwhile. ARGV[3] is 1 to replace a loaded
+    // count keeping its expiry, or 0 to load a count that is not loaded.
+    private static final RedisScript<Long> FINISH_LOAD = RedisScript.of(
+            """
+            local clean = redis.call('GET', KEYS[2]) == '0'
+            redis.call('DEL', KEYS[2])
+            if not clean then
+                return 0
+            end
+            if ARGV[3] == '1' then
+                if redis.call('EXISTS', KEYS[1]) == 0 then
+                    return 0
+                end
+                redis.call('SET', KEYS[1], ARGV[1], 'KEEPTTL')
+                return 1
+            end
+            if redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2], 'NX') then
+                return 1
+            end
+            return 0
+            """,
+            Long.class
+    );
+
+    // Adds to the count only if it is loaded, never going below zero, and flags a load in progress.
+    private static final RedisScript<Long> ADD_IF_PRESENT = RedisScript.of(
+            """
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                redis.call('SET', KEYS[2], 1, 'KEEPTTL')
+            end
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return nil
+            end
+            local count = redis.call('INCRBY', KEYS[1], ARGV[1])
+            if count < 0 then
+                redis.call('SET', KEYS[1], 0, 'KEEPTTL')
+                return 0
+            end
+            return count
+            """,
+            Long.class
+    );
+
+    // Drops the count, so that the next read loads it, and flags a load in progress.
+    private static final RedisScript<Long> INVALIDATE = RedisScript.of(
+            """
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                redis.call('SET', KEYS[2], 1, 'KEEPTTL')
+            end
+            return redis.call('DEL', KEYS[1])
+            """,
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+    private final NotificationRepository notificationRepository;
+    private final NotificationReadMarkRepository notificationReadMarkRepository;
+    private final Duration ttl;
+
+    public NotificationUnreadCounter(
+            StringRedisTemplate redisTemplate,
+            NotificationRepository notificationRepository,
+            NotificationReadMarkRepository notificationReadMarkRepository,
+            @Value("${application.notification.unreadCount.ttl:1d}") Duration ttl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.notificationRepository = notificationRepository;
+        this.notificationReadMarkRepository = notificationReadMarkRepository;
+        this.ttl = ttl;
+    }
+
+    public long get(Long userId) {
+        try {
+            Long count = redisTemplate.execute(
+                    GET_OR_START_LOAD, keys(userId), String.valueOf(LOADING_TIMEOUT.toMillis())
+            );
+            if (count != null) {
+                return count;
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to read unread notification count of user {}", userId, e);
+            return countUnread(userId);
+        }
+        long count = countUnread(userId);
+        try {
+            finishLoad(userId, count, false);
+        } catch (DataAccessException e) {
+            log.warn("Failed to store unread notification count of user {}", userId, e);
+        }
+        return count;
+    }
+
+    /**
+     * Adds each user's delta to the user's count.
+     */
+    public void add(Map<Long, Long> deltas) {
+        deltas.forEach(this::add);
+    }
+
+    public void add(Long userId, long delta) {
+        try {
+            redisTemplate.execute(ADD_IF_PRESENT, keys(userId), String.valueOf(delta));
+        } catch (DataAccessException e) {
+            // The count is corrected by the next reconciliation, or reloaded once it expires.
+            log.warn("Failed to update unread notification count of user {}", userId, e);
+        }
+    }
+
+    /**
+     * Drops the user's count after a change that cannot be applied as a delta, so that the next read loads it.
+     */
+    public void invalidate(Long userId) {
+        try {
+            redisTemplate.execute(INVALIDATE, keys(userId));
+        } catch (DataAccessException e) {
+            // The count is corrected by the next reconciliation, or reloaded once it expires.
+            log.warn("Failed to invalidate unread notification count of user {}", userId, e);
+        }
+    }
+
+    /**
+     * Reloads every loaded count from the {@code notifications} table, correcting counts that have drifted because
+     * of a failed or lost adjustment. The counts keep their expiry, so only the counts read within their time to live
+     * are reconciled.
+     *
+     * @return the number of counts reloaded
+     */
+    public int reconcile() {
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(SCAN_COUNT).build();
+        int reconciled = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                Long userId = userId(cursor.next());
+                redisTemplate.opsForValue().setIfAbsent(loadingKey(userId), "0", LOADING_TIMEOUT);
+                if (finishLoad(userId, countUnread(userId), true)) {
+                    reconciled++;
+                }
+            }
+        }
+        return reconciled;
+    }
+
+    private long countUnread(Long userId) {
+        return notificationRepository.countByUserIdAndStatusAndIdGreaterThan(
+                userId,
+                NotificationStatus.UNREAD,
+                notificationReadMarkRepository.findReadUntilIdByUserId(userId)
+        );
+    }
+
+    /**
+     * @param replace {@code true} to replace a loaded count, {@code false} to load a count that is not loaded
+     * @return {@code true} if the count was stored
+     */
+    private boolean finishLoad(Long userId, long count, boolean replace) {
+        Long stored = redisTemplate.execute(
+                FINISH_LOAD,
+                keys(userId),
+                String.valueOf(count),
+                String.valueOf(ttl.toMillis()),
+                replace ? "1" : "0"
+        );
+        return stored != null && stored == 1;
+    }
+
+    private static List<String> keys(Long userId) {
+        return List.of(key(userId), loadingKey(userId));
+    }
+
+    /**
+     * The user ID is a hash tag, so that the count and its loading marker are kept in the same slot of a Redis
+     * cluster.
+     */
+    static String key(Long userId) {
+        return KEY_PREFIX + "{" + userId + "}";
+    }
+
+    static String loadingKey(Long userId) {
+        return LOADING_KEY_PREFIX + "{" + userId + "}";
+    }
+
+    private static Long userId(String key) {
+        return Long.parseLong(key.substring(KEY_PREFIX.length() + 1, key.length() - 1));
+    }
+
+}
@@ -2,11 +2,20 @@ package reserve.notification.representation;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import reserve.auth.domain.AuthInfo;
 import reserve.auth.infrastructure.Authentication;
+import reserve.notification.dto.request.NotificationListRequest;
+import reserve.notification.dto.request.NotificationReadAllRequest;
 import reserve.notification.dto.response.NotificationInfoListResponse;
+import reserve.notification.dto.response.NotificationUnreadCountResponse;
 import reserve.notification.service.NotificationService;
+import reserve.notification.service.NotificationStreamService;
 
 @RestController
 @RequestMapping("/v1/notifications")
@@ -14,11 +23,22 @@ import reserve.notification.service.NotificationService;
 public class NotificationController implements NotificationOperations {
 
     private final NotificationService notificationService;
+    private final NotificationStreamService notificationStreamService;
 
     @Override
     @GetMapping
-    public NotificationInfoListResponse getUserNotifications(@Authentication AuthInfo authInfo, Pageable pageable) {
-        return notificationService.getUserNotifications(authInfo.getUserId(), pageable);
+    public NotificationInfoListResponse getUserNotifications(
+            @Authentication AuthInfo authInfo,
+            @ModelAttribute NotificationListRequest notificationListRequest,
+            Pageable pageable
+    ) {
+        return notificationService.getUserNotifications(authInfo.getUserId(), notificationListRequest, pageable);
+    }
+
+    @Override
+    @GetMapping("/unread-count")
+    public NotificationUnreadCountResponse getUnreadCount(@Authentication AuthInfo authInfo) {
+        return notificationService.getUnreadCount(authInfo.getUserId());
     }
 
     @Override
@@ -32,8 +52,23 @@ public class NotificationController implements NotificationOperations {
 
     @Override
     @PostMapping("/read-all")
-    public void readAllNotifications(@Authentication AuthInfo authInfo) {
-        notificationService.readAllNotifications(authInfo.getUserId());
+    public void readAllNotifications(
+            @Authentication AuthInfo authInfo,
+            @RequestBody @Validated NotificationReadAllRequest notificationReadAllRequest
+    ) {
+        notificationService.readAllNotifications(authInfo.getUserId(), notificationReadAllRequest.getUntilId());
+    }
+
+    @Override
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamNotifications(
+            @Authentication AuthInfo authInfo,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId
+    ) {
+        // Without a body, since no error body can be written as an event stream.
+        return notificationStreamService.subscribe(authInfo.getUserId(), lastEventId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
     }
 
 }
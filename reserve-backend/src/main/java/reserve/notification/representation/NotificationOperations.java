@@ -8,15 +8,23 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import reserve.auth.domain.AuthInfo;
+import reserve.notification.dto.request.NotificationListRequest;
+import reserve.notification.dto.request.NotificationReadAllRequest;
+import reserve.notification.dto.response.NotificationInfo;
 import reserve.notification.dto.response.NotificationInfoListResponse;
+import reserve.notification.dto.response.NotificationUnreadCountResponse;
 
 @Tag(name = "Notifications", description = "Notification API")
 public interface NotificationOperations {
 
     @Operation(
             summary = "Get user notifications",
-            description = "Get sign-in user's notifications",
+            description = "Get sign-in user's notifications, newest first. " +
+                          "With 'afterId' or 'since', gets only the notifications created or changed after them, " +
+                          "least recently changed first, to sync a client incrementally.",
             operationId = "1_getUserNotifications"
     )
     @ApiResponses(@ApiResponse(
@@ -27,7 +35,11 @@ public interface NotificationOperations {
             )
     ))
     @SuppressWarnings("unused")
-    NotificationInfoListResponse getUserNotifications(AuthInfo authInfo, @ParameterObject Pageable pageable);
+    NotificationInfoListResponse getUserNotifications(
+            AuthInfo authInfo,
+            @ParameterObject NotificationListRequest notificationListRequest,
+            @ParameterObject Pageable pageable
+    );
 
 
     @Operation(
@@ -45,11 +57,54 @@ public interface NotificationOperations {
 
     @Operation(
             summary = "Read all notifications",
-            description = "Mark all notifications as read",
+            description = "Mark all notifications up to the highest notification ID the user has seen as read",
             operationId = "3_readAllNotifications"
     )
     @ApiResponses(@ApiResponse(responseCode = "200", description = "Successfully read all"))
     @SuppressWarnings("unused")
-    void readAllNotifications(AuthInfo authInfo);
+    void readAllNotifications(AuthInfo authInfo, NotificationReadAllRequest notificationReadAllRequest);
+
+
+    @Operation(
+            summary = "Get unread notification count",
+            description = "Get the number of sign-in user's unread notifications",
+            operationId = "4_getUnreadCount"
+    )
+    @ApiResponses(@ApiResponse(
+            responseCode = "200", description = "Response with unread notification count",
+            content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = NotificationUnreadCountResponse.class)
+            )
+    ))
+    @SuppressWarnings("unused")
+    NotificationUnreadCountResponse getUnreadCount(AuthInfo authInfo);
+
+
+    @Operation(
+            summary = "Stream notifications",
+            description = "Push sign-in user's new notifications as server-sent events named `notification`. " +
+                          "Each event's ID is the notification ID; on reconnection with `Last-Event-ID`, " +
+                          "up to 100 notifications created or changed since that notification was created " +
+                          "are sent first, which may include that notification itself if it has changed. " +
+                          "If more were missed, or that notification no longer exists, an event named `resync` " +
+                          "is sent instead, and the client should reload its notifications.",
+            operationId = "5_streamNotifications"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200", description = "Stream of notifications",
+                    content = @Content(
+                            mediaType = "text/event-stream",
+                            schema = @Schema(implementation = NotificationInfo.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "503", description = "Too many open streams on the server, without a body")
+    })
+    @SuppressWarnings("unused")
+    ResponseEntity<SseEmitter> streamNotifications(
+            AuthInfo authInfo,
+            @Schema(description = "ID of the last received notification", example = "1") Long lastEventId
+    );
 
 }
@@ -0,0 +1,153 @@
+package reserve.notification.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reserve.global.lock.JobLease;
+import reserve.global.transaction.TransactionCallbacks;
+import reserve.notification.domain.NotificationReadMark;
+import reserve.notification.domain.NotificationStatus;
+import reserve.notification.dto.NotificationPurgeTargetDto;
+import reserve.notification.infrastructure.NotificationReadMarkRepository;
+import reserve.notification.infrastructure.NotificationRepository;
+import reserve.notification.infrastructure.NotificationUnreadCounter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Removes notifications older than the retention period from {@code notifications}, moving them to
+ * {@code notifications_archive} unless archiving is disabled.
+ *
+ * <p> Notifications are removed in batches ordered by {@code created_at}, each in its own short transaction, with a
+ * pause between batches, so that the purge never holds many row locks on {@code notifications} at once. </p>
+ *
+ * <p> The purge runs on one node at a time under a job lease, and stops once its lease time has passed so that it
+ * never overlaps with a run on another node; what is left is removed by the next run. </p>
+ */
+@Service
+@Slf4j
+public class NotificationPurger {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationReadMarkRepository notificationReadMarkRepository;
+    private final NotificationUnreadCounter notificationUnreadCounter;
+    private final JobLease jobLease;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final boolean archive;
+    private final int batchSize;
+    private final Duration throttle;
+    private final Duration lease;
+
+    public NotificationPurger(
+            NotificationRepository notificationRepository,
+            NotificationReadMarkRepository notificationReadMarkRepository,
+            NotificationUnreadCounter notificationUnreadCounter,
+            JobLease jobLease,
+            PlatformTransactionManager transactionManager,
+            @Value("${application.notification.retention.period:90d}") Duration retention,
+            @Value("${application.notification.retention.archive:true}") boolean archive,
+            @Value("${application.notification.retention.batchSize:1000}") int batchSize,
+            @Value("${application.notification.retention.throttle:100ms}") Duration throttle,
+            @Value("${application.notification.retention.lease:1h}") Duration lease
+    ) {
+        this.notificationRepository = notificationRepository;
+        this.notificationReadMarkRepository = notificationReadMarkRepository;
+        this.notificationUnreadCounter = notificationUnreadCounter;
+        this.jobLease = jobLease;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retention = retention;
+        this.archive = archive;
+        this.batchSize = batchSize;
+        this.throttle = throttle;
+        this.lease = lease;
+    }
+
+    /**
+     * Removes the notifications created before the retention period.
+     */
+    @Scheduled(cron = "${application.notification.retention.cron:0 0 5 * * *}")
+    public void purge() {
+        jobLease.runExclusively("notification-purge", lease, this::purgeExpired);
+    }
+
+    private void purgeExpired() {
+        long deadline = System.nanoTime() + lease.toNanos();
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        int total = 0;
+        LocalDateTime from = EPOCH;
+        while (true) {
+            final LocalDateTime after = from;
+            List<NotificationPurgeTargetDto> batch = transactionTemplate.execute(status -> purgeBatch(after, cutoff));
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            total += batch.size();
+            // Rows up to here are gone, so the next batch starts from the last created_at without skipping any.
+            from = batch.get(batch.size() - 1).getCreatedAt();
+            if (batch.size() < batchSize || !pause()) {
+                break;
+            }
+            if (System.nanoTime() - deadline > 0) {
+                log.warn("Notification purge stopped as its lease time has passed");
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Notifications created before {} {}: {}", cutoff, archive ? "archived" : "deleted", total);
+        }
+    }
+
+    private List<NotificationPurgeTargetDto> purgeBatch(LocalDateTime from, LocalDateTime cutoff) {
+        List<NotificationPurgeTargetDto> batch =
+                notificationRepository.findPurgeTargets(from, cutoff, PageRequest.ofSize(batchSize));
+        if (batch.isEmpty()) {
+            return batch;
+        }
+
+        List<Long> notificationIds = batch.stream().map(NotificationPurgeTargetDto::getNotificationId).toList();
+        if (archive) {
+            notificationRepository.archiveByIdIn(notificationIds);
+        }
+        notificationRepository.deleteByIdIn(notificationIds);
+
+        Map<Long, Long> readUntilIdByUserId = notificationReadMarkRepository
+                .findAllById(batch.stream().map(NotificationPurgeTargetDto::getUserId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(NotificationReadMark::getUserId, NotificationReadMark::getReadUntilId));
+        Map<Long, Long> unreadCountDeltas = batch.stream()
+                .filter(target -> target.getStatus() == NotificationStatus.UNREAD)
+                .filter(target -> target.getNotificationId()
+                                  > readUntilIdByUserId.getOrDefault(target.getUserId(), NotificationReadMark.NONE))
+                .collect(Collectors.groupingBy(NotificationPurgeTargetDto::getUserId, Collectors.summingLong(t -> -1)));
+        TransactionCallbacks.runAfterCommit(() -> notificationUnreadCounter.add(unreadCountDeltas));
+        return batch;
+    }
+
+    /**
+     * @return {@code false} if interrupted
+     */
+    private boolean pause() {
+        if (throttle.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(throttle.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+}
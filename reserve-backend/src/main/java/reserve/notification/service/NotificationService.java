@@ -1,70 +1,270 @@
 package reserve.notification.service;
 
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import reserve.global.exception.ErrorCode;
-import reserve.global.exception.ResourceNotFoundException;
+import reserve.global.lock.JobLease;
+import reserve.global.transaction.TransactionCallbacks;
 import reserve.notification.domain.Notification;
+import reserve.notification.domain.NotificationReadMark;
+import reserve.notification.domain.NotificationStatus;
 import reserve.notification.domain.ResourceType;
+import reserve.notification.dto.NotificationEvent;
+import reserve.notification.dto.ReservationNotificationDto;
+import reserve.notification.dto.request.NotificationListRequest;
 import reserve.notification.dto.response.NotificationInfo;
 import reserve.notification.dto.response.NotificationInfoListResponse;
+import reserve.notification.dto.response.NotificationUnreadCountResponse;
+import reserve.notification.infrastructure.NotificationEventChannel;
+import reserve.notification.infrastructure.NotificationReadMarkRepository;
 import reserve.notification.infrastructure.NotificationRepository;
+import reserve.notification.infrastructure.NotificationUnreadCounter;
 import reserve.reservation.dto.ReservationForNotifyDto;
 import reserve.reservation.infrastructure.ReservationQueryRepository;
 import reserve.reservation.infrastructure.ReservationRepository;
 import reserve.user.infrastructure.UserRepository;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
-@RequiredArgsConstructor
+@Slf4j
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
+    private final NotificationReadMarkRepository notificationReadMarkRepository;
     private final UserRepository userRepository;
     private final ReservationRepository reservationRepository;
     private final ReservationQueryRepository reservationQueryRepository;
+    private final NotificationEventChannel notificationEventChannel;
+    private final NotificationUnreadCounter notificationUnreadCounter;
+    private final JobLease jobLease;
+    private final Duration coalescingWindow;
+    private final Duration unreadCountReconcileLease;
 
-    @Transactional
-    public void notifyReservation(Long reservationId, String message, String registrantMessage) {
-        ReservationForNotifyDto reservationForNotifyDto = reservationQueryRepository.findForNotifyById(reservationId)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.RESERVATION_NOT_FOUND));
-        notificationRepository.save(new Notification(
-                userRepository.getReferenceById(reservationForNotifyDto.getUserId()),
-                ResourceType.RESERVATION,
-                reservationId,
-                message
-        ));
-        notificationRepository.save(new Notification(
-                userRepository.getReferenceById(reservationForNotifyDto.getRegistrantId()),
-                ResourceType.RESERVATION,
-                reservationId,
-                registrantMessage
-        ));
+    public NotificationService(
+            NotificationRepository notificationRepository,
+            NotificationReadMarkRepository notificationReadMarkRepository,
+            UserRepository userRepository,
+            ReservationRepository reservationRepository,
+            ReservationQueryRepository reservationQueryRepository,
+            NotificationEventChannel notificationEventChannel,
+            NotificationUnreadCounter notificationUnreadCounter,
+            JobLease jobLease,
+            @Value("${application.notification.coalescingWindow:1m}") Duration coalescingWindow,
+            @Value("${application.notification.unreadCount.reconcileLease:30m}") Duration unreadCountReconcileLease
+    ) {
+        this.notificationRepository = notificationRepository;
+        this.notificationReadMarkRepository = notificationReadMarkRepository;
+        this.userRepository = userRepository;
+        this.reservationRepository = reservationRepository;
+        this.reservationQueryRepository = reservationQueryRepository;
+        this.notificationEventChannel = notificationEventChannel;
+        this.notificationUnreadCounter = notificationUnreadCounter;
+        this.jobLease = jobLease;
+        this.coalescingWindow = coalescingWindow;
+        this.unreadCountReconcileLease = unreadCountReconcileLease;
     }
 
+    /**
+     * Creates the notifications for the customers and registrants of the reservations, inserting them in one batch.
+     * Notifications of reservations that no longer exist are skipped. Once committed, the notifications are pushed to
+     * the streams of their users.
+     *
+     * <p> A notification to a recipient about a reservation is coalesced into the recipient's unread notification
+     * about the same reservation created within the coalescing window, if any, which then takes the new message
+     * instead of a new notification being inserted. Coalescing moves the modification time the clients sync by, so
+     * they receive the new message as well. </p>
+     */
     @Transactional
-    public void notifyReservation(Long reservationId, String message) {
-        notifyReservation(reservationId, message, message);
+    public void createReservationNotifications(List<ReservationNotificationDto> reservationNotifications) {
+        Map<Long, ReservationForNotifyDto> recipients = reservationQueryRepository
+                .findForNotifyByIds(
+                        reservationNotifications.stream().map(ReservationNotificationDto::getReservationId).toList()
+                )
+                .stream()
+                .collect(Collectors.toMap(ReservationForNotifyDto::getReservationId, Function.identity()));
+
+        // Later messages to the same recipient about the same reservation replace earlier ones in the batch.
+        Map<CoalescingKey, String> messages = new LinkedHashMap<>();
+        for (ReservationNotificationDto reservationNotification : reservationNotifications) {
+            ReservationForNotifyDto recipient = recipients.get(reservationNotification.getReservationId());
+            if (recipient == null) {
+                continue;
+            }
+            Long reservationId = recipient.getReservationId();
+            messages.put(
+                    new CoalescingKey(recipient.getUserId(), ResourceType.RESERVATION, reservationId),
+                    reservationNotification.getMessage()
+            );
+            messages.put(
+                    new CoalescingKey(recipient.getRegistrantId(), ResourceType.RESERVATION, reservationId),
+                    reservationNotification.getRegistrantMessage()
+            );
+        }
+
+        Map<CoalescingKey, Notification> coalescable = findCoalescable(messages.keySet());
+        List<Notification> created = new ArrayList<>();
+        List<Notification> notified = new ArrayList<>();
+        messages.forEach((key, message) -> {
+            Notification notification = coalescable.get(key);
+            if (notification != null) {
+                notification.coalesce(message);
+            } else {
+                notification = new Notification(
+                        userRepository.getReferenceById(key.userId()),
+                        key.resourceType(),
+                        key.resourceId(),
+                        message
+                );
+                created.add(notification);
+            }
+            notified.add(notification);
+        });
+        notificationRepository.saveAll(created);
+        // Moves the modification time of the coalesced notifications before it is published.
+        notificationRepository.flush();
+
+        List<NotificationEvent> events = notified.stream().map(NotificationEvent::from).toList();
+        Map<Long, Long> unreadCountDeltas = created.stream()
+                .collect(Collectors.groupingBy(notification -> notification.getUser().getId(), Collectors.counting()));
+        TransactionCallbacks.runAfterCommit(() -> {
+            notificationUnreadCounter.add(unreadCountDeltas);
+            notificationEventChannel.publish(events);
+        });
+    }
+
+    private Map<CoalescingKey, Notification> findCoalescable(Set<CoalescingKey> keys) {
+        if (keys.isEmpty() || coalescingWindow.isZero()) {
+            return Map.of();
+        }
+        Set<Long> userIds = keys.stream().map(CoalescingKey::userId).collect(Collectors.toSet());
+        Set<Long> resourceIds = keys.stream().map(CoalescingKey::resourceId).collect(Collectors.toSet());
+        Map<Long, Long> readUntilIdByUserId = notificationReadMarkRepository.findAllById(userIds)
+                .stream()
+                .collect(Collectors.toMap(NotificationReadMark::getUserId, NotificationReadMark::getReadUntilId));
+        List<Notification> candidates = notificationRepository.findCoalescable(
+                userIds,
+                ResourceType.RESERVATION,
+                resourceIds,
+                LocalDateTime.now().minus(coalescingWindow)
+        );
+
+        Map<CoalescingKey, Notification> coalescable = new HashMap<>();
+        for (Notification candidate : candidates) {
+            Long userId = candidate.getUser().getId();
+            CoalescingKey key = new CoalescingKey(userId, candidate.getResourceType(), candidate.getResourceId());
+            long readUntilId = readUntilIdByUserId.getOrDefault(userId, NotificationReadMark.NONE);
+            if (keys.contains(key) && candidate.getStatus(readUntilId) == NotificationStatus.UNREAD) {
+                coalescable.merge(key, candidate, (a, b) -> a.getCreatedAt().isAfter(b.getCreatedAt()) ? a : b);
+            }
+        }
+        return coalescable;
     }
 
     @Transactional(readOnly = true)
-    public NotificationInfoListResponse getUserNotifications(Long userId, Pageable pageable) {
+    public NotificationInfoListResponse getUserNotifications(
+            Long userId,
+            NotificationListRequest notificationListRequest,
+            Pageable pageable
+    ) {
+        long readUntilId = notificationReadMarkRepository.findReadUntilIdByUserId(userId);
+        if (notificationListRequest.getAfterId() != null || notificationListRequest.getSince() != null) {
+            return getUserNotificationsAfter(userId, notificationListRequest, pageable.getPageSize(), readUntilId);
+        }
         Page<Notification> notificationPage =
                 notificationRepository.findAllByUserIdOrderByCreatedAtDesc(userId, pageable);
-        Page<NotificationInfo> dtoPage = notificationPage.map(NotificationInfo::from);
+        Page<NotificationInfo> dtoPage =
+                notificationPage.map(notification -> NotificationInfo.from(notification, readUntilId));
         return NotificationInfoListResponse.from(dtoPage);
     }
 
+    private NotificationInfoListResponse getUserNotificationsAfter(
+            Long userId,
+            NotificationListRequest notificationListRequest,
+            int size,
+            long readUntilId
+    ) {
+        LocalDateTime modifiedAt = notificationListRequest.getSince();
+        long id = Long.MAX_VALUE;
+        if (notificationListRequest.getAfterId() != null) {
+            // The notification may have been purged or archived since the client received it.
+            Optional<Notification> after =
+                    notificationRepository.findByIdAndUserId(notificationListRequest.getAfterId(), userId);
+            if (after.isPresent()) {
+                // From its creation rather than its last change, which may be one the client has not received.
+                modifiedAt = after.get().getCreatedAt();
+                id = after.get().getId();
+            } else if (modifiedAt == null) {
+                return NotificationInfoListResponse.reloadRequired(size);
+            }
+        }
+        Slice<NotificationInfo> result =
+                notificationRepository.findInfosByUserIdAfter(userId, modifiedAt, id, PageRequest.ofSize(size));
+        return NotificationInfoListResponse.from(result.map(info -> info.withReadUntilId(readUntilId)));
+    }
+
+    public NotificationUnreadCountResponse getUnreadCount(Long userId) {
+        return new NotificationUnreadCountResponse(notificationUnreadCounter.get(userId));
+    }
+
     @Transactional
     public void readNotification(Long userId, Long notificationId) {
-        notificationRepository.setReadByUserIdAndId(userId, notificationId);
+        long readUntilId = notificationReadMarkRepository.findReadUntilIdByUserId(userId);
+        if (notificationRepository.setReadByUserIdAndId(userId, notificationId, readUntilId) > 0) {
+            TransactionCallbacks.runAfterCommit(() -> notificationUnreadCounter.add(userId, -1));
+        }
     }
 
-    @Transactional
-    public void readAllNotifications(Long userId) {
-        notificationRepository.setReadAllByUserId(userId);
+    /**
+     * Marks every notification up to {@code untilId}, the highest ID in the list the user has seen, as read by moving
+     * the user's read watermark, a single-row write. Notifications the user has not seen yet are left unread.
+     *
+     * <p> The watermark is moved forward by a conditional update, and created if the user has none. Concurrent first
+     * calls race to create it, so the loser moves the winner's watermark instead. Each statement commits on its own,
+     * since a failed insert would roll back an enclosing transaction. The unread count is then reloaded, since
+     * notifications past the watermark may still be unread. </p>
+     */
+    public void readAllNotifications(Long userId, Long untilId) {
+        if (notificationReadMarkRepository.moveReadUntilId(userId, untilId) == 0
+            && !notificationReadMarkRepository.existsById(userId)) {
+            try {
+                notificationReadMarkRepository.saveAndFlush(new NotificationReadMark(userId, untilId));
+            } catch (DataIntegrityViolationException e) {
+                notificationReadMarkRepository.moveReadUntilId(userId, untilId);
+            }
+        }
+        notificationUnreadCounter.invalidate(userId);
+    }
+
+    /**
+     * Reloads the unread counts from the {@code notifications} table. Runs on one node at a time.
+     */
+    @Scheduled(
+            initialDelayString = "${application.notification.unreadCount.reconcileInterval:PT1H}",
+            fixedDelayString = "${application.notification.unreadCount.reconcileInterval:PT1H}"
+    )
+    public void reconcileUnreadCounts() {
+        try {
+            jobLease.runExclusively("notification-unread-reconcile", unreadCountReconcileLease, () -> log.info(
+                    "Unread notification counts reconciled: {} users", notificationUnreadCounter.reconcile()
+            ));
+        } catch (RuntimeException e) {
+            log.warn("Failed to reconcile unread notification counts", e);
+        }
+    }
+
+    private record CoalescingKey(Long userId, ResourceType resourceType, Long resourceId) {
     }
 
 }
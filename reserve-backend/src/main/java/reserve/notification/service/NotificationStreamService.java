@@ -0,0 +1,208 @@
+package reserve.notification.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reserve.notification.dto.NotificationEvent;
+import reserve.notification.dto.response.NotificationInfo;
+import reserve.notification.infrastructure.NotificationReadMarkRepository;
+import reserve.notification.infrastructure.NotificationRepository;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps the notification streams connected to this node and pushes notifications to them.
+ *
+ * <p> Notifications created on any node reach every node through {@code NotificationEventChannel}, and each node
+ * pushes them to the streams of the user it holds. Each event has the notification ID as its ID, so a client that
+ * reconnects with {@code Last-Event-ID} first receives the notifications created since then. If they cannot all be
+ * replayed, because there are too many or the last notification is gone, a {@value #RESYNC_EVENT_NAME} event is sent
+ * instead, telling the client to reload its notifications. </p>
+ */
+@Service
+@Slf4j
+public class NotificationStreamService {
+
+    public static final String EVENT_NAME = "notification";
+    public static final String RESYNC_EVENT_NAME = "resync";
+    public static final int MAX_RESUME_NOTIFICATIONS = 100;
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationReadMarkRepository notificationReadMarkRepository;
+    private final Duration timeout;
+    private final int maxConnections;
+    private final int maxConnectionsPerUser;
+
+    private final Map<Long, Queue<SseEmitter>> emittersByUserId = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    public NotificationStreamService(
+            NotificationRepository notificationRepository,
+            NotificationReadMarkRepository notificationReadMarkRepository,
+            @Value("${application.notification.stream.timeout:30m}") Duration timeout,
+            @Value("${application.notification.stream.maxConnections:10000}") int maxConnections,
+            @Value("${application.notification.stream.maxConnectionsPerUser:5}") int maxConnectionsPerUser
+    ) {
+        this.notificationRepository = notificationRepository;
+        this.notificationReadMarkRepository = notificationReadMarkRepository;
+        this.timeout = timeout;
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+    }
+
+    /**
+     * Opens a stream of the user's notifications. If the user already has the maximum number of streams on this
+     * node, the oldest one is closed.
+     *
+     * @param lastEventId ID of the last notification the client has received, or {@code null}
+     * @return the stream, or empty if this node has the maximum number of streams
+     */
+    public Optional<SseEmitter> subscribe(Long userId, Long lastEventId) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            return Optional.empty();
+        }
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Queue<SseEmitter> emitters = emittersByUserId.computeIfAbsent(userId, id -> new ConcurrentLinkedQueue<>());
+        emitters.add(emitter);
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> emitter.complete());
+
+        while (emitters.size() > maxConnectionsPerUser) {
+            SseEmitter oldest = emitters.peek();
+            if (oldest == null || oldest == emitter) {
+                break;
+            }
+            oldest.complete();
+            remove(userId, oldest);
+        }
+
+        // Registered before resuming, so notifications created meanwhile may be sent twice but are never missed.
+        if (lastEventId != null) {
+            resume(userId, emitter, lastEventId);
+        }
+        return Optional.of(emitter);
+    }
+
+    /**
+     * Pushes the notification to the streams of its user connected to this node.
+     */
+    public void deliver(NotificationEvent event) {
+        Queue<SseEmitter> emitters = emittersByUserId.get(event.userId());
+        if (emitters == null) {
+            return;
+        }
+        NotificationInfo notificationInfo = event.toNotificationInfo();
+        for (SseEmitter emitter : emitters) {
+            send(event.userId(), emitter, notificationInfo);
+        }
+    }
+
+    /**
+     * Sends a comment on every stream, so that proxies do not close idle connections and broken ones are detected.
+     */
+    @Scheduled(
+            initialDelayString = "${application.notification.stream.heartbeat:PT15S}",
+            fixedRateString = "${application.notification.stream.heartbeat:PT15S}"
+    )
+    public void sendHeartbeats() {
+        emittersByUserId.forEach((userId, emitters) -> {
+            for (SseEmitter emitter : emitters) {
+                try {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } catch (IOException | IllegalStateException e) {
+                    log.debug("Failed to send heartbeat to a stream of user {}", userId, e);
+                    close(userId, emitter, e);
+                }
+            }
+        });
+    }
+
+    public int getConnectionCount() {
+        return connections.get();
+    }
+
+    private void resume(Long userId, SseEmitter emitter, Long lastEventId) {
+        Slice<NotificationInfo> missed = findNotificationsAfter(userId, lastEventId);
+        if (missed == null || missed.hasNext()) {
+            sendResync(userId, emitter);
+            return;
+        }
+        if (missed.hasContent()) {
+            long readUntilId = notificationReadMarkRepository.findReadUntilIdByUserId(userId);
+            for (NotificationInfo notificationInfo : missed) {
+                send(userId, emitter, notificationInfo.withReadUntilId(readUntilId));
+            }
+        }
+    }
+
+    /**
+     * Finds the notifications created or coalesced since the last one was created, which includes any change the
+     * client has not received, including a change of the last one itself.
+     *
+     * @return up to the number of notifications that can be resumed, or {@code null} if the last notification is not
+     *         the user's or no longer exists
+     */
+    private Slice<NotificationInfo> findNotificationsAfter(Long userId, Long lastEventId) {
+        return notificationRepository.findByIdAndUserId(lastEventId, userId)
+                .map(last -> notificationRepository.findInfosByUserIdAfter(
+                        userId, last.getCreatedAt(), last.getId(), PageRequest.ofSize(MAX_RESUME_NOTIFICATIONS)
+                ))
+                .orElse(null);
+    }
+
+    private void sendResync(Long userId, SseEmitter emitter) {
+        try {
+            // Without an ID, so that the client keeps the ID of the last notification it has received.
+            emitter.send(SseEmitter.event().name(RESYNC_EVENT_NAME).data(RESYNC_EVENT_NAME));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Failed to send resync to a stream of user {}", userId, e);
+            close(userId, emitter, e);
+        }
+    }
+
+    private void send(Long userId, SseEmitter emitter, NotificationInfo notificationInfo) {
+        try {
+            emitter.send(
+                    SseEmitter.event()
+                            .id(String.valueOf(notificationInfo.getNotificationId()))
+                            .name(EVENT_NAME)
+                            .data(notificationInfo)
+            );
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Failed to send notification to a stream of user {}", userId, e);
+            close(userId, emitter, e);
+        }
+    }
+
+    /**
+     * Completes a stream that failed to send, so that its response is closed, and stops sending to it.
+     */
+    private void close(Long userId, SseEmitter emitter, Exception e) {
+        emitter.completeWithError(e);
+        remove(userId, emitter);
+    }
+
+    private void remove(Long userId, SseEmitter emitter) {
+        emittersByUserId.computeIfPresent(userId, (id, emitters) -> {
+            if (emitters.remove(emitter)) {
+                connections.decrementAndGet();
+            }
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+
+}
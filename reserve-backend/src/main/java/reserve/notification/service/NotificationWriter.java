@@ -0,0 +1,249 @@
+package reserve.notification.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import reserve.notification.dto.ReservationNotificationDto;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Creates reservation notifications off the request path.
+ *
+ * <p> Requests are put in a bounded in-memory queue, which a single worker thread drains in batches, inserting the
+ * notifications of a whole batch in one transaction. If the queue stays full for longer than the offer timeout, or
+ * the writer is not running, the caller writes its notifications itself, which slows down callers instead of dropping
+ * notifications. </p>
+ *
+ * <p> The writer stops after the web server, so that it keeps accepting notifications until the last request has
+ * been handled, and writes the queued notifications before the application shuts down. They are lost if the process
+ * dies. </p>
+ */
+@Component
+@Slf4j
+public class NotificationWriter implements SmartLifecycle {
+
+    private static final long POLL_TIMEOUT_MILLIS = 200;
+
+    // Below the phases of the web server, which stops at DEFAULT_PHASE - 2048 after its graceful shutdown at
+    // DEFAULT_PHASE - 1024; a lower phase stops later.
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final NotificationService notificationService;
+    private final BlockingQueue<ReservationNotificationDto> queue;
+    private final int batchSize;
+    private final Duration offerTimeout;
+    private final Duration shutdownTimeout;
+
+    /**
+     * Number of notifications requested but not yet written, including the batch being written.
+     */
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final Timer latencyTimer;
+    private final Counter overflowCounter;
+    private final Counter failureCounter;
+
+    /**
+     * Held for reading while notifications are offered and for writing while the writer stops, so that no offer
+     * succeeds after the worker has been told to stop.
+     */
+    private final ReadWriteLock lifecycleLock = new ReentrantReadWriteLock();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public NotificationWriter(
+            NotificationService notificationService,
+            MeterRegistry meterRegistry,
+            @Value("${application.notification.writer.capacity:10000}") int capacity,
+            @Value("${application.notification.writer.batchSize:100}") int batchSize,
+            @Value("${application.notification.writer.offerTimeout:50ms}") Duration offerTimeout,
+            @Value("${application.notification.writer.shutdownTimeout:10s}") Duration shutdownTimeout
+    ) {
+        this.notificationService = notificationService;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.offerTimeout = offerTimeout;
+        this.shutdownTimeout = shutdownTimeout;
+
+        Gauge.builder("notification.writer.queue.size", queue, Collection::size)
+                .description("Number of notifications waiting to be written")
+                .register(meterRegistry);
+        this.latencyTimer = Timer.builder("notification.writer.latency")
+                .description("Time from a notification request to its insertion")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder("notification.writer.overflow")
+                .description("Notifications written by the caller because the queue stayed full")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("notification.writer.failures")
+                .description("Notifications that failed to be written")
+                .register(meterRegistry);
+    }
+
+    public void notifyReservation(Long reservationId, String message, String registrantMessage) {
+        enqueue(List.of(ReservationNotificationDto.of(reservationId, message, registrantMessage)));
+    }
+
+    public void notifyReservation(Long reservationId, String message) {
+        notifyReservation(reservationId, message, message);
+    }
+
+    public void notifyReservations(Collection<Long> reservationIds, String message, String registrantMessage) {
+        enqueue(reservationIds.stream()
+                .map(reservationId -> ReservationNotificationDto.of(reservationId, message, registrantMessage))
+                .toList());
+    }
+
+    public void notifyReservations(Collection<Long> reservationIds, String message) {
+        notifyReservations(reservationIds, message, message);
+    }
+
+    /**
+     * Waits until all notifications requested so far have been written.
+     *
+     * @return {@code false} if the timeout elapsed first
+     */
+    public boolean flush(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (pending.get() > 0) {
+            if (System.nanoTime() - deadline > 0) {
+                return false;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::drain, "notification-writer");
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        lifecycleLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            lifecycleLock.writeLock().unlock();
+        }
+        if (worker == null) {
+            return;
+        }
+        try {
+            worker.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive() || !queue.isEmpty()) {
+            log.warn("Notification writer stopped with {} notifications not written", pending.get());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * Queues the notifications, waiting for room at most the offer timeout for all of them together, and writes the
+     * ones left over in one transaction.
+     */
+    private void enqueue(List<ReservationNotificationDto> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        pending.addAndGet(notifications.size());
+        boolean accepting;
+        int queued = 0;
+        lifecycleLock.readLock().lock();
+        try {
+            accepting = running;
+            long deadline = System.nanoTime() + offerTimeout.toNanos();
+            while (accepting && queued < notifications.size() && offer(notifications.get(queued), deadline)) {
+                queued++;
+            }
+        } finally {
+            lifecycleLock.readLock().unlock();
+        }
+        if (queued == notifications.size()) {
+            return;
+        }
+        List<ReservationNotificationDto> rest = notifications.subList(queued, notifications.size());
+        if (accepting) {
+            overflowCounter.increment(rest.size());
+        }
+        write(rest);
+    }
+
+    private boolean offer(ReservationNotificationDto notification, long deadline) {
+        try {
+            return queue.offer(notification, Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void drain() {
+        List<ReservationNotificationDto> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                ReservationNotificationDto first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+            } catch (InterruptedException e) {
+                // Keep draining until the queue is empty; stop() waits for it.
+                continue;
+            }
+            queue.drainTo(batch, batchSize - 1);
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<ReservationNotificationDto> notifications) {
+        try {
+            notificationService.createReservationNotifications(notifications);
+            long now = System.nanoTime();
+            for (ReservationNotificationDto notification : notifications) {
+                latencyTimer.record(now - notification.getRequestedAt(), TimeUnit.NANOSECONDS);
+            }
+        } catch (RuntimeException e) {
+            failureCounter.increment(notifications.size());
+            log.error("Failed to write {} reservation notifications", notifications.size(), e);
+        } finally {
+            pending.addAndGet(-notifications.size());
+        }
+    }
+
+}
@@ -6,7 +6,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import reserve.global.entity.BaseEntity;
-import reserve.global.exception.ErrorCode;
+import reserve.global.entity.IdSequence;
 import reserve.global.exception.ReservationStatusException;
 import reserve.store.domain.Store;
 import reserve.user.domain.User;
@@ -14,13 +14,28 @@ import reserve.user.domain.User;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "reservations")
+@Table(
+        name = "reservations",
+        indexes = {
+                @Index(name = "ix_reservations_userid_date", columnList = "user_id, date"),
+                @Index(name = "ix_reservations_storeid_date_hour", columnList = "store_id, date, hour"),
+                @Index(name = "ix_reservations_status", columnList = "status")
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class Reservation extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "reservationIdGenerator")
+    @TableGenerator(
+            name = "reservationIdGenerator",
+            table = IdSequence.TABLE,
+            pkColumnName = IdSequence.NAME_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN,
+            pkColumnValue = "reservations",
+            allocationSize = IdSequence.ALLOCATION_SIZE
+    )
     @Column(name = "reservation_id")
     private Long id;
 
@@ -51,25 +66,27 @@ public class Reservation extends BaseEntity {
         this.hour = hour;
     }
 
+    public boolean isCancelled() {
+        return status.equals(ReservationStatusType.CANCELLED);
+    }
+
     public void cancel() {
-        if (!status.equals(ReservationStatusType.READY) && !status.equals(ReservationStatusType.CANCELLED)) {
-            throw new ReservationStatusException(ErrorCode.RESERVATION_CANNOT_CANCEL);
-        }
-        status = ReservationStatusType.CANCELLED;
+        apply(ReservationTransition.CANCEL);
     }
 
     public void start() {
-        if (!status.equals(ReservationStatusType.READY) && !status.equals(ReservationStatusType.IN_SERVICE)) {
-            throw new ReservationStatusException(ErrorCode.RESERVATION_CANNOT_START);
-        }
-        status = ReservationStatusType.IN_SERVICE;
+        apply(ReservationTransition.START);
     }
 
     public void complete() {
-        if (!status.equals(ReservationStatusType.IN_SERVICE) && !status.equals(ReservationStatusType.COMPLETED)) {
-            throw new ReservationStatusException(ErrorCode.RESERVATION_CANNOT_COMPLETE);
+        apply(ReservationTransition.COMPLETE);
+    }
+
+    private void apply(ReservationTransition transition) {
+        if (!transition.isAllowedFrom(status)) {
+            throw new ReservationStatusException(transition.getErrorCode());
         }
-        status = ReservationStatusType.COMPLETED;
+        status = transition.getTarget();
     }
 
 }
@@ -5,6 +5,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import reserve.global.entity.BaseEntity;
+import reserve.global.entity.IdSequence;
 
 @Entity
 @Table(name = "reservation_menus")
@@ -13,7 +14,15 @@ import reserve.global.entity.BaseEntity;
 public class ReservationMenu extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "reservationMenuIdGenerator")
+    @TableGenerator(
+            name = "reservationMenuIdGenerator",
+            table = IdSequence.TABLE,
+            pkColumnName = IdSequence.NAME_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN,
+            pkColumnValue = "reservation_menus",
+            allocationSize = IdSequence.ALLOCATION_SIZE
+    )
     @Column(name = "reservation_menu_id")
     private Long id;
 
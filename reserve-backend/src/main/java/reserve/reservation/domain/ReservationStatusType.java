@@ -1,5 +1,13 @@
 package reserve.reservation.domain;
 
 public enum ReservationStatusType {
-    READY, CANCELLED, IN_SERVICE, COMPLETED
+    READY, CANCELLED, IN_SERVICE, COMPLETED, NO_SHOW;
+
+    /**
+     * Whether the menus of a reservation in this status count toward the revenue of the store.
+     */
+    public boolean countsTowardRevenue() {
+        return this != CANCELLED && this != NO_SHOW;
+    }
+
 }
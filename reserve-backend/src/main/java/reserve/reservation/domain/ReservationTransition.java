@@ -0,0 +1,37 @@
+package reserve.reservation.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import reserve.global.exception.ErrorCode;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static reserve.reservation.domain.ReservationStatusType.*;
+
+/**
+ * Status changes a registrant can make to a reservation, and the statuses each of them is allowed from.
+ * A change to the status the reservation already has is allowed and does nothing.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum ReservationTransition {
+
+    CANCEL(CANCELLED, EnumSet.of(READY), ErrorCode.RESERVATION_CANNOT_CANCEL),
+    START(IN_SERVICE, EnumSet.of(READY), ErrorCode.RESERVATION_CANNOT_START),
+    COMPLETE(COMPLETED, EnumSet.of(IN_SERVICE), ErrorCode.RESERVATION_CANNOT_COMPLETE);
+
+    private final ReservationStatusType target;
+
+    /**
+     * Statuses actually changed by this transition, not including {@link #target}.
+     */
+    private final Set<ReservationStatusType> sources;
+
+    private final ErrorCode errorCode;
+
+    public boolean isAllowedFrom(ReservationStatusType status) {
+        return status == target || sources.contains(status);
+    }
+
+}
@@ -0,0 +1,106 @@
+package reserve.reservation.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+import reserve.reservation.dto.ReservationStatsSnapshot;
+
+/**
+ * Daily rollup of the reservations of a store: number of reservations by status, and revenue of the reservations
+ * that are not cancelled or missed.
+ */
+@Entity
+@Table(name = "store_daily_stats", indexes = @Index(name = "ix_storedailystats_date", columnList = "date"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class StoreDailyStats implements Persistable<StoreDailyStatsId> {
+
+    @EmbeddedId
+    private StoreDailyStatsId id;
+
+    @Column(nullable = false)
+    private int reservationCount;
+
+    @Column(nullable = false)
+    private int readyCount;
+
+    @Column(nullable = false)
+    private int inServiceCount;
+
+    @Column(nullable = false)
+    private int completedCount;
+
+    @Column(nullable = false)
+    private int cancelledCount;
+
+    @Column(nullable = false)
+    private int noShowCount;
+
+    @Column(nullable = false)
+    private long revenue;
+
+    /**
+     * Ids are assigned, so Spring Data cannot tell new rows from the id; rows are new until persisted or loaded.
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean isNew = true;
+
+    public StoreDailyStats(StoreDailyStatsId id) {
+        this.id = id;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public void add(ReservationStatsSnapshot snapshot) {
+        apply(snapshot, 1);
+    }
+
+    public void remove(ReservationStatsSnapshot snapshot) {
+        apply(snapshot, -1);
+    }
+
+    public void addCount(ReservationStatusType status, int count) {
+        reservationCount += count;
+        switch (status) {
+            case READY -> readyCount += count;
+            case IN_SERVICE -> inServiceCount += count;
+            case COMPLETED -> completedCount += count;
+            case CANCELLED -> cancelledCount += count;
+            case NO_SHOW -> noShowCount += count;
+        }
+    }
+
+    public void addRevenue(long amount) {
+        revenue += amount;
+    }
+
+    public void reset() {
+        reservationCount = 0;
+        readyCount = 0;
+        inServiceCount = 0;
+        completedCount = 0;
+        cancelledCount = 0;
+        noShowCount = 0;
+        revenue = 0;
+    }
+
+    private void apply(ReservationStatsSnapshot snapshot, int sign) {
+        addCount(snapshot.getStatus(), sign);
+        if (snapshot.getStatus().countsTowardRevenue()) {
+            addRevenue(sign * snapshot.getRevenue());
+        }
+    }
+
+}
@@ -0,0 +1,30 @@
+package reserve.reservation.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Embeddable
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@EqualsAndHashCode
+public class StoreDailyStatsId implements Serializable {
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    public StoreDailyStatsId(Long storeId, LocalDate date) {
+        this.storeId = storeId;
+        this.date = date;
+    }
+
+}
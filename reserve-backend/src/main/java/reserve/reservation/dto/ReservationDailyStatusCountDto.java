@@ -0,0 +1,21 @@
+package reserve.reservation.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import reserve.reservation.domain.ReservationStatusType;
+
+import java.time.LocalDate;
+
+@RequiredArgsConstructor
+@Getter
+public class ReservationDailyStatusCountDto {
+
+    private final Long storeId;
+
+    private final LocalDate date;
+
+    private final ReservationStatusType status;
+
+    private final long count;
+
+}
@@ -0,0 +1,23 @@
+package reserve.reservation.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import reserve.reservation.domain.ReservationStatusType;
+
+import java.time.LocalDate;
+
+@RequiredArgsConstructor
+@Getter
+public class ReservationManageTargetDto {
+
+    private final Long reservationId;
+
+    private final Long storeId;
+
+    private final LocalDate date;
+
+    private final int hour;
+
+    private final ReservationStatusType status;
+
+}
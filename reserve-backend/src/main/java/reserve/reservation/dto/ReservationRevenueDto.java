@@ -0,0 +1,14 @@
+package reserve.reservation.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public class ReservationRevenueDto {
+
+    private final Long reservationId;
+
+    private final Long revenue;
+
+}
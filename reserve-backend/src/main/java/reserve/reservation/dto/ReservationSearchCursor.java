@@ -0,0 +1,61 @@
+package reserve.reservation.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import reserve.global.exception.ErrorCode;
+import reserve.global.exception.InvalidRequestException;
+import reserve.reservation.dto.response.ReservationInfoResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+/**
+ * Position of the last reservation of a search page, ordered by {@code (date, hour, reservation_id)}.
+ * <p>
+ * Clients only see it as an opaque token produced by {@link #encode()}.
+ */
+@RequiredArgsConstructor
+@Getter
+public class ReservationSearchCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDate date;
+
+    private final int hour;
+
+    private final Long reservationId;
+
+    public static ReservationSearchCursor from(ReservationInfoResponse reservationInfoResponse) {
+        return new ReservationSearchCursor(
+                reservationInfoResponse.getDate(),
+                reservationInfoResponse.getHour(),
+                reservationInfoResponse.getReservationId()
+        );
+    }
+
+    public static ReservationSearchCursor decode(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                    .split(Pattern.quote(DELIMITER), -1);
+            if (parts.length == 3) {
+                return new ReservationSearchCursor(
+                        LocalDate.parse(parts[0]),
+                        Integer.parseInt(parts[1]),
+                        Long.parseLong(parts[2])
+                );
+            }
+        } catch (IllegalArgumentException | DateTimeException ignored) {
+        }
+        throw new InvalidRequestException(ErrorCode.INVALID_CURSOR);
+    }
+
+    public String encode() {
+        String raw = date + DELIMITER + hour + DELIMITER + reservationId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
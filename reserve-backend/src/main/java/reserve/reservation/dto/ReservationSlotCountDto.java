@@ -0,0 +1,18 @@
+package reserve.reservation.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+
+@RequiredArgsConstructor
+@Getter
+public class ReservationSlotCountDto {
+
+    private final LocalDate date;
+
+    private final int hour;
+
+    private final long count;
+
+}
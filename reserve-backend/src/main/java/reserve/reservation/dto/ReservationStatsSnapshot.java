@@ -0,0 +1,54 @@
+package reserve.reservation.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import reserve.reservation.domain.Reservation;
+import reserve.reservation.domain.ReservationStatusType;
+import reserve.reservation.domain.StoreDailyStatsId;
+
+import java.time.LocalDate;
+
+/**
+ * What a reservation contributes to the daily stats of its store at some point in time.
+ */
+@RequiredArgsConstructor
+@Getter
+public class ReservationStatsSnapshot {
+
+    private final Long storeId;
+
+    private final LocalDate date;
+
+    private final ReservationStatusType status;
+
+    private final long revenue;
+
+    public static ReservationStatsSnapshot of(Reservation reservation, long revenue) {
+        return new ReservationStatsSnapshot(
+                reservation.getStore().getId(),
+                reservation.getDate(),
+                reservation.getStatus(),
+                revenue
+        );
+    }
+
+    /**
+     * @return snapshot of the current date and status of the same reservation, whose menus do not change
+     */
+    public ReservationStatsSnapshot changedTo(Reservation reservation) {
+        return new ReservationStatsSnapshot(storeId, reservation.getDate(), reservation.getStatus(), revenue);
+    }
+
+    public ReservationStatsSnapshot withStatus(ReservationStatusType status) {
+        return new ReservationStatsSnapshot(storeId, date, status, revenue);
+    }
+
+    public StoreDailyStatsId getStatsId() {
+        return new StoreDailyStatsId(storeId, date);
+    }
+
+    public boolean hasSameContribution(ReservationStatsSnapshot other) {
+        return storeId.equals(other.storeId) && date.equals(other.date) && status == other.status;
+    }
+
+}
@@ -0,0 +1,14 @@
+package reserve.reservation.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public class StoreReservationCountDto {
+
+    private final Long storeId;
+
+    private final Long reservationCount;
+
+}
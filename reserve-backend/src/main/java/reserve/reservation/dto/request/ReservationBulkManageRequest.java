@@ -0,0 +1,44 @@
+package reserve.reservation.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Selects reservations either by {@code reservationIds}, or by {@code storeId} and {@code date} with an optional
+ * {@code hour}.
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+public class ReservationBulkManageRequest {
+
+    public static final int MAX_RESERVATION_IDS = 100;
+
+    @Schema(description = "IDs of reservations (if set, the other fields are ignored)", example = "[1, 2, 3]")
+    @Size(max = MAX_RESERVATION_IDS, message = "Reservations are available up to 100 items.")
+    private List<Long> reservationIds;
+
+    @Schema(description = "Store ID", example = "1")
+    private Long storeId;
+
+    @Schema(description = "Date", example = "2025-01-01")
+    private LocalDate date;
+
+    @Schema(description = "Hour (all hours of the date if not set)", example = "12")
+    @Min(value = 0, message = "Hour must be between 0 and 23.")
+    @Max(value = 23, message = "Hour must be between 0 and 23.")
+    private Integer hour;
+
+    public boolean hasReservationIds() {
+        return reservationIds != null && !reservationIds.isEmpty();
+    }
+
+}
@@ -28,6 +28,12 @@ public class ReservationSearchRequest {
             example = "2025-01-01", requiredMode = Schema.RequiredMode.REQUIRED)
     private LocalDate date;
 
+    @Schema(description = "Cursor returned as 'nextCursor' by the previous page. " +
+                          "If present, pages by cursor instead of page number and skips the total count. " +
+                          "Pass an empty value to request the first page.",
+            example = "MjAyNS0wMS0wMXwxMnwxMDI")
+    private String cursor;
+
     public enum SearchType {
         REGISTRANT, CUSTOMER
     }
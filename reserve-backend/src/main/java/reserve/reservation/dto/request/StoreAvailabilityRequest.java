@@ -0,0 +1,26 @@
+package reserve.reservation.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class StoreAvailabilityRequest {
+
+    @Schema(description = "First date of the range (today or later)",
+            example = "2025-01-01", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotNull(message = "'from' required.")
+    private LocalDate from;
+
+    @Schema(description = "Last date of the range (inclusive, up to 31 days)",
+            example = "2025-01-07", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotNull(message = "'to' required.")
+    private LocalDate to;
+
+}
@@ -0,0 +1,44 @@
+package reserve.reservation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import reserve.reservation.infrastructure.ReservationSlotDay;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+@Getter
+public class DailyAvailabilityResponse {
+
+    @Schema(description = "Date", example = "2025-01-01")
+    private final LocalDate date;
+
+    @Schema(description = "Hours that can still be reserved", example = "[0, 1, 2]")
+    private final List<Integer> availableHours;
+
+    @Schema(description = "Hours that are fully booked", example = "[12, 13]")
+    private final List<Integer> fullHours;
+
+    @Schema(description = "Number of reservations for each hour from 0 to 23")
+    private final List<Integer> reservationCounts;
+
+    public static DailyAvailabilityResponse of(LocalDate date, ReservationSlotDay slotDay) {
+        List<Integer> availableHours = new ArrayList<>();
+        List<Integer> fullHours = new ArrayList<>();
+        List<Integer> reservationCounts = new ArrayList<>(ReservationSlotDay.HOURS_PER_DAY);
+        int fullMask = slotDay == null ? 0 : slotDay.getFullMask();
+        for (int hour = 0; hour < ReservationSlotDay.HOURS_PER_DAY; hour++) {
+            if ((fullMask & (1 << hour)) != 0) {
+                fullHours.add(hour);
+            } else {
+                availableHours.add(hour);
+            }
+            reservationCounts.add(slotDay == null ? 0 : slotDay.getCount(hour));
+        }
+        return new DailyAvailabilityResponse(date, availableHours, fullHours, reservationCounts);
+    }
+
+}
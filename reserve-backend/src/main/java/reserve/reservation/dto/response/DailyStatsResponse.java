@@ -0,0 +1,55 @@
+package reserve.reservation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import reserve.reservation.domain.StoreDailyStats;
+
+import java.time.LocalDate;
+
+@RequiredArgsConstructor
+@Getter
+public class DailyStatsResponse {
+
+    @Schema(description = "Date", example = "2025-01-01")
+    private final LocalDate date;
+
+    @Schema(description = "Number of reservations, including cancelled ones", example = "12")
+    private final int reservationCount;
+
+    @Schema(description = "Number of reservations waiting for service", example = "5")
+    private final int readyCount;
+
+    @Schema(description = "Number of reservations in service", example = "1")
+    private final int inServiceCount;
+
+    @Schema(description = "Number of completed reservations", example = "4")
+    private final int completedCount;
+
+    @Schema(description = "Number of cancelled reservations", example = "2")
+    private final int cancelledCount;
+
+    @Schema(description = "Number of reservations the customer did not show up for", example = "0")
+    private final int noShowCount;
+
+    @Schema(description = "Sum of price * quantity of the menus of reservations that are not cancelled or no-show",
+            example = "250000")
+    private final long revenue;
+
+    public static DailyStatsResponse of(LocalDate date, StoreDailyStats stats) {
+        if (stats == null) {
+            return new DailyStatsResponse(date, 0, 0, 0, 0, 0, 0, 0);
+        }
+        return new DailyStatsResponse(
+                date,
+                stats.getReservationCount(),
+                stats.getReadyCount(),
+                stats.getInServiceCount(),
+                stats.getCompletedCount(),
+                stats.getCancelledCount(),
+                stats.getNoShowCount(),
+                stats.getRevenue()
+        );
+    }
+
+}
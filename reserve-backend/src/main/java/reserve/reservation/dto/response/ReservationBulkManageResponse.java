@@ -0,0 +1,47 @@
+package reserve.reservation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@Getter
+public class ReservationBulkManageResponse {
+
+    @Schema(description = "Number of reservations whose status has been changed", example = "2")
+    private final int changedCount;
+
+    @Schema(description = "Number of reservations that failed to change", example = "1")
+    private final int failedCount;
+
+    @Schema(description = "Result of each reservation")
+    private final List<ReservationBulkManageResultResponse> results;
+
+    public static ReservationBulkManageResponse from(List<ReservationBulkManageResultResponse> results) {
+        return new ReservationBulkManageResponse(
+                count(results, ReservationBulkManageResultResponse.Result.CHANGED),
+                count(results, ReservationBulkManageResultResponse.Result.FAILED),
+                results
+        );
+    }
+
+    /**
+     * @return IDs of reservations whose status has been changed
+     */
+    public List<Long> changedReservationIds() {
+        return results.stream()
+                .filter(result -> result.getResult() == ReservationBulkManageResultResponse.Result.CHANGED)
+                .map(ReservationBulkManageResultResponse::getReservationId)
+                .toList();
+    }
+
+    private static int count(
+            List<ReservationBulkManageResultResponse> results,
+            ReservationBulkManageResultResponse.Result type
+    ) {
+        return (int) results.stream().filter(result -> result.getResult() == type).count();
+    }
+
+}
@@ -0,0 +1,47 @@
+package reserve.reservation.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import reserve.global.exception.ErrorCode;
+
+@RequiredArgsConstructor
+@Getter
+public class ReservationBulkManageResultResponse {
+
+    @Schema(description = "Reservation ID", example = "1")
+    private final Long reservationId;
+
+    @Schema(description = "Result of the status change", example = "CHANGED")
+    private final Result result;
+
+    @Schema(description = "Reason of the failure (only when failed)")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final ErrorCode error;
+
+    public static ReservationBulkManageResultResponse changed(Long reservationId) {
+        return new ReservationBulkManageResultResponse(reservationId, Result.CHANGED, null);
+    }
+
+    public static ReservationBulkManageResultResponse unchanged(Long reservationId) {
+        return new ReservationBulkManageResultResponse(reservationId, Result.UNCHANGED, null);
+    }
+
+    public static ReservationBulkManageResultResponse failed(Long reservationId, ErrorCode error) {
+        return new ReservationBulkManageResultResponse(reservationId, Result.FAILED, error);
+    }
+
+    public enum Result {
+        /**
+         * Status has been changed.
+         */
+        CHANGED,
+        /**
+         * Reservation already had the requested status.
+         */
+        UNCHANGED,
+        FAILED
+    }
+
+}
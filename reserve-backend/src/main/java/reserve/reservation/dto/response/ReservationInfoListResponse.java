@@ -1,5 +1,6 @@
 package reserve.reservation.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -7,15 +8,16 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
 @RequiredArgsConstructor
 @Getter
-@JsonPropertyOrder({"count", "pageSize", "pageNumber", "hasNext", "results"})
+@JsonPropertyOrder({"count", "pageSize", "pageNumber", "hasNext", "nextCursor", "results"})
 public class ReservationInfoListResponse {
 
-    @Schema(description = "Number of results", example = "1")
+    @Schema(description = "Number of results (only of this page when paging by cursor)", example = "1")
     private final long count;
 
     @Schema(description = "Page size", example = "20")
@@ -27,6 +29,11 @@ public class ReservationInfoListResponse {
     @Getter(AccessLevel.PRIVATE)
     private final boolean hasNext;
 
+    @Schema(description = "Cursor for the next page (only when paging by cursor and there is a next page)",
+            example = "MjAyNS0wMS0wMXwxMnwxMDI")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String nextCursor;
+
     @Schema(description = "List of reservation info")
     private final List<ReservationInfoResponse> results;
 
@@ -42,8 +49,20 @@ public class ReservationInfoListResponse {
                 page.getPageable().getPageSize(),
                 page.getPageable().getPageNumber(),
                 page.hasNext(),
+                null,
                 page.getContent()
         );
     }
 
+    public static ReservationInfoListResponse from(Slice<ReservationInfoResponse> slice, String nextCursor) {
+        return new ReservationInfoListResponse(
+                slice.getNumberOfElements(),
+                slice.getSize(),
+                0,
+                slice.hasNext(),
+                nextCursor,
+                slice.getContent()
+        );
+    }
+
 }
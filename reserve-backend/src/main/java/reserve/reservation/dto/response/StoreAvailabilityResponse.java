@@ -0,0 +1,22 @@
+package reserve.reservation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@Getter
+public class StoreAvailabilityResponse {
+
+    @Schema(description = "Store ID", example = "1")
+    private final Long storeId;
+
+    @Schema(description = "Maximum number of reservations per hour (null if unlimited)", example = "10")
+    private final Integer capacity;
+
+    @Schema(description = "Availability of each day in the range")
+    private final List<DailyAvailabilityResponse> results;
+
+}
@@ -0,0 +1,34 @@
+package reserve.reservation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@Getter
+public class StoreStatsResponse {
+
+    @Schema(description = "Store ID", example = "1")
+    private final Long storeId;
+
+    @Schema(description = "Number of reservations in the range, including cancelled ones", example = "84")
+    private final long reservationCount;
+
+    @Schema(description = "Revenue in the range", example = "1750000")
+    private final long revenue;
+
+    @Schema(description = "Stats of each day in the range")
+    private final List<DailyStatsResponse> results;
+
+    public static StoreStatsResponse of(Long storeId, List<DailyStatsResponse> results) {
+        return new StoreStatsResponse(
+                storeId,
+                results.stream().mapToLong(DailyStatsResponse::getReservationCount).sum(),
+                results.stream().mapToLong(DailyStatsResponse::getRevenue).sum(),
+                results
+        );
+    }
+
+}
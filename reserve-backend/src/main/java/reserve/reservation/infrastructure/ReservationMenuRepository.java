@@ -1,13 +1,34 @@
 package reserve.reservation.infrastructure;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import reserve.reservation.domain.ReservationMenu;
+import reserve.reservation.dto.ReservationRevenueDto;
 import reserve.reservation.dto.response.ReservationMenuResponse;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ReservationMenuRepository extends JpaRepository<ReservationMenu, Long> {
 
     List<ReservationMenuResponse> findResponsesByReservationId(Long reservationId);
 
+    @Query("""
+           SELECT COALESCE(SUM(m.price * m.quantity), 0)
+           FROM ReservationMenu m
+           WHERE m.reservation.id = :reservationId
+           """)
+    long sumRevenueByReservationId(@Param("reservationId") Long reservationId);
+
+    @Query("""
+           SELECT new reserve.reservation.dto.ReservationRevenueDto(m.reservation.id, SUM(m.price * m.quantity))
+           FROM ReservationMenu m
+           WHERE m.reservation.id IN :reservationIds
+           GROUP BY m.reservation.id
+           """)
+    List<ReservationRevenueDto> findRevenuesByReservationIdIn(
+            @Param("reservationIds") Collection<Long> reservationIds
+    );
+
 }
@@ -7,23 +7,36 @@ import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 import reserve.global.exception.ErrorCode;
 import reserve.global.exception.ResourceNotFoundException;
+import reserve.reservation.domain.ReservationStatusType;
+import reserve.reservation.dto.ReservationDailyStatusCountDto;
 import reserve.reservation.dto.ReservationForNotifyDto;
+import reserve.reservation.dto.ReservationManageTargetDto;
+import reserve.reservation.dto.ReservationSearchCursor;
+import reserve.reservation.dto.ReservationSlotCountDto;
+import reserve.reservation.dto.request.ReservationBulkManageRequest;
 import reserve.reservation.dto.request.ReservationSearchRequest;
 import reserve.reservation.dto.response.ReservationInfoResponse;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import static reserve.reservation.domain.QReservation.*;
+import static reserve.reservation.domain.QReservationMenu.*;
 
 @Repository
 public class ReservationQueryRepository {
@@ -80,6 +93,143 @@ public class ReservationQueryRepository {
         return Optional.ofNullable(result);
     }
 
+    public List<ReservationForNotifyDto> findForNotifyByIds(Collection<Long> reservationIds) {
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                ReservationForNotifyDto.class,
+                                reservation.id,
+                                reservation.user.id,
+                                reservation.store.user.id
+                        )
+                )
+                .from(reservation)
+                .where(reservation.id.in(reservationIds))
+                .fetch();
+    }
+
+    /**
+     * Finds and locks the reservations of stores of the registrant selected by the request, in ID order.
+     */
+    public List<ReservationManageTargetDto> findManageTargetsForUpdate(
+            Long registrantId,
+            ReservationBulkManageRequest reservationBulkManageRequest
+    ) {
+        BooleanBuilder condition = new BooleanBuilder(reservation.store.user.id.eq(registrantId));
+        if (reservationBulkManageRequest.hasReservationIds()) {
+            condition.and(reservation.id.in(reservationBulkManageRequest.getReservationIds()));
+        } else {
+            condition.and(reservation.store.id.eq(reservationBulkManageRequest.getStoreId()));
+            condition.and(reservation.date.eq(reservationBulkManageRequest.getDate()));
+            if (reservationBulkManageRequest.getHour() != null) {
+                condition.and(reservation.hour.eq(reservationBulkManageRequest.getHour()));
+            }
+        }
+
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                ReservationManageTargetDto.class,
+                                reservation.id,
+                                reservation.store.id,
+                                reservation.date,
+                                reservation.hour,
+                                reservation.status
+                        )
+                )
+                .from(reservation)
+                .where(condition)
+                .orderBy(reservation.id.asc())
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch();
+    }
+
+    /**
+     * Finds and locks the next chunk of reservations in the given status whose hour started at or before
+     * {@code cutoff}, in ID order after {@code lastId}.
+     */
+    public List<ReservationManageTargetDto> findOverdueForUpdate(
+            ReservationStatusType status,
+            LocalDateTime cutoff,
+            long lastId,
+            int limit
+    ) {
+        LocalDate cutoffDate = cutoff.toLocalDate();
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                ReservationManageTargetDto.class,
+                                reservation.id,
+                                reservation.store.id,
+                                reservation.date,
+                                reservation.hour,
+                                reservation.status
+                        )
+                )
+                .from(reservation)
+                .where(
+                        reservation.status.eq(status),
+                        reservation.id.gt(lastId),
+                        reservation.date.lt(cutoffDate)
+                                .or(reservation.date.eq(cutoffDate).and(reservation.hour.loe(cutoff.getHour())))
+                )
+                .orderBy(reservation.id.asc())
+                .limit(limit)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch();
+    }
+
+    public List<ReservationSlotCountDto> findSlotCounts(Long storeId, LocalDate from, LocalDate to) {
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                ReservationSlotCountDto.class,
+                                reservation.date,
+                                reservation.hour,
+                                reservation.count()
+                        )
+                )
+                .from(reservation)
+                .where(
+                        reservation.store.id.eq(storeId),
+                        reservation.date.between(from, to),
+                        reservation.status.ne(ReservationStatusType.CANCELLED)
+                )
+                .groupBy(reservation.date, reservation.hour)
+                .fetch();
+    }
+
+    public List<ReservationDailyStatusCountDto> findDailyStatusCounts(Long storeId, LocalDate date) {
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                ReservationDailyStatusCountDto.class,
+                                reservation.store.id,
+                                reservation.date,
+                                reservation.status,
+                                reservation.count()
+                        )
+                )
+                .from(reservation)
+                .where(reservation.store.id.eq(storeId), reservation.date.eq(date))
+                .groupBy(reservation.store.id, reservation.date, reservation.status)
+                .fetch();
+    }
+
+    public long findDailyRevenue(Long storeId, LocalDate date) {
+        Long revenue = queryFactory
+                .select(reservationMenu.price.multiply(reservationMenu.quantity).sum().longValue())
+                .from(reservationMenu)
+                .join(reservationMenu.reservation, reservation)
+                .where(
+                        reservation.store.id.eq(storeId),
+                        reservation.date.eq(date),
+                        reservation.status.notIn(ReservationStatusType.CANCELLED, ReservationStatusType.NO_SHOW)
+                )
+                .fetchOne();
+        return revenue == null ? 0 : revenue;
+    }
+
     public Page<ReservationInfoResponse> findResponsesBySearch(
             Long userId, ReservationSearchRequest reservationSearchRequest,
             Pageable pageable
@@ -104,6 +254,36 @@ public class ReservationQueryRepository {
         return new PageImpl<>(result, pageable, count);
     }
 
+    /**
+     * Keyset variant of {@link #findResponsesBySearch}, ordered by {@code (date, hour, reservation_id)}.
+     * Fetches one extra row to tell whether a next page exists, and never runs a count query.
+     *
+     * @param cursor position of the last reservation of the previous page, or {@code null} for the first page
+     */
+    public Slice<ReservationInfoResponse> findResponsesBySearchAfter(
+            Long userId, ReservationSearchRequest reservationSearchRequest,
+            ReservationSearchCursor cursor, int size
+    ) {
+        BooleanBuilder condition = new BooleanBuilder();
+        condition.and(registrantOrCustomerCondition(reservationSearchRequest.getType(), userId));
+        condition.and(storeQueryCondition(reservationSearchRequest.getQuery()));
+        condition.and(dateCondition(reservationSearchRequest.getDate()));
+        condition.and(afterCursorCondition(cursor));
+
+        List<ReservationInfoResponse> result = queryFactory.select(getReservationInfoResponseProjection())
+                .from(reservation)
+                .where(condition)
+                .orderBy(reservation.date.asc(), reservation.hour.asc(), reservation.id.asc())
+                .limit(size + 1)
+                .fetch();
+
+        boolean hasNext = result.size() > size;
+        if (hasNext) {
+            result = result.subList(0, size);
+        }
+        return new SliceImpl<>(result, PageRequest.ofSize(size), hasNext);
+    }
+
     private static ConstructorExpression<ReservationInfoResponse> getReservationInfoResponseProjection() {
         return Projections.constructor(
                 ReservationInfoResponse.class,
@@ -138,6 +318,19 @@ public class ReservationQueryRepository {
         return null;
     }
 
+    private static BooleanExpression afterCursorCondition(ReservationSearchCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return reservation.date.gt(cursor.getDate())
+                .or(reservation.date.eq(cursor.getDate()).and(reservation.hour.gt(cursor.getHour())))
+                .or(
+                        reservation.date.eq(cursor.getDate())
+                                .and(reservation.hour.eq(cursor.getHour()))
+                                .and(reservation.id.gt(cursor.getReservationId()))
+                );
+    }
+
     private static BooleanExpression dateCondition(LocalDate date) {
         if (date != null) {
             return reservation.date.eq(date);
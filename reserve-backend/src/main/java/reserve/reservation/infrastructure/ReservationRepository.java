@@ -1,11 +1,14 @@
 package reserve.reservation.infrastructure;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import reserve.reservation.domain.Reservation;
+import reserve.reservation.domain.ReservationStatusType;
 import reserve.reservation.dto.response.ReservationInfoResponse;
 
+import java.util.Collection;
 import java.util.Optional;
 
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
@@ -34,4 +37,17 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
             @Param("userId") Long userId
     );
 
+    /**
+     * Changes the status of the reservations that are still in one of {@code sources}.
+     *
+     * @return number of changed reservations
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Reservation r SET r.status = :status WHERE r.id IN :reservationIds AND r.status IN :sources")
+    int updateStatusByIdIn(
+            @Param("reservationIds") Collection<Long> reservationIds,
+            @Param("sources") Collection<ReservationStatusType> sources,
+            @Param("status") ReservationStatusType status
+    );
+
 }
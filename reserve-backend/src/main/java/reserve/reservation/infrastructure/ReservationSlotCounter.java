@@ -0,0 +1,208 @@
+package reserve.reservation.infrastructure;
+
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reserve.reservation.dto.ReservationSlotCountDto;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * Occupancy counters for reservation slots, shared by all application nodes through Redis. Each store keeps one hash
+ * per date, holding a counter per hour.
+ *
+ * <p> Admission is decided by a script that compares the hourly counter with the capacity and increments it in one
+ * step, so concurrent bookings on any node never wait on a database row lock and the number of admitted reservations
+ * never exceeds the capacity of the slot. </p>
+ *
+ * <p> The counters only reflect reservations that are not cancelled. The counters of a day are loaded from the
+ * {@code reservations} table the first time the day is used, and maintained incrementally afterward; a day is never
+ * admitted against before it is loaded. The counters of a day expire on their own a day after it ends. </p>
+ *
+ * @see reserve.reservation.service.ReservationSlotService
+ */
+@Component
+public class ReservationSlotCounter {
+
+    public static final String KEY_PREFIX = "reservation-slots:";
+
+    // Marks a loaded day, so that a day without reservations is told apart from a day not loaded yet.
+    private static final String LOADED_FIELD = "loaded";
+
+    private static final long NOT_LOADED = -1;
+
+    // Occupies a place unless the slot is full. ARGV[2] is the capacity, or -1 if unlimited.
+    private static final RedisScript<Long> ACQUIRE = RedisScript.of(
+            """
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -1
+            end
+            local capacity = tonumber(ARGV[2])
+            local count = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0')
+            if capacity >= 0 and count >= capacity then
+                return 0
+            end
+            redis.call('HINCRBY', KEYS[1], ARGV[1], 1)
+            return 1
+            """,
+            Long.class
+    );
+
+    // Gives a place back if the day is loaded, never going below zero.
+    private static final RedisScript<Long> RELEASE = RedisScript.of(
+            """
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return nil
+            end
+            local count = redis.call('HINCRBY', KEYS[1], ARGV[1], -1)
+            if count < 0 then
+                redis.call('HSET', KEYS[1], ARGV[1], 0)
+                return 0
+            end
+            return count
+            """,
+            Long.class
+    );
+
+    // Loads the counters of a day unless another node has loaded them first. ARGV[1] is the expiry in epoch seconds,
+    // followed by pairs of hour and count.
+    private static final RedisScript<Long> LOAD = RedisScript.of(
+            """
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'loaded', 1)
+            for i = 2, #ARGV, 2 do
+                redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('EXPIREAT', KEYS[1], ARGV[1])
+            return 1
+            """,
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+    private final ReservationQueryRepository reservationQueryRepository;
+
+    public ReservationSlotCounter(
+            StringRedisTemplate redisTemplate,
+            ReservationQueryRepository reservationQueryRepository
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.reservationQueryRepository = reservationQueryRepository;
+    }
+
+    /**
+     * Occupies one place in the given slot if it has not reached the capacity yet.
+     *
+     * @param capacity Maximum number of reservations for the slot, or {@code null} if unlimited.
+     * @return {@code true} if a place was occupied, {@code false} if the slot is already full.
+     */
+    public boolean tryAcquire(Long storeId, LocalDate date, int hour, Integer capacity) {
+        String key = key(storeId, date);
+        String limit = String.valueOf(capacity == null ? -1 : capacity);
+        Long result = redisTemplate.execute(ACQUIRE, List.of(key), String.valueOf(hour), limit);
+        if (result != null && result == NOT_LOADED) {
+            load(storeId, date, date);
+            result = redisTemplate.execute(ACQUIRE, List.of(key), String.valueOf(hour), limit);
+        }
+        return result != null && result == 1;
+    }
+
+    /**
+     * Gives one place back. A day that is not loaded is left alone, since loading it reads the change from the table.
+     */
+    public void release(Long storeId, LocalDate date, int hour) {
+        redisTemplate.execute(RELEASE, List.of(key(storeId, date)), String.valueOf(hour));
+    }
+
+    public int getCount(Long storeId, LocalDate date, int hour) {
+        return getSlotDays(storeId, date, date, null).get(0).getCount(hour);
+    }
+
+    /**
+     * @param capacity Capacity of the store the fully booked hours are derived from, or {@code null} if unlimited.
+     * @return The occupancy of the store on each date from {@code from} to {@code to}, loading the days not used yet.
+     */
+    public List<ReservationSlotDay> getSlotDays(Long storeId, LocalDate from, LocalDate to, Integer capacity) {
+        List<LocalDate> dates = from.datesUntil(to.plusDays(1)).toList();
+        List<Object> hashes = redisTemplate.executePipelined(new SessionCallback<Void>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Void execute(RedisOperations<K, V> operations) {
+                dates.forEach(date -> operations.opsForHash().entries((K) key(storeId, date)));
+                return null;
+            }
+        });
+
+        Map<LocalDate, int[]> loaded = null;
+        List<ReservationSlotDay> slotDays = new ArrayList<>(dates.size());
+        for (int i = 0; i < dates.size(); i++) {
+            Map<?, ?> hash = (Map<?, ?>) hashes.get(i);
+            int[] counts;
+            if (hash == null || hash.isEmpty()) {
+                if (loaded == null) {
+                    loaded = load(storeId, from, to);
+                }
+                counts = loaded.get(dates.get(i));
+            } else {
+                counts = toCounts(hash);
+            }
+            slotDays.add(new ReservationSlotDay(counts, capacity));
+        }
+        return slotDays;
+    }
+
+    /**
+     * Loads the counters of the days in the range that are not loaded yet.
+     *
+     * @return The counts of every day in the range read from the table, by hour.
+     */
+    private Map<LocalDate, int[]> load(Long storeId, LocalDate from, LocalDate to) {
+        Map<LocalDate, int[]> counts = new HashMap<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            counts.put(date, new int[ReservationSlotDay.HOURS_PER_DAY]);
+        }
+        for (ReservationSlotCountDto slotCount : reservationQueryRepository.findSlotCounts(storeId, from, to)) {
+            counts.get(slotCount.getDate())[slotCount.getHour()] = (int) slotCount.getCount();
+        }
+        counts.forEach((date, hourCounts) -> {
+            List<String> args = new ArrayList<>();
+            args.add(String.valueOf(expireAt(date)));
+            for (int hour = 0; hour < hourCounts.length; hour++) {
+                if (hourCounts[hour] > 0) {
+                    args.add(String.valueOf(hour));
+                    args.add(String.valueOf(hourCounts[hour]));
+                }
+            }
+            redisTemplate.execute(LOAD, List.of(key(storeId, date)), args.toArray());
+        });
+        return counts;
+    }
+
+    private static int[] toCounts(Map<?, ?> hash) {
+        int[] counts = new int[ReservationSlotDay.HOURS_PER_DAY];
+        hash.forEach((field, count) -> {
+            if (!LOADED_FIELD.equals(field)) {
+                counts[Integer.parseInt(field.toString())] = Integer.parseInt(count.toString());
+            }
+        });
+        return counts;
+    }
+
+    private static long expireAt(LocalDate date) {
+        return date.plusDays(2).atStartOfDay(ZoneId.systemDefault()).toEpochSecond();
+    }
+
+    /**
+     * The store ID is a hash tag, so that all days of a store are kept in the same slot of a Redis cluster.
+     */
+    static String key(Long storeId, LocalDate date) {
+        return KEY_PREFIX + "{" + storeId + "}:" + date;
+    }
+
+}
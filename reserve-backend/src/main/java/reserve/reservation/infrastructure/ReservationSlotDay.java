@@ -0,0 +1,44 @@
+package reserve.reservation.infrastructure;
+
+/**
+ * Occupancy of a single store for a single day, as read from {@link ReservationSlotCounter}: one counter per hour and
+ * a 24-bit mask of fully booked hours.
+ *
+ * <p> The mask is derived from the counters and the store capacity when the day is read, so a reader can tell free and
+ * full hours apart without comparing each counter. </p>
+ */
+public class ReservationSlotDay {
+
+    public static final int HOURS_PER_DAY = 24;
+
+    private final int[] counts;
+
+    private final int fullMask;
+
+    /**
+     * @param capacity Maximum number of reservations per hour, or {@code null} if unlimited.
+     */
+    public ReservationSlotDay(int[] counts, Integer capacity) {
+        this.counts = counts.clone();
+        int mask = 0;
+        for (int hour = 0; hour < HOURS_PER_DAY; hour++) {
+            if (capacity != null && counts[hour] >= capacity) {
+                mask |= 1 << hour;
+            }
+        }
+        this.fullMask = mask;
+    }
+
+    public int getCount(int hour) {
+        return counts[hour];
+    }
+
+    public int getFullMask() {
+        return fullMask;
+    }
+
+    public boolean isFull(int hour) {
+        return (fullMask & (1 << hour)) != 0;
+    }
+
+}
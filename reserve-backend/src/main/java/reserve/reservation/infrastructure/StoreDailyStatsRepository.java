@@ -0,0 +1,61 @@
+package reserve.reservation.infrastructure;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import reserve.reservation.domain.StoreDailyStats;
+import reserve.reservation.domain.StoreDailyStatsId;
+import reserve.reservation.dto.StoreReservationCountDto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface StoreDailyStatsRepository extends JpaRepository<StoreDailyStats, StoreDailyStatsId> {
+
+    /**
+     * Creates the row with zero counts unless it exists, and locks it either way, so that a missing row is never
+     * locked by a locking read, which would lock the gap where it belongs and block its creation by anyone.
+     */
+    @Modifying
+    @Query(
+            value = """
+                    INSERT INTO store_daily_stats (store_id, date, reservation_count, ready_count, in_service_count,
+                                                   completed_count, cancelled_count, no_show_count, revenue)
+                    VALUES (:storeId, :date, 0, 0, 0, 0, 0, 0, 0)
+                    ON DUPLICATE KEY UPDATE store_id = store_id
+                    """,
+            nativeQuery = true
+    )
+    void insertOrLock(@Param("storeId") Long storeId, @Param("date") LocalDate date);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM StoreDailyStats s WHERE s.id = :id")
+    Optional<StoreDailyStats> findForUpdateById(@Param("id") StoreDailyStatsId id);
+
+    @Query("""
+           SELECT s FROM StoreDailyStats s
+           WHERE s.id.storeId = :storeId AND s.id.date BETWEEN :from AND :to
+           ORDER BY s.id.date
+           """)
+    List<StoreDailyStats> findAllByStoreIdAndDateBetween(
+            @Param("storeId") Long storeId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to
+    );
+
+    @Query("""
+           SELECT new reserve.reservation.dto.StoreReservationCountDto(s.id.storeId, SUM(s.reservationCount))
+           FROM StoreDailyStats s
+           WHERE s.id.date >= :from
+           GROUP BY s.id.storeId
+           """)
+    List<StoreReservationCountDto> sumReservationCountsFrom(@Param("from") LocalDate from);
+
+    @Query("SELECT s.id FROM StoreDailyStats s WHERE s.id.date >= :from ORDER BY s.id.date, s.id.storeId")
+    List<StoreDailyStatsId> findIdsFrom(@Param("from") LocalDate from);
+
+}
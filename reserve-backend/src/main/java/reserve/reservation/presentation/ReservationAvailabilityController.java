@@ -0,0 +1,28 @@
+package reserve.reservation.presentation;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import reserve.reservation.dto.request.StoreAvailabilityRequest;
+import reserve.reservation.dto.response.StoreAvailabilityResponse;
+import reserve.reservation.service.ReservationSlotService;
+
+@RestController
+@RequiredArgsConstructor
+public class ReservationAvailabilityController implements ReservationAvailabilityOperations {
+
+    private final ReservationSlotService reservationSlotService;
+
+    @Override
+    @GetMapping("/v1/stores/{storeId}/availability")
+    public StoreAvailabilityResponse getStoreAvailability(
+            @PathVariable("storeId") Long storeId,
+            @ModelAttribute @Validated StoreAvailabilityRequest storeAvailabilityRequest
+    ) {
+        return reservationSlotService.getAvailability(storeId, storeAvailabilityRequest);
+    }
+
+}
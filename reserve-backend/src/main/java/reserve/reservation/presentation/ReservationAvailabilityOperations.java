@@ -0,0 +1,42 @@
+package reserve.reservation.presentation;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springdoc.core.annotations.ParameterObject;
+import reserve.global.exception.ErrorCode;
+import reserve.global.swagger.annotation.ApiErrorCodeResponse;
+import reserve.global.swagger.annotation.ApiErrorCodeResponses;
+import reserve.reservation.dto.request.StoreAvailabilityRequest;
+import reserve.reservation.dto.response.StoreAvailabilityResponse;
+
+@Tag(name = "Reservation Availability", description = "Reservation availability API")
+public interface ReservationAvailabilityOperations {
+
+    @Operation(
+            summary = "Get store availability",
+            description = "Get available and fully booked hours of a store for each day in the date range, " +
+                          "starting today at the earliest",
+            operationId = "1_getStoreAvailability"
+    )
+    @ApiResponses(@ApiResponse(
+            responseCode = "200", description = "Response with availability of each day",
+            content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = StoreAvailabilityResponse.class)
+            )
+    ))
+    @ApiErrorCodeResponses({
+            @ApiErrorCodeResponse(responseCode = "400", errorCode = ErrorCode.INVALID_DATE_RANGE),
+            @ApiErrorCodeResponse(responseCode = "404", errorCode = ErrorCode.STORE_NOT_FOUND)
+    })
+    @SuppressWarnings("unused")
+    StoreAvailabilityResponse getStoreAvailability(
+            @Schema(description = "Store ID", example = "1") Long storeId,
+            @ParameterObject StoreAvailabilityRequest storeAvailabilityRequest
+    );
+
+}
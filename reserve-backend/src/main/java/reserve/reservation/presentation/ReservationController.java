@@ -7,7 +7,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import reserve.auth.domain.AuthInfo;
 import reserve.auth.infrastructure.Authentication;
-import reserve.notification.service.NotificationService;
+import reserve.notification.service.NotificationWriter;
 import reserve.reservation.dto.request.ReservationCreateRequest;
 import reserve.reservation.dto.request.ReservationSearchRequest;
 import reserve.reservation.dto.request.ReservationUpdateRequest;
@@ -25,7 +25,7 @@ public class ReservationController implements ReservationOperations {
 
     private final ReservationService reservationService;
 
-    private final NotificationService notificationService;
+    private final NotificationWriter notificationWriter;
 
     @Override
     @PostMapping
@@ -34,7 +34,7 @@ public class ReservationController implements ReservationOperations {
             @RequestBody @Validated ReservationCreateRequest reservationCreateRequest
     ) {
         Long reservationId = reservationService.create(authInfo.getUserId(), reservationCreateRequest);
-        notificationService.notifyReservation(
+        notificationWriter.notifyReservation(
                 reservationId,
                 "Reservation has been created.",
                 "New customer has made a reservation."
@@ -78,7 +78,7 @@ public class ReservationController implements ReservationOperations {
             @RequestBody @Validated ReservationUpdateRequest reservationUpdateRequest
     ) {
         reservationService.update(authInfo.getUserId(), reservationId, reservationUpdateRequest);
-        notificationService.notifyReservation(
+        notificationWriter.notifyReservation(
                 reservationId,
                 "Reservation has been updated.",
                 "Customer has updated the reservation."
@@ -89,7 +89,7 @@ public class ReservationController implements ReservationOperations {
     @PostMapping("/{reservationId}/cancel")
     public void cancel(@Authentication AuthInfo authInfo, @PathVariable("reservationId") Long reservationId) {
         reservationService.cancel(authInfo.getUserId(), reservationId);
-        notificationService.notifyReservation(
+        notificationWriter.notifyReservation(
                 reservationId,
                 "Reservation has been canceled.",
                 "Customer has canceled the reservation."
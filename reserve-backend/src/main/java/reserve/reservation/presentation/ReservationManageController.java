@@ -1,13 +1,13 @@
 package reserve.reservation.presentation;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
 import reserve.auth.domain.AuthInfo;
 import reserve.auth.infrastructure.Authentication;
-import reserve.notification.service.NotificationService;
+import reserve.notification.service.NotificationWriter;
+import reserve.reservation.dto.request.ReservationBulkManageRequest;
+import reserve.reservation.dto.response.ReservationBulkManageResponse;
 import reserve.reservation.service.ReservationManageService;
 
 @RestController
@@ -16,13 +16,13 @@ import reserve.reservation.service.ReservationManageService;
 public class ReservationManageController implements ReservationManageOperations {
 
     private final ReservationManageService reservationManageService;
-    private final NotificationService notificationService;
+    private final NotificationWriter notificationWriter;
 
     @Override
     @PostMapping("/{reservationId}/cancel")
     public void cancel(@Authentication AuthInfo authInfo, @PathVariable("reservationId") Long reservationId) {
         reservationManageService.cancel(authInfo.getUserId(), reservationId);
-        notificationService.notifyReservation(
+        notificationWriter.notifyReservation(
                 reservationId,
                 "Reservation has been cancelled.",
                 "Customer has cancelled the reservation."
@@ -33,14 +33,54 @@ public class ReservationManageController implements ReservationManageOperations
     @PostMapping("/{reservationId}/start")
     public void startService(@Authentication AuthInfo authInfo, @PathVariable("reservationId") Long reservationId) {
         reservationManageService.startService(authInfo.getUserId(), reservationId);
-        notificationService.notifyReservation(reservationId, "Service has been started.");
+        notificationWriter.notifyReservation(reservationId, "Service has been started.");
     }
 
     @Override
     @PostMapping("/{reservationId}/complete")
     public void complete(@Authentication AuthInfo authInfo, @PathVariable("reservationId") Long reservationId) {
         reservationManageService.complete(authInfo.getUserId(), reservationId);
-        notificationService.notifyReservation(reservationId, "Service has been completed.");
+        notificationWriter.notifyReservation(reservationId, "Service has been completed.");
+    }
+
+    @Override
+    @PostMapping("/cancel")
+    public ReservationBulkManageResponse bulkCancel(
+            @Authentication AuthInfo authInfo,
+            @RequestBody @Validated ReservationBulkManageRequest reservationBulkManageRequest
+    ) {
+        ReservationBulkManageResponse response =
+                reservationManageService.bulkCancel(authInfo.getUserId(), reservationBulkManageRequest);
+        notificationWriter.notifyReservations(
+                response.changedReservationIds(),
+                "Reservation has been cancelled.",
+                "Customer has cancelled the reservation."
+        );
+        return response;
+    }
+
+    @Override
+    @PostMapping("/start")
+    public ReservationBulkManageResponse bulkStartService(
+            @Authentication AuthInfo authInfo,
+            @RequestBody @Validated ReservationBulkManageRequest reservationBulkManageRequest
+    ) {
+        ReservationBulkManageResponse response =
+                reservationManageService.bulkStartService(authInfo.getUserId(), reservationBulkManageRequest);
+        notificationWriter.notifyReservations(response.changedReservationIds(), "Service has been started.");
+        return response;
+    }
+
+    @Override
+    @PostMapping("/complete")
+    public ReservationBulkManageResponse bulkComplete(
+            @Authentication AuthInfo authInfo,
+            @RequestBody @Validated ReservationBulkManageRequest reservationBulkManageRequest
+    ) {
+        ReservationBulkManageResponse response =
+                reservationManageService.bulkComplete(authInfo.getUserId(), reservationBulkManageRequest);
+        notificationWriter.notifyReservations(response.changedReservationIds(), "Service has been completed.");
+        return response;
     }
 
 }
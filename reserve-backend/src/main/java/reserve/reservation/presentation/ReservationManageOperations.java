@@ -1,6 +1,7 @@
 package reserve.reservation.presentation;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -9,6 +10,8 @@ import reserve.auth.domain.AuthInfo;
 import reserve.global.exception.ErrorCode;
 import reserve.global.swagger.annotation.ApiErrorCodeResponse;
 import reserve.global.swagger.annotation.ApiErrorCodeResponses;
+import reserve.reservation.dto.request.ReservationBulkManageRequest;
+import reserve.reservation.dto.response.ReservationBulkManageResponse;
 
 @Tag(name = "Reservation Managements", description = "Reservation API")
 public interface ReservationManageOperations {
@@ -54,4 +57,64 @@ public interface ReservationManageOperations {
             @Schema(description = "ID of reservation", example = "1") Long reservationId
     );
 
+
+    @Operation(
+            summary = "Cancel reservations",
+            description = "Cancel reservations by IDs or by store, date and hour",
+            operationId = "4_bulkCancel"
+    )
+    @ApiResponses(@ApiResponse(
+            responseCode = "200", description = "Result of each reservation",
+            content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ReservationBulkManageResponse.class)
+            )
+    ))
+    @ApiErrorCodeResponses(@ApiErrorCodeResponse(responseCode = "400", errorCode = ErrorCode.INVALID_REQUEST))
+    @SuppressWarnings("unused")
+    ReservationBulkManageResponse bulkCancel(
+            AuthInfo authInfo,
+            ReservationBulkManageRequest reservationBulkManageRequest
+    );
+
+
+    @Operation(
+            summary = "Start service of reservations",
+            description = "Change status of reservations to 'In Service' by IDs or by store, date and hour",
+            operationId = "5_bulkStartService"
+    )
+    @ApiResponses(@ApiResponse(
+            responseCode = "200", description = "Result of each reservation",
+            content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ReservationBulkManageResponse.class)
+            )
+    ))
+    @ApiErrorCodeResponses(@ApiErrorCodeResponse(responseCode = "400", errorCode = ErrorCode.INVALID_REQUEST))
+    @SuppressWarnings("unused")
+    ReservationBulkManageResponse bulkStartService(
+            AuthInfo authInfo,
+            ReservationBulkManageRequest reservationBulkManageRequest
+    );
+
+
+    @Operation(
+            summary = "Complete service of reservations",
+            description = "Change status of reservations to 'Completed' by IDs or by store, date and hour",
+            operationId = "6_bulkComplete"
+    )
+    @ApiResponses(@ApiResponse(
+            responseCode = "200", description = "Result of each reservation",
+            content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ReservationBulkManageResponse.class)
+            )
+    ))
+    @ApiErrorCodeResponses(@ApiErrorCodeResponse(responseCode = "400", errorCode = ErrorCode.INVALID_REQUEST))
+    @SuppressWarnings("unused")
+    ReservationBulkManageResponse bulkComplete(
+            AuthInfo authInfo,
+            ReservationBulkManageRequest reservationBulkManageRequest
+    );
+
 }
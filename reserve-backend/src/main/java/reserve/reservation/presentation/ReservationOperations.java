@@ -31,7 +31,8 @@ public interface ReservationOperations {
     @ApiResponses(@ApiResponse(responseCode = "201", description = "Successfully reserved"))
     @ApiErrorCodeResponses({
             @ApiErrorCodeResponse(responseCode = "403", errorCode = ErrorCode.INVALID_SIGN_IN_INFO),
-            @ApiErrorCodeResponse(responseCode = "404", errorCode = ErrorCode.STORE_NOT_FOUND)
+            @ApiErrorCodeResponse(responseCode = "404", errorCode = ErrorCode.STORE_NOT_FOUND),
+            @ApiErrorCodeResponse(responseCode = "409", errorCode = ErrorCode.RESERVATION_SLOT_FULL)
     })
     @SuppressWarnings("unused")
     ResponseEntity<Void> create(AuthInfo authInfo, ReservationCreateRequest reservationCreateRequest);
@@ -79,7 +80,9 @@ public interface ReservationOperations {
 
     @Operation(
             summary = "Search reservations",
-            description = "Search reservations by store ID, date, and hour",
+            description = "Search reservations by store ID, date, and hour. " +
+                          "If 'cursor' is given, pages by (date, hour, reservation ID) and returns 'nextCursor' " +
+                          "instead of counting all results.",
             operationId = "4_search"
     )
     @ApiResponses(@ApiResponse(
@@ -89,7 +92,10 @@ public interface ReservationOperations {
                     schema = @Schema(implementation = ReservationInfoListResponse.class)
             )
     ))
-    @ApiErrorCodeResponses(@ApiErrorCodeResponse(responseCode = "403", errorCode = ErrorCode.INVALID_SIGN_IN_INFO))
+    @ApiErrorCodeResponses({
+            @ApiErrorCodeResponse(responseCode = "400", errorCode = ErrorCode.INVALID_CURSOR),
+            @ApiErrorCodeResponse(responseCode = "403", errorCode = ErrorCode.INVALID_SIGN_IN_INFO)
+    })
     @SuppressWarnings("unused")
     ReservationInfoListResponse search(
             AuthInfo authInfo,
@@ -104,7 +110,10 @@ public interface ReservationOperations {
             operationId = "5_update"
     )
     @ApiResponses(@ApiResponse(responseCode = "200", description = "Successfully updated"))
-    @ApiErrorCodeResponses(@ApiErrorCodeResponse(responseCode = "404", errorCode = ErrorCode.RESERVATION_NOT_FOUND))
+    @ApiErrorCodeResponses({
+            @ApiErrorCodeResponse(responseCode = "404", errorCode = ErrorCode.RESERVATION_NOT_FOUND),
+            @ApiErrorCodeResponse(responseCode = "409", errorCode = ErrorCode.RESERVATION_SLOT_FULL)
+    })
     @SuppressWarnings("unused")
     void update(
             AuthInfo authInfo,
@@ -0,0 +1,31 @@
+package reserve.reservation.presentation;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import reserve.auth.domain.AuthInfo;
+import reserve.auth.infrastructure.Authentication;
+import reserve.reservation.dto.request.StoreStatsRequest;
+import reserve.reservation.dto.response.StoreStatsResponse;
+import reserve.reservation.service.StoreDailyStatsService;
+
+@RestController
+@RequiredArgsConstructor
+public class StoreStatsController implements StoreStatsOperations {
+
+    private final StoreDailyStatsService storeDailyStatsService;
+
+    @Override
+    @GetMapping("/v1/stores/{storeId}/stats")
+    public StoreStatsResponse getStoreStats(
+            @Authentication AuthInfo authInfo,
+            @PathVariable("storeId") Long storeId,
+            @ModelAttribute @Validated StoreStatsRequest storeStatsRequest
+    ) {
+        return storeDailyStatsService.getStats(authInfo.getUserId(), storeId, storeStatsRequest);
+    }
+
+}
@@ -0,0 +1,43 @@
+package reserve.reservation.presentation;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springdoc.core.annotations.ParameterObject;
+import reserve.auth.domain.AuthInfo;
+import reserve.global.exception.ErrorCode;
+import reserve.global.swagger.annotation.ApiErrorCodeResponse;
+import reserve.global.swagger.annotation.ApiErrorCodeResponses;
+import reserve.reservation.dto.request.StoreStatsRequest;
+import reserve.reservation.dto.response.StoreStatsResponse;
+
+@Tag(name = "Store Statistics", description = "Reservation statistics API for store registrants")
+public interface StoreStatsOperations {
+
+    @Operation(
+            summary = "Get store statistics",
+            description = "Get daily reservation counts by status and revenue of a store in the date range",
+            operationId = "1_getStoreStats"
+    )
+    @ApiResponses(@ApiResponse(
+            responseCode = "200", description = "Response with statistics of each day",
+            content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = StoreStatsResponse.class)
+            )
+    ))
+    @ApiErrorCodeResponses({
+            @ApiErrorCodeResponse(responseCode = "400", errorCode = ErrorCode.INVALID_DATE_RANGE),
+            @ApiErrorCodeResponse(responseCode = "404", errorCode = ErrorCode.STORE_NOT_FOUND)
+    })
+    @SuppressWarnings("unused")
+    StoreStatsResponse getStoreStats(
+            AuthInfo authInfo,
+            @Schema(description = "Store ID", example = "1") Long storeId,
+            @ParameterObject StoreStatsRequest storeStatsRequest
+    );
+
+}
@@ -0,0 +1,129 @@
+package reserve.reservation.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reserve.reservation.domain.ReservationStatusType;
+import reserve.reservation.dto.ReservationManageTargetDto;
+import reserve.reservation.infrastructure.ReservationQueryRepository;
+import reserve.reservation.infrastructure.ReservationRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Closes reservations whose hour has passed: ready reservations become {@code NO_SHOW}, and reservations in service
+ * become {@code COMPLETED}.
+ *
+ * <p> Reservations are processed in chunks ordered by ID, each in its own short transaction, with a pause between
+ * chunks, so that the sweep never holds many row locks on {@code reservations} at once. </p>
+ */
+@Service
+@Slf4j
+public class OverdueReservationSweeper {
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationQueryRepository reservationQueryRepository;
+    private final StoreDailyStatsService storeDailyStatsService;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration grace;
+    private final int chunkSize;
+    private final Duration throttle;
+
+    public OverdueReservationSweeper(
+            ReservationRepository reservationRepository,
+            ReservationQueryRepository reservationQueryRepository,
+            StoreDailyStatsService storeDailyStatsService,
+            PlatformTransactionManager transactionManager,
+            @Value("${application.reservation.sweeper.grace:2h}") Duration grace,
+            @Value("${application.reservation.sweeper.chunkSize:500}") int chunkSize,
+            @Value("${application.reservation.sweeper.throttle:100ms}") Duration throttle
+    ) {
+        this.reservationRepository = reservationRepository;
+        this.reservationQueryRepository = reservationQueryRepository;
+        this.storeDailyStatsService = storeDailyStatsService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.grace = grace;
+        this.chunkSize = chunkSize;
+        this.throttle = throttle;
+    }
+
+    /**
+     * Closes the reservations whose hour started at least the configured grace period ago.
+     */
+    @Scheduled(
+            initialDelayString = "${application.reservation.sweeper.interval:PT10M}",
+            fixedDelayString = "${application.reservation.sweeper.interval:PT10M}"
+    )
+    public void sweep() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(grace);
+        int noShowCount = sweep(ReservationStatusType.READY, ReservationStatusType.NO_SHOW, cutoff);
+        int completedCount = sweep(ReservationStatusType.IN_SERVICE, ReservationStatusType.COMPLETED, cutoff);
+        if (noShowCount > 0 || completedCount > 0) {
+            log.info(
+                    "Overdue reservations before {} closed: {} no-show, {} completed",
+                    cutoff,
+                    noShowCount,
+                    completedCount
+            );
+        }
+    }
+
+    private int sweep(ReservationStatusType source, ReservationStatusType target, LocalDateTime cutoff) {
+        int total = 0;
+        long lastId = 0;
+        while (true) {
+            final long after = lastId;
+            List<ReservationManageTargetDto> chunk =
+                    transactionTemplate.execute(status -> sweepChunk(source, target, cutoff, after));
+            if (chunk == null || chunk.isEmpty()) {
+                return total;
+            }
+            total += chunk.size();
+            lastId = chunk.get(chunk.size() - 1).getReservationId();
+            if (chunk.size() < chunkSize || !pause()) {
+                return total;
+            }
+        }
+    }
+
+    private List<ReservationManageTargetDto> sweepChunk(
+            ReservationStatusType source,
+            ReservationStatusType target,
+            LocalDateTime cutoff,
+            long lastId
+    ) {
+        List<ReservationManageTargetDto> chunk =
+                reservationQueryRepository.findOverdueForUpdate(source, cutoff, lastId, chunkSize);
+        if (chunk.isEmpty()) {
+            return chunk;
+        }
+
+        List<Long> reservationIds = chunk.stream().map(ReservationManageTargetDto::getReservationId).toList();
+        reservationRepository.updateStatusByIdIn(reservationIds, Set.of(source), target);
+        storeDailyStatsService.recordStatusChanges(chunk, target);
+        return chunk;
+    }
+
+    /**
+     * @return {@code false} if interrupted
+     */
+    private boolean pause() {
+        if (throttle.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(throttle.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+}
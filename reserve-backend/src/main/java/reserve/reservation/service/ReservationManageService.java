@@ -4,35 +4,137 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reserve.global.exception.ErrorCode;
+import reserve.global.exception.InvalidRequestException;
 import reserve.global.exception.ResourceNotFoundException;
 import reserve.reservation.domain.Reservation;
+import reserve.reservation.domain.ReservationStatusType;
+import reserve.reservation.domain.ReservationTransition;
+import reserve.reservation.dto.ReservationManageTargetDto;
+import reserve.reservation.dto.ReservationStatsSnapshot;
+import reserve.reservation.dto.request.ReservationBulkManageRequest;
+import reserve.reservation.dto.response.ReservationBulkManageResponse;
+import reserve.reservation.dto.response.ReservationBulkManageResultResponse;
+import reserve.reservation.infrastructure.ReservationQueryRepository;
 import reserve.reservation.infrastructure.ReservationRepository;
 
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class ReservationManageService {
 
     private final ReservationRepository reservationRepository;
+    private final ReservationQueryRepository reservationQueryRepository;
+    private final ReservationSlotService reservationSlotService;
+    private final StoreDailyStatsService storeDailyStatsService;
 
     @Transactional
     public void cancel(Long registrantId, Long reservationId) {
         Reservation reservation = reservationRepository.findByIdAndStoreUserId(reservationId, registrantId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.RESERVATION_NOT_FOUND));
+        boolean occupying = !reservation.isCancelled();
+        ReservationStatsSnapshot before = storeDailyStatsService.snapshot(reservation);
         reservation.cancel();
+        if (occupying) {
+            reservationSlotService.vacate(reservation);
+        }
+        storeDailyStatsService.recordChange(before, reservation);
     }
 
     @Transactional
     public void startService(Long registrantId, Long reservationId) {
         Reservation reservation = reservationRepository.findByIdAndStoreUserId(reservationId, registrantId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.RESERVATION_NOT_FOUND));
+        ReservationStatsSnapshot before = storeDailyStatsService.snapshot(reservation);
         reservation.start();
+        storeDailyStatsService.recordChange(before, reservation);
     }
 
     @Transactional
     public void complete(Long registrantId, Long reservationId) {
         Reservation reservation = reservationRepository.findByIdAndStoreUserId(reservationId, registrantId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.RESERVATION_NOT_FOUND));
+        ReservationStatsSnapshot before = storeDailyStatsService.snapshot(reservation);
         reservation.complete();
+        storeDailyStatsService.recordChange(before, reservation);
+    }
+
+    @Transactional
+    public ReservationBulkManageResponse bulkCancel(Long registrantId, ReservationBulkManageRequest request) {
+        return bulkApply(registrantId, request, ReservationTransition.CANCEL);
+    }
+
+    @Transactional
+    public ReservationBulkManageResponse bulkStartService(Long registrantId, ReservationBulkManageRequest request) {
+        return bulkApply(registrantId, request, ReservationTransition.START);
+    }
+
+    @Transactional
+    public ReservationBulkManageResponse bulkComplete(Long registrantId, ReservationBulkManageRequest request) {
+        return bulkApply(registrantId, request, ReservationTransition.COMPLETE);
+    }
+
+    /**
+     * Applies the transition to all selected reservations with a single guarded {@code UPDATE}. Selected rows are
+     * locked first, so the result of each reservation is decided by the status read here.
+     */
+    private ReservationBulkManageResponse bulkApply(
+            Long registrantId,
+            ReservationBulkManageRequest request,
+            ReservationTransition transition
+    ) {
+        if (!request.hasReservationIds() && (request.getStoreId() == null || request.getDate() == null)) {
+            throw new InvalidRequestException(ErrorCode.INVALID_REQUEST);
+        }
+
+        Map<Long, ReservationManageTargetDto> targets = reservationQueryRepository
+                .findManageTargetsForUpdate(registrantId, request)
+                .stream()
+                .collect(Collectors.toMap(
+                        ReservationManageTargetDto::getReservationId,
+                        Function.identity(),
+                        (a, b) -> a,
+                        LinkedHashMap::new
+                ));
+        Collection<Long> requestedIds = request.hasReservationIds()
+                ? new LinkedHashSet<>(request.getReservationIds())
+                : targets.keySet();
+
+        List<ReservationBulkManageResultResponse> results = new ArrayList<>();
+        List<ReservationManageTargetDto> changing = new ArrayList<>();
+        for (Long reservationId : requestedIds) {
+            ReservationManageTargetDto target = targets.get(reservationId);
+            if (target == null) {
+                results.add(ReservationBulkManageResultResponse.failed(reservationId, ErrorCode.RESERVATION_NOT_FOUND));
+            } else if (target.getStatus() == transition.getTarget()) {
+                results.add(ReservationBulkManageResultResponse.unchanged(reservationId));
+            } else if (transition.isAllowedFrom(target.getStatus())) {
+                results.add(ReservationBulkManageResultResponse.changed(reservationId));
+                changing.add(target);
+            } else {
+                results.add(ReservationBulkManageResultResponse.failed(reservationId, transition.getErrorCode()));
+            }
+        }
+
+        if (!changing.isEmpty()) {
+            applyChanges(changing, transition);
+        }
+        return ReservationBulkManageResponse.from(results);
+    }
+
+    private void applyChanges(List<ReservationManageTargetDto> changing, ReservationTransition transition) {
+        List<Long> reservationIds = changing.stream().map(ReservationManageTargetDto::getReservationId).toList();
+        reservationRepository.updateStatusByIdIn(reservationIds, transition.getSources(), transition.getTarget());
+
+        if (transition.getTarget() == ReservationStatusType.CANCELLED) {
+            for (ReservationManageTargetDto target : changing) {
+                reservationSlotService.vacate(target.getStoreId(), target.getDate(), target.getHour());
+            }
+        }
+
+        storeDailyStatsService.recordStatusChanges(changing, transition.getTarget());
     }
 
 }
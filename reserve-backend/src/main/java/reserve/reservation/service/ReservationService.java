@@ -3,8 +3,10 @@ package reserve.reservation.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reserve.auth.infrastructure.AuthorizationFactCache;
 import reserve.global.exception.AuthenticationException;
 import reserve.global.exception.ErrorCode;
 import reserve.global.exception.ResourceNotFoundException;
@@ -12,6 +14,8 @@ import reserve.menu.domain.Menu;
 import reserve.menu.infrastructure.MenuRepository;
 import reserve.reservation.domain.Reservation;
 import reserve.reservation.domain.ReservationMenu;
+import reserve.reservation.dto.ReservationSearchCursor;
+import reserve.reservation.dto.ReservationStatsSnapshot;
 import reserve.reservation.dto.request.ReservationCreateRequest;
 import reserve.reservation.dto.request.ReservationMenuCreateRequest;
 import reserve.reservation.dto.request.ReservationSearchRequest;
@@ -20,9 +24,11 @@ import reserve.reservation.dto.response.*;
 import reserve.reservation.infrastructure.ReservationMenuRepository;
 import reserve.reservation.infrastructure.ReservationQueryRepository;
 import reserve.reservation.infrastructure.ReservationRepository;
+import reserve.store.domain.Store;
 import reserve.store.infrastructure.StoreRepository;
 import reserve.user.infrastructure.UserRepository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -37,18 +43,21 @@ public class ReservationService {
     private final MenuRepository menuRepository;
     private final StoreRepository storeRepository;
     private final UserRepository userRepository;
+    private final ReservationSlotService reservationSlotService;
+    private final StoreDailyStatsService storeDailyStatsService;
+    private final AuthorizationFactCache authorizationFactCache;
 
     @Transactional
     public Long create(Long userId, ReservationCreateRequest reservationCreateRequest) {
-        if (!userRepository.existsById(userId)) {
+        if (!authorizationFactCache.isUserAvailable(userId)) {
             throw new AuthenticationException(ErrorCode.INVALID_SIGN_IN_INFO);
         }
-        if (!storeRepository.existsById(reservationCreateRequest.getStoreId())) {
-            throw new ResourceNotFoundException(ErrorCode.STORE_NOT_FOUND);
-        }
+        Store store = storeRepository.findById(reservationCreateRequest.getStoreId())
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.STORE_NOT_FOUND));
+        reservationSlotService.occupy(store, reservationCreateRequest.getDate(), reservationCreateRequest.getHour());
         Reservation reservation = reservationRepository.save(new Reservation(
                 userRepository.getReferenceById(userId),
-                storeRepository.getReferenceById(reservationCreateRequest.getStoreId()),
+                store,
                 reservationCreateRequest.getDate(),
                 reservationCreateRequest.getHour()
         ));
@@ -57,6 +66,8 @@ public class ReservationService {
                 .map(req -> createReservationMenu(reservation, menuMap.get(req.getMenuId()), req.getQuantity()))
                 .toList();
         reservationMenuRepository.saveAll(reservationMenuList);
+        long revenue = reservationMenuList.stream().mapToLong(m -> (long) m.getPrice() * m.getQuantity()).sum();
+        storeDailyStatsService.recordCreated(reservation, revenue);
         return reservation.getId();
     }
 
@@ -94,28 +105,58 @@ public class ReservationService {
             ReservationSearchRequest reservationSearchRequest,
             Pageable pageable
     ) {
-        if (!userRepository.existsById(userId)) {
+        if (!authorizationFactCache.isUserAvailable(userId)) {
             throw new AuthenticationException(ErrorCode.INVALID_SIGN_IN_INFO);
         }
+        if (reservationSearchRequest.getCursor() != null) {
+            return searchByCursor(userId, reservationSearchRequest, pageable.getPageSize());
+        }
         Page<ReservationInfoResponse> result =
                 reservationQueryRepository.findResponsesBySearch(userId, reservationSearchRequest, pageable);
         return ReservationInfoListResponse.from(result);
     }
 
+    private ReservationInfoListResponse searchByCursor(
+            Long userId,
+            ReservationSearchRequest reservationSearchRequest,
+            int size
+    ) {
+        String token = reservationSearchRequest.getCursor();
+        ReservationSearchCursor cursor = token.isEmpty() ? null : ReservationSearchCursor.decode(token);
+        Slice<ReservationInfoResponse> result =
+                reservationQueryRepository.findResponsesBySearchAfter(userId, reservationSearchRequest, cursor, size);
+        String nextCursor = null;
+        if (result.hasNext()) {
+            ReservationInfoResponse last = result.getContent().get(result.getNumberOfElements() - 1);
+            nextCursor = ReservationSearchCursor.from(last).encode();
+        }
+        return ReservationInfoListResponse.from(result, nextCursor);
+    }
+
     @Transactional
     public void update(Long userId, Long reservationId, ReservationUpdateRequest reservationUpdateRequest) {
         Reservation reservation = reservationRepository.findByIdAndUserId(reservationId, userId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.RESERVATION_NOT_FOUND));
-        reservation.setDate(reservationUpdateRequest.getDate());
-        reservation.setHour(reservationUpdateRequest.getHour());
+        LocalDate date = reservationUpdateRequest.getDate();
+        int hour = reservationUpdateRequest.getHour();
+        reservationSlotService.move(reservation, date, hour);
+        ReservationStatsSnapshot before = storeDailyStatsService.snapshot(reservation);
+        reservation.setDate(date);
+        reservation.setHour(hour);
+        storeDailyStatsService.recordChange(before, reservation);
     }
 
     @Transactional
     public void cancel(Long userId, Long reservationId) {
-        reservationRepository
-                .findByIdAndUserId(reservationId, userId)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.RESERVATION_NOT_FOUND))
-                .cancel();
+        Reservation reservation = reservationRepository.findByIdAndUserId(reservationId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.RESERVATION_NOT_FOUND));
+        boolean occupying = !reservation.isCancelled();
+        ReservationStatsSnapshot before = storeDailyStatsService.snapshot(reservation);
+        reservation.cancel();
+        if (occupying) {
+            reservationSlotService.vacate(reservation);
+        }
+        storeDailyStatsService.recordChange(before, reservation);
     }
 
 }
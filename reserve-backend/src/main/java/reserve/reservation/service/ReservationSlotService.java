@@ -0,0 +1,88 @@
+package reserve.reservation.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reserve.global.exception.ErrorCode;
+import reserve.global.exception.InvalidRequestException;
+import reserve.global.exception.ReservationCapacityException;
+import reserve.global.exception.ResourceNotFoundException;
+import reserve.global.transaction.TransactionCallbacks;
+import reserve.reservation.domain.Reservation;
+import reserve.reservation.dto.request.StoreAvailabilityRequest;
+import reserve.reservation.dto.response.DailyAvailabilityResponse;
+import reserve.reservation.dto.response.StoreAvailabilityResponse;
+import reserve.reservation.infrastructure.ReservationSlotCounter;
+import reserve.reservation.infrastructure.ReservationSlotDay;
+import reserve.store.domain.Store;
+import reserve.store.infrastructure.StoreRepository;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps {@link ReservationSlotCounter} consistent with the reservations committed to the database.
+ *
+ * <p> A place is occupied as soon as a reservation is admitted and given back if the surrounding transaction rolls
+ * back. A place is vacated only after the transaction that cancels or moves the reservation commits. </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class ReservationSlotService {
+
+    public static final int MAX_AVAILABILITY_DAYS = 31;
+
+    private final ReservationSlotCounter reservationSlotCounter;
+    private final StoreRepository storeRepository;
+
+    /**
+     * Reads the availability of each day in the requested range from the shared slot counters, which scan the
+     * {@code reservations} table only for the days no node has used yet. Days before today are rejected, since their
+     * counters are no longer kept.
+     */
+    @Transactional(readOnly = true)
+    public StoreAvailabilityResponse getAvailability(Long storeId, StoreAvailabilityRequest storeAvailabilityRequest) {
+        LocalDate from = storeAvailabilityRequest.getFrom();
+        LocalDate to = storeAvailabilityRequest.getTo();
+        if (from.isBefore(LocalDate.now()) ||
+            to.isBefore(from) ||
+            ChronoUnit.DAYS.between(from, to) >= MAX_AVAILABILITY_DAYS) {
+            throw new InvalidRequestException(ErrorCode.INVALID_DATE_RANGE);
+        }
+        Store store = storeRepository.findById(storeId)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.STORE_NOT_FOUND));
+        List<ReservationSlotDay> slotDays = reservationSlotCounter.getSlotDays(storeId, from, to, store.getCapacity());
+        List<DailyAvailabilityResponse> results = new ArrayList<>();
+        for (int i = 0; i < slotDays.size(); i++) {
+            results.add(DailyAvailabilityResponse.of(from.plusDays(i), slotDays.get(i)));
+        }
+        return new StoreAvailabilityResponse(storeId, store.getCapacity(), results);
+    }
+
+    public void occupy(Store store, LocalDate date, int hour) {
+        Long storeId = store.getId();
+        if (!reservationSlotCounter.tryAcquire(storeId, date, hour, store.getCapacity())) {
+            throw new ReservationCapacityException(ErrorCode.RESERVATION_SLOT_FULL);
+        }
+        TransactionCallbacks.runAfterRollback(() -> reservationSlotCounter.release(storeId, date, hour));
+    }
+
+    public void move(Reservation reservation, LocalDate date, int hour) {
+        if (reservation.isCancelled() || (reservation.getDate().equals(date) && reservation.getHour() == hour)) {
+            return;
+        }
+        occupy(reservation.getStore(), date, hour);
+        vacate(reservation);
+    }
+
+    public void vacate(Reservation reservation) {
+        vacate(reservation.getStore().getId(), reservation.getDate(), reservation.getHour());
+    }
+
+    public void vacate(Long storeId, LocalDate date, int hour) {
+        TransactionCallbacks.runAfterCommit(() -> reservationSlotCounter.release(storeId, date, hour));
+    }
+
+}
@@ -0,0 +1,246 @@
+package reserve.reservation.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reserve.auth.infrastructure.AuthorizationFactCache;
+import reserve.global.exception.ErrorCode;
+import reserve.global.exception.InvalidRequestException;
+import reserve.global.exception.ResourceNotFoundException;
+import reserve.global.lock.JobLease;
+import reserve.global.transaction.TransactionCallbacks;
+import reserve.reservation.domain.Reservation;
+import reserve.reservation.domain.ReservationStatusType;
+import reserve.reservation.domain.StoreDailyStats;
+import reserve.reservation.domain.StoreDailyStatsId;
+import reserve.reservation.dto.ReservationDailyStatusCountDto;
+import reserve.reservation.dto.ReservationManageTargetDto;
+import reserve.reservation.dto.ReservationRevenueDto;
+import reserve.reservation.dto.ReservationStatsSnapshot;
+import reserve.reservation.dto.request.StoreStatsRequest;
+import reserve.reservation.dto.response.DailyStatsResponse;
+import reserve.reservation.dto.response.StoreStatsResponse;
+import reserve.reservation.infrastructure.ReservationMenuRepository;
+import reserve.reservation.infrastructure.ReservationQueryRepository;
+import reserve.reservation.infrastructure.StoreDailyStatsRepository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the {@code store_daily_stats} rollups.
+ *
+ * <p> Each change of a reservation is applied to the rollups as the difference between its contribution before and
+ * after the change, at the end of the transaction of the change, so the rollup rows are locked only briefly and the
+ * rollups change if and only if the reservation does. Missing rollup rows are created by the same transaction, so a
+ * change never needs a second connection. </p>
+ *
+ * <p> The nightly reconciliation, run by one node at a time, rebuilds each rollup row of the recent days from the
+ * {@code reservations} table. It locks the row before reading the reservations, so it never races with a change being
+ * applied to the same row. </p>
+ */
+@Service
+@Slf4j
+public class StoreDailyStatsService {
+
+    public static final int MAX_STATS_DAYS = 366;
+
+    private final StoreDailyStatsRepository storeDailyStatsRepository;
+    private final ReservationMenuRepository reservationMenuRepository;
+    private final ReservationQueryRepository reservationQueryRepository;
+    private final AuthorizationFactCache authorizationFactCache;
+    private final JobLease jobLease;
+    private final TransactionTemplate requiresNewTransaction;
+    private final int reconcileDays;
+    private final Duration reconcileLease;
+
+    public StoreDailyStatsService(
+            StoreDailyStatsRepository storeDailyStatsRepository,
+            ReservationMenuRepository reservationMenuRepository,
+            ReservationQueryRepository reservationQueryRepository,
+            AuthorizationFactCache authorizationFactCache,
+            JobLease jobLease,
+            PlatformTransactionManager transactionManager,
+            @Value("${application.reservation.stats.reconcileDays:7}") int reconcileDays,
+            @Value("${application.reservation.stats.reconcileLease:30m}") Duration reconcileLease
+    ) {
+        this.storeDailyStatsRepository = storeDailyStatsRepository;
+        this.reservationMenuRepository = reservationMenuRepository;
+        this.reservationQueryRepository = reservationQueryRepository;
+        this.authorizationFactCache = authorizationFactCache;
+        this.jobLease = jobLease;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.reconcileDays = reconcileDays;
+        this.reconcileLease = reconcileLease;
+    }
+
+    public ReservationStatsSnapshot snapshot(Reservation reservation) {
+        return ReservationStatsSnapshot.of(
+                reservation,
+                reservationMenuRepository.sumRevenueByReservationId(reservation.getId())
+        );
+    }
+
+    /**
+     * Adds a new reservation to the rollups before the current transaction commits.
+     */
+    public void recordCreated(Reservation reservation, long revenue) {
+        record(List.of(new Change(null, ReservationStatsSnapshot.of(reservation, revenue))));
+    }
+
+    /**
+     * Moves the contribution of a reservation from {@code before} to its current date and status before the current
+     * transaction commits.
+     *
+     * @param before snapshot taken with {@link #snapshot(Reservation)} before the change
+     */
+    public void recordChange(ReservationStatsSnapshot before, Reservation reservation) {
+        ReservationStatsSnapshot after = before.changedTo(reservation);
+        if (!before.hasSameContribution(after)) {
+            record(List.of(new Change(before, after)));
+        }
+    }
+
+    /**
+     * Moves the contributions of reservations changed by a bulk update to {@code status}, all in one update before the
+     * current transaction commits.
+     *
+     * @param reservations the reservations as read before the update
+     */
+    public void recordStatusChanges(List<ReservationManageTargetDto> reservations, ReservationStatusType status) {
+        List<ReservationManageTargetDto> changed = reservations.stream()
+                .filter(reservation -> reservation.getStatus() != status)
+                .toList();
+        if (changed.isEmpty()) {
+            return;
+        }
+        List<Long> reservationIds = changed.stream().map(ReservationManageTargetDto::getReservationId).toList();
+        Map<Long, Long> revenues = reservationMenuRepository.findRevenuesByReservationIdIn(reservationIds)
+                .stream()
+                .collect(Collectors.toMap(ReservationRevenueDto::getReservationId, ReservationRevenueDto::getRevenue));
+        List<Change> changes = changed.stream()
+                .map(reservation -> {
+                    ReservationStatsSnapshot before = new ReservationStatsSnapshot(
+                            reservation.getStoreId(),
+                            reservation.getDate(),
+                            reservation.getStatus(),
+                            revenues.getOrDefault(reservation.getReservationId(), 0L)
+                    );
+                    return new Change(before, before.withStatus(status));
+                })
+                .toList();
+        record(changes);
+    }
+
+    private void record(List<Change> changes) {
+        TransactionCallbacks.runBeforeCommit(() -> apply(changes));
+    }
+
+    private void apply(List<Change> changes) {
+        // Lock rows in a fixed order so that concurrent updates of the same rows do not deadlock.
+        SortedMap<StoreDailyStatsId, StoreDailyStats> rows = new TreeMap<>(
+                Comparator.comparing(StoreDailyStatsId::getDate).thenComparing(StoreDailyStatsId::getStoreId)
+        );
+        for (Change change : changes) {
+            if (change.before() != null) {
+                rows.put(change.before().getStatsId(), null);
+            }
+            rows.put(change.after().getStatsId(), null);
+        }
+        rows.keySet().forEach(id -> storeDailyStatsRepository.insertOrLock(id.getStoreId(), id.getDate()));
+        rows.replaceAll((id, ignored) -> storeDailyStatsRepository.findForUpdateById(id).orElseThrow());
+        for (Change change : changes) {
+            if (change.before() != null) {
+                rows.get(change.before().getStatsId()).remove(change.before());
+            }
+            rows.get(change.after().getStatsId()).add(change.after());
+        }
+        storeDailyStatsRepository.flush();
+    }
+
+    /**
+     * Rebuilds the rollups of the recent days, which may have drifted if they were ever changed by hand. Runs on one
+     * node at a time.
+     */
+    @Scheduled(cron = "${application.reservation.stats.reconcileCron:0 30 4 * * *}")
+    public void reconcile() {
+        jobLease.runExclusively(
+                "store-daily-stats-reconcile",
+                reconcileLease,
+                () -> rebuild(LocalDate.now().minusDays(reconcileDays))
+        );
+    }
+
+    /**
+     * Replaces the rollup rows of every day from {@code from} with aggregates of the {@code reservations} table, one
+     * row per transaction.
+     *
+     * @return number of rows rebuilt
+     */
+    public int rebuild(LocalDate from) {
+        int rebuilt = 0;
+        for (StoreDailyStatsId id : storeDailyStatsRepository.findIdsFrom(from)) {
+            try {
+                requiresNewTransaction.executeWithoutResult(status -> rebuild(id));
+                rebuilt++;
+            } catch (RuntimeException e) {
+                log.warn("Failed to rebuild daily stats of store {} on {}", id.getStoreId(), id.getDate(), e);
+            }
+        }
+        log.info("Store daily stats rebuilt from {}: {} rows", from, rebuilt);
+        return rebuilt;
+    }
+
+    private void rebuild(StoreDailyStatsId id) {
+        // Lock the row before reading the reservations: a change of a reservation of the row holds the lock until it
+        // commits, so the reservations read afterward include every change already applied to the row.
+        StoreDailyStats stats = storeDailyStatsRepository.findForUpdateById(id).orElse(null);
+        if (stats == null) {
+            return;
+        }
+        stats.reset();
+        for (ReservationDailyStatusCountDto statusCount
+                : reservationQueryRepository.findDailyStatusCounts(id.getStoreId(), id.getDate())) {
+            stats.addCount(statusCount.getStatus(), (int) statusCount.getCount());
+        }
+        stats.addRevenue(reservationQueryRepository.findDailyRevenue(id.getStoreId(), id.getDate()));
+    }
+
+    @Transactional(readOnly = true)
+    public StoreStatsResponse getStats(Long userId, Long storeId, StoreStatsRequest storeStatsRequest) {
+        LocalDate from = storeStatsRequest.getFrom();
+        LocalDate to = storeStatsRequest.getTo();
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= MAX_STATS_DAYS) {
+            throw new InvalidRequestException(ErrorCode.INVALID_DATE_RANGE);
+        }
+        if (!authorizationFactCache.isStoreOwner(storeId, userId)) {
+            throw new ResourceNotFoundException(ErrorCode.STORE_NOT_FOUND);
+        }
+        Map<LocalDate, StoreDailyStats> statsByDate = storeDailyStatsRepository
+                .findAllByStoreIdAndDateBetween(storeId, from, to)
+                .stream()
+                .collect(Collectors.toMap(stats -> stats.getId().getDate(), Function.identity()));
+        List<DailyStatsResponse> results = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            results.add(DailyStatsResponse.of(date, statsByDate.get(date)));
+        }
+        return StoreStatsResponse.of(storeId, results);
+    }
+
+    /**
+     * @param before {@code null} for a new reservation
+     */
+    private record Change(ReservationStatsSnapshot before, ReservationStatsSnapshot after) {
+    }
+
+}
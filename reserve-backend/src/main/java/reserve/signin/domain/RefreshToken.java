@@ -1,28 +1,18 @@
 package reserve.signin.domain;
 
-import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
-import org.springframework.data.annotation.Id;
-import org.springframework.data.redis.core.RedisHash;
-import org.springframework.data.redis.core.TimeToLive;
+import lombok.RequiredArgsConstructor;
 
-@RedisHash("refresh")
-@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@RequiredArgsConstructor
 @Getter
 public class RefreshToken {
 
-    @Id
-    private String tokenValue;
-    private Long userId;
+    private final String tokenValue;
+    private final Long userId;
 
-    @TimeToLive
-    private int expiration;
-
-    public RefreshToken(String tokenValue, Long userId, int expiration) {
-        this.tokenValue = tokenValue;
-        this.userId = userId;
-        this.expiration = expiration;
-    }
+    /**
+     * Time to live in seconds.
+     */
+    private final int expiration;
 
 }
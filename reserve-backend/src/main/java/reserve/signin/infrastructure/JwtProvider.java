@@ -1,21 +1,36 @@
 package reserve.signin.infrastructure;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import reserve.global.exception.AccessTokenException;
 import reserve.global.exception.ErrorCode;
 import reserve.global.exception.InvalidAuthorizationException;
+import reserve.global.exception.RefreshTokenException;
 import reserve.signin.domain.TokenDetails;
 import reserve.signin.dto.SignInToken;
 
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.Map;
 
+/**
+ * Issues and verifies the sign-in tokens.
+ *
+ * <p> Access tokens are presented on every authenticated request, so each verified access token is kept in a bounded
+ * cache, keyed by its SHA-256 hash, until it expires; a client repeating the same token skips signature verification
+ * and claims parsing. Invalid and expired tokens are never cached. </p>
+ */
 @Component
 public class JwtProvider {
 
@@ -25,14 +40,18 @@ public class JwtProvider {
 
     private final Key accessTokenSigningKey;
     private final Key refreshTokenSigningKey;
+    private final JwtParser accessTokenParser;
+    private final JwtParser refreshTokenParser;
     private final int accessTokenExpPeriod;
     private final int refreshTokenExpPeriod;
+    private final Cache<String, VerifiedToken> verifiedAccessTokens;
 
     public JwtProvider(
             @Value("${application.security.jwt.accessTokenSecretKey}") String accessTokenSecret,
             @Value("${application.security.jwt.refreshTokenSecretKey}") String refreshTokenSecret,
             @Value("${application.security.jwt.accessTokenExpire}") int accessTokenExpPeriod,
-            @Value("${application.security.jwt.refreshTokenExpire}") int refreshTokenExpPeriod
+            @Value("${application.security.jwt.refreshTokenExpire}") int refreshTokenExpPeriod,
+            @Value("${application.security.jwt.verifiedTokenCache.maximumSize:10000}") long verifiedTokenCacheSize
     ) {
         this.accessTokenSigningKey = new SecretKeySpec(
                 accessTokenSecret.getBytes(StandardCharsets.UTF_8),
@@ -42,8 +61,14 @@ public class JwtProvider {
                 refreshTokenSecret.getBytes(StandardCharsets.UTF_8),
                 SIGNATURE_ALGORITHM.getJcaName()
         );
+        this.accessTokenParser = Jwts.parserBuilder().setSigningKey(accessTokenSigningKey).build();
+        this.refreshTokenParser = Jwts.parserBuilder().setSigningKey(refreshTokenSigningKey).build();
         this.accessTokenExpPeriod = accessTokenExpPeriod;
         this.refreshTokenExpPeriod = refreshTokenExpPeriod;
+        this.verifiedAccessTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedTokenCacheSize)
+                .expireAfter(new VerifiedTokenExpiry())
+                .build();
     }
 
     public SignInToken generateSignInToken(TokenDetails tokenDetails) {
@@ -76,48 +101,102 @@ public class JwtProvider {
                 .compact();
     }
 
-    public boolean isAccessTokenExpired(String jwt) {
+    public boolean isRefreshTokenExpired(String jwt) {
         try {
-            parseToken(jwt, accessTokenSigningKey);
+            refreshTokenParser.parseClaimsJws(jwt);
         } catch (ExpiredJwtException e) {
             return true;
         } catch (JwtException | IllegalArgumentException e) {
-            throw new InvalidAuthorizationException(ErrorCode.INVALID_ACCESS_TOKEN_FORMAT, e);
+            throw new InvalidAuthorizationException(ErrorCode.INVALID_REFRESH_TOKEN_FORMAT, e);
         }
         return false;
     }
 
-    public boolean isRefreshTokenExpired(String jwt) {
+    /**
+     * @return the ID of the user the refresh token was issued to
+     */
+    public String extractRefreshTokenSubject(String jwt) {
         try {
-            parseToken(jwt, refreshTokenSigningKey);
+            return refreshTokenParser.parseClaimsJws(jwt).getBody().getSubject();
         } catch (ExpiredJwtException e) {
-            return true;
+            throw new RefreshTokenException(ErrorCode.EXPIRED_REFRESH_TOKEN, e);
         } catch (JwtException | IllegalArgumentException e) {
             throw new InvalidAuthorizationException(ErrorCode.INVALID_REFRESH_TOKEN_FORMAT, e);
         }
-        return false;
     }
 
     public TokenDetails extractAccessTokenDetails(String jwt) {
+        TokenDetails tokenDetails = findAccessTokenDetails(jwt);
+        if (tokenDetails == null) {
+            throw new AccessTokenException(ErrorCode.EXPIRED_ACCESS_TOKEN);
+        }
+        return tokenDetails;
+    }
+
+    /**
+     * Verifies the access token once, or looks it up among the recently verified ones.
+     *
+     * @return the details of the token, or {@code null} if the token has expired
+     * @throws InvalidAuthorizationException if the token is malformed or its signature does not match
+     */
+    public TokenDetails findAccessTokenDetails(String jwt) {
+        String key = hash(jwt);
+        VerifiedToken verified = verifiedAccessTokens.getIfPresent(key);
+        if (verified != null) {
+            return verified.tokenDetails();
+        }
+
+        Claims body;
         try {
-            Claims body = parseToken(jwt, accessTokenSigningKey).getBody();
-            return new TokenDetails(
-                    body.getSubject(),
-                    body.get("username", String.class),
-                    body.get("nickname", String.class)
-            );
+            body = accessTokenParser.parseClaimsJws(jwt).getBody();
         } catch (ExpiredJwtException e) {
-            throw new AccessTokenException(ErrorCode.EXPIRED_ACCESS_TOKEN, e);
-        } catch (JwtException e) {
+            return null;
+        } catch (JwtException | IllegalArgumentException e) {
             throw new InvalidAuthorizationException(ErrorCode.INVALID_ACCESS_TOKEN_FORMAT, e);
         }
+        TokenDetails tokenDetails = new TokenDetails(
+                body.getSubject(),
+                body.get("username", String.class),
+                body.get("nickname", String.class)
+        );
+        if (body.getExpiration() != null) {
+            verifiedAccessTokens.put(key, new VerifiedToken(tokenDetails, body.getExpiration().toInstant()));
+        }
+        return tokenDetails;
     }
 
-    private static Jws<Claims> parseToken(String jwt, Key signingKey) {
-        return Jwts.parserBuilder()
-                .setSigningKey(signingKey)
-                .build()
-                .parseClaimsJws(jwt);
+    private static String hash(String jwt) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(jwt.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record VerifiedToken(TokenDetails tokenDetails, Instant expiration) {
+    }
+
+    /**
+     * Evicts each verified token when the token itself expires.
+     */
+    private static class VerifiedTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.expiration()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
     }
 
 }
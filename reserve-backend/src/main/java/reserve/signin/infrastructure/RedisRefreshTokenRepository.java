@@ -0,0 +1,196 @@
+package reserve.signin.infrastructure;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+import reserve.signin.domain.RefreshToken;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stores each refresh token as a plain key holding the user ID, which expires with the token, and indexes the tokens
+ * of each user in a sorted set scored by expiry time. Expired members are pruned from the index whenever a token is
+ * added to it, and the index itself expires with the last of its tokens.
+ *
+ * <p> The keys of a user's tokens and the user's index share the user ID as a hash tag, so that they are kept in the
+ * same slot of a Redis cluster. Every key a script touches is passed in {@code KEYS}. </p>
+ *
+ * <p> Tokens saved as Spring Data Redis hashes under {@value #LEGACY_KEY_PREFIX} are still accepted for rotation,
+ * which moves them to the new keys, and are deleted on sign-out. They are spread over slots, so they are handled with
+ * single-key commands, deleting the hash to claim the token. </p>
+ */
+@Repository
+public class RedisRefreshTokenRepository implements RefreshTokenRepository {
+
+    public static final String KEY_PREFIX = "refresh-token:";
+    public static final String USER_KEY_PREFIX = "refresh-token:user:";
+
+    static final String LEGACY_KEYSPACE = "refresh";
+    static final String LEGACY_KEY_PREFIX = LEGACY_KEYSPACE + ":";
+
+    // KEYS: token, user index. ARGV: user ID, token value, TTL in seconds, now in epoch seconds.
+    private static final String SAVE = """
+            redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[3])
+            redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', ARGV[4])
+            redis.call('ZADD', KEYS[2], ARGV[4] + ARGV[3], ARGV[2])
+            if redis.call('TTL', KEYS[2]) < tonumber(ARGV[3]) then
+                redis.call('EXPIRE', KEYS[2], ARGV[3])
+            end
+            """;
+
+    private static final RedisScript<Long> SAVE_SCRIPT = RedisScript.of(SAVE + "return 1", Long.class);
+
+    // KEYS: new token, user index, old token. ARGV: user ID, new token value, TTL in seconds, now in epoch seconds,
+    // old token value.
+    private static final RedisScript<Long> ROTATE_SCRIPT = RedisScript.of(
+            """
+            if redis.call('DEL', KEYS[3]) == 0 then
+                return 0
+            end
+            redis.call('ZREM', KEYS[2], ARGV[5])
+            """ + SAVE + "return 1",
+            Long.class
+    );
+
+    // KEYS: token, user index. ARGV: token value.
+    private static final RedisScript<Long> DELETE_SCRIPT = RedisScript.of(
+            """
+            redis.call('ZREM', KEYS[2], ARGV[1])
+            return redis.call('DEL', KEYS[1])
+            """,
+            Long.class
+    );
+
+    // KEYS: user index, then the keys of its tokens. ARGV: the token values, in the same order.
+    private static final RedisScript<Long> DELETE_ALL_SCRIPT = RedisScript.of(
+            """
+            local deleted = 0
+            for i = 2, #KEYS do
+                deleted = deleted + redis.call('DEL', KEYS[i])
+                redis.call('ZREM', KEYS[1], ARGV[i - 1])
+            end
+            if redis.call('ZCARD', KEYS[1]) == 0 then
+                redis.call('DEL', KEYS[1])
+            end
+            return deleted
+            """,
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisRefreshTokenRepository(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void save(RefreshToken refreshToken) {
+        Long userId = refreshToken.getUserId();
+        redisTemplate.execute(
+                SAVE_SCRIPT,
+                List.of(key(userId, refreshToken.getTokenValue()), userKey(userId)),
+                saveArgs(refreshToken)
+        );
+    }
+
+    @Override
+    public Optional<RefreshToken> findById(Long userId, String tokenValue) {
+        String key = key(userId, tokenValue);
+        if (redisTemplate.opsForValue().get(key) == null) {
+            return Optional.empty();
+        }
+        Long ttl = redisTemplate.getExpire(key, TimeUnit.SECONDS);
+        return Optional.of(new RefreshToken(tokenValue, userId, ttl == null ? 0 : ttl.intValue()));
+    }
+
+    @Override
+    public boolean rotate(String oldTokenValue, RefreshToken newToken) {
+        Long userId = newToken.getUserId();
+        String[] args = saveArgs(newToken);
+        Long rotated = redisTemplate.execute(
+                ROTATE_SCRIPT,
+                List.of(key(userId, newToken.getTokenValue()), userKey(userId), key(userId, oldTokenValue)),
+                args[0], args[1], args[2], args[3], oldTokenValue
+        );
+        if (rotated != null && rotated == 1) {
+            return true;
+        }
+        if (!claimLegacy(userId, oldTokenValue)) {
+            return false;
+        }
+        save(newToken);
+        return true;
+    }
+
+    @Override
+    public void deleteById(Long userId, String tokenValue) {
+        redisTemplate.execute(DELETE_SCRIPT, List.of(key(userId, tokenValue), userKey(userId)), tokenValue);
+        deleteLegacy(tokenValue);
+    }
+
+    @Override
+    public long deleteAllByUserId(Long userId) {
+        String userKey = userKey(userId);
+        long deleted = 0;
+        // Tokens saved meanwhile are left in the index, and revoked by the next round.
+        Set<String> tokenValues = redisTemplate.opsForZSet().range(userKey, 0, -1);
+        while (tokenValues != null && !tokenValues.isEmpty()) {
+            List<String> keys = new ArrayList<>(tokenValues.size() + 1);
+            keys.add(userKey);
+            tokenValues.forEach(tokenValue -> keys.add(key(userId, tokenValue)));
+            Long count = redisTemplate.execute(DELETE_ALL_SCRIPT, keys, tokenValues.toArray());
+            deleted += count == null ? 0 : count;
+            tokenValues = redisTemplate.opsForZSet().range(userKey, 0, -1);
+        }
+        return deleted;
+    }
+
+    /**
+     * Deletes the legacy token if it belongs to the user. Only one of concurrent claims deletes the hash, so a legacy
+     * token is rotated at most once.
+     */
+    private boolean claimLegacy(Long userId, String tokenValue) {
+        String legacyKey = LEGACY_KEY_PREFIX + tokenValue;
+        Object legacyUserId = redisTemplate.opsForHash().get(legacyKey, "userId");
+        if (legacyUserId == null || !legacyUserId.toString().equals(userId.toString())) {
+            return false;
+        }
+        if (!Boolean.TRUE.equals(redisTemplate.delete(legacyKey))) {
+            return false;
+        }
+        deleteLegacy(tokenValue);
+        return true;
+    }
+
+    private void deleteLegacy(String tokenValue) {
+        String legacyKey = LEGACY_KEY_PREFIX + tokenValue;
+        redisTemplate.delete(legacyKey);
+        redisTemplate.delete(legacyKey + ":phantom");
+        redisTemplate.opsForSet().remove(LEGACY_KEYSPACE, tokenValue);
+    }
+
+    private static String[] saveArgs(RefreshToken refreshToken) {
+        return new String[]{
+                refreshToken.getUserId().toString(),
+                refreshToken.getTokenValue(),
+                Integer.toString(refreshToken.getExpiration()),
+                Long.toString(System.currentTimeMillis() / 1000)
+        };
+    }
+
+    /**
+     * The user ID is a hash tag, so that the tokens of a user are kept in the same slot as the user's index.
+     */
+    static String key(Long userId, String tokenValue) {
+        return KEY_PREFIX + "{" + userId + "}:" + tokenValue;
+    }
+
+    static String userKey(Long userId) {
+        return USER_KEY_PREFIX + "{" + userId + "}";
+    }
+
+}
@@ -1,7 +1,29 @@
 package reserve.signin.infrastructure;
 
-import org.springframework.data.repository.CrudRepository;
 import reserve.signin.domain.RefreshToken;
 
-public interface RefreshTokenRepository extends CrudRepository<RefreshToken, String> {
+import java.util.Optional;
+
+public interface RefreshTokenRepository {
+
+    void save(RefreshToken refreshToken);
+
+    Optional<RefreshToken> findById(Long userId, String tokenValue);
+
+    /**
+     * Replaces a refresh token of the user with a new one, so that the old token is used at most once.
+     *
+     * @return {@code false}, leaving the new token unsaved, if the old token does not exist or belongs to another user
+     */
+    boolean rotate(String oldTokenValue, RefreshToken newToken);
+
+    void deleteById(Long userId, String tokenValue);
+
+    /**
+     * Revokes every refresh token of the user.
+     *
+     * @return the number of tokens revoked
+     */
+    long deleteAllByUserId(Long userId);
+
 }
@@ -27,7 +27,10 @@ public interface SignInOperations {
                     @Header(name = "Set-Cookie", description = "Refresh token cookie with name 'refresh'")
             }
     ))
-    @ApiErrorCodeResponses(@ApiErrorCodeResponse(responseCode = "401", errorCode = ErrorCode.WRONG_CREDENTIAL))
+    @ApiErrorCodeResponses({
+            @ApiErrorCodeResponse(responseCode = "401", errorCode = ErrorCode.WRONG_CREDENTIAL),
+            @ApiErrorCodeResponse(responseCode = "503", errorCode = ErrorCode.TOO_MANY_SIGN_IN_REQUESTS)
+    })
     @SuppressWarnings("unused")
     void signIn(SignInRequest signInRequest, HttpServletResponse response);
 
@@ -2,9 +2,9 @@ package reserve.signin.service;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import reserve.global.exception.ErrorCode;
 import reserve.global.exception.RefreshTokenException;
+import reserve.global.exception.ServiceUnavailableException;
 import reserve.global.exception.WrongCredentialException;
 import reserve.signin.domain.RefreshToken;
 import reserve.signin.domain.TokenDetails;
@@ -41,7 +41,13 @@ public class SignInService {
         this.jwtProvider = jwtProvider;
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Signs in the user, re-hashing the password if its stored hash uses outdated parameters. The re-hashing is done
+     * once the tokens are issued, and is left to a later sign-in if the hashing pool is busy.
+     *
+     * <p> Not transactional, so that no database connection is held while waiting for the password hashing; the user
+     * is read and the new hash is written in short transactions of their own. </p>
+     */
     public SignInToken signIn(SignInRequest signInRequest) {
         User user = userRepository.findByUsername(signInRequest.getUsername())
                 .orElseThrow(() -> new WrongCredentialException(ErrorCode.WRONG_CREDENTIAL));
@@ -52,26 +58,44 @@ public class SignInService {
         TokenDetails tokenDetails = new TokenDetails(userId.toString(), user.getUsername(), user.getNickname());
         SignInToken signInToken = jwtProvider.generateSignInToken(tokenDetails);
         refreshTokenRepository.save(new RefreshToken(signInToken.getRefreshToken(), userId, refreshTokenExpiration));
+        if (passwordEncoder.upgradeEncoding(user.getPasswordHash())) {
+            upgradePasswordHash(user, signInRequest.getPassword());
+        }
         return signInToken;
     }
 
+    private void upgradePasswordHash(User user, String password) {
+        try {
+            String newPasswordHash = passwordEncoder.encode(password);
+            // Skipped if the password has been changed meanwhile.
+            userRepository.changePasswordHash(user.getId(), user.getPasswordHash(), newPasswordHash);
+        } catch (ServiceUnavailableException e) {
+            // The password has been verified, so a busy hashing pool must not fail the sign-in.
+        }
+    }
+
+    /**
+     * Issues a new pair of tokens, replacing the refresh token in the same step so that a refresh token can be used
+     * only once.
+     */
     public SignInToken refreshAccessToken(String refreshTokenValue) {
-        RefreshToken refreshToken = refreshTokenRepository.findById(refreshTokenValue)
-                .orElseThrow(() -> new RefreshTokenException(ErrorCode.EXPIRED_REFRESH_TOKEN));
-        Long userId = refreshToken.getUserId();
+        Long userId = Long.valueOf(jwtProvider.extractRefreshTokenSubject(refreshTokenValue));
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RefreshTokenException(ErrorCode.INVALID_REFRESH_TOKEN));
         TokenDetails tokenDetails = new TokenDetails(user.getId().toString(), user.getUsername(), user.getNickname());
         SignInToken signInToken = jwtProvider.generateSignInToken(tokenDetails);
         // Refresh token rotation.
-        refreshTokenRepository.save(new RefreshToken(signInToken.getRefreshToken(), userId, refreshTokenExpiration));
-        refreshTokenRepository.delete(refreshToken);
+        RefreshToken refreshToken = new RefreshToken(signInToken.getRefreshToken(), userId, refreshTokenExpiration);
+        if (!refreshTokenRepository.rotate(refreshTokenValue, refreshToken)) {
+            throw new RefreshTokenException(ErrorCode.EXPIRED_REFRESH_TOKEN);
+        }
         return signInToken;
     }
 
     public void signOut(String refreshTokenValue) {
         if (!jwtProvider.isRefreshTokenExpired(refreshTokenValue)) {
-            refreshTokenRepository.deleteById(refreshTokenValue);
+            Long userId = Long.valueOf(jwtProvider.extractRefreshTokenSubject(refreshTokenValue));
+            refreshTokenRepository.deleteById(userId, refreshTokenValue);
         }
     }
 
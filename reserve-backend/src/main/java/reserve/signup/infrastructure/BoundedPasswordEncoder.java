@@ -0,0 +1,119 @@
+package reserve.signup.infrastructure;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reserve.global.exception.ErrorCode;
+import reserve.global.exception.ServiceUnavailableException;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs the password hashing of another encoder on a fixed number of dedicated threads.
+ *
+ * <p> Password hashing is deliberately slow, so a burst of sign-ins hashing on the request threads would occupy all of
+ * them. Instead, hashing is queued to a bounded pool; when the queue is full, or a hash is not done within the wait
+ * timeout, the request fails with {@link ErrorCode#TOO_MANY_SIGN_IN_REQUESTS} instead of holding a request thread
+ * any longer. </p>
+ *
+ * <p> Callers must not hash within a transaction, since a connection held for the wait would exhaust the connection
+ * pool long before the queue fills up; they read and write in short transactions before and after hashing. </p>
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Duration waitTimeout;
+
+    private final Timer latencyTimer;
+    private final Counter rejectionCounter;
+
+    public BoundedPasswordEncoder(
+            PasswordEncoder delegate,
+            MeterRegistry meterRegistry,
+            int threads,
+            int queueCapacity,
+            Duration waitTimeout
+    ) {
+        this.delegate = delegate;
+        this.waitTimeout = waitTimeout;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        Gauge.builder("password.hashing.queue.size", executor.getQueue(), Collection::size)
+                .description("Number of password hashes waiting for a hashing thread")
+                .register(meterRegistry);
+        this.latencyTimer = Timer.builder("password.hashing.latency")
+                .description("Time to hash a password, excluding the wait in the queue")
+                .register(meterRegistry);
+        this.rejectionCounter = Counter.builder("password.hashing.rejections")
+                .description("Password hashes rejected because the queue was full or the wait timed out")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, CharSequence encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(CharSequence encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T submit(Supplier<T> hashing) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> latencyTimer.record(hashing));
+        } catch (RejectedExecutionException e) {
+            rejectionCounter.increment();
+            throw new ServiceUnavailableException(ErrorCode.TOO_MANY_SIGN_IN_REQUESTS);
+        }
+
+        try {
+            return future.get(waitTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // A queued hash is then skipped; one already running is left to finish.
+            future.cancel(false);
+            rejectionCounter.increment();
+            throw new ServiceUnavailableException(ErrorCode.TOO_MANY_SIGN_IN_REQUESTS);
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+}
@@ -6,4 +6,11 @@ public interface PasswordEncoder {
 
     boolean matches(CharSequence rawPassword, CharSequence encodedPassword);
 
+    /**
+     * @return {@code true} if the password should be encoded again because its hash uses outdated parameters
+     */
+    default boolean upgradeEncoding(CharSequence encodedPassword) {
+        return false;
+    }
+
 }
@@ -1,20 +1,55 @@
 package reserve.signup.infrastructure;
 
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
 import javax.crypto.SecretKey;
 import javax.crypto.SecretKeyFactory;
 import javax.crypto.spec.PBEKeySpec;
 import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
 import java.security.SecureRandom;
 import java.security.spec.KeySpec;
+import java.time.Duration;
 import java.util.Arrays;
 
+/**
+ * Hashes passwords with PBKDF2-HMAC-SHA256.
+ *
+ * <p> A hash is encoded as {@code $pbkdf2-sha256$1$<iterations>$<salt length>$<salt and hash in hex>}, where
+ * {@code 1} is the version of the format, so that the parameters can be changed without invalidating the stored
+ * hashes. Hashes in the original format, the bare hex of the salt and hash, are still accepted. </p>
+ */
+@Slf4j
 public class Pbkdf2PasswordEncoder implements PasswordEncoder {
 
     public static final int DEFAULT_ITERATIONS = 65536;
     public static final int DEFAULT_HASH_LENGTH = 256;
     public static final int DEFAULT_SALT_LENGTH = 20;
 
-    private final int iterations, hashLength, saltLength;
+    static final String PREFIX = "$pbkdf2-sha256$1$";
+
+    private static final int LEGACY_ITERATIONS = 65536;
+    private static final int LEGACY_SALT_LENGTH = 20;
+
+    private static final int CALIBRATION_ITERATIONS = 16384;
+    private static final int CALIBRATION_ROUNDS = 5;
+
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    // SecretKeyFactory is not thread-safe, and looking one up goes through the security providers on every call.
+    private static final ThreadLocal<SecretKeyFactory> FACTORY = ThreadLocal.withInitial(() -> {
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    @Getter
+    private final int iterations;
+    private final int hashLength, saltLength;
 
     public Pbkdf2PasswordEncoder(int iterations, int hashLength, int saltLength) {
         this.iterations = iterations;
@@ -26,48 +61,99 @@ public class Pbkdf2PasswordEncoder implements PasswordEncoder {
         this(DEFAULT_ITERATIONS, DEFAULT_HASH_LENGTH, DEFAULT_SALT_LENGTH);
     }
 
+    /**
+     * Creates an encoder with as many iterations as this machine hashes within {@code targetLatency}, rounded down to
+     * a power of two so that nodes of similar speed agree, but no fewer than {@code minIterations}.
+     */
+    public static Pbkdf2PasswordEncoder calibrated(Duration targetLatency, int minIterations) {
+        byte[] salt = new byte[DEFAULT_SALT_LENGTH];
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            long start = System.nanoTime();
+            generateHash("calibration", salt, CALIBRATION_ITERATIONS, DEFAULT_HASH_LENGTH);
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+        long affordable = CALIBRATION_ITERATIONS * targetLatency.toNanos() / Math.max(fastest, 1);
+        int iterations = Math.max(Integer.highestOneBit((int) Math.min(affordable, 1 << 30)), minIterations);
+        log.info("Password hashing calibrated to {} iterations for {} ms", iterations, targetLatency.toMillis());
+        return new Pbkdf2PasswordEncoder(iterations, DEFAULT_HASH_LENGTH, DEFAULT_SALT_LENGTH);
+    }
+
     @Override
     public String encode(CharSequence rawPassword) {
         byte[] salt = generateRandomSalt();
-        byte[] hash = generateHash(rawPassword, salt);
-        return HexUtils.bytesToHex(salt, hash);
+        byte[] hash = generateHash(rawPassword, salt, iterations, hashLength);
+        return PREFIX + iterations + "$" + saltLength + "$" + HexUtils.bytesToHex(salt, hash);
     }
 
     private byte[] generateRandomSalt() {
         byte[] salt = new byte[saltLength];
-        new SecureRandom().nextBytes(salt);
+        RANDOM.nextBytes(salt);
         return salt;
     }
 
     @Override
     public boolean matches(CharSequence rawPassword, CharSequence encodedPassword) {
-        byte[] encodedPasswordBytes = HexUtils.hexToBytes(encodedPassword);
-        byte[] salt = extractSalt(encodedPasswordBytes);
-        byte[] hash = extractHash(encodedPasswordBytes);
-        return Arrays.equals(hash, generateHash(rawPassword, salt));
+        EncodedHash encodedHash = EncodedHash.parse(encodedPassword.toString());
+        byte[] hash = encodedHash.hash();
+        byte[] expected = generateHash(rawPassword, encodedHash.salt(), encodedHash.iterations(), hash.length * 8);
+        return MessageDigest.isEqual(hash, expected);
     }
 
-    private byte[] extractSalt(byte[] encodedPasswordBytes) {
-        byte[] salt = new byte[saltLength];
-        System.arraycopy(encodedPasswordBytes, 0, salt, 0, saltLength);
-        return salt;
-    }
-
-    private byte[] extractHash(byte[] encodedPasswordBytes) {
-        byte[] hash = new byte[encodedPasswordBytes.length - saltLength];
-        System.arraycopy(encodedPasswordBytes, saltLength, hash, 0, hash.length);
-        return hash;
+    /**
+     * Fewer iterations than configured count as outdated, but more do not, so that nodes calibrated to different
+     * iteration counts do not rehash each other's hashes back and forth.
+     */
+    @Override
+    public boolean upgradeEncoding(CharSequence encodedPassword) {
+        String encoded = encodedPassword.toString();
+        if (!encoded.startsWith(PREFIX)) {
+            return true;
+        }
+        EncodedHash encodedHash = EncodedHash.parse(encoded);
+        return encodedHash.iterations() < iterations ||
+               encodedHash.salt().length != saltLength ||
+               encodedHash.hash().length * 8 != hashLength;
     }
 
-    private byte[] generateHash(CharSequence rawPassword, byte[] salt) {
+    private static byte[] generateHash(CharSequence rawPassword, byte[] salt, int iterations, int hashLength) {
         KeySpec keySpec = new PBEKeySpec(rawPassword.toString().toCharArray(), salt, iterations, hashLength);
         try {
-            SecretKeyFactory factory = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256");
-            SecretKey secretKey = factory.generateSecret(keySpec);
+            SecretKey secretKey = FACTORY.get().generateSecret(keySpec);
             return secretKey.getEncoded();
         } catch (GeneralSecurityException e) {
             throw new IllegalStateException(e);
         }
     }
 
-}
\ No newline at end of file
+    private record EncodedHash(int iterations, byte[] salt, byte[] hash) {
+
+        static EncodedHash parse(String encoded) {
+            if (!encoded.startsWith("$")) {
+                return split(LEGACY_ITERATIONS, LEGACY_SALT_LENGTH, encoded);
+            }
+            if (!encoded.startsWith(PREFIX)) {
+                throw new IllegalArgumentException("Unsupported password hash format.");
+            }
+            String[] parts = encoded.substring(PREFIX.length()).split("\\$");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Malformed password hash.");
+            }
+            return split(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), parts[2]);
+        }
+
+        private static EncodedHash split(int iterations, int saltLength, String hex) {
+            byte[] bytes = HexUtils.hexToBytes(hex);
+            if (bytes.length <= saltLength) {
+                throw new IllegalArgumentException("Malformed password hash.");
+            }
+            return new EncodedHash(
+                    iterations,
+                    Arrays.copyOfRange(bytes, 0, saltLength),
+                    Arrays.copyOfRange(bytes, saltLength, bytes.length)
+            );
+        }
+
+    }
+
+}
@@ -19,7 +19,10 @@ public interface SignUpOperations {
             operationId = "1_signUp"
     )
     @ApiResponses(@ApiResponse(responseCode = "201", description = "Successfully signed up"))
-    @ApiErrorCodeResponses(@ApiErrorCodeResponse(responseCode = "409", errorCode = ErrorCode.USERNAME_DUPLICATE))
+    @ApiErrorCodeResponses({
+            @ApiErrorCodeResponse(responseCode = "409", errorCode = ErrorCode.USERNAME_DUPLICATE),
+            @ApiErrorCodeResponse(responseCode = "503", errorCode = ErrorCode.TOO_MANY_SIGN_IN_REQUESTS)
+    })
     @SuppressWarnings("unused")
     ResponseEntity<Void> signUp(SignUpRequest signUpRequest);
 
@@ -1,8 +1,8 @@
 package reserve.signup.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import reserve.global.exception.ErrorCode;
 import reserve.global.exception.UsernameDuplicateException;
 import reserve.signup.infrastructure.PasswordEncoder;
@@ -18,14 +18,22 @@ public class SignUpService {
 
     private final PasswordEncoder passwordEncoder;
 
-    @Transactional
+    /**
+     * Not transactional, so that no database connection is held while waiting for the password hashing; the username
+     * is checked and the user is inserted in short transactions of their own.
+     */
     public void signUp(SignUpRequest signUpRequest) {
         if (userRepository.existsByUsername(signUpRequest.getUsername())) {
             throw new UsernameDuplicateException(ErrorCode.USERNAME_DUPLICATE);
         }
         String hashedPassword = passwordEncoder.encode(signUpRequest.getPassword());
         User user = new User(signUpRequest.getUsername(), hashedPassword, signUpRequest.getNickname(), "");
-        userRepository.save(user);
+        try {
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            // The username was taken while the password was being hashed.
+            throw new UsernameDuplicateException(ErrorCode.USERNAME_DUPLICATE);
+        }
     }
 
 }
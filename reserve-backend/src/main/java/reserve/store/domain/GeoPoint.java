@@ -0,0 +1,42 @@
+package reserve.store.domain;
+
+/**
+ * Point on the earth in degrees, with distances on a sphere of the earth's mean radius.
+ */
+public record GeoPoint(double latitude, double longitude) {
+
+    public static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    /**
+     * @return great-circle distance to {@code other} in meters
+     */
+    public double distanceTo(GeoPoint other) {
+        double dLatitude = Math.toRadians(other.latitude - latitude);
+        double dLongitude = Math.toRadians(other.longitude - longitude);
+        double a = Math.pow(Math.sin(dLatitude / 2), 2) +
+                   Math.cos(Math.toRadians(latitude)) * Math.cos(Math.toRadians(other.latitude)) *
+                   Math.pow(Math.sin(dLongitude / 2), 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    /**
+     * @return half the height, in degrees of latitude, of the smallest box holding the circle of {@code radius}
+     *         meters around this point
+     */
+    public double latitudeSpan(double radius) {
+        return Math.toDegrees(radius / EARTH_RADIUS_METERS);
+    }
+
+    /**
+     * @return half the width, in degrees of longitude, of the smallest box holding the circle of {@code radius}
+     *         meters around this point, or 180 if the circle reaches a pole
+     */
+    public double longitudeSpan(double radius) {
+        double angle = radius / EARTH_RADIUS_METERS;
+        if (Math.abs(Math.toRadians(latitude)) + angle >= Math.PI / 2) {
+            return 180;
+        }
+        return Math.toDegrees(Math.asin(Math.sin(angle) / Math.cos(Math.toRadians(latitude))));
+    }
+
+}
@@ -10,7 +10,7 @@ import reserve.global.entity.DeletableBaseEntity;
 import reserve.user.domain.User;
 
 @Entity
-@Table(name = "stores")
+@Table(name = "stores", indexes = @Index(name = "ix_stores_latitude_longitude", columnList = "latitude, longitude"))
 @SQLRestriction("status = 'AVAILABLE'")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
@@ -37,6 +37,19 @@ public class Store extends DeletableBaseEntity {
     @Setter
     private String description;
 
+    /**
+     * Maximum number of reservations accepted per hour, or {@code null} if the store has no limit.
+     */
+    @Setter
+    private Integer capacity;
+
+    /**
+     * Location of the store in degrees, or {@code null} if the store has not given one. Both are set or neither.
+     */
+    private Double latitude;
+
+    private Double longitude;
+
     public Store(User user, String name, String address, String description) {
         this.user = user;
         this.name = name;
@@ -44,4 +57,9 @@ public class Store extends DeletableBaseEntity {
         this.description = description;
     }
 
+    public void setLocation(double latitude, double longitude) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
 }
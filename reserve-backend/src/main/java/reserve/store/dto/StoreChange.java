@@ -0,0 +1,35 @@
+package reserve.store.dto;
+
+/**
+ * A store created, updated or deleted by a committed transaction, as delivered to every node.
+ */
+public record StoreChange(
+        Long storeId,
+        boolean deleted
+) {
+
+    private static final String DELETED_SUFFIX = ":deleted";
+
+    public static StoreChange changed(Long storeId) {
+        return new StoreChange(storeId, false);
+    }
+
+    public static StoreChange deleted(Long storeId) {
+        return new StoreChange(storeId, true);
+    }
+
+    /**
+     * @throws NumberFormatException if the message is malformed
+     */
+    public static StoreChange fromMessage(String message) {
+        if (message.endsWith(DELETED_SUFFIX)) {
+            return deleted(Long.valueOf(message.substring(0, message.length() - DELETED_SUFFIX.length())));
+        }
+        return changed(Long.valueOf(message));
+    }
+
+    public String toMessage() {
+        return deleted ? storeId + DELETED_SUFFIX : String.valueOf(storeId);
+    }
+
+}
@@ -1,6 +1,8 @@
 package reserve.store.dto.request;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
 import lombok.Getter;
@@ -24,4 +26,18 @@ public class StoreCreateRequest {
     @NotEmpty(message = "Description required.")
     private String description;
 
+    @Schema(description = "Maximum number of reservations per hour (unlimited if omitted)", example = "10")
+    @Min(value = 1, message = "Capacity must be at least 1.")
+    private Integer capacity;
+
+    @Schema(description = "Latitude of the store in degrees, given with longitude", example = "37.4979")
+    @DecimalMin(value = "-90", message = "Latitude must be between -90 and 90.")
+    @DecimalMax(value = "90", message = "Latitude must be between -90 and 90.")
+    private Double latitude;
+
+    @Schema(description = "Longitude of the store in degrees, given with latitude", example = "127.0276")
+    @DecimalMin(value = "-180", message = "Longitude must be between -180 and 180.")
+    @DecimalMax(value = "180", message = "Longitude must be between -180 and 180.")
+    private Double longitude;
+
 }
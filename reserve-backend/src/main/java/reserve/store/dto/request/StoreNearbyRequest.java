@@ -0,0 +1,51 @@
+package reserve.store.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class StoreNearbyRequest {
+
+    @Schema(description = "Latitude of the location in degrees", example = "37.4979",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotNull(message = "'lat' required.")
+    @DecimalMin(value = "-90", message = "'lat' must be between -90 and 90.")
+    @DecimalMax(value = "90", message = "'lat' must be between -90 and 90.")
+    private Double lat;
+
+    @Schema(description = "Longitude of the location in degrees", example = "127.0276",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotNull(message = "'lng' required.")
+    @DecimalMin(value = "-180", message = "'lng' must be between -180 and 180.")
+    @DecimalMax(value = "180", message = "'lng' must be between -180 and 180.")
+    private Double lng;
+
+    @Schema(description = "Search radius in meters", example = "1000")
+    @Min(value = 1, message = "'radius' must be between 1 and 10000.")
+    @Max(value = 10000, message = "'radius' must be between 1 and 10000.")
+    private int radius = 1000;
+
+    @Schema(description = "Maximum number of stores", example = "20")
+    @Min(value = 1, message = "'size' must be between 1 and 100.")
+    @Max(value = 100, message = "'size' must be between 1 and 100.")
+    private int size = 20;
+
+    @Schema(description = "Username of registrant", example = "username")
+    @Size(min = 0, message = "'registrant' cannot be empty string.")
+    private String registrant;
+
+    @Schema(description = "Query string for store name, description, and address", example = "query")
+    @Size(min = 0, message = "'query' cannot be empty string.")
+    private String query;
+
+}
@@ -19,4 +19,22 @@ public class StoreSearchRequest {
     @Size(min = 0, message = "'query' cannot be empty string.")
     private String query;
 
+    @Schema(description = "How to count the total number of results (EXACT, CACHED, NONE)", example = "EXACT")
+    private CountMode countMode = CountMode.EXACT;
+
+    public enum CountMode {
+        /**
+         * Count all matching stores on every request.
+         */
+        EXACT,
+        /**
+         * Reuse a recently counted total for the same query and registrant.
+         */
+        CACHED,
+        /**
+         * Skip counting and only tell whether there is a next page.
+         */
+        NONE
+    }
+
 }
@@ -0,0 +1,19 @@
+package reserve.store.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class StoreSuggestRequest {
+
+    @Schema(description = "Beginning of the store name, or of a word in it, typed so far",
+            example = "pas", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotBlank(message = "'prefix' required.")
+    private String prefix;
+
+}
@@ -1,6 +1,9 @@
 package reserve.store.dto.request;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -23,4 +26,18 @@ public class StoreUpdateRequest {
     @NullOrNotEmpty
     private String description;
 
+    @Schema(description = "New maximum number of reservations per hour", example = "10")
+    @Min(value = 1, message = "Capacity must be at least 1.")
+    private Integer capacity;
+
+    @Schema(description = "New latitude of the store in degrees, given with longitude", example = "37.4979")
+    @DecimalMin(value = "-90", message = "Latitude must be between -90 and 90.")
+    @DecimalMax(value = "90", message = "Latitude must be between -90 and 90.")
+    private Double latitude;
+
+    @Schema(description = "New longitude of the store in degrees, given with latitude", example = "127.0276")
+    @DecimalMin(value = "-180", message = "Longitude must be between -180 and 180.")
+    @DecimalMax(value = "180", message = "Longitude must be between -180 and 180.")
+    private Double longitude;
+
 }
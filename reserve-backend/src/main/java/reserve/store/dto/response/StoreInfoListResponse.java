@@ -1,5 +1,6 @@
 package reserve.store.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -7,16 +8,22 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
 @RequiredArgsConstructor
 @Getter
-@JsonPropertyOrder({"count", "pageSize", "pageNumber", "hasNext", "results"})
+@JsonPropertyOrder({"count", "countType", "pageSize", "pageNumber", "hasNext", "results"})
 public class StoreInfoListResponse {
 
-    @Schema(description = "Total number of stores", example = "1")
-    private final long count;
+    @Schema(description = "Total number of stores (omitted if not counted)", example = "1")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long count;
+
+    @Schema(description = "Whether the count is exact, cached (possibly stale), or not counted",
+            example = "EXACT")
+    private final CountType countType;
 
     @Schema(description = "Number of stores per page", example = "1")
     private final int pageSize;
@@ -39,6 +46,7 @@ public class StoreInfoListResponse {
     public static StoreInfoListResponse from(Page<StoreInfoResponse> page) {
         return new StoreInfoListResponse(
                 page.getTotalElements(),
+                CountType.EXACT,
                 page.getPageable().getPageSize(),
                 page.getPageable().getPageNumber(),
                 page.hasNext(),
@@ -46,4 +54,19 @@ public class StoreInfoListResponse {
         );
     }
 
+    public static StoreInfoListResponse from(Slice<StoreInfoResponse> slice, Long count, CountType countType) {
+        return new StoreInfoListResponse(
+                count,
+                countType,
+                slice.getPageable().getPageSize(),
+                slice.getPageable().getPageNumber(),
+                slice.hasNext(),
+                slice.getContent()
+        );
+    }
+
+    public enum CountType {
+        EXACT, CACHED, NONE
+    }
+
 }
@@ -0,0 +1,24 @@
+package reserve.store.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class StoreNearbyListResponse {
+
+    @Schema(description = "Number of stores found", example = "1")
+    private final long count;
+
+    @Schema(description = "Stores within the radius, nearest first")
+    private final List<StoreNearbyResponse> results;
+
+    public static StoreNearbyListResponse from(List<StoreNearbyResponse> content) {
+        return new StoreNearbyListResponse(content.size(), content);
+    }
+
+}
@@ -0,0 +1,35 @@
+package reserve.store.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public class StoreNearbyResponse {
+
+    @Schema(description = "Store ID", example = "1")
+    private final Long storeId;
+
+    @Schema(description = "Username of registrant", example = "username")
+    private final String registrant;
+
+    @Schema(description = "Name of the store", example = "store name")
+    private final String name;
+
+    @Schema(description = "Address of the store", example = "store address")
+    private final String address;
+
+    @Schema(description = "Description of the store", example = "store description")
+    private final String description;
+
+    @Schema(description = "Latitude of the store in degrees", example = "37.4979")
+    private final double latitude;
+
+    @Schema(description = "Longitude of the store in degrees", example = "127.0276")
+    private final double longitude;
+
+    @Schema(description = "Distance from the requested location in meters", example = "350")
+    private final long distance;
+
+}
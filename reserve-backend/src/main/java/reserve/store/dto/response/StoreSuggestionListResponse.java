@@ -0,0 +1,24 @@
+package reserve.store.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class StoreSuggestionListResponse {
+
+    @Schema(description = "Number of suggested stores", example = "1")
+    private final long count;
+
+    @Schema(description = "Suggested stores, most popular first")
+    private final List<StoreSuggestionResponse> results;
+
+    public static StoreSuggestionListResponse from(List<StoreSuggestionResponse> content) {
+        return new StoreSuggestionListResponse(content.size(), content);
+    }
+
+}
@@ -0,0 +1,30 @@
+package reserve.store.infrastructure;
+
+import com.querydsl.core.types.dsl.Expressions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Matches stores with {@code MATCH ... AGAINST} on the full-text index of {@code stores}.
+ */
+@Component
+@ConditionalOnProperty(name = "application.store.searchEngine", havingValue = "fulltext", matchIfMissing = true)
+public class FullTextStoreSearchEngine implements StoreSearchEngine {
+
+    private final double matchThreshold;
+
+    public FullTextStoreSearchEngine(@Value("${application.matchThreshold}") double matchThreshold) {
+        this.matchThreshold = matchThreshold;
+    }
+
+    @Override
+    public StoreSearchMatch match(String query, String registrant) {
+        return StoreSearchMatch.condition(
+                Expressions
+                        .numberTemplate(Double.class, "fulltext_search(name, address, description, {0})", query)
+                        .gt(matchThreshold)
+        );
+    }
+
+}
@@ -0,0 +1,94 @@
+package reserve.store.infrastructure;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reserve.store.dto.StoreChange;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Matches stores with an in-process {@link StoreNgramIndex}, ranking them without a full-text query.
+ *
+ * <p> The index is built from the {@code stores} table once the application is ready, and rebuilt periodically. A
+ * changed store is reloaded into the index once delivered by {@link StoreChangeChannel}. </p>
+ */
+@Component
+@ConditionalOnProperty(name = "application.store.searchEngine", havingValue = "ngram")
+@Slf4j
+public class NgramStoreSearchEngine implements RankingStoreSearchEngine, StoreChangeListener {
+
+    private final StoreRepository storeRepository;
+    private final StoreViewRebuilder rebuilder;
+    private final int maxResults;
+
+    private volatile StoreNgramIndex index = new StoreNgramIndex();
+
+    public NgramStoreSearchEngine(
+            StoreRepository storeRepository,
+            @Value("${application.store.ngramIndex.maxResults:1000}") int maxResults,
+            @Value("${application.store.ngramIndex.batchSize:1000}") int batchSize
+    ) {
+        this.storeRepository = storeRepository;
+        this.rebuilder = new StoreViewRebuilder(storeRepository, batchSize);
+        this.maxResults = maxResults;
+    }
+
+    /**
+     * Matches at most {@code maxResults} stores, so the total count of a search is capped there as well.
+     */
+    @Override
+    public StoreSearchMatch match(String query, String registrant) {
+        return StoreSearchMatch.rankedIds(index.search(query, registrant, maxResults));
+    }
+
+    @Override
+    public List<Long> matchAmong(String query, String registrant, Set<Long> candidateIds) {
+        return index.search(query, registrant, candidateIds, candidateIds.size());
+    }
+
+    @Override
+    public void storeChanged(StoreChange change) {
+        refresh(change.storeId());
+    }
+
+    private void refresh(Long storeId) {
+        rebuilder.changed(storeId);
+        try {
+            storeRepository.findResponseById(storeId)
+                    .ifPresentOrElse(store -> index.put(store), () -> index.remove(storeId));
+        } catch (RuntimeException e) {
+            log.warn("Failed to reload store {} into the search index", storeId, e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${application.store.ngramIndex.rebuildInterval:PT1H}",
+            fixedDelayString = "${application.store.ngramIndex.rebuildInterval:PT1H}"
+    )
+    public void rebuildIndex() {
+        try {
+            log.info("Store search index rebuilt: {} stores", rebuild());
+        } catch (RuntimeException e) {
+            log.warn("Failed to rebuild store search index", e);
+        }
+    }
+
+    /**
+     * Builds a new index from the {@code stores} table and swaps it in.
+     *
+     * @return the number of indexed stores
+     */
+    public int rebuild() {
+        StoreNgramIndex rebuilt = new StoreNgramIndex();
+        rebuilder.rebuild(rebuilt::put, () -> index = rebuilt, this::refresh);
+        return index.size();
+    }
+
+}
@@ -0,0 +1,22 @@
+package reserve.store.infrastructure;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Engine that ranks the stores itself instead of returning a condition to apply in the database.
+ *
+ * <p> {@link #match} returns only the best matches, so searches narrowed down by other conditions first match among
+ * their candidates with {@link #matchAmong} instead. </p>
+ */
+public interface RankingStoreSearchEngine extends StoreSearchEngine {
+
+    /**
+     * @param query        non-blank query string
+     * @param registrant   username of the registrant the search is restricted to, or {@code null}
+     * @param candidateIds IDs of the stores to match among
+     * @return IDs of the matching candidates, best match first
+     */
+    List<Long> matchAmong(String query, String registrant, Set<Long> candidateIds);
+
+}
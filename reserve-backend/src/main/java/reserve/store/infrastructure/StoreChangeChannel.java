@@ -0,0 +1,92 @@
+package reserve.store.infrastructure;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reserve.global.transaction.TransactionCallbacks;
+import reserve.store.dto.StoreChange;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Delivers each store change to every {@link StoreChangeListener}: the search result cache, the search index, the
+ * name suggestions and the authorization facts.
+ *
+ * <p> A change is delivered on this node once its transaction commits, and if broadcasting is enabled, published as
+ * one message through Redis pub/sub so that the other nodes deliver it as well. A missed message is covered by the
+ * TTL or the periodic rebuild of each listener. </p>
+ */
+@Component
+@Slf4j
+public class StoreChangeChannel implements MessageListener {
+
+    public static final String CHANNEL = "store-changes";
+
+    private final StringRedisTemplate redisTemplate;
+    private final List<StoreChangeListener> listeners;
+    private final boolean broadcast;
+
+    public StoreChangeChannel(
+            StringRedisTemplate redisTemplate,
+            List<StoreChangeListener> listeners,
+            @Value("${application.store.changes.broadcast:true}") boolean broadcast
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.listeners = listeners;
+        this.broadcast = broadcast;
+    }
+
+    /**
+     * Publishes that the store has been created or updated in the current transaction, once it commits.
+     */
+    public void storeChanged(Long storeId) {
+        publishAfterCommit(StoreChange.changed(storeId));
+    }
+
+    /**
+     * Publishes that the store has been deleted in the current transaction, once it commits.
+     */
+    public void storeDeleted(Long storeId) {
+        publishAfterCommit(StoreChange.deleted(storeId));
+    }
+
+    private void publishAfterCommit(StoreChange change) {
+        TransactionCallbacks.runAfterCommit(() -> {
+            deliver(change);
+            if (broadcast) {
+                try {
+                    redisTemplate.convertAndSend(CHANNEL, change.toMessage());
+                } catch (RuntimeException e) {
+                    log.warn("Failed to broadcast change of store {}", change.storeId(), e);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        StoreChange change;
+        try {
+            change = StoreChange.fromMessage(new String(message.getBody(), StandardCharsets.UTF_8));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed store change", e);
+            return;
+        }
+        deliver(change);
+    }
+
+    private void deliver(StoreChange change) {
+        for (StoreChangeListener listener : listeners) {
+            try {
+                listener.storeChanged(change);
+            } catch (RuntimeException e) {
+                log.warn("Failed to apply change of store {} to {}", change.storeId(), listener.getClass(), e);
+            }
+        }
+    }
+
+}
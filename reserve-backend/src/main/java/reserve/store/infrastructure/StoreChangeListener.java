@@ -0,0 +1,16 @@
+package reserve.store.infrastructure;
+
+import reserve.store.dto.StoreChange;
+
+/**
+ * Keeps a node-local view of the stores up to date, subscribed through {@link StoreChangeChannel}.
+ */
+public interface StoreChangeListener {
+
+    /**
+     * Called on every node once the transaction that changed the store has committed, possibly more than once for
+     * the same change.
+     */
+    void storeChanged(StoreChange change);
+
+}
@@ -0,0 +1,135 @@
+package reserve.store.infrastructure;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reserve.reservation.dto.StoreReservationCountDto;
+import reserve.reservation.infrastructure.StoreDailyStatsRepository;
+import reserve.store.dto.StoreChange;
+import reserve.store.dto.response.StoreSuggestionResponse;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Store name suggestions for typeahead, served from an in-process {@link StoreNameTrie}.
+ *
+ * <p> Stores are ranked by popularity, the number of their reservations over the recent days according to the
+ * {@code store_daily_stats} rollups. The trie is built from the {@code stores} table once the application is ready,
+ * and rebuilt periodically, which also refreshes the popularities. A changed store is reloaded into the trie once
+ * delivered by {@link StoreChangeChannel}. </p>
+ */
+@Component
+@Slf4j
+public class StoreNameSuggester implements StoreChangeListener {
+
+    private final StoreRepository storeRepository;
+    private final StoreDailyStatsRepository storeDailyStatsRepository;
+    private final StoreViewRebuilder rebuilder;
+    private final int maxResults;
+    private final Duration popularityPeriod;
+
+    private volatile StoreNameTrie trie;
+    private volatile Map<Long, Long> popularities = Map.of();
+
+    public StoreNameSuggester(
+            StoreRepository storeRepository,
+            StoreDailyStatsRepository storeDailyStatsRepository,
+            @Value("${application.store.suggest.maxResults:10}") int maxResults,
+            @Value("${application.store.suggest.popularityPeriod:30d}") Duration popularityPeriod,
+            @Value("${application.store.suggest.batchSize:1000}") int batchSize
+    ) {
+        this.storeRepository = storeRepository;
+        this.storeDailyStatsRepository = storeDailyStatsRepository;
+        this.rebuilder = new StoreViewRebuilder(storeRepository, batchSize);
+        this.maxResults = maxResults;
+        this.popularityPeriod = popularityPeriod;
+        this.trie = new StoreNameTrie(maxResults);
+    }
+
+    /**
+     * @return at most {@code maxResults} stores whose name or a word of whose name starts with {@code prefix}, most
+     *         popular first
+     */
+    public List<StoreSuggestionResponse> suggest(String prefix) {
+        return trie.find(prefix)
+                .stream()
+                .map(suggestion -> new StoreSuggestionResponse(suggestion.storeId(), suggestion.name()))
+                .toList();
+    }
+
+    @Override
+    public void storeChanged(StoreChange change) {
+        refresh(change.storeId());
+    }
+
+    private void refresh(Long storeId) {
+        rebuilder.changed(storeId);
+        try {
+            StoreNameTrie current = trie;
+            storeRepository.findResponseById(storeId).ifPresentOrElse(
+                    store -> current.put(new StoreNameTrie.Suggestion(
+                            storeId,
+                            store.getName(),
+                            popularities.getOrDefault(storeId, 0L)
+                    )),
+                    () -> current.remove(storeId)
+            );
+        } catch (RuntimeException e) {
+            log.warn("Failed to reload store {} into the name suggestions", storeId, e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${application.store.suggest.rebuildInterval:PT1H}",
+            fixedDelayString = "${application.store.suggest.rebuildInterval:PT1H}"
+    )
+    public void rebuildSuggestions() {
+        try {
+            log.info("Store name suggestions rebuilt: {} stores", rebuild());
+        } catch (RuntimeException e) {
+            log.warn("Failed to rebuild store name suggestions", e);
+        }
+    }
+
+    /**
+     * Builds a new trie from the {@code stores} table with fresh popularities and swaps it in.
+     *
+     * @return the number of stores in the trie
+     */
+    public int rebuild() {
+        LocalDate from = LocalDate.now().minusDays(popularityPeriod.toDays());
+        Map<Long, Long> counts = storeDailyStatsRepository.sumReservationCountsFrom(from)
+                .stream()
+                .collect(Collectors.toMap(
+                        StoreReservationCountDto::getStoreId,
+                        StoreReservationCountDto::getReservationCount
+                ));
+
+        List<StoreNameTrie.Suggestion> suggestions = new ArrayList<>();
+        StoreNameTrie rebuilt = new StoreNameTrie(maxResults);
+        rebuilder.rebuild(
+                store -> suggestions.add(new StoreNameTrie.Suggestion(
+                        store.getStoreId(),
+                        store.getName(),
+                        counts.getOrDefault(store.getStoreId(), 0L)
+                )),
+                () -> {
+                    rebuilt.putAll(suggestions);
+                    popularities = counts;
+                    trie = rebuilt;
+                },
+                this::refresh
+        );
+        return trie.size();
+    }
+
+}
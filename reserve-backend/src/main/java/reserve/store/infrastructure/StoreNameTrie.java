@@ -0,0 +1,241 @@
+package reserve.store.infrastructure;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Prefix tree over store names, keeping at every node the most popular stores whose name has the node's prefix, so a
+ * lookup walks the prefix and returns a precomputed list without visiting the subtree.
+ *
+ * <p> Names are normalized (NFKC, lower case, single spaces), and each name is inserted under its whole text and under
+ * every suffix starting at a word, so that {@code "pas"} also suggests {@code "Gangnam Pasta"}. Keys are cut at
+ * {@link #MAX_KEY_LENGTH} characters; longer prefixes are checked against the names of the stores found. </p>
+ *
+ * <p> Lookups take no lock: children are concurrent maps and the list of a node is replaced, never modified. Updates
+ * are serialized, and recompute the lists of the nodes on the changed paths from their children. </p>
+ */
+final class StoreNameTrie {
+
+    static final int MAX_KEY_LENGTH = 20;
+
+    private static final Comparator<Suggestion> RANKING = Comparator.comparingLong(Suggestion::popularity)
+            .reversed()
+            .thenComparing(Suggestion::name)
+            .thenComparing(Suggestion::storeId);
+
+    private final int capacity;
+    private final Node root = new Node();
+    private final Map<Long, Suggestion> suggestions = new HashMap<>();
+
+    /**
+     * @param capacity number of suggestions kept at every node, which is the most a lookup returns
+     */
+    StoreNameTrie(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * @return the most popular stores with a name or a word of the name starting with {@code prefix}, most popular
+     *         first
+     */
+    List<Suggestion> find(String prefix) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        Node node = root;
+        int index = 0;
+        int length = 0;
+        while (index < key.length() && length < MAX_KEY_LENGTH) {
+            int codePoint = key.codePointAt(index);
+            node = node.children.get(codePoint);
+            if (node == null) {
+                return List.of();
+            }
+            index += Character.charCount(codePoint);
+            length++;
+        }
+        List<Suggestion> found = node.top;
+        if (key.codePointCount(0, key.length()) > MAX_KEY_LENGTH) {
+            return found.stream()
+                    .filter(suggestion -> suffixes(suggestion.name()).stream().anyMatch(s -> s.startsWith(key)))
+                    .toList();
+        }
+        return found;
+    }
+
+    /**
+     * Adds the store, replacing its previous entry if any.
+     */
+    synchronized void put(Suggestion suggestion) {
+        Suggestion previous = suggestions.put(suggestion.storeId(), suggestion);
+        if (previous != null) {
+            unlink(previous);
+        }
+        for (String key : keys(suggestion.name())) {
+            List<Node> path = path(key, true);
+            path.get(path.size() - 1).terminals.add(suggestion);
+            recompute(path);
+        }
+    }
+
+    /**
+     * Adds the stores to an empty trie, computing the list of each node once rather than once per store.
+     */
+    synchronized void putAll(Collection<Suggestion> all) {
+        if (!suggestions.isEmpty()) {
+            throw new IllegalStateException("Trie is not empty");
+        }
+        for (Suggestion suggestion : all) {
+            suggestions.put(suggestion.storeId(), suggestion);
+            for (String key : keys(suggestion.name())) {
+                List<Node> path = path(key, true);
+                path.get(path.size() - 1).terminals.add(suggestion);
+            }
+        }
+        recomputeSubtree(root);
+    }
+
+    synchronized void remove(Long storeId) {
+        Suggestion previous = suggestions.remove(storeId);
+        if (previous != null) {
+            unlink(previous);
+        }
+    }
+
+    synchronized int size() {
+        return suggestions.size();
+    }
+
+    private void unlink(Suggestion suggestion) {
+        for (String key : keys(suggestion.name())) {
+            List<Node> path = path(key, false);
+            if (path == null) {
+                continue;
+            }
+            path.get(path.size() - 1).terminals.remove(suggestion);
+            recompute(path);
+            prune(key, path);
+        }
+    }
+
+    /**
+     * @return the nodes from the root to the node of {@code key}, or {@code null} if absent and not created
+     */
+    private List<Node> path(String key, boolean create) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        for (int codePoint : key.codePoints().toArray()) {
+            Node child = node.children.get(codePoint);
+            if (child == null) {
+                if (!create) {
+                    return null;
+                }
+                child = new Node();
+                node.children.put(codePoint, child);
+            }
+            node = child;
+            path.add(node);
+        }
+        return path;
+    }
+
+    private void recompute(List<Node> path) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            recompute(path.get(i));
+        }
+    }
+
+    private void recomputeSubtree(Node node) {
+        node.children.values().forEach(this::recomputeSubtree);
+        recompute(node);
+    }
+
+    private void recompute(Node node) {
+        // A store inserted under several suffixes may reach a node through more than one child.
+        Map<Long, Suggestion> candidates = new HashMap<>();
+        node.terminals.forEach(suggestion -> candidates.put(suggestion.storeId(), suggestion));
+        node.children.values().forEach(child -> child.top.forEach(s -> candidates.put(s.storeId(), s)));
+        node.top = candidates.values().stream().sorted(RANKING).limit(capacity).toList();
+    }
+
+    private static void prune(String key, List<Node> path) {
+        int[] codePoints = key.codePoints().toArray();
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node node = path.get(i);
+            if (!node.terminals.isEmpty() || !node.children.isEmpty()) {
+                return;
+            }
+            path.get(i - 1).children.remove(codePoints[i - 1]);
+        }
+    }
+
+    /**
+     * @return the normalized name and its suffixes starting at a word, cut at {@link #MAX_KEY_LENGTH}
+     */
+    static Set<String> keys(String name) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (String suffix : suffixes(name)) {
+            keys.add(cut(suffix));
+        }
+        return keys;
+    }
+
+    private static List<String> suffixes(String name) {
+        String normalized = normalize(name);
+        List<String> suffixes = new ArrayList<>();
+        int start = 0;
+        while (start < normalized.length()) {
+            suffixes.add(normalized.substring(start));
+            int space = normalized.indexOf(' ', start);
+            if (space < 0) {
+                break;
+            }
+            start = space + 1;
+        }
+        return suffixes;
+    }
+
+    private static String cut(String key) {
+        if (key.codePointCount(0, key.length()) <= MAX_KEY_LENGTH) {
+            return key;
+        }
+        return key.substring(0, key.offsetByCodePoints(0, MAX_KEY_LENGTH));
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(normalized.length());
+        boolean space = false;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = !builder.isEmpty();
+            } else {
+                if (space) {
+                    builder.append(' ');
+                    space = false;
+                }
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    record Suggestion(Long storeId, String name, long popularity) {
+    }
+
+    private static final class Node {
+
+        final Map<Integer, Node> children = new ConcurrentHashMap<>();
+        final Set<Suggestion> terminals = new HashSet<>();
+        volatile List<Suggestion> top = List.of();
+
+    }
+
+}
@@ -0,0 +1,209 @@
+package reserve.store.infrastructure;
+
+import reserve.store.dto.response.StoreInfoResponse;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Inverted index from the bigrams of store names, addresses and descriptions to the stores containing them.
+ *
+ * <p> Text is normalized (NFKC, lower case) and split into words, and each word into overlapping bigrams, so that a
+ * query word matches any store text containing it, including inside a longer word as is common in Korean. Words of a
+ * single character are indexed as they are, so a one-character query word only matches a whole word. </p>
+ *
+ * <p> A store matches a query if it contains any of the query words. Stores are ranked by the sum, over the query
+ * words they contain, of the inverse document frequencies of the word's bigrams weighted by where and how often
+ * they occur; name matches weigh more than address and description matches. </p>
+ */
+final class StoreNgramIndex {
+
+    static final int GRAM_SIZE = 2;
+
+    private static final float NAME_WEIGHT = 3;
+    private static final float TEXT_WEIGHT = 1;
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // gram -> store ID -> weighted occurrences of the gram in the store
+    private final Map<String, Map<Long, Float>> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Adds the store, replacing its previous entry if any.
+     */
+    void put(StoreInfoResponse store) {
+        Map<String, Float> weights = new HashMap<>();
+        addGrams(weights, store.getName(), NAME_WEIGHT);
+        addGrams(weights, store.getAddress(), TEXT_WEIGHT);
+        addGrams(weights, store.getDescription(), TEXT_WEIGHT);
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(store.getStoreId());
+            weights.forEach((gram, weight) ->
+                    postings.computeIfAbsent(gram, ignored -> new HashMap<>()).put(store.getStoreId(), weight)
+            );
+            documents.put(store.getStoreId(), new Document(store.getRegistrant(), weights.keySet()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long storeId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(storeId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeLocked(Long storeId) {
+        Document document = documents.remove(storeId);
+        if (document == null) {
+            return;
+        }
+        for (String gram : document.grams()) {
+            Map<Long, Float> posting = postings.get(gram);
+            posting.remove(storeId);
+            if (posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * @param registrant username of the registrant to restrict to, or {@code null}
+     * @param limit      maximum number of IDs to return
+     * @return IDs of the matching stores, best match first
+     */
+    List<Long> search(String query, String registrant, int limit) {
+        return search(query, registrant, null, limit);
+    }
+
+    /**
+     * @param registrant   username of the registrant to restrict to, or {@code null}
+     * @param candidateIds IDs of the stores to restrict to, or {@code null}
+     * @param limit        maximum number of IDs to return
+     * @return IDs of the matching stores, best match first
+     */
+    List<Long> search(String query, String registrant, Set<Long> candidateIds, int limit) {
+        List<Set<String>> queryWords = new ArrayList<>();
+        for (String word : words(query)) {
+            queryWords.add(new HashSet<>(grams(word)));
+        }
+
+        Map<Long, Float> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (Set<String> wordGrams : queryWords) {
+                scoreWord(wordGrams, registrant, candidateIds, scores);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return scores.entrySet()
+                .stream()
+                .sorted(Map.Entry.<Long, Float>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private void scoreWord(
+            Set<String> wordGrams,
+            String registrant,
+            Set<Long> candidateIds,
+            Map<Long, Float> scores
+    ) {
+        List<Map<Long, Float>> wordPostings = new ArrayList<>();
+        for (String gram : wordGrams) {
+            Map<Long, Float> posting = postings.get(gram);
+            if (posting == null) {
+                return;
+            }
+            wordPostings.add(posting);
+        }
+        if (wordPostings.isEmpty()) {
+            return;
+        }
+        // Walk the rarest gram, or the candidates if fewer, and look the store up in the other postings.
+        wordPostings.sort(Comparator.comparingInt(Map::size));
+        Map<Long, Float> rarest = wordPostings.get(0);
+        Set<Long> storeIds = rarest.keySet();
+        if (candidateIds != null && candidateIds.size() < storeIds.size()) {
+            storeIds = candidateIds;
+        }
+        candidates:
+        for (Long storeId : storeIds) {
+            if (!rarest.containsKey(storeId) || candidateIds != null && !candidateIds.contains(storeId)) {
+                continue;
+            }
+            if (registrant != null && !registrant.equals(documents.get(storeId).registrant())) {
+                continue;
+            }
+            float score = 0;
+            for (Map<Long, Float> posting : wordPostings) {
+                Float weight = posting.get(storeId);
+                if (weight == null) {
+                    continue candidates;
+                }
+                score += idf(posting.size()) * (1 + (float) Math.log(weight));
+            }
+            scores.merge(storeId, score, Float::sum);
+        }
+    }
+
+    private float idf(int documentFrequency) {
+        return (float) Math.log(1 + (double) documents.size() / documentFrequency);
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void addGrams(Map<String, Float> weights, String text, float weight) {
+        for (String word : words(text)) {
+            for (String gram : grams(word)) {
+                weights.merge(gram, weight, Float::sum);
+            }
+        }
+    }
+
+    static List<String> words(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return Arrays.stream(WORD_SEPARATOR.split(normalized)).filter(word -> !word.isEmpty()).toList();
+    }
+
+    static List<String> grams(String word) {
+        int length = word.codePointCount(0, word.length());
+        if (length <= GRAM_SIZE) {
+            return List.of(word);
+        }
+        List<String> grams = new ArrayList<>(length - GRAM_SIZE + 1);
+        int start = 0;
+        for (int i = 0; i <= length - GRAM_SIZE; i++) {
+            int end = word.offsetByCodePoints(start, GRAM_SIZE);
+            grams.add(word.substring(start, end));
+            start = word.offsetByCodePoints(start, 1);
+        }
+        return grams;
+    }
+
+    private record Document(String registrant, Set<String> grams) {
+    }
+
+}
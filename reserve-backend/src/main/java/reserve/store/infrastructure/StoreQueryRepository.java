@@ -1,44 +1,61 @@
 package reserve.store.infrastructure;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
+import reserve.store.domain.GeoPoint;
+import reserve.store.dto.request.StoreNearbyRequest;
 import reserve.store.dto.request.StoreSearchRequest;
 import reserve.store.dto.response.StoreInfoResponse;
+import reserve.store.dto.response.StoreNearbyResponse;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static reserve.store.domain.QStore.*;
 
 @Repository
 public class StoreQueryRepository {
 
-    private final double matchThreshold;
+    private static final int NEARBY_BATCH_FACTOR = 2;
+    private static final int MAX_NEARBY_BATCHES = 10;
+
+    private final StoreSearchEngine storeSearchEngine;
 
     private final JPAQueryFactory queryFactory;
 
-    public StoreQueryRepository(
-            @Value("${application.matchThreshold}") double matchThreshold,
-            EntityManager em
-    ) {
-        this.matchThreshold = matchThreshold;
+    public StoreQueryRepository(StoreSearchEngine storeSearchEngine, EntityManager em) {
+        this.storeSearchEngine = storeSearchEngine;
         this.queryFactory = new JPAQueryFactory(em);
     }
 
     public Page<StoreInfoResponse> findResponsesBySearch(StoreSearchRequest storeSearchRequest, Pageable pageable) {
-        BooleanBuilder condition = new BooleanBuilder();
-        condition.and(registrantUsernameCondition(storeSearchRequest.getRegistrant()));
-        condition.and(queryStringCondition(storeSearchRequest.getQuery()));
+        StoreSearchMatch match = match(storeSearchRequest);
+        if (match != null && match.isRanked()) {
+            List<Long> rankedIds = findExistingIds(match.getRankedIds());
+            return new PageImpl<>(findResponsesByRankedIds(rankedIds, pageable), pageable, rankedIds.size());
+        }
+        BooleanBuilder condition = searchCondition(storeSearchRequest, match);
 
         List<StoreInfoResponse> content = queryFactory
                 .select(getStoreInfoResponseProjection())
@@ -57,6 +74,196 @@ public class StoreQueryRepository {
         return new PageImpl<>(content, pageable, count);
     }
 
+    /**
+     * Same search as {@link #findResponsesBySearch} without the count query.
+     * Fetches one extra row to tell whether a next page exists.
+     */
+    public Slice<StoreInfoResponse> findSliceBySearch(StoreSearchRequest storeSearchRequest, Pageable pageable) {
+        StoreSearchMatch match = match(storeSearchRequest);
+        if (match != null && match.isRanked()) {
+            List<Long> rankedIds = findExistingIds(match.getRankedIds());
+            boolean hasNext = rankedIds.size() > pageable.getOffset() + pageable.getPageSize();
+            return new SliceImpl<>(findResponsesByRankedIds(rankedIds, pageable), pageable, hasNext);
+        }
+
+        List<StoreInfoResponse> content = queryFactory
+                .select(getStoreInfoResponseProjection())
+                .from(store)
+                .where(searchCondition(storeSearchRequest, match))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1)
+                .fetch();
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = content.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    public long countBySearch(StoreSearchRequest storeSearchRequest) {
+        StoreSearchMatch match = match(storeSearchRequest);
+        if (match != null && match.isRanked()) {
+            return findExistingIds(match.getRankedIds()).size();
+        }
+        Long count = queryFactory
+                .select(store.count())
+                .from(store)
+                .where(searchCondition(storeSearchRequest, match))
+                .fetchOne();
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Finds the stores within the radius of the location that match the registrant and query, nearest first.
+     *
+     * <p> The locations inside the bounding box of the circle are read through the (latitude, longitude) index in
+     * batches, ordered by an approximate distance computed in the database and paged by that distance and the ID, and
+     * the exact distance is computed for those read alone. The query is matched within each batch, by the engine's
+     * condition in the same query or among the batch by a ranking engine, so that matching stores nearby are found
+     * however many match elsewhere. Batches are read until enough stores match, or at most
+     * {@value #MAX_NEARBY_BATCHES} batches, after which the stores found so far are returned. The nearest are then
+     * loaded in one query. </p>
+     */
+    public List<StoreNearbyResponse> findResponsesNearby(StoreNearbyRequest storeNearbyRequest) {
+        GeoPoint center = new GeoPoint(storeNearbyRequest.getLat(), storeNearbyRequest.getLng());
+        double radius = storeNearbyRequest.getRadius();
+        int size = storeNearbyRequest.getSize();
+        String query = StringUtils.hasText(storeNearbyRequest.getQuery()) ? storeNearbyRequest.getQuery() : null;
+        String registrant =
+                StringUtils.hasText(storeNearbyRequest.getRegistrant()) ? storeNearbyRequest.getRegistrant() : null;
+        RankingStoreSearchEngine rankingEngine = query != null &&
+                storeSearchEngine instanceof RankingStoreSearchEngine engine ? engine : null;
+
+        BooleanBuilder condition = searchCondition(registrant, rankingEngine != null ? null : match(query, registrant));
+        condition.and(boundingBoxCondition(center, radius));
+
+        NumberExpression<Double> approximateDistance = approximateDistance(center);
+        // The corners of the box lie outside the circle, so read more than the stores needed.
+        int batchSize = size * NEARBY_BATCH_FACTOR;
+        List<NearbyStore> found = new ArrayList<>();
+        BooleanExpression after = null;
+        for (int batches = 0; found.size() < size && batches < MAX_NEARBY_BATCHES; batches++) {
+            List<Tuple> tuples = queryFactory
+                    .select(store.id, store.latitude, store.longitude, approximateDistance)
+                    .from(store)
+                    .where(new BooleanBuilder(condition).and(after))
+                    .orderBy(approximateDistance.asc(), store.id.asc())
+                    .limit(batchSize)
+                    .fetch();
+            List<NearbyStore> batch = tuples.stream().map(tuple -> NearbyStore.of(tuple, center)).toList();
+            Set<Long> matchedIds = rankingEngine != null ? matchAmong(rankingEngine, query, registrant, batch) : null;
+            batch.stream()
+                    .filter(nearbyStore -> matchedIds == null || matchedIds.contains(nearbyStore.storeId()))
+                    .filter(nearbyStore -> nearbyStore.distance() <= radius)
+                    .forEach(found::add);
+            if (tuples.size() < batchSize) {
+                break;
+            }
+            Tuple last = tuples.get(tuples.size() - 1);
+            Double lastDistance = last.get(approximateDistance);
+            after = approximateDistance.gt(lastDistance)
+                    .or(approximateDistance.eq(lastDistance).and(store.id.gt(last.get(store.id))));
+        }
+
+        List<NearbyStore> nearest = found.stream()
+                .sorted(Comparator.comparingDouble(NearbyStore::distance).thenComparing(NearbyStore::storeId))
+                .limit(size)
+                .toList();
+        if (nearest.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, StoreInfoResponse> responses = queryFactory
+                .select(getStoreInfoResponseProjection())
+                .from(store)
+                .where(store.id.in(nearest.stream().map(NearbyStore::storeId).toList()))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(StoreInfoResponse::getStoreId, Function.identity()));
+        return nearest.stream()
+                .filter(nearbyStore -> responses.containsKey(nearbyStore.storeId()))
+                .map(nearbyStore -> nearbyStore.toResponse(responses.get(nearbyStore.storeId())))
+                .toList();
+    }
+
+    private static Set<Long> matchAmong(
+            RankingStoreSearchEngine rankingEngine,
+            String query,
+            String registrant,
+            List<NearbyStore> candidates
+    ) {
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+        Set<Long> candidateIds = candidates.stream().map(NearbyStore::storeId).collect(Collectors.toSet());
+        return new HashSet<>(rankingEngine.matchAmong(query, registrant, candidateIds));
+    }
+
+    /**
+     * The search engine is updated only once a store change is delivered to it, so it may still rank stores that
+     * have been deleted since. These are dropped before paging, so that pages and totals count only existing stores.
+     *
+     * @return the ranked IDs of the stores that still exist, in the same order
+     */
+    private List<Long> findExistingIds(List<Long> rankedIds) {
+        if (rankedIds.isEmpty()) {
+            return rankedIds;
+        }
+        Set<Long> existingIds = new HashSet<>(queryFactory
+                .select(store.id)
+                .from(store)
+                .where(store.id.in(rankedIds))
+                .fetch());
+        if (existingIds.size() == rankedIds.size()) {
+            return rankedIds;
+        }
+        return rankedIds.stream().filter(existingIds::contains).toList();
+    }
+
+    /**
+     * Loads the page of the ranked stores in one query, in the order of their ranks. Stores deleted since they were
+     * ranked are left out.
+     */
+    private List<StoreInfoResponse> findResponsesByRankedIds(List<Long> rankedIds, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), rankedIds.size());
+        int to = Math.min(from + pageable.getPageSize(), rankedIds.size());
+        List<Long> pageIds = rankedIds.subList(from, to);
+        if (pageIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, StoreInfoResponse> responses = queryFactory
+                .select(getStoreInfoResponseProjection())
+                .from(store)
+                .where(store.id.in(pageIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(StoreInfoResponse::getStoreId, Function.identity()));
+        return pageIds.stream().map(responses::get).filter(Objects::nonNull).toList();
+    }
+
+    private StoreSearchMatch match(StoreSearchRequest storeSearchRequest) {
+        return match(storeSearchRequest.getQuery(), storeSearchRequest.getRegistrant());
+    }
+
+    private StoreSearchMatch match(String query, String registrant) {
+        if (!StringUtils.hasText(query)) {
+            return null;
+        }
+        return storeSearchEngine.match(query, StringUtils.hasText(registrant) ? registrant : null);
+    }
+
+    private static BooleanBuilder searchCondition(StoreSearchRequest storeSearchRequest, StoreSearchMatch match) {
+        return searchCondition(storeSearchRequest.getRegistrant(), match);
+    }
+
+    private static BooleanBuilder searchCondition(String registrant, StoreSearchMatch match) {
+        BooleanBuilder condition = new BooleanBuilder();
+        condition.and(registrantUsernameCondition(registrant));
+        condition.and(queryStringCondition(match));
+        return condition;
+    }
+
     private static ConstructorExpression<StoreInfoResponse> getStoreInfoResponseProjection() {
         return Projections.constructor(
                 StoreInfoResponse.class,
@@ -68,6 +275,47 @@ public class StoreQueryRepository {
         );
     }
 
+    /**
+     * @return condition on the box holding the circle of {@code radius} meters around {@code center}, split in two
+     *         where the box crosses the antimeridian
+     */
+    private static BooleanExpression boundingBoxCondition(GeoPoint center, double radius) {
+        double latitudeSpan = center.latitudeSpan(radius);
+        BooleanExpression latitudeCondition = store.latitude.between(
+                Math.max(center.latitude() - latitudeSpan, -90),
+                Math.min(center.latitude() + latitudeSpan, 90)
+        );
+        double longitudeSpan = center.longitudeSpan(radius);
+        double west = center.longitude() - longitudeSpan;
+        double east = center.longitude() + longitudeSpan;
+        if (longitudeSpan >= 180) {
+            return latitudeCondition.and(store.longitude.isNotNull());
+        }
+        if (west < -180) {
+            return latitudeCondition.and(store.longitude.goe(west + 360).or(store.longitude.loe(east)));
+        }
+        if (east > 180) {
+            return latitudeCondition.and(store.longitude.goe(west).or(store.longitude.loe(east - 360)));
+        }
+        return latitudeCondition.and(store.longitude.between(west, east));
+    }
+
+    /**
+     * @return squared distance from {@code center} in degrees of latitude, on a plane tangent at the center, which
+     *         orders stores near the center as their distance does
+     */
+    private static NumberExpression<Double> approximateDistance(GeoPoint center) {
+        NumberExpression<Double> latitudeDelta = store.latitude.subtract(center.latitude());
+        NumberExpression<Double> longitudeDelta = store.longitude.subtract(center.longitude());
+        // Measured the short way around, across the antimeridian if need be.
+        NumberExpression<Double> wrappedLongitudeDelta = new CaseBuilder()
+                .when(longitudeDelta.gt(180.0)).then(longitudeDelta.subtract(360.0))
+                .when(longitudeDelta.lt(-180.0)).then(longitudeDelta.add(360.0))
+                .otherwise(longitudeDelta)
+                .multiply(Math.cos(Math.toRadians(center.latitude())));
+        return latitudeDelta.multiply(latitudeDelta).add(wrappedLongitudeDelta.multiply(wrappedLongitudeDelta));
+    }
+
     private static BooleanExpression registrantUsernameCondition(String registrant) {
         if (StringUtils.hasText(registrant)) {
             return store.user.username.eq(registrant);
@@ -75,13 +323,39 @@ public class StoreQueryRepository {
         return null;
     }
 
-    private BooleanExpression queryStringCondition(String query) {
-        if (StringUtils.hasText(query)) {
-            return Expressions
-                    .numberTemplate(Double.class, "fulltext_search(name, address, description, {0})", query)
-                    .gt(matchThreshold);
+    private static BooleanExpression queryStringCondition(StoreSearchMatch match) {
+        if (match != null) {
+            return match.getCondition();
         }
         return null;
     }
 
+    private record NearbyStore(Long storeId, double latitude, double longitude, double distance) {
+
+        static NearbyStore of(Tuple tuple, GeoPoint center) {
+            double latitude = Objects.requireNonNull(tuple.get(store.latitude));
+            double longitude = Objects.requireNonNull(tuple.get(store.longitude));
+            return new NearbyStore(
+                    tuple.get(store.id),
+                    latitude,
+                    longitude,
+                    center.distanceTo(new GeoPoint(latitude, longitude))
+            );
+        }
+
+        StoreNearbyResponse toResponse(StoreInfoResponse storeInfoResponse) {
+            return new StoreNearbyResponse(
+                    storeId,
+                    storeInfoResponse.getRegistrant(),
+                    storeInfoResponse.getName(),
+                    storeInfoResponse.getAddress(),
+                    storeInfoResponse.getDescription(),
+                    latitude,
+                    longitude,
+                    Math.round(distance)
+            );
+        }
+
+    }
+
 }
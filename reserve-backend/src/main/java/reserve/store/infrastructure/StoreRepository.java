@@ -1,5 +1,6 @@
 package reserve.store.infrastructure;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -7,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import reserve.store.domain.Store;
 import reserve.store.dto.response.StoreInfoResponse;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface StoreRepository extends JpaRepository<Store, Long> {
@@ -15,6 +17,9 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
 
     Optional<Store> findByIdAndUserId(Long storeId, Long userId);
 
+    @Query("SELECT store.user.id FROM Store store WHERE store.id = :storeId")
+    Optional<Long> findUserIdById(@Param("storeId") Long storeId);
+
     @Query("""
            SELECT new reserve.store.dto.response.StoreInfoResponse(
                store.id, store.user.username, store.name, store.address, store.description
@@ -24,6 +29,16 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
            """)
     Optional<StoreInfoResponse> findResponseById(@Param("storeId") Long storeId);
 
+    @Query("""
+           SELECT new reserve.store.dto.response.StoreInfoResponse(
+               store.id, store.user.username, store.name, store.address, store.description
+           )
+           FROM Store store
+           WHERE store.id > :afterId
+           ORDER BY store.id ASC
+           """)
+    List<StoreInfoResponse> findResponsesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
     @Override
     @Modifying
     @Query("UPDATE Store store SET store.status = 'DELETED' WHERE store.id = :storeId")
@@ -0,0 +1,64 @@
+package reserve.store.infrastructure;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import reserve.store.dto.request.StoreSearchRequest;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Total counts of recent store searches, so that paging through the same search does not repeat
+ * the full-text count query on every page.
+ * <p>
+ * Counts are not invalidated on store changes; they may be stale for at most the configured TTL.
+ */
+@Component
+public class StoreSearchCountCache {
+
+    private final Cache<Key, Long> cache;
+
+    public StoreSearchCountCache(
+            @Value("${application.store.searchCountCache.ttl:30s}") Duration ttl,
+            @Value("${application.store.searchCountCache.maximumSize:10000}") long maximumSize
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * @return the cached count, or {@code null} if absent or expired
+     */
+    public Long get(StoreSearchRequest storeSearchRequest) {
+        return cache.getIfPresent(Key.from(storeSearchRequest));
+    }
+
+    public void put(StoreSearchRequest storeSearchRequest, long count) {
+        cache.put(Key.from(storeSearchRequest), count);
+    }
+
+    /**
+     * Normalizes a search query so that searches differing only in case or whitespace share an entry. The registrant
+     * is not normalized, since it is matched exactly.
+     */
+    static String normalize(String value) {
+        if (!StringUtils.hasText(value)) {
+            return "";
+        }
+        return value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private record Key(String query, String registrant) {
+
+        static Key from(StoreSearchRequest storeSearchRequest) {
+            return new Key(normalize(storeSearchRequest.getQuery()), storeSearchRequest.getRegistrant());
+        }
+
+    }
+
+}
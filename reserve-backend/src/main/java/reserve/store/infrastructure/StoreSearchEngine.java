@@ -0,0 +1,19 @@
+package reserve.store.infrastructure;
+
+/**
+ * Matches the query string of store searches for {@link StoreQueryRepository}.
+ *
+ * <p> The engine in use is chosen with {@code application.store.searchEngine}: {@code fulltext} (default) for the
+ * MySQL full-text index, or {@code ngram} for the in-process n-gram index. </p>
+ *
+ * @see RankingStoreSearchEngine
+ */
+public interface StoreSearchEngine {
+
+    /**
+     * @param query      non-blank query string
+     * @param registrant username of the registrant the search is restricted to, or {@code null}
+     */
+    StoreSearchMatch match(String query, String registrant);
+
+}
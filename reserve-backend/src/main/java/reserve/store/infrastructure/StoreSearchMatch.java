@@ -0,0 +1,34 @@
+package reserve.store.infrastructure;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Stores matching a search query, either as a condition on {@code store} to apply in the database, or as the IDs of
+ * the matching stores ranked by the engine, best match first and already restricted to the registrant.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class StoreSearchMatch {
+
+    private final BooleanExpression condition;
+
+    private final List<Long> rankedIds;
+
+    public static StoreSearchMatch condition(BooleanExpression condition) {
+        return new StoreSearchMatch(condition, null);
+    }
+
+    public static StoreSearchMatch rankedIds(List<Long> rankedIds) {
+        return new StoreSearchMatch(null, rankedIds);
+    }
+
+    public boolean isRanked() {
+        return rankedIds != null;
+    }
+
+}
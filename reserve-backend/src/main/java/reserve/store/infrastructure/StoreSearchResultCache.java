@@ -0,0 +1,97 @@
+package reserve.store.infrastructure;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import reserve.store.dto.StoreChange;
+import reserve.store.dto.request.StoreSearchRequest;
+import reserve.store.dto.response.StoreInfoResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pages of recent store searches with their total counts, in front of
+ * {@link StoreQueryRepository#findResponsesBySearch}.
+ *
+ * <p> Entries are keyed by the version of the store catalog, which is bumped whenever a store is created, updated or
+ * deleted, so a change makes every cached page unreachable at once instead of evicting matching entries one by one.
+ * Unreachable entries age out through the size bound and the TTL. The version is bumped once a change is delivered by
+ * {@link StoreChangeChannel}; a missed change is covered by the TTL of the entries. </p>
+ */
+@Component
+public class StoreSearchResultCache implements StoreChangeListener {
+
+    private final StoreQueryRepository storeQueryRepository;
+
+    private final Cache<Key, Page<StoreInfoResponse>> cache;
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public StoreSearchResultCache(
+            StoreQueryRepository storeQueryRepository,
+            MeterRegistry meterRegistry,
+            @Value("${application.store.searchResultCache.ttl:5m}") Duration ttl,
+            @Value("${application.store.searchResultCache.maximumSize:10000}") long maximumSize
+    ) {
+        this.storeQueryRepository = storeQueryRepository;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .build();
+
+        Gauge.builder("store.search.cache.size", cache, Cache::estimatedSize)
+                .description("Number of cached store search pages, including those of older catalog versions")
+                .register(meterRegistry);
+        this.hitCounter = Counter.builder("store.search.cache.hits")
+                .description("Store searches answered from the cache")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("store.search.cache.misses")
+                .description("Store searches that ran the full-text query")
+                .register(meterRegistry);
+    }
+
+    public Page<StoreInfoResponse> findResponsesBySearch(StoreSearchRequest storeSearchRequest, Pageable pageable) {
+        // Read the version before querying, so a page loaded across a bump is stored under the old version.
+        Key key = Key.of(catalogVersion.get(), storeSearchRequest, pageable);
+        Page<StoreInfoResponse> page = cache.getIfPresent(key);
+        if (page != null) {
+            hitCounter.increment();
+            return page;
+        }
+        missCounter.increment();
+        page = storeQueryRepository.findResponsesBySearch(storeSearchRequest, pageable);
+        cache.put(key, page);
+        return page;
+    }
+
+    /**
+     * Moves to a new catalog version.
+     */
+    @Override
+    public void storeChanged(StoreChange change) {
+        catalogVersion.incrementAndGet();
+    }
+
+    private record Key(long version, String query, String registrant, int page, int size) {
+
+        static Key of(long version, StoreSearchRequest storeSearchRequest, Pageable pageable) {
+            return new Key(
+                    version,
+                    StoreSearchCountCache.normalize(storeSearchRequest.getQuery()),
+                    storeSearchRequest.getRegistrant(),
+                    pageable.getPageNumber(),
+                    pageable.getPageSize()
+            );
+        }
+
+    }
+
+}
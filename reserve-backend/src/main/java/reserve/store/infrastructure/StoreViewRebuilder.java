@@ -0,0 +1,66 @@
+package reserve.store.infrastructure;
+
+import org.springframework.data.domain.PageRequest;
+import reserve.store.dto.response.StoreInfoResponse;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Rebuilds a node-local view of the {@code stores} table from scratch while store changes keep being applied to it.
+ *
+ * <p> The stores are read in batches by ID, so a store may be read before a change that is applied to the old view
+ * meanwhile. Stores changed while rebuilding are therefore recorded and reloaded into the new view once it is swapped
+ * in. </p>
+ */
+class StoreViewRebuilder {
+
+    private final StoreRepository storeRepository;
+    private final int batchSize;
+
+    private volatile Set<Long> changedDuringRebuild;
+
+    StoreViewRebuilder(StoreRepository storeRepository, int batchSize) {
+        this.storeRepository = storeRepository;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Records a store change to be reloaded after the rebuild in progress, if any. Called before reloading the store
+     * into the current view.
+     */
+    void changed(Long storeId) {
+        Set<Long> pending = changedDuringRebuild;
+        if (pending != null) {
+            pending.add(storeId);
+        }
+    }
+
+    /**
+     * @param load   receives every store
+     * @param swap   swaps the new view in once every store is loaded
+     * @param reload reloads a store changed while rebuilding into the new view
+     */
+    synchronized void rebuild(Consumer<StoreInfoResponse> load, Runnable swap, Consumer<Long> reload) {
+        Set<Long> changed = ConcurrentHashMap.newKeySet();
+        changedDuringRebuild = changed;
+        try {
+            long afterId = 0;
+            List<StoreInfoResponse> batch;
+            do {
+                batch = storeRepository.findResponsesAfter(afterId, PageRequest.ofSize(batchSize));
+                batch.forEach(load);
+                if (!batch.isEmpty()) {
+                    afterId = batch.get(batch.size() - 1).getStoreId();
+                }
+            } while (batch.size() == batchSize);
+            swap.run();
+        } finally {
+            changedDuringRebuild = null;
+        }
+        changed.forEach(reload);
+    }
+
+}
@@ -8,10 +8,14 @@ import org.springframework.web.bind.annotation.*;
 import reserve.auth.domain.AuthInfo;
 import reserve.auth.infrastructure.Authentication;
 import reserve.store.dto.request.StoreCreateRequest;
+import reserve.store.dto.request.StoreNearbyRequest;
 import reserve.store.dto.request.StoreSearchRequest;
+import reserve.store.dto.request.StoreSuggestRequest;
 import reserve.store.dto.request.StoreUpdateRequest;
 import reserve.store.dto.response.StoreInfoListResponse;
 import reserve.store.dto.response.StoreInfoResponse;
+import reserve.store.dto.response.StoreNearbyListResponse;
+import reserve.store.dto.response.StoreSuggestionListResponse;
 import reserve.store.service.StoreService;
 
 import java.net.URI;
@@ -48,6 +52,18 @@ public class StoreController implements StoreOperations {
         return storeService.search(storeSearchRequest, pageable);
     }
 
+    @Override
+    @GetMapping("/nearby")
+    public StoreNearbyListResponse nearby(@ModelAttribute @Validated StoreNearbyRequest storeNearbyRequest) {
+        return storeService.nearby(storeNearbyRequest);
+    }
+
+    @Override
+    @GetMapping("/suggest")
+    public StoreSuggestionListResponse suggest(@ModelAttribute @Validated StoreSuggestRequest storeSuggestRequest) {
+        return storeService.suggest(storeSuggestRequest);
+    }
+
     @Override
     @PutMapping("/{storeId}")
     public void update(
@@ -14,10 +14,14 @@ import reserve.global.exception.ErrorCode;
 import reserve.global.swagger.annotation.ApiErrorCodeResponse;
 import reserve.global.swagger.annotation.ApiErrorCodeResponses;
 import reserve.store.dto.request.StoreCreateRequest;
+import reserve.store.dto.request.StoreNearbyRequest;
 import reserve.store.dto.request.StoreSearchRequest;
+import reserve.store.dto.request.StoreSuggestRequest;
 import reserve.store.dto.request.StoreUpdateRequest;
 import reserve.store.dto.response.StoreInfoListResponse;
 import reserve.store.dto.response.StoreInfoResponse;
+import reserve.store.dto.response.StoreNearbyListResponse;
+import reserve.store.dto.response.StoreSuggestionListResponse;
 
 @Tag(name = "Stores", description = "Store API")
 public interface StoreOperations {
@@ -28,7 +32,10 @@ public interface StoreOperations {
             operationId = "1_createStore"
     )
     @ApiResponses(@ApiResponse(responseCode = "201", description = "Created"))
-    @ApiErrorCodeResponses(@ApiErrorCodeResponse(responseCode = "403", errorCode = ErrorCode.INVALID_SIGN_IN_INFO))
+    @ApiErrorCodeResponses({
+            @ApiErrorCodeResponse(responseCode = "400", errorCode = ErrorCode.INVALID_LOCATION),
+            @ApiErrorCodeResponse(responseCode = "403", errorCode = ErrorCode.INVALID_SIGN_IN_INFO)
+    })
     @SuppressWarnings("unused")
     ResponseEntity<Void> create(AuthInfo authInfo, StoreCreateRequest storeCreateRequest);
 
@@ -54,7 +61,9 @@ public interface StoreOperations {
 
     @Operation(
             summary = "Search stores",
-            description = "Search stores by username of registrant and query string",
+            description = "Search stores by username of registrant and query string. " +
+                          "'countMode' NONE skips counting the total, and CACHED may reuse a recent total " +
+                          "(see 'countType' in the response).",
             operationId = "3_searchStores"
     )
     @ApiResponses(@ApiResponse(
@@ -71,13 +80,50 @@ public interface StoreOperations {
     );
 
 
+    @Operation(
+            summary = "Find nearby stores",
+            description = "Find the stores within 'radius' meters of the location, nearest first. " +
+                          "'query' and 'registrant' narrow the stores down as in the store search.",
+            operationId = "4_findNearbyStores"
+    )
+    @ApiResponses(@ApiResponse(
+            responseCode = "200", description = "Response with nearby stores",
+            content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = StoreNearbyListResponse.class)
+            )
+    ))
+    @SuppressWarnings("unused")
+    StoreNearbyListResponse nearby(@ParameterObject StoreNearbyRequest storeNearbyRequest);
+
+
+    @Operation(
+            summary = "Suggest stores",
+            description = "Suggest the most popular stores whose name, or a word in it, starts with 'prefix', " +
+                          "for autocompletion as the user types.",
+            operationId = "5_suggestStores"
+    )
+    @ApiResponses(@ApiResponse(
+            responseCode = "200", description = "Response with suggested stores",
+            content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = StoreSuggestionListResponse.class)
+            )
+    ))
+    @SuppressWarnings("unused")
+    StoreSuggestionListResponse suggest(@ParameterObject StoreSuggestRequest storeSuggestRequest);
+
+
     @Operation(
             summary = "Update store information",
             description = "Update store information by store ID",
-            operationId = "4_updateStore"
+            operationId = "6_updateStore"
     )
     @ApiResponses(@ApiResponse(responseCode = "200", description = "Successfully updated"))
-    @ApiErrorCodeResponses(@ApiErrorCodeResponse(responseCode = "404", errorCode = ErrorCode.STORE_NOT_FOUND))
+    @ApiErrorCodeResponses({
+            @ApiErrorCodeResponse(responseCode = "400", errorCode = ErrorCode.INVALID_LOCATION),
+            @ApiErrorCodeResponse(responseCode = "404", errorCode = ErrorCode.STORE_NOT_FOUND)
+    })
     @SuppressWarnings("unused")
     void update(
             AuthInfo authInfo,
@@ -89,7 +135,7 @@ public interface StoreOperations {
     @Operation(
             summary = "Delete store",
             description = "Delete store by store ID",
-            operationId = "5_deleteStore"
+            operationId = "7_deleteStore"
     )
     @ApiResponses(@ApiResponse(responseCode = "200", description = "Successfully deleted"))
     @ApiErrorCodeResponses(@ApiErrorCodeResponse(responseCode = "404", errorCode = ErrorCode.STORE_NOT_FOUND))
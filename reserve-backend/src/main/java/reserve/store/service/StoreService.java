@@ -3,22 +3,35 @@ package reserve.store.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
+import reserve.auth.infrastructure.AuthorizationFactCache;
 import reserve.global.exception.AuthenticationException;
 import reserve.global.exception.ErrorCode;
+import reserve.global.exception.InvalidRequestException;
 import reserve.global.exception.ResourceNotFoundException;
 import reserve.store.domain.Store;
 import reserve.store.dto.request.StoreCreateRequest;
+import reserve.store.dto.request.StoreNearbyRequest;
 import reserve.store.dto.request.StoreSearchRequest;
+import reserve.store.dto.request.StoreSuggestRequest;
 import reserve.store.dto.request.StoreUpdateRequest;
 import reserve.store.dto.response.StoreInfoListResponse;
 import reserve.store.dto.response.StoreInfoResponse;
+import reserve.store.dto.response.StoreNearbyListResponse;
+import reserve.store.dto.response.StoreSuggestionListResponse;
+import reserve.store.infrastructure.StoreChangeChannel;
+import reserve.store.infrastructure.StoreNameSuggester;
 import reserve.store.infrastructure.StoreQueryRepository;
 import reserve.store.infrastructure.StoreRepository;
+import reserve.store.infrastructure.StoreSearchCountCache;
+import reserve.store.infrastructure.StoreSearchResultCache;
 import reserve.user.infrastructure.UserRepository;
 
+import java.util.Objects;
+
 @Service
 @RequiredArgsConstructor
 public class StoreService {
@@ -26,19 +39,30 @@ public class StoreService {
     private final StoreRepository storeRepository;
     private final StoreQueryRepository storeQueryRepository;
     private final UserRepository userRepository;
+    private final StoreSearchCountCache storeSearchCountCache;
+    private final StoreSearchResultCache storeSearchResultCache;
+    private final StoreNameSuggester storeNameSuggester;
+    private final StoreChangeChannel storeChangeChannel;
+    private final AuthorizationFactCache authorizationFactCache;
 
     @Transactional
     public Long create(Long userId, StoreCreateRequest storeCreateRequest) {
-        if (!userRepository.existsById(userId)) {
+        if (!authorizationFactCache.isUserAvailable(userId)) {
             throw new AuthenticationException(ErrorCode.INVALID_SIGN_IN_INFO);
         }
-        Store store = storeRepository.save(new Store(
+        Store store = new Store(
                 userRepository.getReferenceById(userId),
                 storeCreateRequest.getName(),
                 storeCreateRequest.getAddress(),
                 storeCreateRequest.getDescription()
-        ));
-        return store.getId();
+        );
+        store.setCapacity(storeCreateRequest.getCapacity());
+        if (hasLocation(storeCreateRequest.getLatitude(), storeCreateRequest.getLongitude())) {
+            store.setLocation(storeCreateRequest.getLatitude(), storeCreateRequest.getLongitude());
+        }
+        Long storeId = storeRepository.save(store).getId();
+        storeChangeChannel.storeChanged(storeId);
+        return storeId;
     }
 
     @Transactional(readOnly = true)
@@ -49,8 +73,34 @@ public class StoreService {
 
     @Transactional(readOnly = true)
     public StoreInfoListResponse search(StoreSearchRequest storeSearchRequest, Pageable pageable) {
-        Page<StoreInfoResponse> page = storeQueryRepository.findResponsesBySearch(storeSearchRequest, pageable);
-        return StoreInfoListResponse.from(page);
+        StoreSearchRequest.CountMode countMode =
+                Objects.requireNonNullElse(storeSearchRequest.getCountMode(), StoreSearchRequest.CountMode.EXACT);
+        if (countMode == StoreSearchRequest.CountMode.EXACT) {
+            Page<StoreInfoResponse> page = storeSearchResultCache.findResponsesBySearch(storeSearchRequest, pageable);
+            return StoreInfoListResponse.from(page);
+        }
+
+        Slice<StoreInfoResponse> slice = storeQueryRepository.findSliceBySearch(storeSearchRequest, pageable);
+        if (countMode == StoreSearchRequest.CountMode.NONE) {
+            return StoreInfoListResponse.from(slice, null, StoreInfoListResponse.CountType.NONE);
+        }
+
+        Long cachedCount = storeSearchCountCache.get(storeSearchRequest);
+        if (cachedCount != null) {
+            return StoreInfoListResponse.from(slice, cachedCount, StoreInfoListResponse.CountType.CACHED);
+        }
+        long count = storeQueryRepository.countBySearch(storeSearchRequest);
+        storeSearchCountCache.put(storeSearchRequest, count);
+        return StoreInfoListResponse.from(slice, count, StoreInfoListResponse.CountType.EXACT);
+    }
+
+    @Transactional(readOnly = true)
+    public StoreNearbyListResponse nearby(StoreNearbyRequest storeNearbyRequest) {
+        return StoreNearbyListResponse.from(storeQueryRepository.findResponsesNearby(storeNearbyRequest));
+    }
+
+    public StoreSuggestionListResponse suggest(StoreSuggestRequest storeSuggestRequest) {
+        return StoreSuggestionListResponse.from(storeNameSuggester.suggest(storeSuggestRequest.getPrefix()));
     }
 
     @Transactional
@@ -66,14 +116,29 @@ public class StoreService {
         if (StringUtils.hasText(storeUpdateRequest.getDescription())) {
             store.setDescription(storeUpdateRequest.getDescription());
         }
+        if (storeUpdateRequest.getCapacity() != null) {
+            store.setCapacity(storeUpdateRequest.getCapacity());
+        }
+        if (hasLocation(storeUpdateRequest.getLatitude(), storeUpdateRequest.getLongitude())) {
+            store.setLocation(storeUpdateRequest.getLatitude(), storeUpdateRequest.getLongitude());
+        }
+        storeChangeChannel.storeChanged(storeId);
     }
 
     @Transactional
     public void delete(Long userId, Long storeId) {
-        if (!storeRepository.existsByIdAndUserId(storeId, userId)) {
+        if (!authorizationFactCache.isStoreOwner(storeId, userId)) {
             throw new ResourceNotFoundException(ErrorCode.STORE_NOT_FOUND);
         }
         storeRepository.deleteById(storeId);
+        storeChangeChannel.storeDeleted(storeId);
+    }
+
+    private static boolean hasLocation(Double latitude, Double longitude) {
+        if ((latitude == null) != (longitude == null)) {
+            throw new InvalidRequestException(ErrorCode.INVALID_LOCATION);
+        }
+        return latitude != null;
     }
 
 }
@@ -4,6 +4,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import reserve.user.domain.User;
 
 import java.util.Optional;
@@ -22,4 +23,22 @@ public interface UserRepository extends JpaRepository<User, Long> {
            """)
     void deleteById(@Param("userId") Long id);
 
+    /**
+     * Replaces the password hash in its own transaction, unless it has changed since {@code passwordHash} was read.
+     *
+     * @return 0 if the user no longer exists or its password hash has changed
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+           UPDATE User user
+           SET user.passwordHash = :newPasswordHash, user.modifiedAt = CURRENT_TIMESTAMP
+           WHERE user.id = :userId AND user.passwordHash = :passwordHash AND user.status = 'AVAILABLE'
+           """)
+    int changePasswordHash(
+            @Param("userId") Long userId,
+            @Param("passwordHash") String passwordHash,
+            @Param("newPasswordHash") String newPasswordHash
+    );
+
 }
@@ -54,7 +54,8 @@ public interface UserOperations {
     @ApiResponses(@ApiResponse(responseCode = "200", description = "Successfully updated"))
     @ApiErrorCodeResponses({
             @ApiErrorCodeResponse(responseCode = "403", errorCode = ErrorCode.INVALID_SIGN_IN_INFO),
-            @ApiErrorCodeResponse(responseCode = "403", errorCode = ErrorCode.WRONG_PASSWORD)
+            @ApiErrorCodeResponse(responseCode = "403", errorCode = ErrorCode.WRONG_PASSWORD),
+            @ApiErrorCodeResponse(responseCode = "503", errorCode = ErrorCode.TOO_MANY_SIGN_IN_REQUESTS)
     })
     @SuppressWarnings("unused")
     void updatePassword(AuthInfo authInfo, PasswordUpdateRequest passwordUpdateRequest);
@@ -68,7 +69,8 @@ public interface UserOperations {
     @ApiResponses(@ApiResponse(responseCode = "200", description = "Successfully deleted"))
     @ApiErrorCodeResponses({
             @ApiErrorCodeResponse(responseCode = "403", errorCode = ErrorCode.INVALID_SIGN_IN_INFO),
-            @ApiErrorCodeResponse(responseCode = "403", errorCode = ErrorCode.WRONG_PASSWORD)
+            @ApiErrorCodeResponse(responseCode = "403", errorCode = ErrorCode.WRONG_PASSWORD),
+            @ApiErrorCodeResponse(responseCode = "503", errorCode = ErrorCode.TOO_MANY_SIGN_IN_REQUESTS)
     })
     @SuppressWarnings("unused")
     void delete(AuthInfo authInfo, UserDeleteRequest userDeleteRequest);
@@ -1,12 +1,16 @@
 package reserve.user.service;
 
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
+import reserve.auth.infrastructure.AuthorizationFactCache;
 import reserve.global.exception.AuthenticationException;
 import reserve.global.exception.ErrorCode;
 import reserve.global.exception.ResourceNotFoundException;
+import reserve.global.transaction.TransactionCallbacks;
+import reserve.signin.infrastructure.RefreshTokenRepository;
 import reserve.signup.infrastructure.PasswordEncoder;
 import reserve.user.domain.User;
 import reserve.user.infrastructure.UserRepository;
@@ -15,14 +19,37 @@ import reserve.user.dto.request.UserDeleteRequest;
 import reserve.user.dto.request.UserUpdateRequest;
 import reserve.user.dto.response.UserInfoResponse;
 
+/**
+ * Password checks and hashing wait on the bounded hashing pool, so the methods doing them are not transactional as a
+ * whole; the user is read and written in short transactions of their own, holding no database connection meanwhile.
+ */
 @Service
-@RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
 
+    private final RefreshTokenRepository refreshTokenRepository;
+
     private final PasswordEncoder passwordEncoder;
 
+    private final AuthorizationFactCache authorizationFactCache;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public UserService(
+            UserRepository userRepository,
+            RefreshTokenRepository refreshTokenRepository,
+            PasswordEncoder passwordEncoder,
+            AuthorizationFactCache authorizationFactCache,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.userRepository = userRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.authorizationFactCache = authorizationFactCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
     @Transactional(readOnly = true)
     public UserInfoResponse getUserInfo(String username) {
         User user = userRepository.findByUsername(username)
@@ -42,7 +69,6 @@ public class UserService {
         }
     }
 
-    @Transactional
     public void updatePassword(Long userId, PasswordUpdateRequest passwordUpdateRequest) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new AuthenticationException(ErrorCode.INVALID_SIGN_IN_INFO));
@@ -51,17 +77,23 @@ public class UserService {
         }
         String newPassword = passwordUpdateRequest.getNewPassword();
         String newPasswordHash = passwordEncoder.encode(newPassword);
-        user.changePassword(newPasswordHash);
+        // The old password no longer applies if it has been changed meanwhile.
+        if (userRepository.changePasswordHash(userId, user.getPasswordHash(), newPasswordHash) == 0) {
+            throw new AuthenticationException(ErrorCode.WRONG_PASSWORD);
+        }
     }
 
-    @Transactional
     public void delete(Long userId, UserDeleteRequest userDeleteRequest) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new AuthenticationException(ErrorCode.INVALID_SIGN_IN_INFO));
         if (!passwordEncoder.matches(userDeleteRequest.getPassword(), user.getPasswordHash())) {
             throw new AuthenticationException(ErrorCode.WRONG_PASSWORD);
         }
-        userRepository.deleteById(userId);
+        transactionTemplate.executeWithoutResult(status -> {
+            userRepository.deleteById(userId);
+            authorizationFactCache.evictUser(userId);
+            TransactionCallbacks.runAfterCommit(() -> refreshTokenRepository.deleteAllByUserId(userId));
+        });
     }
 
 }
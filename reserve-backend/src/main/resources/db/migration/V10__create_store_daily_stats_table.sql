@@ -0,0 +1,29 @@
+CREATE TABLE store_daily_stats
+(
+    store_id          BIGINT NOT NULL,
+    date              DATE   NOT NULL,
+    reservation_count INT    NOT NULL,
+    ready_count       INT    NOT NULL,
+    in_service_count  INT    NOT NULL,
+    completed_count   INT    NOT NULL,
+    cancelled_count   INT    NOT NULL,
+    revenue           BIGINT NOT NULL,
+    PRIMARY KEY (store_id, date),
+    CONSTRAINT fk_storedailystats_stores_storeid FOREIGN KEY (store_id) REFERENCES stores (store_id)
+);
+
+INSERT INTO store_daily_stats (store_id, date, reservation_count, ready_count, in_service_count, completed_count,
+                               cancelled_count, revenue)
+SELECT r.store_id,
+       r.date,
+       COUNT(*),
+       SUM(r.status = 'READY'),
+       SUM(r.status = 'IN_SERVICE'),
+       SUM(r.status = 'COMPLETED'),
+       SUM(r.status = 'CANCELLED'),
+       COALESCE(SUM(IF(r.status = 'CANCELLED', 0, m.revenue)), 0)
+FROM reservations r
+         LEFT JOIN (SELECT reservation_id, SUM(price * quantity) AS revenue
+                    FROM reservation_menus
+                    GROUP BY reservation_id) m ON m.reservation_id = r.reservation_id
+GROUP BY r.store_id, r.date;
@@ -0,0 +1,7 @@
+ALTER TABLE reservations
+MODIFY COLUMN status ENUM ('READY', 'IN_SERVICE', 'COMPLETED', 'CANCELLED', 'NO_SHOW') NOT NULL DEFAULT 'READY';
+
+CREATE INDEX ix_reservations_status ON reservations (status);
+
+ALTER TABLE store_daily_stats
+ADD COLUMN no_show_count INT NOT NULL DEFAULT 0 AFTER cancelled_count;
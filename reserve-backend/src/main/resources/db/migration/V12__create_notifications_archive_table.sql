@@ -0,0 +1,14 @@
+CREATE INDEX ix_notifications_createdat ON notifications (created_at);
+
+CREATE TABLE notifications_archive
+(
+    notification_id BIGINT                  NOT NULL,
+    user_id         BIGINT                  NOT NULL,
+    resource_type   ENUM ('RESERVATION')    NOT NULL,
+    resource_id     BIGINT                  NOT NULL,
+    message         VARCHAR(255)            NOT NULL,
+    status          ENUM ('UNREAD', 'READ') NOT NULL,
+    created_at      DATETIME(6)             NOT NULL,
+    modified_at     DATETIME(6)             NOT NULL,
+    PRIMARY KEY (notification_id)
+);
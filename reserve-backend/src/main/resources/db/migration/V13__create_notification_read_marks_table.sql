@@ -0,0 +1,15 @@
+CREATE TABLE notification_read_marks
+(
+    user_id    BIGINT      NOT NULL,
+    read_until DATETIME(6) NOT NULL,
+    PRIMARY KEY (user_id),
+    CONSTRAINT fk_notificationreadmarks_users_userid FOREIGN KEY (user_id) REFERENCES users (user_id)
+);
+
+-- Users who have read all their notifications start with a watermark at their latest notification. Existing READ
+-- statuses are kept as explicit reads of single notifications, so no notification changes its status.
+INSERT INTO notification_read_marks (user_id, read_until)
+SELECT user_id, MAX(created_at)
+FROM notifications
+GROUP BY user_id
+HAVING SUM(status = 'UNREAD') = 0;
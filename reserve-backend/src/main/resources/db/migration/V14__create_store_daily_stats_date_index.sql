@@ -0,0 +1 @@
+CREATE INDEX ix_storedailystats_date ON store_daily_stats (date);
@@ -0,0 +1,5 @@
+ALTER TABLE stores
+ADD COLUMN latitude DOUBLE AFTER capacity,
+ADD COLUMN longitude DOUBLE AFTER latitude;
+
+CREATE INDEX ix_stores_latitude_longitude ON stores (latitude, longitude);
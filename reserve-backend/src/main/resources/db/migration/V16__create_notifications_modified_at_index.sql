@@ -0,0 +1 @@
+CREATE INDEX ix_notifications_userid_modifiedat ON notifications (user_id, modified_at);
@@ -0,0 +1,12 @@
+ALTER TABLE notification_read_marks
+ADD COLUMN read_until_id BIGINT NOT NULL DEFAULT 0 AFTER user_id;
+
+-- Each watermark moves to the latest notification the user had when it was last moved.
+UPDATE notification_read_marks m
+SET read_until_id = COALESCE((SELECT MAX(n.notification_id)
+                              FROM notifications n
+                              WHERE n.user_id = m.user_id
+                                AND n.created_at <= m.read_until), 0);
+
+ALTER TABLE notification_read_marks
+DROP COLUMN read_until;
@@ -0,0 +1,2 @@
+ALTER TABLE stores
+ADD COLUMN capacity INT AFTER description;
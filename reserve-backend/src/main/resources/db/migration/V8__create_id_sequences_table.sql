@@ -0,0 +1,19 @@
+CREATE TABLE id_sequences
+(
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val      BIGINT       NOT NULL,
+    PRIMARY KEY (sequence_name)
+);
+
+-- Pooled allocation hands out (next_val - 49) .. next_val, so start one block above the current maximum.
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'reservations', COALESCE(MAX(reservation_id), 0) + 51
+FROM reservations;
+
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'reservation_menus', COALESCE(MAX(reservation_menu_id), 0) + 51
+FROM reservation_menus;
+
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'notifications', COALESCE(MAX(notification_id), 0) + 51
+FROM notifications;
@@ -0,0 +1,6 @@
+CREATE INDEX ix_reservations_userid_date ON reservations (user_id, date);
+CREATE INDEX ix_reservations_storeid_date_hour ON reservations (store_id, date, hour);
+
+CREATE INDEX ix_notifications_userid_createdat ON notifications (user_id, created_at);
+
+CREATE INDEX ix_menus_storeid_status ON menus (store_id, status);
@@ -0,0 +1,151 @@
+package reserve.auth.infrastructure;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import reserve.global.exception.ResourceNotFoundException;
+import reserve.menu.dto.MenuOwnerDto;
+import reserve.menu.infrastructure.MenuQueryRepository;
+import reserve.store.dto.StoreChange;
+import reserve.store.infrastructure.StoreRepository;
+import reserve.user.infrastructure.UserRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthorizationFactCacheTest {
+
+    @Mock
+    UserRepository userRepository;
+
+    @Mock
+    StoreRepository storeRepository;
+
+    @Mock
+    MenuQueryRepository menuQueryRepository;
+
+    @Mock
+    StringRedisTemplate redisTemplate;
+
+    AuthorizationFactCache authorizationFactCache;
+
+    @BeforeEach
+    void setUp() {
+        authorizationFactCache = new AuthorizationFactCache(
+                userRepository,
+                storeRepository,
+                menuQueryRepository,
+                redisTemplate,
+                Duration.ofMinutes(10),
+                1000,
+                true
+        );
+    }
+
+    @Test
+    @DisplayName("Testing user existence is cached only when the user exists")
+    void testUserAvailability() {
+        Mockito.when(userRepository.existsById(1L)).thenReturn(true);
+        Mockito.when(userRepository.existsById(2L)).thenReturn(false);
+
+        assertTrue(authorizationFactCache.isUserAvailable(1L));
+        assertTrue(authorizationFactCache.isUserAvailable(1L));
+        assertFalse(authorizationFactCache.isUserAvailable(2L));
+        assertFalse(authorizationFactCache.isUserAvailable(2L));
+
+        Mockito.verify(userRepository, Mockito.times(1)).existsById(1L);
+        Mockito.verify(userRepository, Mockito.times(2)).existsById(2L);
+    }
+
+    @Test
+    @DisplayName("Testing store and menu owners are cached")
+    void testOwnership() {
+        Mockito.when(storeRepository.findUserIdById(1L)).thenReturn(Optional.of(10L));
+        Mockito.when(menuQueryRepository.findOwnerById(5L)).thenReturn(Optional.of(new MenuOwnerDto(5L, 1L, 10L)));
+        Mockito.when(menuQueryRepository.findOwnerById(6L)).thenReturn(Optional.empty());
+
+        assertTrue(authorizationFactCache.isStoreOwner(1L, 10L));
+        assertFalse(authorizationFactCache.isStoreOwner(1L, 20L));
+        assertTrue(authorizationFactCache.isMenuOwner(5L, 10L));
+        assertFalse(authorizationFactCache.isMenuOwner(5L, 20L));
+        assertThrows(ResourceNotFoundException.class, () -> authorizationFactCache.isMenuOwner(6L, 10L));
+
+        Mockito.verify(storeRepository, Mockito.times(1)).findUserIdById(1L);
+        Mockito.verify(menuQueryRepository, Mockito.times(1)).findOwnerById(5L);
+    }
+
+    @Test
+    @DisplayName("Testing store deletion evicts the store with its menus, while other store changes do not")
+    void testStoreEviction() {
+        Mockito.when(storeRepository.findUserIdById(1L)).thenReturn(Optional.of(10L));
+        Mockito.when(menuQueryRepository.findOwnerById(5L)).thenReturn(Optional.of(new MenuOwnerDto(5L, 1L, 10L)));
+        authorizationFactCache.isStoreOwner(1L, 10L);
+        authorizationFactCache.isMenuOwner(5L, 10L);
+
+        authorizationFactCache.storeChanged(StoreChange.changed(1L));
+        authorizationFactCache.isStoreOwner(1L, 10L);
+        authorizationFactCache.storeChanged(StoreChange.deleted(1L));
+        authorizationFactCache.isStoreOwner(1L, 10L);
+        authorizationFactCache.isMenuOwner(5L, 10L);
+
+        Mockito.verifyNoInteractions(redisTemplate);
+        Mockito.verify(storeRepository, Mockito.times(2)).findUserIdById(1L);
+        Mockito.verify(menuQueryRepository, Mockito.times(2)).findOwnerById(5L);
+    }
+
+    @Test
+    @DisplayName("Testing an eviction broadcast by another node evicts the user with the stores the user owns")
+    void testUserEvictionMessage() {
+        Mockito.when(userRepository.existsById(10L)).thenReturn(true);
+        Mockito.when(storeRepository.findUserIdById(1L)).thenReturn(Optional.of(10L));
+        authorizationFactCache.isUserAvailable(10L);
+        authorizationFactCache.isStoreOwner(1L, 10L);
+
+        byte[] body = "user:10".getBytes(StandardCharsets.UTF_8);
+        authorizationFactCache.onMessage(new DefaultMessage(AuthorizationFactCache.CHANNEL.getBytes(), body), null);
+        authorizationFactCache.isUserAvailable(10L);
+        authorizationFactCache.isStoreOwner(1L, 10L);
+
+        Mockito.verify(userRepository, Mockito.times(2)).existsById(10L);
+        Mockito.verify(storeRepository, Mockito.times(2)).findUserIdById(1L);
+    }
+
+    @Test
+    @DisplayName("Testing a store owner loaded while the owner is evicted is not kept")
+    void testStoreOwnerLoadedDuringUserEviction() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch evicted = new CountDownLatch(1);
+        Mockito.when(storeRepository.findUserIdById(1L)).thenAnswer(invocation -> {
+            loading.countDown();
+            assertTrue(evicted.await(10, TimeUnit.SECONDS));
+            // Read before the deletion of the user committed.
+            return Optional.of(10L);
+        });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Boolean> owner = executor.submit(() -> authorizationFactCache.isStoreOwner(1L, 10L));
+            assertTrue(loading.await(10, TimeUnit.SECONDS));
+            authorizationFactCache.evictUser(10L);
+            evicted.countDown();
+            assertTrue(owner.get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Mockito.doReturn(Optional.empty()).when(storeRepository).findUserIdById(1L);
+        assertFalse(authorizationFactCache.isStoreOwner(1L, 10L));
+    }
+
+}
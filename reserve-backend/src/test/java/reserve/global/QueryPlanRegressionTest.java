@@ -0,0 +1,301 @@
+package reserve.global;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import reserve.menu.domain.Menu;
+import reserve.menu.infrastructure.MenuQueryRepository;
+import reserve.menu.infrastructure.MenuRepository;
+import reserve.notification.domain.Notification;
+import reserve.notification.domain.NotificationReadMark;
+import reserve.notification.domain.NotificationStatus;
+import reserve.notification.domain.ResourceType;
+import reserve.notification.infrastructure.NotificationReadMarkRepository;
+import reserve.notification.infrastructure.NotificationRepository;
+import reserve.reservation.domain.Reservation;
+import reserve.reservation.domain.ReservationMenu;
+import reserve.reservation.dto.ReservationSearchCursor;
+import reserve.reservation.dto.request.ReservationSearchRequest;
+import reserve.reservation.infrastructure.ReservationMenuRepository;
+import reserve.reservation.infrastructure.ReservationQueryRepository;
+import reserve.reservation.infrastructure.ReservationRepository;
+import reserve.reservation.infrastructure.StoreDailyStatsRepository;
+import reserve.store.domain.Store;
+import reserve.store.dto.request.StoreNearbyRequest;
+import reserve.store.infrastructure.StoreQueryRepository;
+import reserve.store.infrastructure.StoreRepository;
+import reserve.user.domain.User;
+import reserve.user.infrastructure.UserRepository;
+
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Runs repository queries against the embedded database and checks with {@code EXPLAIN}
+ * that none of the statements they issue falls back to a full table scan.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+                             "reserve.global.QueryPlanRegressionTest$CapturingStatementInspector")
+@Transactional
+class QueryPlanRegressionTest {
+
+    @PersistenceContext
+    EntityManager em;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    StoreRepository storeRepository;
+
+    @Autowired
+    StoreQueryRepository storeQueryRepository;
+
+    @Autowired
+    MenuRepository menuRepository;
+
+    @Autowired
+    MenuQueryRepository menuQueryRepository;
+
+    @Autowired
+    ReservationRepository reservationRepository;
+
+    @Autowired
+    ReservationQueryRepository reservationQueryRepository;
+
+    @Autowired
+    ReservationMenuRepository reservationMenuRepository;
+
+    @Autowired
+    StoreDailyStatsRepository storeDailyStatsRepository;
+
+    @Autowired
+    NotificationRepository notificationRepository;
+
+    @Autowired
+    NotificationReadMarkRepository notificationReadMarkRepository;
+
+    User user, registrant;
+    Store store;
+    Menu menu;
+    Reservation reservation;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("user", "password", "nickname", "description"));
+        registrant = userRepository.save(new User("registrant", "password", "nickname", "description"));
+        store = storeRepository.save(new Store(registrant, "Pasta", "address", "description"));
+        menu = menuRepository.save(new Menu(store, "Spaghetti", 10000, "description"));
+        reservation = reservationRepository.save(new Reservation(user, store, LocalDate.now(), 12));
+        reservationMenuRepository.save(new ReservationMenu(reservation, "Spaghetti", 10000, 1));
+        notificationRepository.save(new Notification(user, ResourceType.RESERVATION, reservation.getId(), "message"));
+        em.flush();
+        em.clear();
+        CapturingStatementInspector.clear();
+    }
+
+    @Test
+    @DisplayName("Reservation search by customer uses (user_id, date) index")
+    void testCustomerReservationSearchPlan() {
+        ReservationSearchRequest request = searchRequest(ReservationSearchRequest.SearchType.CUSTOMER);
+
+        reservationQueryRepository.findResponsesBySearch(user.getId(), request, PageRequest.of(0, 20));
+        reservationQueryRepository.findResponsesBySearchAfter(
+                user.getId(), request, new ReservationSearchCursor(LocalDate.now(), 0, 0L), 20
+        );
+
+        assertNoFullScan();
+    }
+
+    @Test
+    @DisplayName("Reservation search by registrant uses (store_id, date, hour) index")
+    void testRegistrantReservationSearchPlan() {
+        ReservationSearchRequest request = searchRequest(ReservationSearchRequest.SearchType.REGISTRANT);
+
+        reservationQueryRepository.findResponsesBySearch(registrant.getId(), request, PageRequest.of(0, 20));
+
+        assertNoFullScan();
+    }
+
+    @Test
+    @DisplayName("Slot counter loading uses (store_id, date, hour) index")
+    void testSlotCountPlan() {
+        reservationQueryRepository.findSlotCounts(store.getId(), LocalDate.now(), LocalDate.now().plusDays(30));
+
+        assertNoFullScan();
+    }
+
+    @Test
+    @DisplayName("Daily stats rebuild reads one store and day through (store_id, date, hour) index")
+    void testDailyStatsRebuildPlans() {
+        storeDailyStatsRepository.findIdsFrom(LocalDate.now().minusDays(7));
+        reservationQueryRepository.findDailyStatusCounts(store.getId(), LocalDate.now());
+
+        assertNoFullScan();
+    }
+
+    @Test
+    @DisplayName("Reservation lookups by ID use primary key")
+    void testReservationLookupPlans() {
+        reservationRepository.findByIdAndUserId(reservation.getId(), user.getId());
+        reservationRepository.findByIdAndStoreUserId(reservation.getId(), registrant.getId());
+        reservationRepository.findResponseByIdAndUserId(reservation.getId(), user.getId());
+        reservationQueryRepository.existsByIdAndUserId(reservation.getId(), user.getId());
+        reservationQueryRepository.findForNotifyById(reservation.getId());
+        reservationMenuRepository.findResponsesByReservationId(reservation.getId());
+
+        assertNoFullScan();
+    }
+
+    @Test
+    @DisplayName("Notification queries use (user_id, created_at) and (user_id, modified_at) indexes")
+    void testNotificationPlans() {
+        notificationRepository.findAllByUserIdOrderByCreatedAtDesc(user.getId(), PageRequest.of(0, 20));
+        notificationRepository.findInfosByUserIdAfter(
+                user.getId(), LocalDateTime.now().minusDays(1), Long.MAX_VALUE, PageRequest.of(0, 20)
+        );
+        notificationRepository.findByIdAndUserId(1L, user.getId());
+        notificationRepository.findCoalescable(
+                List.of(user.getId()), ResourceType.RESERVATION, List.of(reservation.getId()), LocalDateTime.now()
+        );
+        notificationRepository.countByUserIdAndStatusAndIdGreaterThan(
+                user.getId(), NotificationStatus.UNREAD, NotificationReadMark.NONE
+        );
+        notificationRepository.setReadByUserIdAndId(user.getId(), 1L, NotificationReadMark.NONE);
+        notificationReadMarkRepository.findReadUntilIdByUserId(user.getId());
+
+        assertNoFullScan();
+    }
+
+    @Test
+    @DisplayName("Notification purge uses (created_at) index and primary key")
+    void testNotificationPurgePlans() {
+        notificationRepository.findPurgeTargets(
+                LocalDateTime.of(1970, 1, 1, 0, 0), LocalDateTime.now().minusDays(90), PageRequest.of(0, 100)
+        );
+        notificationRepository.archiveByIdIn(List.of(1L, 2L));
+        notificationRepository.deleteByIdIn(List.of(1L, 2L));
+
+        assertNoFullScan();
+    }
+
+    @Test
+    @DisplayName("Authorization fact lookups use primary key")
+    void testAuthorizationFactPlans() {
+        userRepository.existsById(user.getId());
+        storeRepository.findUserIdById(store.getId());
+        menuQueryRepository.findOwnerById(menu.getId());
+
+        assertNoFullScan();
+    }
+
+    @Test
+    @DisplayName("Store search index loading uses primary key")
+    void testStoreSearchIndexPlans() {
+        storeRepository.findResponsesAfter(0L, PageRequest.ofSize(100));
+        storeRepository.findResponseById(store.getId());
+
+        assertNoFullScan();
+    }
+
+    @Test
+    @DisplayName("Store popularity for name suggestions uses (date) index")
+    void testStorePopularityPlan() {
+        storeDailyStatsRepository.sumReservationCountsFrom(LocalDate.now().minusDays(30));
+
+        assertNoFullScan();
+    }
+
+    @Test
+    @DisplayName("Nearby stores use (latitude, longitude) index")
+    void testStoreNearbyPlan() {
+        StoreNearbyRequest request = new StoreNearbyRequest();
+        request.setLat(37.4979);
+        request.setLng(127.0276);
+        storeQueryRepository.findResponsesNearby(request);
+
+        assertNoFullScan();
+    }
+
+    @Test
+    @DisplayName("Menu list by store uses (store_id, status) index")
+    void testMenuPlans() {
+        menuRepository.findResponsesByStoreId(store.getId());
+
+        assertNoFullScan();
+    }
+
+    private static ReservationSearchRequest searchRequest(ReservationSearchRequest.SearchType type) {
+        ReservationSearchRequest request = new ReservationSearchRequest();
+        request.setType(type);
+        request.setDate(LocalDate.now());
+        return request;
+    }
+
+    private void assertNoFullScan() {
+        List<String> statements = CapturingStatementInspector.drain();
+        assertThat(statements).isNotEmpty();
+        for (String sql : statements) {
+            assertThat(explain(sql)).as(sql).doesNotContainIgnoringCase("tableScan");
+        }
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute("EXPLAIN " + sql, ps -> {
+            int parameterCount = ps.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameterCount; i++) {
+                ps.setNull(i, Types.NULL);
+            }
+            try (ResultSet resultSet = ps.executeQuery()) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        });
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        private static final List<String> statements = new ArrayList<>();
+
+        static synchronized void clear() {
+            statements.clear();
+        }
+
+        static synchronized List<String> drain() {
+            List<String> result = List.copyOf(statements);
+            statements.clear();
+            return result;
+        }
+
+        @Override
+        public String inspect(String sql) {
+            String statement = sql.trim().toLowerCase(Locale.ROOT);
+            if (statement.startsWith("select") || statement.startsWith("update") || statement.startsWith("delete")) {
+                synchronized (CapturingStatementInspector.class) {
+                    statements.add(sql);
+                }
+            }
+            return sql;
+        }
+
+    }
+
+}
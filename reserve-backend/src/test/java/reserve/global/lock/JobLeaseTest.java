@@ -0,0 +1,55 @@
+package reserve.global.lock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class JobLeaseTest {
+
+    @Autowired
+    JobLease jobLease;
+
+    @Autowired
+    StringRedisTemplate redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(JobLease.KEY_PREFIX + "test");
+    }
+
+    @Test
+    @DisplayName("Testing a job is skipped while another run holds its lease")
+    void testRunExclusively() {
+        AtomicBoolean nestedRan = new AtomicBoolean();
+
+        boolean ran = jobLease.runExclusively("test", Duration.ofMinutes(1), () -> nestedRan.set(
+                jobLease.runExclusively("test", Duration.ofMinutes(1), () -> fail("Ran while the lease was held"))
+        ));
+
+        assertTrue(ran);
+        assertFalse(nestedRan.get());
+        assertFalse(redisTemplate.hasKey(JobLease.KEY_PREFIX + "test"));
+        assertTrue(jobLease.runExclusively("test", Duration.ofMinutes(1), () -> {
+        }));
+    }
+
+    @Test
+    @DisplayName("Testing an expired lease taken over by another node is not given back")
+    void testExpiredLease() {
+        jobLease.runExclusively("test", Duration.ofMinutes(1), () ->
+                redisTemplate.opsForValue().set(JobLease.KEY_PREFIX + "test", "other node")
+        );
+
+        assertEquals("other node", redisTemplate.opsForValue().get(JobLease.KEY_PREFIX + "test"));
+    }
+
+}
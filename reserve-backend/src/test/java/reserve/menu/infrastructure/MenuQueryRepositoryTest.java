@@ -43,10 +43,14 @@ class MenuQueryRepositoryTest {
     }
 
     @Test
-    @DisplayName("Testing menu access check")
-    void testCheckingAccessToMenu() {
-        assertTrue(menuQueryRepository.hasAccessToMenu(menu.getId(), user1.getId()));
-        assertFalse(menuQueryRepository.hasAccessToMenu(menu.getId(), user2.getId()));
+    @DisplayName("Testing menu owner retrieval")
+    void testFindingMenuOwner() {
+        menuQueryRepository.findOwnerById(menu.getId()).ifPresentOrElse(owner -> {
+            assertEquals(store.getId(), owner.getStoreId());
+            assertEquals(user1.getId(), owner.getUserId());
+            assertNotEquals(user2.getId(), owner.getUserId());
+        }, () -> fail("Menu owner not found"));
+        assertTrue(menuQueryRepository.findOwnerById(menu.getId() + 1).isEmpty());
     }
 
 }
@@ -8,12 +8,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reserve.auth.infrastructure.AuthorizationFactCache;
 import reserve.menu.domain.Menu;
 import reserve.menu.dto.request.MenuCreateRequest;
 import reserve.menu.dto.request.MenuUpdateRequest;
 import reserve.menu.dto.response.MenuInfoListResponse;
 import reserve.menu.dto.response.MenuInfoResponse;
-import reserve.menu.infrastructure.MenuQueryRepository;
 import reserve.menu.infrastructure.MenuRepository;
 import reserve.store.domain.Store;
 import reserve.store.infrastructure.StoreRepository;
@@ -33,7 +33,7 @@ class MenuServiceTest {
     MenuRepository menuRepository;
 
     @Mock
-    MenuQueryRepository menuQueryRepository;
+    AuthorizationFactCache authorizationFactCache;
 
     @InjectMocks
     MenuService menuService;
@@ -49,7 +49,7 @@ class MenuServiceTest {
         Mockito.when(storeMock.getId()).thenReturn(1L);
         Mockito.when(storeRepository.getReferenceById(1L)).thenReturn(storeMock);
 
-        Mockito.when(storeRepository.existsByIdAndUserId(1L, 1L)).thenReturn(true);
+        Mockito.when(authorizationFactCache.isStoreOwner(1L, 1L)).thenReturn(true);
 
         MenuCreateRequest menuCreateRequest = new MenuCreateRequest();
         menuCreateRequest.setName("Spaghetti Aglio e Olio");
@@ -126,7 +126,7 @@ class MenuServiceTest {
     void testMenuUpdate() {
         Menu menu = Mockito.mock(Menu.class);
         Mockito.when(menuRepository.findById(1L)).thenReturn(Optional.of(menu));
-        Mockito.when(menuQueryRepository.hasAccessToMenu(1L, 1L)).thenReturn(true);
+        Mockito.when(authorizationFactCache.isMenuOwner(1L, 1L)).thenReturn(true);
 
         MenuUpdateRequest menuUpdateRequest = new MenuUpdateRequest();
         menuUpdateRequest.setName("Spaghetti Aglio e Olio");
@@ -143,11 +143,12 @@ class MenuServiceTest {
     @Test
     @DisplayName("Testing menu deletion")
     void testMenuDeletion() {
-        Mockito.when(menuQueryRepository.hasAccessToMenu(1L, 1L)).thenReturn(true);
+        Mockito.when(authorizationFactCache.isMenuOwner(1L, 1L)).thenReturn(true);
 
         menuService.delete(1L, 1L);
 
         Mockito.verify(menuRepository).deleteById(1L);
+        Mockito.verify(authorizationFactCache).evictMenu(1L);
     }
 
 }
@@ -9,14 +9,23 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.transaction.annotation.Transactional;
+import reserve.notification.domain.ArchivedNotification;
 import reserve.notification.domain.Notification;
+import reserve.notification.domain.NotificationReadMark;
+import reserve.notification.domain.NotificationStatus;
 import reserve.notification.domain.ResourceType;
+import reserve.notification.dto.NotificationPurgeTargetDto;
+import reserve.notification.dto.response.NotificationInfo;
 import reserve.reservation.infrastructure.ReservationRepository;
 import reserve.store.infrastructure.StoreRepository;
 import reserve.user.domain.User;
 import reserve.user.infrastructure.UserRepository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
@@ -38,6 +47,9 @@ class NotificationRepositoryTest {
     @Autowired
     NotificationRepository notificationRepository;
 
+    @Autowired
+    NotificationReadMarkRepository notificationReadMarkRepository;
+
     @Test
     @DisplayName("Testing retrieval of user's notifications list")
     void testUserNotificationsListRetrieval() {
@@ -67,7 +79,12 @@ class NotificationRepositoryTest {
                 notificationRepository.save(new Notification(user, ResourceType.RESERVATION, 1L, "message"));
 
         assertFalse(notification.isStatusRead());
-        notificationRepository.setReadByUserIdAndId(user.getId(), notification.getId());
+        assertEquals(1, notificationRepository.setReadByUserIdAndId(
+                user.getId(), notification.getId(), NotificationReadMark.NONE
+        ));
+        assertEquals(0, notificationRepository.setReadByUserIdAndId(
+                user.getId(), notification.getId(), NotificationReadMark.NONE
+        ));
 
         em.refresh(notification);
 
@@ -75,8 +92,88 @@ class NotificationRepositoryTest {
     }
 
     @Test
-    @DisplayName("Testing marking all notifications of a user as read")
-    void testMarkingAllUserNotificationsAsRead() {
+    @DisplayName("Testing notifications covered by the read watermark are read")
+    void testReadWatermark() {
+        User user = userRepository.save(new User("user1", "password", "hello", "description"));
+        Notification notification1 =
+                notificationRepository.save(new Notification(user, ResourceType.RESERVATION, 1L, "message1"));
+        Notification notification2 =
+                notificationRepository.save(new Notification(user, ResourceType.RESERVATION, 1L, "message2"));
+        em.flush();
+        em.clear();
+
+        assertEquals(NotificationReadMark.NONE, notificationReadMarkRepository.findReadUntilIdByUserId(user.getId()));
+        Long readUntilId = notification1.getId();
+        notificationReadMarkRepository.save(new NotificationReadMark(user.getId(), readUntilId));
+        assertEquals(readUntilId, notificationReadMarkRepository.findReadUntilIdByUserId(user.getId()));
+        assertEquals(0, notificationReadMarkRepository.moveReadUntilId(user.getId(), readUntilId - 1));
+        assertEquals(0, notificationReadMarkRepository.moveReadUntilId(-1L, readUntilId));
+
+        assertEquals(1, notificationRepository.countByUserIdAndStatusAndIdGreaterThan(
+                user.getId(), NotificationStatus.UNREAD, readUntilId
+        ));
+        assertEquals(0, notificationRepository.setReadByUserIdAndId(user.getId(), notification1.getId(), readUntilId));
+        assertEquals(1, notificationRepository.setReadByUserIdAndId(user.getId(), notification2.getId(), readUntilId));
+
+        em.clear();
+
+        notificationRepository.findAllByUserIdOrderByCreatedAtDesc(user.getId(), PageRequest.of(0, 20))
+                .forEach(notification -> assertEquals(NotificationStatus.READ, notification.getStatus(readUntilId)));
+        assertFalse(notificationRepository.findById(notification1.getId()).get().isStatusRead());
+    }
+
+    @Test
+    @DisplayName("Testing counting unread notifications of a user")
+    void testCountingUnreadNotifications() {
+        User user = userRepository.save(new User("user1", "password", "hello", "description"));
+        Notification notification =
+                notificationRepository.save(new Notification(user, ResourceType.RESERVATION, 1L, "message1"));
+        notificationRepository.save(new Notification(user, ResourceType.RESERVATION, 1L, "message2"));
+        notificationRepository.setReadByUserIdAndId(user.getId(), notification.getId(), NotificationReadMark.NONE);
+
+        assertEquals(1, notificationRepository.countByUserIdAndStatusAndIdGreaterThan(
+                user.getId(), NotificationStatus.UNREAD, NotificationReadMark.NONE
+        ));
+    }
+
+    @Test
+    @DisplayName("Testing archiving and deleting expired notifications")
+    void testArchivingExpiredNotifications() {
+        User user = userRepository.save(new User("user1", "password", "hello", "description"));
+        Notification expired =
+                notificationRepository.save(new Notification(user, ResourceType.RESERVATION, 1L, "message1"));
+        Notification retained =
+                notificationRepository.save(new Notification(user, ResourceType.RESERVATION, 1L, "message2"));
+        em.flush();
+        em.createNativeQuery("UPDATE notifications SET created_at = :createdAt WHERE notification_id = :id")
+                .setParameter("createdAt", LocalDateTime.now().minusDays(100))
+                .setParameter("id", expired.getId())
+                .executeUpdate();
+        em.clear();
+
+        List<NotificationPurgeTargetDto> targets = notificationRepository.findPurgeTargets(
+                LocalDateTime.of(1970, 1, 1, 0, 0),
+                LocalDateTime.now().minusDays(90),
+                PageRequest.of(0, 10)
+        );
+        assertEquals(
+                List.of(expired.getId()),
+                targets.stream().map(NotificationPurgeTargetDto::getNotificationId).toList()
+        );
+
+        assertEquals(1, notificationRepository.archiveByIdIn(List.of(expired.getId())));
+        assertEquals(1, notificationRepository.deleteByIdIn(List.of(expired.getId())));
+
+        assertTrue(notificationRepository.findById(expired.getId()).isEmpty());
+        assertTrue(notificationRepository.findById(retained.getId()).isPresent());
+        ArchivedNotification archived = em.find(ArchivedNotification.class, expired.getId());
+        assertEquals(user.getId(), archived.getUserId());
+        assertEquals("message1", archived.getMessage());
+    }
+
+    @Test
+    @DisplayName("Testing retrieval of notifications changed after a notification, least recently changed first")
+    void testFindInfosAfter() {
         User user = userRepository.save(new User("user1", "password", "hello", "description"));
         Notification notification1 =
                 notificationRepository.save(new Notification(user, ResourceType.RESERVATION, 1L, "message1"));
@@ -84,15 +181,65 @@ class NotificationRepositoryTest {
                 notificationRepository.save(new Notification(user, ResourceType.RESERVATION, 1L, "message2"));
         Notification notification3 =
                 notificationRepository.save(new Notification(user, ResourceType.RESERVATION, 1L, "message3"));
+        em.flush();
+        LocalDateTime modifiedAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+        em.createNativeQuery(
+                        "UPDATE notifications SET created_at = :modifiedAt, modified_at = :modifiedAt " +
+                        "WHERE notification_id IN (:ids)"
+                )
+                .setParameter("modifiedAt", modifiedAt)
+                .setParameter("ids", List.of(notification1.getId(), notification2.getId()))
+                .executeUpdate();
+        // Created before the others, but coalesced after them.
+        em.createNativeQuery(
+                        "UPDATE notifications SET created_at = :createdAt, modified_at = :modifiedAt " +
+                        "WHERE notification_id = :id"
+                )
+                .setParameter("createdAt", modifiedAt.minusDays(1))
+                .setParameter("modifiedAt", modifiedAt.plusSeconds(1))
+                .setParameter("id", notification3.getId())
+                .executeUpdate();
+        em.clear();
+
+        Slice<NotificationInfo> afterFirst = notificationRepository.findInfosByUserIdAfter(
+                user.getId(), modifiedAt, notification1.getId(), PageRequest.of(0, 1)
+        );
+        assertEquals(List.of(notification2.getId()), afterFirst.map(NotificationInfo::getNotificationId).getContent());
+        assertTrue(afterFirst.hasNext());
+
+        Slice<NotificationInfo> since = notificationRepository.findInfosByUserIdAfter(
+                user.getId(), modifiedAt.minusSeconds(1), Long.MAX_VALUE, PageRequest.of(0, 10)
+        );
+        assertEquals(
+                List.of(notification1.getId(), notification2.getId(), notification3.getId()),
+                since.map(NotificationInfo::getNotificationId).getContent()
+        );
+        assertEquals(modifiedAt.plusSeconds(1), since.getContent().get(2).getModifiedTime());
+        assertFalse(since.hasNext());
+    }
 
-        notificationRepository.setReadAllByUserId(user.getId());
+    @Test
+    @DisplayName("Testing retrieval and update of recent unread notifications to coalesce into")
+    void testFindCoalescable() {
+        User user = userRepository.save(new User("user1", "password", "hello", "description"));
+        Notification recent =
+                notificationRepository.save(new Notification(user, ResourceType.RESERVATION, 1L, "message1"));
+        Notification read =
+                notificationRepository.save(new Notification(user, ResourceType.RESERVATION, 1L, "message2"));
+        notificationRepository.save(new Notification(user, ResourceType.RESERVATION, 2L, "message3"));
+        read.read();
+        em.flush();
 
-        em.refresh(notification1);
-        em.refresh(notification2);
-        em.refresh(notification3);
+        List<Notification> coalescable = notificationRepository.findCoalescable(
+                List.of(user.getId()), ResourceType.RESERVATION, List.of(1L), LocalDateTime.now().minusMinutes(1)
+        );
+        assertEquals(List.of(recent.getId()), coalescable.stream().map(Notification::getId).toList());
 
-        notificationRepository.findAllByUserIdOrderByCreatedAtDesc(user.getId(), PageRequest.of(0, 20))
-                .forEach(notification -> assertTrue(notification.isStatusRead()));
+        coalescable.get(0).coalesce("coalesced message");
+        em.flush();
+        em.clear();
+
+        assertEquals("coalesced message", notificationRepository.findById(recent.getId()).get().getMessage());
     }
 
 }
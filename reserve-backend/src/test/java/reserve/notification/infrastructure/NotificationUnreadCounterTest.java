@@ -0,0 +1,93 @@
+package reserve.notification.infrastructure;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import reserve.notification.domain.Notification;
+import reserve.notification.domain.ResourceType;
+import reserve.user.domain.User;
+import reserve.user.infrastructure.UserRepository;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class NotificationUnreadCounterTest {
+
+    @Autowired
+    NotificationUnreadCounter notificationUnreadCounter;
+
+    @Autowired
+    NotificationRepository notificationRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    StringRedisTemplate redisTemplate;
+
+    User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("user1", "password", "hello", "description"));
+        notificationRepository.save(new Notification(user, ResourceType.RESERVATION, 1L, "message1"));
+        notificationRepository.save(new Notification(user, ResourceType.RESERVATION, 1L, "message2"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(NotificationUnreadCounter.key(user.getId()));
+        redisTemplate.delete(NotificationUnreadCounter.loadingKey(user.getId()));
+    }
+
+    @Test
+    @DisplayName("Testing unread count is loaded on first read and adjusted afterwards")
+    void testUnreadCountLoadedAndAdjusted() {
+        notificationUnreadCounter.add(user.getId(), 5);
+        assertEquals(2, notificationUnreadCounter.get(user.getId()));
+
+        notificationUnreadCounter.add(Map.of(user.getId(), 3L));
+        assertEquals(5, notificationUnreadCounter.get(user.getId()));
+
+        notificationUnreadCounter.add(user.getId(), -10);
+        assertEquals(0, notificationUnreadCounter.get(user.getId()));
+    }
+
+    @Test
+    @DisplayName("Testing invalidation and reconciliation of unread count")
+    void testUnreadCountInvalidatedAndReconciled() {
+        assertEquals(2, notificationUnreadCounter.get(user.getId()));
+        notificationUnreadCounter.add(user.getId(), 3);
+        notificationUnreadCounter.invalidate(user.getId());
+        assertFalse(redisTemplate.hasKey(NotificationUnreadCounter.key(user.getId())));
+        assertEquals(2, notificationUnreadCounter.get(user.getId()));
+
+        notificationUnreadCounter.add(user.getId(), 3);
+        assertTrue(notificationUnreadCounter.reconcile() >= 1);
+        assertEquals(2, notificationUnreadCounter.get(user.getId()));
+        assertTrue(redisTemplate.getExpire(NotificationUnreadCounter.key(user.getId())) > 0);
+    }
+
+    @Test
+    @DisplayName("Testing a count adjusted while it is being loaded is not stored")
+    void testUnreadCountAdjustedWhileLoading() {
+        // Stands for an adjustment made by another request while the count is read from the table.
+        redisTemplate.opsForValue().set(NotificationUnreadCounter.loadingKey(user.getId()), "1");
+
+        assertEquals(2, notificationUnreadCounter.get(user.getId()));
+        assertFalse(redisTemplate.hasKey(NotificationUnreadCounter.key(user.getId())));
+        assertFalse(redisTemplate.hasKey(NotificationUnreadCounter.loadingKey(user.getId())));
+
+        assertEquals(2, notificationUnreadCounter.get(user.getId()));
+        assertTrue(redisTemplate.hasKey(NotificationUnreadCounter.key(user.getId())));
+    }
+
+}
@@ -1,5 +1,6 @@
 package reserve.notification.representation;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.restassured.RestAssured;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,6 +11,8 @@ import reserve.global.BaseRestAssuredTest;
 import reserve.global.TestUtils;
 import reserve.notification.domain.Notification;
 import reserve.notification.domain.ResourceType;
+import reserve.notification.dto.request.NotificationReadAllRequest;
+import reserve.notification.infrastructure.NotificationReadMarkRepository;
 import reserve.notification.infrastructure.NotificationRepository;
 import reserve.reservation.domain.Reservation;
 import reserve.reservation.infrastructure.ReservationRepository;
@@ -27,6 +30,9 @@ import static org.junit.jupiter.api.Assertions.*;
 
 class NotificationControllerTest extends BaseRestAssuredTest {
 
+    @Autowired
+    ObjectMapper objectMapper;
+
     @Autowired
     JwtProvider jwtProvider;
 
@@ -42,6 +48,9 @@ class NotificationControllerTest extends BaseRestAssuredTest {
     @Autowired
     NotificationRepository notificationRepository;
 
+    @Autowired
+    NotificationReadMarkRepository notificationReadMarkRepository;
+
     User user;
     Notification notification1, notification2, notification3;
 
@@ -75,6 +84,7 @@ class NotificationControllerTest extends BaseRestAssuredTest {
     @AfterEach
     void tearDown() {
         notificationRepository.deleteAll();
+        notificationReadMarkRepository.deleteAll();
         reservationRepository.deleteAll();
         storeRepository.deleteAll();
         userRepository.deleteAll();
@@ -103,6 +113,24 @@ class NotificationControllerTest extends BaseRestAssuredTest {
                 .body("results[0].message", equalTo("message3"));
     }
 
+    @Test
+    @DisplayName("[Integration] Testing GET /v1/notifications endpoint with afterId")
+    void testGetUserNotificationsAfterIdEndpoint() {
+        SignInToken signInToken = jwtProvider.generateSignInToken(TestUtils.getTokenDetails(user));
+
+        RestAssured
+                .given(spec).header("Authorization", "Bearer " + signInToken.getAccessToken())
+                .relaxedHTTPSValidation()
+                .queryParam("afterId", notification1.getId())
+                .when().get("/v1/notifications")
+                .then()
+                .statusCode(200)
+                .body("count", equalTo(2))
+                .body("hasNext", equalTo(false))
+                .body("results[0].notificationId", equalTo(notification2.getId().intValue()))
+                .body("results[1].notificationId", equalTo(notification3.getId().intValue()));
+    }
+
     @Test
     @DisplayName("[Integration] Testing POST /v1/notifications/{notificationId}/read endpoint")
     void testReadNotificationEndpoint() {
@@ -131,28 +159,31 @@ class NotificationControllerTest extends BaseRestAssuredTest {
 
     @Test
     @DisplayName("[Integration] Testing POST /v1/notifications/read-all endpoint")
-    void testReadAllNotificationsEndpoint() {
+    void testReadAllNotificationsEndpoint() throws Exception {
         SignInToken signInToken = jwtProvider.generateSignInToken(TestUtils.getTokenDetails(user));
+        NotificationReadAllRequest notificationReadAllRequest = new NotificationReadAllRequest();
+        notificationReadAllRequest.setUntilId(notification2.getId());
 
         RestAssured
                 .given(spec).header("Authorization", "Bearer " + signInToken.getAccessToken())
+                .contentType("application/json")
+                .body(objectMapper.writeValueAsString(notificationReadAllRequest))
                 .relaxedHTTPSValidation()
                 .when().post("/v1/notifications/read-all")
                 .then()
                 .statusCode(200);
 
-        notificationRepository.findById(notification1.getId()).ifPresentOrElse(
-                notification -> assertTrue(notification.isStatusRead()),
-                () -> fail("Notification not found")
-        );
-        notificationRepository.findById(notification2.getId()).ifPresentOrElse(
-                notification -> assertTrue(notification.isStatusRead()),
-                () -> fail("Notification not found")
-        );
-        notificationRepository.findById(notification3.getId()).ifPresentOrElse(
-                notification -> assertTrue(notification.isStatusRead()),
-                () -> fail("Notification not found")
-        );
+        assertTrue(notificationReadMarkRepository.existsById(user.getId()));
+
+        RestAssured
+                .given(spec).header("Authorization", "Bearer " + signInToken.getAccessToken())
+                .relaxedHTTPSValidation()
+                .when().get("/v1/notifications")
+                .then()
+                .statusCode(200)
+                .body("results[0].status", equalTo("UNREAD"))
+                .body("results[1].status", equalTo("READ"))
+                .body("results[2].status", equalTo("READ"));
     }
 
 }
@@ -11,22 +11,32 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import reserve.global.TestUtils;
 import reserve.notification.domain.NotificationStatus;
 import reserve.notification.domain.ResourceType;
+import reserve.notification.dto.request.NotificationListRequest;
+import reserve.notification.dto.request.NotificationReadAllRequest;
 import reserve.notification.dto.response.NotificationInfo;
 import reserve.notification.dto.response.NotificationInfoListResponse;
+import reserve.notification.dto.response.NotificationUnreadCountResponse;
 import reserve.notification.service.NotificationService;
+import reserve.notification.service.NotificationStreamService;
 import reserve.signin.dto.SignInToken;
 import reserve.signin.infrastructure.JwtProvider;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(NotificationController.class)
@@ -45,6 +55,9 @@ class NotificationControllerWebMvcTest {
     @MockBean
     NotificationService notificationService;
 
+    @MockBean
+    NotificationStreamService notificationStreamService;
+
     @Test
     @DisplayName("Testing GET /v1/notifications endpoint")
     void testGetUserNotificationsEndpoint() throws Exception {
@@ -59,7 +72,8 @@ class NotificationControllerWebMvcTest {
                 resourceId,
                 "message1",
                 LocalDateTime.now(),
-                NotificationStatus.UNREAD
+                NotificationStatus.UNREAD,
+                LocalDateTime.now()
         );
         NotificationInfo notification2 = new NotificationInfo(
                 userId,
@@ -67,7 +81,8 @@ class NotificationControllerWebMvcTest {
                 resourceId,
                 "message2",
                 LocalDateTime.now(),
-                NotificationStatus.UNREAD
+                NotificationStatus.UNREAD,
+                LocalDateTime.now()
         );
         NotificationInfo notification3 = new NotificationInfo(
                 userId,
@@ -75,7 +90,8 @@ class NotificationControllerWebMvcTest {
                 resourceId,
                 "message3",
                 LocalDateTime.now(),
-                NotificationStatus.UNREAD
+                NotificationStatus.UNREAD,
+                LocalDateTime.now()
         );
 
         NotificationInfoListResponse response = NotificationInfoListResponse.from(new PageImpl<>(
@@ -84,8 +100,11 @@ class NotificationControllerWebMvcTest {
                 3
         ));
 
-        Mockito.when(notificationService.getUserNotifications(Mockito.eq(userId), Mockito.any(Pageable.class)))
-                .thenReturn(response);
+        Mockito.when(notificationService.getUserNotifications(
+                Mockito.eq(userId),
+                Mockito.any(NotificationListRequest.class),
+                Mockito.any(Pageable.class)
+        )).thenReturn(response);
 
         mockMvc.perform(
                 get("/v1/notifications").header("Authorization", "Bearer " + signInToken.getAccessToken())
@@ -98,6 +117,61 @@ class NotificationControllerWebMvcTest {
         );
     }
 
+    @Test
+    @DisplayName("Testing GET /v1/notifications endpoint with afterId")
+    void testGetUserNotificationsAfterIdEndpoint() throws Exception {
+        Long userId = 1L;
+
+        SignInToken signInToken = jwtProvider.generateSignInToken(TestUtils.getTokenDetails(userId));
+
+        NotificationInfo notification = new NotificationInfo(
+                11L,
+                ResourceType.RESERVATION,
+                100L,
+                "message",
+                LocalDateTime.now(),
+                NotificationStatus.UNREAD,
+                LocalDateTime.now()
+        );
+        NotificationInfoListResponse response = NotificationInfoListResponse.from(
+                new SliceImpl<>(List.of(notification), PageRequest.of(0, 20), false)
+        );
+        Mockito.when(notificationService.getUserNotifications(
+                Mockito.eq(userId),
+                Mockito.argThat(request -> Long.valueOf(10L).equals(request.getAfterId())),
+                Mockito.any(Pageable.class)
+        )).thenReturn(response);
+
+        mockMvc.perform(
+                get("/v1/notifications")
+                        .param("afterId", "10")
+                        .header("Authorization", "Bearer " + signInToken.getAccessToken())
+        ).andExpectAll(
+                status().isOk(),
+                jsonPath("$.count").value(1),
+                jsonPath("$.hasNext").value(false),
+                jsonPath("$.reloadRequired").value(false),
+                jsonPath("$.results[0].notificationId").value(11)
+        );
+    }
+
+    @Test
+    @DisplayName("Testing GET /v1/notifications/unread-count endpoint")
+    void testGetUnreadCountEndpoint() throws Exception {
+        Long userId = 1L;
+
+        SignInToken signInToken = jwtProvider.generateSignInToken(TestUtils.getTokenDetails(userId));
+
+        Mockito.when(notificationService.getUnreadCount(userId)).thenReturn(new NotificationUnreadCountResponse(3));
+
+        mockMvc.perform(
+                get("/v1/notifications/unread-count").header("Authorization", "Bearer " + signInToken.getAccessToken())
+        ).andExpectAll(
+                status().isOk(),
+                jsonPath("$.count").value(3)
+        );
+    }
+
     @Test
     @DisplayName("Testing POST /v1/notifications/{notificationId}/read endpoint")
     void testReadNotificationEndpoint() throws Exception {
@@ -121,12 +195,72 @@ class NotificationControllerWebMvcTest {
 
         SignInToken signInToken = jwtProvider.generateSignInToken(TestUtils.getTokenDetails(userId));
 
+        NotificationReadAllRequest notificationReadAllRequest = new NotificationReadAllRequest();
+        notificationReadAllRequest.setUntilId(10L);
+
         mockMvc.perform(
                 post("/v1/notifications/read-all")
+                        .content(objectMapper.writeValueAsString(notificationReadAllRequest))
+                        .contentType("application/json")
                         .header("Authorization", "Bearer " + signInToken.getAccessToken())
         ).andExpect(status().isOk());
 
-        Mockito.verify(notificationService).readAllNotifications(userId);
+        Mockito.verify(notificationService).readAllNotifications(userId, 10L);
+    }
+
+    @Test
+    @DisplayName("Testing POST /v1/notifications/read-all endpoint without the last seen notification ID")
+    void testReadAllNotificationsEndpointWithoutUntilId() throws Exception {
+        SignInToken signInToken = jwtProvider.generateSignInToken(TestUtils.getTokenDetails(1L));
+
+        mockMvc.perform(
+                post("/v1/notifications/read-all")
+                        .content("{}")
+                        .contentType("application/json")
+                        .header("Authorization", "Bearer " + signInToken.getAccessToken())
+        ).andExpect(status().isBadRequest());
+
+        Mockito.verifyNoInteractions(notificationService);
+    }
+
+    @Test
+    @DisplayName("Testing GET /v1/notifications/stream endpoint")
+    void testStreamNotificationsEndpoint() throws Exception {
+        Long userId = 1L;
+
+        SignInToken signInToken = jwtProvider.generateSignInToken(TestUtils.getTokenDetails(userId));
+
+        Mockito.when(notificationStreamService.subscribe(userId, 10L)).thenReturn(Optional.of(new SseEmitter()));
+
+        mockMvc.perform(
+                get("/v1/notifications/stream")
+                        .header("Authorization", "Bearer " + signInToken.getAccessToken())
+                        .header("Last-Event-ID", "10")
+        ).andExpectAll(
+                status().isOk(),
+                request().asyncStarted()
+        );
+
+        Mockito.verify(notificationStreamService).subscribe(userId, 10L);
+    }
+
+    @Test
+    @DisplayName("Testing GET /v1/notifications/stream endpoint when the node has too many connections")
+    void testStreamNotificationsEndpointWithTooManyConnections() throws Exception {
+        Long userId = 1L;
+
+        SignInToken signInToken = jwtProvider.generateSignInToken(TestUtils.getTokenDetails(userId));
+
+        Mockito.when(notificationStreamService.subscribe(userId, null)).thenReturn(Optional.empty());
+
+        mockMvc.perform(
+                get("/v1/notifications/stream")
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .header("Authorization", "Bearer " + signInToken.getAccessToken())
+        ).andExpectAll(
+                status().isServiceUnavailable(),
+                content().string("")
+        );
     }
 
 }
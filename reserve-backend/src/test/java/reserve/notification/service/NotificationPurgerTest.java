@@ -0,0 +1,126 @@
+package reserve.notification.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import reserve.global.lock.JobLease;
+import reserve.notification.domain.NotificationReadMark;
+import reserve.notification.domain.NotificationStatus;
+import reserve.notification.dto.NotificationPurgeTargetDto;
+import reserve.notification.infrastructure.NotificationReadMarkRepository;
+import reserve.notification.infrastructure.NotificationRepository;
+import reserve.notification.infrastructure.NotificationUnreadCounter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationPurgerTest {
+
+    @Mock
+    NotificationRepository notificationRepository;
+
+    @Mock
+    NotificationReadMarkRepository notificationReadMarkRepository;
+
+    @Mock
+    NotificationUnreadCounter notificationUnreadCounter;
+
+    @Mock
+    JobLease jobLease;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.lenient().when(jobLease.runExclusively(Mockito.any(), Mockito.any(), Mockito.any())).thenAnswer(
+                invocation -> {
+                    invocation.<Runnable>getArgument(2).run();
+                    return true;
+                }
+        );
+    }
+
+    @Test
+    @DisplayName("Testing expired notifications are archived batch by batch, adjusting counts of unread ones")
+    void testPurgeWithArchive() {
+        NotificationPurger notificationPurger = createPurger(true);
+        LocalDateTime createdAt = LocalDateTime.now().minusDays(100);
+        List<NotificationPurgeTargetDto> firstBatch = List.of(
+                new NotificationPurgeTargetDto(1L, 10L, NotificationStatus.UNREAD, createdAt),
+                new NotificationPurgeTargetDto(2L, 10L, NotificationStatus.READ, createdAt.plusSeconds(1))
+        );
+        List<NotificationPurgeTargetDto> lastBatch = List.of(
+                new NotificationPurgeTargetDto(3L, 20L, NotificationStatus.UNREAD, createdAt.plusSeconds(2))
+        );
+        Mockito.when(notificationRepository.findPurgeTargets(
+                Mockito.eq(LocalDateTime.of(1970, 1, 1, 0, 0)), Mockito.any(), Mockito.any(Pageable.class)
+        )).thenReturn(firstBatch);
+        Mockito.when(notificationRepository.findPurgeTargets(
+                Mockito.eq(createdAt.plusSeconds(1)), Mockito.any(), Mockito.any(Pageable.class)
+        )).thenReturn(lastBatch);
+        Mockito.when(notificationReadMarkRepository.findAllById(List.of(20L)))
+                .thenReturn(List.of(new NotificationReadMark(20L, 3L)));
+
+        notificationPurger.purge();
+
+        Mockito.verify(notificationRepository).archiveByIdIn(List.of(1L, 2L));
+        Mockito.verify(notificationRepository).deleteByIdIn(List.of(1L, 2L));
+        Mockito.verify(notificationRepository).archiveByIdIn(List.of(3L));
+        Mockito.verify(notificationRepository).deleteByIdIn(List.of(3L));
+        Mockito.verify(notificationUnreadCounter).add(Map.of(10L, -1L));
+        Mockito.verify(notificationUnreadCounter).add(Map.of());
+    }
+
+    @Test
+    @DisplayName("Testing expired notifications are only deleted when archiving is disabled")
+    void testPurgeWithoutArchive() {
+        NotificationPurger notificationPurger = createPurger(false);
+        LocalDateTime createdAt = LocalDateTime.now().minusDays(100);
+        Mockito.when(notificationRepository.findPurgeTargets(Mockito.any(), Mockito.any(), Mockito.any(Pageable.class)))
+                .thenReturn(List.of(new NotificationPurgeTargetDto(1L, 10L, NotificationStatus.READ, createdAt)));
+
+        notificationPurger.purge();
+
+        Mockito.verify(notificationRepository, Mockito.never()).archiveByIdIn(Mockito.anyCollection());
+        Mockito.verify(notificationRepository).deleteByIdIn(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("Testing nothing is purged while another node holds the purge lease")
+    void testPurgeSkippedWithoutLease() {
+        NotificationPurger notificationPurger = createPurger(true);
+        Mockito.when(jobLease.runExclusively(
+                Mockito.eq("notification-purge"), Mockito.eq(Duration.ofHours(1)), Mockito.any()
+        )).thenReturn(false);
+
+        notificationPurger.purge();
+
+        Mockito.verifyNoInteractions(notificationRepository);
+    }
+
+    private NotificationPurger createPurger(boolean archive) {
+        return new NotificationPurger(
+                notificationRepository,
+                notificationReadMarkRepository,
+                notificationUnreadCounter,
+                jobLease,
+                transactionManager,
+                Duration.ofDays(90),
+                archive,
+                2,
+                Duration.ZERO,
+                Duration.ofHours(1)
+        );
+    }
+
+}
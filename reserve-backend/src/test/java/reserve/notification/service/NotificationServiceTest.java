@@ -1,26 +1,42 @@
 package reserve.notification.service;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import reserve.global.lock.JobLease;
 import reserve.notification.domain.Notification;
+import reserve.notification.domain.NotificationReadMark;
+import reserve.notification.domain.NotificationStatus;
 import reserve.notification.domain.ResourceType;
+import reserve.notification.dto.NotificationEvent;
+import reserve.notification.dto.ReservationNotificationDto;
+import reserve.notification.dto.request.NotificationListRequest;
+import reserve.notification.dto.response.NotificationInfo;
 import reserve.notification.dto.response.NotificationInfoListResponse;
+import reserve.notification.infrastructure.NotificationEventChannel;
+import reserve.notification.infrastructure.NotificationReadMarkRepository;
 import reserve.notification.infrastructure.NotificationRepository;
+import reserve.notification.infrastructure.NotificationUnreadCounter;
 import reserve.reservation.dto.ReservationForNotifyDto;
 import reserve.reservation.infrastructure.ReservationQueryRepository;
 import reserve.reservation.infrastructure.ReservationRepository;
 import reserve.user.domain.User;
 import reserve.user.infrastructure.UserRepository;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -32,6 +48,9 @@ class NotificationServiceTest {
     @Mock
     NotificationRepository notificationRepository;
 
+    @Mock
+    NotificationReadMarkRepository notificationReadMarkRepository;
+
     @Mock
     UserRepository userRepository;
 
@@ -41,18 +60,108 @@ class NotificationServiceTest {
     @Mock
     ReservationQueryRepository reservationQueryRepository;
 
-    @InjectMocks
+    @Mock
+    NotificationEventChannel notificationEventChannel;
+
+    @Mock
+    NotificationUnreadCounter notificationUnreadCounter;
+
+    @Mock
+    JobLease jobLease;
+
     NotificationService notificationService;
 
+    @BeforeEach
+    void setUp() {
+        notificationService = new NotificationService(
+                notificationRepository,
+                notificationReadMarkRepository,
+                userRepository,
+                reservationRepository,
+                reservationQueryRepository,
+                notificationEventChannel,
+                notificationUnreadCounter,
+                jobLease,
+                Duration.ofMinutes(1),
+                Duration.ofMinutes(30)
+        );
+    }
+
+    @Test
+    @DisplayName("Testing creation of notifications for reservations in one batch")
+    void testCreationOfNotificationsForReservations() {
+        Mockito.when(reservationQueryRepository.findForNotifyByIds(List.of(1L, 2L, 3L))).thenReturn(List.of(
+                new ReservationForNotifyDto(1L, 1L, 10L),
+                new ReservationForNotifyDto(2L, 2L, 10L)
+        ));
+        User user = Mockito.mock(User.class);
+        Mockito.when(user.getId()).thenReturn(1L);
+        Mockito.when(userRepository.getReferenceById(Mockito.anyLong())).thenReturn(user);
+
+        notificationService.createReservationNotifications(List.of(
+                ReservationNotificationDto.of(1L, "message for user", "message for store registrant"),
+                ReservationNotificationDto.of(2L, "message for user", "message for store registrant"),
+                ReservationNotificationDto.of(3L, "message for deleted reservation", "message for store registrant")
+        ));
+
+        Mockito.verify(notificationRepository).saveAll(Mockito.<List<Notification>>argThat(list -> list.size() == 4));
+        Mockito.verify(notificationEventChannel)
+                .publish(Mockito.<List<NotificationEvent>>argThat(list -> list.size() == 4));
+        Mockito.verify(notificationUnreadCounter).add(Map.of(1L, 4L));
+    }
+
+    @Test
+    @DisplayName("Testing notifications about the same reservation in one batch are coalesced")
+    void testCoalescingWithinBatch() {
+        Mockito.when(reservationQueryRepository.findForNotifyByIds(List.of(1L, 1L))).thenReturn(List.of(
+                new ReservationForNotifyDto(1L, 1L, 10L)
+        ));
+        User user = Mockito.mock(User.class);
+        Mockito.when(user.getId()).thenReturn(1L);
+        Mockito.when(userRepository.getReferenceById(Mockito.anyLong())).thenReturn(user);
+
+        notificationService.createReservationNotifications(List.of(
+                ReservationNotificationDto.of(1L, "first message", "first registrant message"),
+                ReservationNotificationDto.of(1L, "second message", "second registrant message")
+        ));
+
+        Mockito.verify(notificationRepository).saveAll(Mockito.<List<Notification>>argThat(
+                list -> list.stream().map(Notification::getMessage).toList()
+                        .equals(List.of("second message", "second registrant message"))
+        ));
+    }
+
     @Test
-    @DisplayName("Testing creation of notification for reservation")
-    void testCreationOfNotificationForReservation() {
-        Mockito.when(reservationQueryRepository.findForNotifyById(1L))
-                .thenReturn(Optional.of(new ReservationForNotifyDto(1L, 1L, 1L)));
+    @DisplayName("Testing a notification is coalesced into a recent unread notification about the same reservation")
+    void testCoalescingIntoRecentNotification() {
+        User user = Mockito.mock(User.class);
+        Mockito.when(user.getId()).thenReturn(1L);
+        User registrant = Mockito.mock(User.class);
+        Mockito.when(registrant.getId()).thenReturn(10L);
+        Notification recent = Mockito.spy(new Notification(user, ResourceType.RESERVATION, 1L, "old message"));
+        Mockito.when(recent.getCreatedAt()).thenReturn(LocalDateTime.now().minusSeconds(10));
+        Mockito.when(reservationQueryRepository.findForNotifyByIds(List.of(1L))).thenReturn(List.of(
+                new ReservationForNotifyDto(1L, 1L, 10L)
+        ));
+        Mockito.when(notificationRepository.findCoalescable(
+                Mockito.anyCollection(), Mockito.eq(ResourceType.RESERVATION), Mockito.anyCollection(), Mockito.any()
+        )).thenReturn(List.of(recent));
+        Mockito.when(userRepository.getReferenceById(10L)).thenReturn(registrant);
 
-        notificationService.notifyReservation(1L, "message for user", "message for store registrant");
+        notificationService.createReservationNotifications(List.of(
+                ReservationNotificationDto.of(1L, "new message", "registrant message")
+        ));
 
-        Mockito.verify(notificationRepository, Mockito.times(2)).save(Mockito.any());
+        assertEquals("new message", recent.getMessage());
+        Mockito.verify(notificationRepository).saveAll(Mockito.<List<Notification>>argThat(
+                list -> list.size() == 1 && list.get(0).getUser() == registrant
+        ));
+        Mockito.verify(notificationUnreadCounter).add(Map.of(10L, 1L));
+        // The coalesced notification is flushed to move its modification time before it is published.
+        InOrder inOrder = Mockito.inOrder(notificationRepository, notificationEventChannel);
+        inOrder.verify(notificationRepository).flush();
+        inOrder.verify(notificationEventChannel)
+                .publish(Mockito.<List<NotificationEvent>>argThat(list -> list.size() == 2));
     }
 
     @Test
@@ -63,37 +172,196 @@ class NotificationServiceTest {
 
         Notification notification1 = Mockito.spy(new Notification(user, ResourceType.RESERVATION, 1L, "message1"));
         Mockito.when(notification1.getId()).thenReturn(1L);
+        Mockito.when(notification1.getCreatedAt()).thenReturn(LocalDateTime.now().minusMinutes(3));
         Notification notification2 = Mockito.spy(new Notification(user, ResourceType.RESERVATION, 1L, "message2"));
         Mockito.when(notification2.getId()).thenReturn(2L);
+        Mockito.when(notification2.getCreatedAt()).thenReturn(LocalDateTime.now().minusMinutes(2));
         Notification notification3 = Mockito.spy(new Notification(user, ResourceType.RESERVATION, 1L, "message3"));
         Mockito.when(notification3.getId()).thenReturn(3L);
+        Mockito.when(notification3.getCreatedAt()).thenReturn(LocalDateTime.now().minusMinutes(1));
 
+        Mockito.when(notificationReadMarkRepository.findReadUntilIdByUserId(1L)).thenReturn(2L);
         Mockito.when(notificationRepository.findAllByUserIdOrderByCreatedAtDesc(1L, pageable))
                 .thenReturn(new PageImpl<>(List.of(notification1, notification2, notification3), pageable, 3L));
 
-        NotificationInfoListResponse response = notificationService.getUserNotifications(1L, pageable);
+        NotificationInfoListResponse response =
+                notificationService.getUserNotifications(1L, new NotificationListRequest(), pageable);
 
         assertEquals(3, response.getCount());
         assertEquals(3, response.getResults().size());
         assertEquals(0, response.getPageNumber());
         assertEquals(20, response.getPageSize());
         assertThat(response.getResults()).extracting("notificationId").contains(1L, 2L, 3L);
+        assertThat(response.getResults()).extracting("status")
+                .containsExactly(NotificationStatus.READ, NotificationStatus.READ, NotificationStatus.UNREAD);
+    }
+
+    @Test
+    @DisplayName("Testing retrieval of user notifications created after a notification")
+    void testUserNotificationRetrievalAfterId() {
+        LocalDateTime notifiedTime = LocalDateTime.now().minusMinutes(2);
+        Notification after = Mockito.spy(new Notification(Mockito.mock(User.class), ResourceType.RESERVATION, 1L, "m"));
+        Mockito.when(after.getId()).thenReturn(10L);
+        LocalDateTime afterCreatedAt = notifiedTime.minusMinutes(1);
+        Mockito.when(after.getCreatedAt()).thenReturn(afterCreatedAt);
+        NotificationInfo covered = new NotificationInfo(
+                11L, ResourceType.RESERVATION, 1L, "message1", notifiedTime, NotificationStatus.UNREAD, notifiedTime
+        );
+        NotificationInfo unread = new NotificationInfo(
+                12L, ResourceType.RESERVATION, 1L, "message2",
+                notifiedTime.plusMinutes(1), NotificationStatus.UNREAD, notifiedTime.plusMinutes(1)
+        );
+        Mockito.when(notificationReadMarkRepository.findReadUntilIdByUserId(1L)).thenReturn(11L);
+        Mockito.when(notificationRepository.findByIdAndUserId(10L, 1L)).thenReturn(Optional.of(after));
+        Mockito.when(notificationRepository.findInfosByUserIdAfter(
+                Mockito.eq(1L), Mockito.eq(afterCreatedAt), Mockito.eq(10L), Mockito.any(Pageable.class)
+        )).thenReturn(new SliceImpl<>(List.of(covered, unread), PageRequest.of(0, 20), true));
+        NotificationListRequest request = new NotificationListRequest();
+        request.setAfterId(10L);
+
+        NotificationInfoListResponse response =
+                notificationService.getUserNotifications(1L, request, PageRequest.of(0, 20));
+
+        assertEquals(2, response.getCount());
+        assertTrue(response.hasNext());
+        assertThat(response.getResults()).extracting("notificationId").containsExactly(11L, 12L);
+        assertThat(response.getResults()).extracting("status")
+                .containsExactly(NotificationStatus.READ, NotificationStatus.UNREAD);
+        Mockito.verify(notificationRepository, Mockito.never())
+                .findAllByUserIdOrderByCreatedAtDesc(Mockito.anyLong(), Mockito.any());
+    }
+
+    @Test
+    @DisplayName("Testing retrieval of user notifications created after a time")
+    void testUserNotificationRetrievalSince() {
+        LocalDateTime since = LocalDateTime.now().minusDays(1);
+        Mockito.when(notificationReadMarkRepository.findReadUntilIdByUserId(1L)).thenReturn(NotificationReadMark.NONE);
+        Mockito.when(notificationRepository.findInfosByUserIdAfter(
+                Mockito.eq(1L), Mockito.eq(since), Mockito.eq(Long.MAX_VALUE), Mockito.any(Pageable.class)
+        )).thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 20), false));
+        NotificationListRequest request = new NotificationListRequest();
+        request.setSince(since);
+
+        NotificationInfoListResponse response =
+                notificationService.getUserNotifications(1L, request, PageRequest.of(0, 20));
+
+        assertEquals(0, response.getCount());
+        assertFalse(response.hasNext());
+    }
+
+    @Test
+    @DisplayName("Testing retrieval of user notifications after a notification that no longer exists")
+    void testUserNotificationRetrievalAfterUnknownId() {
+        Mockito.when(notificationReadMarkRepository.findReadUntilIdByUserId(1L)).thenReturn(NotificationReadMark.NONE);
+        Mockito.when(notificationRepository.findByIdAndUserId(10L, 1L)).thenReturn(Optional.empty());
+        NotificationListRequest request = new NotificationListRequest();
+        request.setAfterId(10L);
+
+        NotificationInfoListResponse response =
+                notificationService.getUserNotifications(1L, request, PageRequest.of(0, 20));
+
+        assertTrue(response.isReloadRequired());
+        assertThat(response.getResults()).isEmpty();
+        Mockito.verify(notificationRepository, Mockito.never())
+                .findInfosByUserIdAfter(Mockito.anyLong(), Mockito.any(), Mockito.anyLong(), Mockito.any());
+    }
+
+    @Test
+    @DisplayName("Testing retrieval after a notification that no longer exists falls back to the time")
+    void testUserNotificationRetrievalAfterUnknownIdSince() {
+        LocalDateTime since = LocalDateTime.now().minusDays(1);
+        Mockito.when(notificationReadMarkRepository.findReadUntilIdByUserId(1L)).thenReturn(NotificationReadMark.NONE);
+        Mockito.when(notificationRepository.findByIdAndUserId(10L, 1L)).thenReturn(Optional.empty());
+        Mockito.when(notificationRepository.findInfosByUserIdAfter(
+                Mockito.eq(1L), Mockito.eq(since), Mockito.eq(Long.MAX_VALUE), Mockito.any(Pageable.class)
+        )).thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 20), false));
+        NotificationListRequest request = new NotificationListRequest();
+        request.setAfterId(10L);
+        request.setSince(since);
+
+        NotificationInfoListResponse response =
+                notificationService.getUserNotifications(1L, request, PageRequest.of(0, 20));
+
+        assertFalse(response.isReloadRequired());
+        assertEquals(0, response.getCount());
+    }
+
+    @Test
+    @DisplayName("Testing unread notification count retrieval")
+    void testUnreadCountRetrieval() {
+        Mockito.when(notificationUnreadCounter.get(1L)).thenReturn(3L);
+
+        assertEquals(3, notificationService.getUnreadCount(1L).getCount());
     }
 
     @Test
     @DisplayName("Testing marking a specific notification as read")
     void testMarkingNotificationAsRead() {
+        Mockito.when(notificationReadMarkRepository.findReadUntilIdByUserId(1L)).thenReturn(NotificationReadMark.NONE);
+        Mockito.when(notificationRepository.setReadByUserIdAndId(1L, 1L, NotificationReadMark.NONE)).thenReturn(1);
+
+        notificationService.readNotification(1L, 1L);
+
+        Mockito.verify(notificationRepository).setReadByUserIdAndId(1L, 1L, NotificationReadMark.NONE);
+        Mockito.verify(notificationUnreadCounter).add(1L, -1);
+    }
+
+    @Test
+    @DisplayName("Testing marking an already read notification as read does not change the unread count")
+    void testMarkingReadNotificationAsRead() {
+        Mockito.when(notificationReadMarkRepository.findReadUntilIdByUserId(1L)).thenReturn(NotificationReadMark.NONE);
+        Mockito.when(notificationRepository.setReadByUserIdAndId(1L, 1L, NotificationReadMark.NONE)).thenReturn(0);
+
         notificationService.readNotification(1L, 1L);
 
-        Mockito.verify(notificationRepository).setReadByUserIdAndId(1L, 1L);
+        Mockito.verifyNoInteractions(notificationUnreadCounter);
     }
 
     @Test
-    @DisplayName("Testing marking all user notifications as read")
+    @DisplayName("Testing marking all user notifications as read creates the read watermark")
     void testMarkingAllUserNotificationAsRead() {
-        notificationService.readAllNotifications(1L);
+        notificationService.readAllNotifications(1L, 10L);
+
+        Mockito.verify(notificationReadMarkRepository).saveAndFlush(Mockito.<NotificationReadMark>argThat(
+                readMark -> readMark.getUserId().equals(1L) && readMark.getReadUntilId().equals(10L)
+        ));
+        Mockito.verify(notificationUnreadCounter).invalidate(1L);
+    }
+
+    @Test
+    @DisplayName("Testing marking all user notifications as read moves the read watermark")
+    void testMarkingAllUserNotificationAsReadMovesWatermark() {
+        Mockito.when(notificationReadMarkRepository.moveReadUntilId(1L, 10L)).thenReturn(1);
+
+        notificationService.readAllNotifications(1L, 10L);
+
+        Mockito.verify(notificationReadMarkRepository, Mockito.never()).saveAndFlush(Mockito.any());
+        Mockito.verify(notificationUnreadCounter).invalidate(1L);
+    }
+
+    @Test
+    @DisplayName("Testing concurrent first marking of all notifications as read moves the watermark created meanwhile")
+    void testMarkingAllUserNotificationAsReadConcurrently() {
+        Mockito.when(notificationReadMarkRepository.saveAndFlush(Mockito.any()))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        notificationService.readAllNotifications(1L, 10L);
+
+        Mockito.verify(notificationReadMarkRepository, Mockito.times(2)).moveReadUntilId(1L, 10L);
+        Mockito.verify(notificationUnreadCounter).invalidate(1L);
+    }
+
+    @Test
+    @DisplayName("Testing reconciliation of unread counts runs under the job lease")
+    void testReconcileUnreadCounts() {
+        notificationService.reconcileUnreadCounts();
 
-        Mockito.verify(notificationRepository).setReadAllByUserId(1L);
+        Mockito.verify(jobLease).runExclusively(
+                Mockito.eq("notification-unread-reconcile"),
+                Mockito.eq(Duration.ofMinutes(30)),
+                Mockito.any()
+        );
+        Mockito.verifyNoInteractions(notificationUnreadCounter);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,180 @@
+package reserve.notification.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import reserve.notification.domain.Notification;
+import reserve.notification.domain.NotificationReadMark;
+import reserve.notification.domain.NotificationStatus;
+import reserve.notification.domain.ResourceType;
+import reserve.notification.dto.NotificationEvent;
+import reserve.notification.dto.response.NotificationInfo;
+import reserve.notification.infrastructure.NotificationReadMarkRepository;
+import reserve.notification.infrastructure.NotificationRepository;
+import reserve.user.domain.User;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationStreamServiceTest {
+
+    @Mock
+    NotificationRepository notificationRepository;
+
+    @Mock
+    NotificationReadMarkRepository notificationReadMarkRepository;
+
+    NotificationStreamService notificationStreamService;
+
+    @BeforeEach
+    void setUp() {
+        notificationStreamService = new NotificationStreamService(
+                notificationRepository,
+                notificationReadMarkRepository,
+                Duration.ofMinutes(1),
+                3,
+                2
+        );
+    }
+
+    @Test
+    @DisplayName("Testing subscription is rejected when the node has too many connections")
+    void testSubscriptionRejectedWhenTooManyConnections() {
+        notificationStreamService.subscribe(1L, null);
+        notificationStreamService.subscribe(2L, null);
+        notificationStreamService.subscribe(3L, null);
+
+        assertTrue(notificationStreamService.subscribe(4L, null).isEmpty());
+        assertEquals(3, notificationStreamService.getConnectionCount());
+    }
+
+    @Test
+    @DisplayName("Testing the oldest stream of a user is closed when the user has too many streams")
+    void testOldestStreamClosedWhenUserHasTooManyStreams() {
+        notificationStreamService.subscribe(1L, null);
+        notificationStreamService.subscribe(1L, null);
+        notificationStreamService.subscribe(1L, null);
+
+        assertEquals(2, notificationStreamService.getConnectionCount());
+    }
+
+    @Test
+    @DisplayName("Testing notifications created or coalesced since the last event are resumed")
+    void testNotificationsResumedFromLastEventId() {
+        LocalDateTime lastCreatedAt = LocalDateTime.now().minusMinutes(1);
+        Notification last = notification(10L, lastCreatedAt);
+        // The last notification has been coalesced since it was sent, followed by a new one.
+        List<NotificationInfo> missed = List.of(
+                info(11L, lastCreatedAt.plusSeconds(1)),
+                info(10L, lastCreatedAt.plusSeconds(2))
+        );
+        Mockito.when(notificationRepository.findByIdAndUserId(10L, 1L)).thenReturn(Optional.of(last));
+        Mockito.when(notificationRepository.findInfosByUserIdAfter(
+                Mockito.eq(1L), Mockito.eq(lastCreatedAt), Mockito.eq(10L), Mockito.any(Pageable.class)
+        )).thenReturn(new SliceImpl<>(missed, PageRequest.ofSize(missed.size()), false));
+        Mockito.when(notificationReadMarkRepository.findReadUntilIdByUserId(1L)).thenReturn(NotificationReadMark.NONE);
+
+        notificationStreamService.subscribe(1L, 10L);
+
+        Mockito.verify(notificationReadMarkRepository).findReadUntilIdByUserId(1L);
+        assertEquals(1, notificationStreamService.getConnectionCount());
+    }
+
+    @Test
+    @DisplayName("Testing nothing is resumed when the last event is not the user's notification")
+    void testNothingResumedFromUnknownLastEventId() {
+        Mockito.when(notificationRepository.findByIdAndUserId(10L, 1L)).thenReturn(Optional.empty());
+
+        notificationStreamService.subscribe(1L, 10L);
+
+        Mockito.verify(notificationRepository, Mockito.never())
+                .findInfosByUserIdAfter(Mockito.anyLong(), Mockito.any(), Mockito.anyLong(), Mockito.any());
+        Mockito.verifyNoInteractions(notificationReadMarkRepository);
+        assertEquals(1, notificationStreamService.getConnectionCount());
+    }
+
+    @Test
+    @DisplayName("Testing nothing is resumed when more notifications were missed than can be resumed")
+    void testNothingResumedWhenTooManyMissed() {
+        LocalDateTime lastCreatedAt = LocalDateTime.now().minusMinutes(1);
+        Notification last = notification(10L, lastCreatedAt);
+        List<NotificationInfo> missed = new ArrayList<>();
+        for (int i = 0; i < NotificationStreamService.MAX_RESUME_NOTIFICATIONS; i++) {
+            missed.add(info(11L + i, lastCreatedAt.plusSeconds(i + 1)));
+        }
+        Mockito.when(notificationRepository.findByIdAndUserId(10L, 1L)).thenReturn(Optional.of(last));
+        Mockito.when(notificationRepository.findInfosByUserIdAfter(
+                Mockito.eq(1L), Mockito.eq(lastCreatedAt), Mockito.eq(10L), Mockito.any(Pageable.class)
+        )).thenReturn(new SliceImpl<>(missed, PageRequest.ofSize(missed.size()), true));
+
+        notificationStreamService.subscribe(1L, 10L);
+
+        Mockito.verifyNoInteractions(notificationReadMarkRepository);
+        assertEquals(1, notificationStreamService.getConnectionCount());
+    }
+
+    @Test
+    @DisplayName("Testing notifications are delivered to connected streams")
+    void testDelivery() {
+        notificationStreamService.subscribe(1L, null);
+
+        assertDoesNotThrow(() -> {
+            notificationStreamService.deliver(event(1L));
+            notificationStreamService.deliver(event(2L));
+            notificationStreamService.sendHeartbeats();
+        });
+        assertEquals(1, notificationStreamService.getConnectionCount());
+    }
+
+    @Test
+    @DisplayName("Testing a stream that fails to receive a heartbeat is closed")
+    void testStreamClosedOnHeartbeatFailure() {
+        notificationStreamService.subscribe(1L, null).orElseThrow().complete();
+        notificationStreamService.subscribe(2L, null);
+
+        notificationStreamService.sendHeartbeats();
+
+        assertEquals(1, notificationStreamService.getConnectionCount());
+    }
+
+    private static Notification notification(Long id, LocalDateTime createdAt) {
+        Notification notification =
+                Mockito.spy(new Notification(Mockito.mock(User.class), ResourceType.RESERVATION, 1L, "message"));
+        Mockito.lenient().when(notification.getId()).thenReturn(id);
+        Mockito.lenient().when(notification.getCreatedAt()).thenReturn(createdAt);
+        return notification;
+    }
+
+    private static NotificationInfo info(Long id, LocalDateTime modifiedAt) {
+        return new NotificationInfo(
+                id, ResourceType.RESERVATION, 1L, "message", modifiedAt, NotificationStatus.UNREAD, modifiedAt
+        );
+    }
+
+    private static NotificationEvent event(Long userId) {
+        return new NotificationEvent(
+                userId,
+                1L,
+                ResourceType.RESERVATION,
+                1L,
+                "message",
+                LocalDateTime.now(),
+                NotificationStatus.UNREAD,
+                LocalDateTime.now()
+        );
+    }
+
+}
@@ -0,0 +1,152 @@
+package reserve.notification.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.SmartLifecycle;
+import reserve.notification.dto.ReservationNotificationDto;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationWriterTest {
+
+    @Mock
+    NotificationService notificationService;
+
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    NotificationWriter notificationWriter;
+
+    @AfterEach
+    void tearDown() {
+        if (notificationWriter.isRunning()) {
+            notificationWriter.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Testing queued notifications are written by the worker")
+    void testQueuedNotificationsAreWritten() {
+        notificationWriter = createWriter();
+        notificationWriter.start();
+
+        notificationWriter.notifyReservations(List.of(1L, 2L, 3L), "message");
+
+        assertTrue(notificationWriter.flush(Duration.ofSeconds(5)));
+        Mockito.verify(notificationService, Mockito.atLeastOnce())
+                .createReservationNotifications(Mockito.anyList());
+        assertEquals(3, meterRegistry.get("notification.writer.latency").timer().count());
+        assertEquals(0, meterRegistry.get("notification.writer.overflow").counter().count());
+    }
+
+    @Test
+    @DisplayName("Testing the caller writes its notification when the writer is not running")
+    void testCallerWritesWhenNotRunning() {
+        notificationWriter = createWriter();
+
+        notificationWriter.notifyReservation(1L, "message", "registrant message");
+
+        Mockito.verify(notificationService).createReservationNotifications(
+                Mockito.<List<ReservationNotificationDto>>argThat(
+                        list -> list.size() == 1 && list.get(0).getReservationId().equals(1L)
+                )
+        );
+        assertEquals(0, meterRegistry.get("notification.writer.overflow").counter().count());
+        assertTrue(notificationWriter.flush(Duration.ZERO));
+    }
+
+    @Test
+    @DisplayName("Testing the caller writes what does not fit in a full queue in one batch")
+    void testCallerWritesOverflowInOneBatch() throws Exception {
+        notificationWriter = new NotificationWriter(
+                notificationService,
+                meterRegistry,
+                1,
+                10,
+                Duration.ofMillis(10),
+                Duration.ofSeconds(5)
+        );
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Mockito.lenient().doAnswer(invocation -> {
+            writing.countDown();
+            release.await();
+            return null;
+        }).when(notificationService).createReservationNotifications(
+                Mockito.<List<ReservationNotificationDto>>argThat(list -> list.get(0).getReservationId().equals(1L))
+        );
+        notificationWriter.start();
+        notificationWriter.notifyReservation(1L, "message");
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+
+        notificationWriter.notifyReservations(List.of(2L, 3L, 4L), "message");
+
+        Mockito.verify(notificationService).createReservationNotifications(
+                Mockito.<List<ReservationNotificationDto>>argThat(
+                        list -> list.stream().map(ReservationNotificationDto::getReservationId).toList()
+                                .equals(List.of(3L, 4L))
+                )
+        );
+        assertEquals(2, meterRegistry.get("notification.writer.overflow").counter().count());
+        release.countDown();
+        assertTrue(notificationWriter.flush(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    @DisplayName("Testing the writer stops after the web server")
+    void testStopsAfterWebServer() {
+        notificationWriter = createWriter();
+
+        assertTrue(notificationWriter.getPhase() < SmartLifecycle.DEFAULT_PHASE - 2048);
+    }
+
+    @Test
+    @DisplayName("Testing queued notifications are written on stop")
+    void testQueueDrainsOnStop() {
+        notificationWriter = createWriter();
+        notificationWriter.start();
+        notificationWriter.notifyReservations(List.of(1L, 2L), "message");
+
+        notificationWriter.stop();
+
+        assertTrue(notificationWriter.flush(Duration.ZERO));
+        assertEquals(0, meterRegistry.get("notification.writer.queue.size").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Testing failed writes are counted and do not block flushing")
+    void testFailedWrite() {
+        notificationWriter = createWriter();
+        Mockito.doThrow(new IllegalStateException()).when(notificationService)
+                .createReservationNotifications(Mockito.anyList());
+
+        notificationWriter.notifyReservation(1L, "message");
+
+        assertEquals(1, meterRegistry.get("notification.writer.failures").counter().count());
+        assertTrue(notificationWriter.flush(Duration.ZERO));
+    }
+
+    private NotificationWriter createWriter() {
+        return new NotificationWriter(
+                notificationService,
+                meterRegistry,
+                100,
+                10,
+                Duration.ofMillis(10),
+                Duration.ofSeconds(5)
+        );
+    }
+
+}
@@ -0,0 +1,124 @@
+package reserve.reservation.infrastructure;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import reserve.reservation.domain.Reservation;
+import reserve.reservation.domain.ReservationMenu;
+import reserve.store.domain.Store;
+import reserve.store.infrastructure.StoreRepository;
+import reserve.user.domain.User;
+import reserve.user.infrastructure.UserRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the statements issued for a reservation with the maximum number of menus
+ * when inserted one row per statement (as forced by {@code IDENTITY} ids) and as JDBC batches.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.order_inserts=true"
+})
+@Transactional
+@Slf4j
+class ReservationMenuBatchInsertBenchmarkTest {
+
+    static final int MENU_COUNT = 100;
+    static final int ROUNDS = 5;
+
+    @PersistenceContext
+    EntityManager em;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    StoreRepository storeRepository;
+
+    @Autowired
+    ReservationRepository reservationRepository;
+
+    @Autowired
+    ReservationMenuRepository reservationMenuRepository;
+
+    Statistics statistics;
+
+    User user;
+    Store store;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        user = userRepository.save(new User("username", "password", "nickname", "description"));
+        User registrant = userRepository.save(new User("registrant", "password", "nickname", "description"));
+        store = storeRepository.save(new Store(registrant, "storeName", "address", "description"));
+        em.flush();
+    }
+
+    @Test
+    @DisplayName("Benchmarking reservation menu insertion with and without JDBC batching")
+    void benchmarkReservationMenuInsertion() {
+        Result unbatched = run(1);
+        Result batched = run(MENU_COUNT);
+
+        log.info(
+                "Inserting a reservation with {} menus: {} statements / {} us per round without batching, " +
+                "{} statements / {} us per round with batching",
+                MENU_COUNT,
+                unbatched.statements(),
+                unbatched.micros(),
+                batched.statements(),
+                batched.micros()
+        );
+
+        assertTrue(unbatched.statements() > MENU_COUNT);
+        assertTrue(batched.statements() < 10);
+    }
+
+    private Result run(int batchSize) {
+        em.unwrap(Session.class).setJdbcBatchSize(batchSize);
+        insertReservation();
+
+        long statements = 0;
+        long nanos = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            statistics.clear();
+            long start = System.nanoTime();
+            insertReservation();
+            nanos += System.nanoTime() - start;
+            statements += statistics.getPrepareStatementCount();
+        }
+        return new Result(statements / ROUNDS, nanos / ROUNDS / 1000);
+    }
+
+    private void insertReservation() {
+        Reservation reservation =
+                reservationRepository.save(new Reservation(user, store, LocalDate.now().plusDays(7), 12));
+        List<ReservationMenu> menus = IntStream.range(0, MENU_COUNT)
+                .mapToObj(i -> new ReservationMenu(reservation, "menu" + i, 1000, 1))
+                .toList();
+        reservationMenuRepository.saveAll(menus);
+        em.flush();
+        em.clear();
+        user = em.getReference(User.class, user.getId());
+        store = em.getReference(Store.class, store.getId());
+    }
+
+    private record Result(long statements, long micros) {
+    }
+
+}
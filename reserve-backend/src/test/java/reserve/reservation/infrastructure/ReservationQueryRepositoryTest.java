@@ -6,10 +6,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.annotation.Commit;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import reserve.reservation.domain.Reservation;
+import reserve.reservation.domain.ReservationStatusType;
+import reserve.reservation.dto.ReservationManageTargetDto;
+import reserve.reservation.dto.ReservationSearchCursor;
 import reserve.reservation.dto.request.ReservationSearchRequest;
 import reserve.reservation.dto.response.ReservationInfoResponse;
 import reserve.store.domain.Store;
@@ -18,6 +22,9 @@ import reserve.user.domain.User;
 import reserve.user.infrastructure.UserRepository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -67,6 +74,34 @@ class ReservationQueryRepositoryTest {
         assertFalse(reservationQueryRepository.hasReadAccessToReservation(reservation.getId(), user2.getId()));
     }
 
+    @Test
+    @DisplayName("Verifying overdue reservations are found in ID order after the last ID")
+    void testOverdueReservationRetrieval() {
+        User user = userRepository.save(new User("user1", "password", "hello", "description"));
+        Store store = storeRepository.save(new Store(user, "Pasta", "address", "Pasta only"));
+        LocalDate today = LocalDate.now();
+        LocalDateTime cutoff = today.atTime(12, 30);
+        Reservation yesterday = reservationRepository.save(new Reservation(user, store, today.minusDays(1), 20));
+        Reservation startedBeforeCutoff = reservationRepository.save(new Reservation(user, store, today, 12));
+        reservationRepository.save(new Reservation(user, store, today, 13));
+        Reservation cancelled = reservationRepository.save(new Reservation(user, store, today, 10));
+        cancelled.cancel();
+        reservationRepository.flush();
+
+        List<ReservationManageTargetDto> result =
+                reservationQueryRepository.findOverdueForUpdate(ReservationStatusType.READY, cutoff, 0L, 10);
+        assertThat(result)
+                .extracting(ReservationManageTargetDto::getReservationId)
+                .containsExactly(yesterday.getId(), startedBeforeCutoff.getId());
+
+        List<ReservationManageTargetDto> next = reservationQueryRepository.findOverdueForUpdate(
+                ReservationStatusType.READY, cutoff, yesterday.getId(), 1
+        );
+        assertThat(next)
+                .extracting(ReservationManageTargetDto::getReservationId)
+                .containsExactly(startedBeforeCutoff.getId());
+    }
+
     @Nested
     class ReservationSearchTest {
 
@@ -130,6 +165,26 @@ class ReservationQueryRepositoryTest {
             });
         }
 
+        @Test
+        @DisplayName("Testing reservation search by cursor")
+        @Transactional(propagation = Propagation.NOT_SUPPORTED)
+        void testReservationSearchByCursor() {
+            ReservationSearchRequest request = new ReservationSearchRequest();
+            request.setType(ReservationSearchRequest.SearchType.CUSTOMER);
+
+            List<Long> reservationIds = new ArrayList<>();
+            ReservationSearchCursor cursor = null;
+            Slice<ReservationInfoResponse> slice;
+            do {
+                slice = reservationQueryRepository.findResponsesBySearchAfter(user1.getId(), request, cursor, 3);
+                slice.forEach(reservationInfoResponse -> reservationIds.add(reservationInfoResponse.getReservationId()));
+                cursor = ReservationSearchCursor.from(slice.getContent().get(slice.getNumberOfElements() - 1));
+            } while (slice.hasNext());
+
+            assertEquals(7, reservationIds.size());
+            assertThat(reservationIds).isSorted().doesNotHaveDuplicates();
+        }
+
     }
 
 }
\ No newline at end of file
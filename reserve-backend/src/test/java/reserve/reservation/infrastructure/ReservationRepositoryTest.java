@@ -13,6 +13,8 @@ import reserve.user.domain.User;
 import reserve.user.infrastructure.UserRepository;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -119,4 +121,33 @@ class ReservationRepositoryTest {
         assertEquals(ReservationStatusType.CANCELLED, reservation.getStatus());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Testing bulk status update only changes reservations in the source statuses")
+    void testBulkStatusUpdate() {
+        User user1 = userRepository.save(new User("user1", "password", "hello", "description"));
+        Store store1 = storeRepository.save(new Store(user1, "Pasta", "address", "Pasta only"));
+
+        Reservation reservationReady = reservationRepository.save(new Reservation(user1, store1, LocalDate.now(), 12));
+        Reservation reservationCancelled =
+                reservationRepository.save(new Reservation(user1, store1, LocalDate.now(), 14));
+        reservationCancelled.cancel();
+        reservationRepository.flush();
+
+        int updated = reservationRepository.updateStatusByIdIn(
+                List.of(reservationReady.getId(), reservationCancelled.getId()),
+                Set.of(ReservationStatusType.READY),
+                ReservationStatusType.IN_SERVICE
+        );
+
+        assertEquals(1, updated);
+        assertEquals(
+                ReservationStatusType.IN_SERVICE,
+                reservationRepository.findById(reservationReady.getId()).orElseThrow().getStatus()
+        );
+        assertEquals(
+                ReservationStatusType.CANCELLED,
+                reservationRepository.findById(reservationCancelled.getId()).orElseThrow().getStatus()
+        );
+    }
+
+}
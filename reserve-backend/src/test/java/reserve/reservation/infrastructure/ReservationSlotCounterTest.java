@@ -0,0 +1,157 @@
+package reserve.reservation.infrastructure;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import reserve.reservation.domain.Reservation;
+import reserve.store.domain.Store;
+import reserve.store.infrastructure.StoreRepository;
+import reserve.user.domain.User;
+import reserve.user.infrastructure.UserRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class ReservationSlotCounterTest {
+
+    @Autowired
+    ReservationSlotCounter counter;
+
+    @Autowired
+    StringRedisTemplate redisTemplate;
+
+    @Autowired
+    ReservationQueryRepository reservationQueryRepository;
+
+    @Autowired
+    ReservationRepository reservationRepository;
+
+    @Autowired
+    StoreRepository storeRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    LocalDate date = LocalDate.now().plusDays(1);
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(redisTemplate.keys(ReservationSlotCounter.KEY_PREFIX + "*"));
+    }
+
+    @Test
+    @DisplayName("Testing slot admission up to the capacity")
+    void testSlotAdmission() {
+        assertTrue(counter.tryAcquire(1L, date, 12, 2));
+        assertTrue(counter.tryAcquire(1L, date, 12, 2));
+        assertFalse(counter.tryAcquire(1L, date, 12, 2));
+        assertTrue(counter.tryAcquire(1L, date, 13, 2));
+        assertTrue(counter.tryAcquire(2L, date, 12, 2));
+
+        counter.release(1L, date, 12);
+        assertEquals(1, counter.getCount(1L, date, 12));
+        assertTrue(counter.tryAcquire(1L, date, 12, 2));
+    }
+
+    @Test
+    @DisplayName("Testing slot admission without capacity and releasing of an empty slot")
+    void testUnlimitedSlotAdmission() {
+        for (int i = 0; i < 100; i++) {
+            assertTrue(counter.tryAcquire(1L, date, 0, null));
+        }
+        assertEquals(100, counter.getCount(1L, date, 0));
+
+        counter.release(1L, date, 1);
+        counter.release(2L, date, 0);
+        assertEquals(0, counter.getCount(1L, date, 1));
+        assertEquals(0, counter.getCount(2L, date, 0));
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Testing counters loaded from the reservations table")
+    void testLoad() {
+        User user = userRepository.save(new User("user1", "password", "hello", "description"));
+        Store store = storeRepository.save(new Store(user, "Pasta", "address", "description"));
+        reservationRepository.save(new Reservation(user, store, date, 12));
+        reservationRepository.save(new Reservation(user, store, date, 12));
+        reservationRepository.save(new Reservation(user, store, date.plusDays(1), 18));
+
+        assertFalse(counter.tryAcquire(store.getId(), date, 12, 2));
+        List<ReservationSlotDay> slotDays = counter.getSlotDays(store.getId(), date, date.plusDays(1), 2);
+        assertEquals(1 << 12, slotDays.get(0).getFullMask());
+        assertEquals(2, slotDays.get(0).getCount(12));
+        assertEquals(1, slotDays.get(1).getCount(18));
+        assertEquals(0, slotDays.get(1).getFullMask());
+    }
+
+    @Test
+    @DisplayName("Testing fully booked hours mask derived from the capacity")
+    void testFullMask() {
+        counter.tryAcquire(1L, date, 9, 1);
+        counter.tryAcquire(1L, date, 10, 2);
+
+        assertEquals(1 << 9, counter.getSlotDays(1L, date, date, 2).get(0).getFullMask());
+        assertEquals(1 << 9 | 1 << 10, counter.getSlotDays(1L, date, date, 1).get(0).getFullMask());
+        assertEquals(0, counter.getSlotDays(1L, date, date, null).get(0).getFullMask());
+        assertTrue(redisTemplate.getExpire(ReservationSlotCounter.key(1L, date)) > 0);
+    }
+
+    @Test
+    @DisplayName("Testing that concurrent bookings on several nodes never overbook a slot")
+    void testConcurrentAdmission() throws Exception {
+        // Each counter stands for an application node sharing the same Redis.
+        List<ReservationSlotCounter> nodes = List.of(
+                new ReservationSlotCounter(redisTemplate, reservationQueryRepository),
+                new ReservationSlotCounter(redisTemplate, reservationQueryRepository),
+                new ReservationSlotCounter(redisTemplate, reservationQueryRepository)
+        );
+        int capacity = 50;
+        int threads = 24;
+        int attemptsPerThread = 200;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger admitted = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            ReservationSlotCounter node = nodes.get(i % nodes.size());
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < attemptsPerThread; j++) {
+                    int hour = j % 2;
+                    if (node.tryAcquire(1L, date, hour, capacity)) {
+                        admitted.incrementAndGet();
+                        // Cancel some of the admitted reservations to keep the slot contended.
+                        if (j % 3 == 0) {
+                            node.release(1L, date, hour);
+                            admitted.decrementAndGet();
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(admitted.get(), counter.getCount(1L, date, 0) + counter.getCount(1L, date, 1));
+        assertEquals(capacity, counter.getCount(1L, date, 0));
+        assertEquals(capacity, counter.getCount(1L, date, 1));
+        assertEquals(0b11, counter.getSlotDays(1L, date, date, capacity).get(0).getFullMask());
+    }
+
+}
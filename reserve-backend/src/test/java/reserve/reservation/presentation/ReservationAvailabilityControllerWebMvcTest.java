@@ -0,0 +1,68 @@
+package reserve.reservation.presentation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import reserve.reservation.dto.response.DailyAvailabilityResponse;
+import reserve.reservation.dto.response.StoreAvailabilityResponse;
+import reserve.reservation.service.ReservationSlotService;
+import reserve.signin.infrastructure.JwtProvider;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ReservationAvailabilityController.class)
+@Import(JwtProvider.class)
+class ReservationAvailabilityControllerWebMvcTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockBean
+    ReservationSlotService reservationSlotService;
+
+    @Test
+    @DisplayName("Testing GET /v1/stores/{storeId}/availability endpoint")
+    void testGetStoreAvailabilityEndpoint() throws Exception {
+        LocalDate from = LocalDate.now().plusDays(1);
+        LocalDate to = from.plusDays(1);
+
+        Mockito.when(reservationSlotService.getAvailability(
+                Mockito.eq(1L),
+                Mockito.argThat(request -> from.equals(request.getFrom()) && to.equals(request.getTo()))
+        )).thenReturn(new StoreAvailabilityResponse(
+                1L,
+                2,
+                List.of(DailyAvailabilityResponse.of(from, null), DailyAvailabilityResponse.of(to, null))
+        ));
+
+        mockMvc.perform(
+                get("/v1/stores/{storeId}/availability", 1L)
+                        .param("from", from.toString())
+                        .param("to", to.toString())
+        ).andExpectAll(
+                status().isOk(),
+                jsonPath("$.storeId").value(1),
+                jsonPath("$.capacity").value(2),
+                jsonPath("$.results.length()").value(2),
+                jsonPath("$.results[0].date").value(from.toString()),
+                jsonPath("$.results[0].availableHours.length()").value(24),
+                jsonPath("$.results[0].fullHours.length()").value(0)
+        );
+    }
+
+    @Test
+    @DisplayName("Testing GET /v1/stores/{storeId}/availability endpoint without date range")
+    void testGetStoreAvailabilityEndpointWithoutRange() throws Exception {
+        mockMvc.perform(get("/v1/stores/{storeId}/availability", 1L)).andExpect(status().isBadRequest());
+    }
+
+}
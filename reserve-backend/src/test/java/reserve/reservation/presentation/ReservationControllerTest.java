@@ -12,6 +12,7 @@ import reserve.global.TestUtils;
 import reserve.menu.domain.Menu;
 import reserve.menu.infrastructure.MenuRepository;
 import reserve.notification.infrastructure.NotificationRepository;
+import reserve.notification.service.NotificationWriter;
 import reserve.reservation.domain.Reservation;
 import reserve.reservation.domain.ReservationStatusType;
 import reserve.reservation.dto.request.ReservationCreateRequest;
@@ -26,6 +27,7 @@ import reserve.store.infrastructure.StoreRepository;
 import reserve.user.domain.User;
 import reserve.user.infrastructure.UserRepository;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -58,6 +60,9 @@ class ReservationControllerTest extends BaseRestAssuredTest {
     @Autowired
     NotificationRepository notificationRepository;
 
+    @Autowired
+    NotificationWriter notificationWriter;
+
     User user1, user2, user3;
     Store store1, store2;
 
@@ -72,6 +77,7 @@ class ReservationControllerTest extends BaseRestAssuredTest {
 
     @AfterEach
     void tearDown() {
+        notificationWriter.flush(Duration.ofSeconds(5));
         notificationRepository.deleteAll();
         reservationMenuRepository.deleteAll();
         reservationRepository.deleteAll();
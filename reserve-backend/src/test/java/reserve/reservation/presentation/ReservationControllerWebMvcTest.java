@@ -9,9 +9,11 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.web.servlet.MockMvc;
 import reserve.global.TestUtils;
-import reserve.notification.service.NotificationService;
+import reserve.notification.service.NotificationWriter;
+import reserve.reservation.dto.ReservationSearchCursor;
 import reserve.reservation.dto.request.ReservationCreateRequest;
 import reserve.reservation.dto.request.ReservationSearchRequest;
 import reserve.reservation.dto.request.ReservationUpdateRequest;
@@ -46,7 +48,7 @@ class ReservationControllerWebMvcTest {
     ReservationService reservationService;
 
     @MockBean
-    NotificationService notificationService;
+    NotificationWriter notificationWriter;
 
     @Test
     @DisplayName("Testing POST /v1/reservations endpoint")
@@ -88,7 +90,7 @@ class ReservationControllerWebMvcTest {
                                arg.getHour() == 12
                 )
         );
-        Mockito.verify(notificationService, Mockito.times(1)).notifyReservation(
+        Mockito.verify(notificationWriter, Mockito.times(1)).notifyReservation(
                 expectedReservationId,
                 "Reservation has been created.",
                 "New customer has made a reservation."
@@ -236,6 +238,43 @@ class ReservationControllerWebMvcTest {
         );
     }
 
+    @Test
+    @DisplayName("Testing GET /v1/reservations endpoint with cursor")
+    void testSearchEndpointWithCursor() throws Exception {
+        Long userId = 1L;
+
+        ReservationInfoResponse reservation1 =
+                new ReservationInfoResponse(1L, 1L, "user1", "store1", LocalDate.now().plusDays(7), 12);
+        ReservationInfoResponse reservation2 =
+                new ReservationInfoResponse(2L, 2L, "user2", "store2", LocalDate.now().plusDays(7), 13);
+        String nextCursor = ReservationSearchCursor.from(reservation2).encode();
+
+        Mockito.when(reservationService.search(
+                Mockito.eq(userId),
+                Mockito.argThat(request -> "".equals(request.getCursor())),
+                Mockito.eq(PageRequest.of(0, 2))
+        )).thenReturn(ReservationInfoListResponse.from(
+                new SliceImpl<>(List.of(reservation1, reservation2), PageRequest.ofSize(2), true),
+                nextCursor
+        ));
+
+        SignInToken signInToken = jwtProvider.generateSignInToken(TestUtils.getTokenDetails(userId));
+
+        mockMvc.perform(
+                get("/v1/reservations")
+                        .header("Authorization", "Bearer " + signInToken.getAccessToken())
+                        .param("type", ReservationSearchRequest.SearchType.CUSTOMER.toString())
+                        .param("cursor", "")
+                        .param("size", "2")
+        ).andExpectAll(
+                status().isOk(),
+                jsonPath("$.count").value(2),
+                jsonPath("$.hasNext").value(true),
+                jsonPath("$.nextCursor").value(nextCursor),
+                jsonPath("$.results[1].reservationId").value(2L)
+        );
+    }
+
     @Test
     @DisplayName("Testing PUT /v1/reservations/{reservationId} endpoint")
     void testUpdateEndpoint() throws Exception {
@@ -260,7 +299,7 @@ class ReservationControllerWebMvcTest {
                 Mockito.eq(reservationId),
                 Mockito.argThat(arg -> arg.getDate().equals(LocalDate.now().plusDays(14)) && arg.getHour() == 14)
         );
-        Mockito.verify(notificationService, Mockito.times(1)).notifyReservation(
+        Mockito.verify(notificationWriter, Mockito.times(1)).notifyReservation(
                 Mockito.eq(reservationId),
                 Mockito.eq("Reservation has been updated."),
                 Mockito.eq("Customer has updated the reservation.")
@@ -281,7 +320,7 @@ class ReservationControllerWebMvcTest {
         ).andExpect(status().isOk());
 
         Mockito.verify(reservationService, Mockito.times(1)).cancel(Mockito.eq(userId), Mockito.eq(reservationId));
-        Mockito.verify(notificationService, Mockito.times(1)).notifyReservation(
+        Mockito.verify(notificationWriter, Mockito.times(1)).notifyReservation(
                 Mockito.eq(reservationId),
                 Mockito.eq("Reservation has been canceled."),
                 Mockito.eq("Customer has canceled the reservation.")
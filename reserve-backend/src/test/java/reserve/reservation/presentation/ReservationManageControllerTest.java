@@ -11,6 +11,7 @@ import reserve.global.BaseRestAssuredTest;
 import reserve.global.TestUtils;
 import reserve.global.exception.ErrorCode;
 import reserve.notification.infrastructure.NotificationRepository;
+import reserve.notification.service.NotificationWriter;
 import reserve.reservation.domain.Reservation;
 import reserve.reservation.infrastructure.ReservationRepository;
 import reserve.signin.dto.SignInToken;
@@ -21,6 +22,7 @@ import reserve.user.domain.User;
 import reserve.user.infrastructure.UserRepository;
 
 import javax.sql.DataSource;
+import java.time.Duration;
 import java.time.LocalDate;
 
 import static org.hamcrest.Matchers.equalTo;
@@ -49,6 +51,9 @@ class ReservationManageControllerTest extends BaseRestAssuredTest {
     @Autowired
     NotificationRepository notificationRepository;
 
+    @Autowired
+    NotificationWriter notificationWriter;
+
     User registrant;
     Reservation ready, inService, completed, cancelled;
 
@@ -77,6 +82,7 @@ class ReservationManageControllerTest extends BaseRestAssuredTest {
 
     @AfterEach
     void tearDown() {
+        notificationWriter.flush(Duration.ofSeconds(5));
         notificationRepository.deleteAll();
         reservationRepository.deleteAll();
         storeRepository.deleteAll();
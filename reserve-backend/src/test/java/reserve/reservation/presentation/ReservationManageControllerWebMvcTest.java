@@ -7,15 +7,21 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import reserve.global.TestUtils;
-import reserve.notification.service.NotificationService;
+import reserve.global.exception.ErrorCode;
+import reserve.notification.service.NotificationWriter;
+import reserve.reservation.dto.response.ReservationBulkManageResponse;
+import reserve.reservation.dto.response.ReservationBulkManageResultResponse;
 import reserve.reservation.service.ReservationManageService;
 import reserve.signin.dto.SignInToken;
 import reserve.signin.infrastructure.JwtProvider;
 
+import java.util.List;
+
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(ReservationManageController.class)
 @Import(JwtProvider.class)
@@ -31,7 +37,7 @@ class ReservationManageControllerWebMvcTest {
     ReservationManageService reservationManageService;
 
     @MockBean
-    NotificationService notificationService;
+    NotificationWriter notificationWriter;
 
     @Test
     @DisplayName("Testing POST /v1/reservations/manage/{reservationId}/cancel endpoint")
@@ -49,7 +55,7 @@ class ReservationManageControllerWebMvcTest {
         ).andExpect(status().isOk());
 
         Mockito.verify(reservationManageService, Mockito.times(1)).cancel(userId, reservationId);
-        Mockito.verify(notificationService, Mockito.times(1)).notifyReservation(
+        Mockito.verify(notificationWriter, Mockito.times(1)).notifyReservation(
                 reservationId,
                 "Reservation has been cancelled.",
                 "Customer has cancelled the reservation."
@@ -72,7 +78,7 @@ class ReservationManageControllerWebMvcTest {
         ).andExpect(status().isOk());
 
         Mockito.verify(reservationManageService, Mockito.times(1)).startService(userId, reservationId);
-        Mockito.verify(notificationService, Mockito.times(1))
+        Mockito.verify(notificationWriter, Mockito.times(1))
                 .notifyReservation(reservationId, "Service has been started.");
     }
 
@@ -92,8 +98,54 @@ class ReservationManageControllerWebMvcTest {
         ).andExpect(status().isOk());
 
         Mockito.verify(reservationManageService, Mockito.times(1)).complete(userId, reservationId);
-        Mockito.verify(notificationService, Mockito.times(1))
+        Mockito.verify(notificationWriter, Mockito.times(1))
                 .notifyReservation(reservationId, "Service has been completed.");
     }
 
+    @Test
+    @DisplayName("Testing POST /v1/reservations/manage/start endpoint")
+    void testBulkStartServiceEndpoint() throws Exception {
+        Long userId = 1L;
+        SignInToken signInToken = jwtProvider.generateSignInToken(TestUtils.getTokenDetails(userId));
+
+        Mockito.when(reservationManageService.bulkStartService(
+                Mockito.eq(userId),
+                Mockito.argThat(request -> List.of(100L, 101L).equals(request.getReservationIds()))
+        )).thenReturn(ReservationBulkManageResponse.from(List.of(
+                ReservationBulkManageResultResponse.changed(100L),
+                ReservationBulkManageResultResponse.failed(101L, ErrorCode.RESERVATION_CANNOT_START)
+        )));
+
+        mockMvc.perform(
+                post("/v1/reservations/manage/start")
+                        .header("Authorization", "Bearer " + signInToken.getAccessToken())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"reservationIds\": [100, 101]}")
+        ).andExpectAll(
+                status().isOk(),
+                jsonPath("$.changedCount").value(1),
+                jsonPath("$.failedCount").value(1),
+                jsonPath("$.results[0].result").value("CHANGED"),
+                jsonPath("$.results[0].error").doesNotExist(),
+                jsonPath("$.results[1].error.code").value(ErrorCode.RESERVATION_CANNOT_START.getCode())
+        );
+
+        Mockito.verify(notificationWriter).notifyReservations(List.of(100L), "Service has been started.");
+    }
+
+    @Test
+    @DisplayName("Testing POST /v1/reservations/manage/cancel endpoint with invalid hour")
+    void testBulkCancelEndpointWithInvalidHour() throws Exception {
+        SignInToken signInToken = jwtProvider.generateSignInToken(TestUtils.getTokenDetails(1L));
+
+        mockMvc.perform(
+                post("/v1/reservations/manage/cancel")
+                        .header("Authorization", "Bearer " + signInToken.getAccessToken())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"storeId\": 1, \"date\": \"2025-01-01\", \"hour\": 24}")
+        ).andExpect(status().isBadRequest());
+
+        Mockito.verifyNoInteractions(reservationManageService);
+    }
+
 }
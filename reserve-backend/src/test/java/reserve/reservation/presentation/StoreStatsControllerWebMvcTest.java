@@ -0,0 +1,85 @@
+package reserve.reservation.presentation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import reserve.global.TestUtils;
+import reserve.reservation.dto.response.DailyStatsResponse;
+import reserve.reservation.dto.response.StoreStatsResponse;
+import reserve.reservation.service.StoreDailyStatsService;
+import reserve.signin.dto.SignInToken;
+import reserve.signin.infrastructure.JwtProvider;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(StoreStatsController.class)
+@Import(JwtProvider.class)
+class StoreStatsControllerWebMvcTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    JwtProvider jwtProvider;
+
+    @MockBean
+    StoreDailyStatsService storeDailyStatsService;
+
+    @Test
+    @DisplayName("Testing GET /v1/stores/{storeId}/stats endpoint")
+    void testGetStoreStatsEndpoint() throws Exception {
+        final long userId = 10L;
+        LocalDate from = LocalDate.now();
+        LocalDate to = from.plusDays(1);
+        SignInToken signInToken = jwtProvider.generateSignInToken(TestUtils.getTokenDetails(userId));
+
+        Mockito.when(storeDailyStatsService.getStats(
+                Mockito.eq(userId),
+                Mockito.eq(1L),
+                Mockito.argThat(request -> from.equals(request.getFrom()) && to.equals(request.getTo()))
+        )).thenReturn(StoreStatsResponse.of(
+                1L,
+                List.of(
+                        new DailyStatsResponse(from, 3, 1, 0, 1, 1, 0, 40000),
+                        DailyStatsResponse.of(to, null)
+                )
+        ));
+
+        mockMvc.perform(
+                get("/v1/stores/{storeId}/stats", 1L)
+                        .header("Authorization", "Bearer " + signInToken.getAccessToken())
+                        .param("from", from.toString())
+                        .param("to", to.toString())
+        ).andExpectAll(
+                status().isOk(),
+                jsonPath("$.storeId").value(1),
+                jsonPath("$.reservationCount").value(3),
+                jsonPath("$.revenue").value(40000),
+                jsonPath("$.results.length()").value(2),
+                jsonPath("$.results[0].date").value(from.toString()),
+                jsonPath("$.results[0].cancelledCount").value(1),
+                jsonPath("$.results[1].reservationCount").value(0)
+        );
+    }
+
+    @Test
+    @DisplayName("Testing GET /v1/stores/{storeId}/stats endpoint without date range")
+    void testGetStoreStatsEndpointWithoutRange() throws Exception {
+        SignInToken signInToken = jwtProvider.generateSignInToken(TestUtils.getTokenDetails(10L));
+
+        mockMvc.perform(
+                get("/v1/stores/{storeId}/stats", 1L)
+                        .header("Authorization", "Bearer " + signInToken.getAccessToken())
+        ).andExpect(status().isBadRequest());
+    }
+
+}
@@ -0,0 +1,91 @@
+package reserve.reservation.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import reserve.reservation.domain.ReservationStatusType;
+import reserve.reservation.dto.ReservationManageTargetDto;
+import reserve.reservation.infrastructure.ReservationQueryRepository;
+import reserve.reservation.infrastructure.ReservationRepository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+@ExtendWith(MockitoExtension.class)
+class OverdueReservationSweeperTest {
+
+    @Mock
+    ReservationRepository reservationRepository;
+
+    @Mock
+    ReservationQueryRepository reservationQueryRepository;
+
+    @Mock
+    StoreDailyStatsService storeDailyStatsService;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    OverdueReservationSweeper overdueReservationSweeper;
+
+    @BeforeEach
+    void setUp() {
+        overdueReservationSweeper = new OverdueReservationSweeper(
+                reservationRepository,
+                reservationQueryRepository,
+                storeDailyStatsService,
+                transactionManager,
+                Duration.ofHours(2),
+                2,
+                Duration.ZERO
+        );
+    }
+
+    @Test
+    @DisplayName("Testing overdue reservations are closed chunk by chunk")
+    void testSweep() {
+        LocalDate date = LocalDate.now().minusDays(1);
+        List<ReservationManageTargetDto> firstChunk = List.of(
+                new ReservationManageTargetDto(1L, 1L, date, 12, ReservationStatusType.READY),
+                new ReservationManageTargetDto(2L, 1L, date, 13, ReservationStatusType.READY)
+        );
+        List<ReservationManageTargetDto> lastChunk = List.of(
+                new ReservationManageTargetDto(5L, 1L, date, 14, ReservationStatusType.READY)
+        );
+        List<ReservationManageTargetDto> inService = List.of(
+                new ReservationManageTargetDto(3L, 1L, date, 12, ReservationStatusType.IN_SERVICE)
+        );
+        Mockito.when(reservationQueryRepository.findOverdueForUpdate(
+                Mockito.eq(ReservationStatusType.READY), Mockito.any(), Mockito.eq(0L), Mockito.eq(2)
+        )).thenReturn(firstChunk);
+        Mockito.when(reservationQueryRepository.findOverdueForUpdate(
+                Mockito.eq(ReservationStatusType.READY), Mockito.any(), Mockito.eq(2L), Mockito.eq(2)
+        )).thenReturn(lastChunk);
+        Mockito.when(reservationQueryRepository.findOverdueForUpdate(
+                Mockito.eq(ReservationStatusType.IN_SERVICE), Mockito.any(), Mockito.eq(0L), Mockito.eq(2)
+        )).thenReturn(inService);
+
+        overdueReservationSweeper.sweep();
+
+        Mockito.verify(reservationRepository).updateStatusByIdIn(
+                List.of(1L, 2L), Set.of(ReservationStatusType.READY), ReservationStatusType.NO_SHOW
+        );
+        Mockito.verify(reservationRepository).updateStatusByIdIn(
+                List.of(5L), Set.of(ReservationStatusType.READY), ReservationStatusType.NO_SHOW
+        );
+        Mockito.verify(reservationRepository).updateStatusByIdIn(
+                List.of(3L), Set.of(ReservationStatusType.IN_SERVICE), ReservationStatusType.COMPLETED
+        );
+        Mockito.verify(storeDailyStatsService).recordStatusChanges(firstChunk, ReservationStatusType.NO_SHOW);
+        Mockito.verify(storeDailyStatsService).recordStatusChanges(lastChunk, ReservationStatusType.NO_SHOW);
+        Mockito.verify(storeDailyStatsService).recordStatusChanges(inService, ReservationStatusType.COMPLETED);
+    }
+
+}
@@ -7,10 +7,24 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reserve.global.exception.ErrorCode;
+import reserve.global.exception.InvalidRequestException;
 import reserve.reservation.domain.Reservation;
+import reserve.reservation.domain.ReservationStatusType;
+import reserve.reservation.dto.ReservationManageTargetDto;
+import reserve.reservation.dto.request.ReservationBulkManageRequest;
+import reserve.reservation.dto.response.ReservationBulkManageResponse;
+import reserve.reservation.dto.response.ReservationBulkManageResultResponse;
+import reserve.reservation.infrastructure.ReservationQueryRepository;
 import reserve.reservation.infrastructure.ReservationRepository;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
 
 @ExtendWith(MockitoExtension.class)
 class ReservationManageServiceTest {
@@ -18,6 +32,15 @@ class ReservationManageServiceTest {
     @Mock
     ReservationRepository reservationRepository;
 
+    @Mock
+    ReservationQueryRepository reservationQueryRepository;
+
+    @Mock
+    ReservationSlotService reservationSlotService;
+
+    @Mock
+    StoreDailyStatsService storeDailyStatsService;
+
     @InjectMocks
     ReservationManageService reservationManageService;
 
@@ -30,6 +53,8 @@ class ReservationManageServiceTest {
         reservationManageService.cancel(1L, 1L);
 
         Mockito.verify(reservation, Mockito.times(1)).cancel();
+        Mockito.verify(reservationSlotService).vacate(reservation);
+        Mockito.verify(storeDailyStatsService).recordChange(Mockito.any(), Mockito.eq(reservation));
     }
 
     @Test
@@ -41,6 +66,7 @@ class ReservationManageServiceTest {
         reservationManageService.startService(1L, 1L);
 
         Mockito.verify(reservation, Mockito.times(1)).start();
+        Mockito.verify(storeDailyStatsService).recordChange(Mockito.any(), Mockito.eq(reservation));
     }
 
     @Test
@@ -52,6 +78,86 @@ class ReservationManageServiceTest {
         reservationManageService.complete(1L, 1L);
 
         Mockito.verify(reservation, Mockito.times(1)).complete();
+        Mockito.verify(storeDailyStatsService).recordChange(Mockito.any(), Mockito.eq(reservation));
+    }
+
+    @Test
+    @DisplayName("Testing bulk cancellation of reservations by IDs")
+    void testBulkCancellation() {
+        LocalDate date = LocalDate.now();
+        ReservationBulkManageRequest request = new ReservationBulkManageRequest();
+        request.setReservationIds(List.of(1L, 2L, 3L, 4L));
+
+        Mockito.when(reservationQueryRepository.findManageTargetsForUpdate(10L, request)).thenReturn(List.of(
+                new ReservationManageTargetDto(1L, 100L, date, 12, ReservationStatusType.READY),
+                new ReservationManageTargetDto(2L, 100L, date, 12, ReservationStatusType.CANCELLED),
+                new ReservationManageTargetDto(3L, 100L, date, 13, ReservationStatusType.IN_SERVICE)
+        ));
+
+        ReservationBulkManageResponse response = reservationManageService.bulkCancel(10L, request);
+
+        assertEquals(1, response.getChangedCount());
+        assertEquals(2, response.getFailedCount());
+        assertThat(response.getResults())
+                .extracting(ReservationBulkManageResultResponse::getResult)
+                .containsExactly(
+                        ReservationBulkManageResultResponse.Result.CHANGED,
+                        ReservationBulkManageResultResponse.Result.UNCHANGED,
+                        ReservationBulkManageResultResponse.Result.FAILED,
+                        ReservationBulkManageResultResponse.Result.FAILED
+                );
+        assertEquals(ErrorCode.RESERVATION_CANNOT_CANCEL, response.getResults().get(2).getError());
+        assertEquals(ErrorCode.RESERVATION_NOT_FOUND, response.getResults().get(3).getError());
+        assertEquals(List.of(1L), response.changedReservationIds());
+
+        Mockito.verify(reservationRepository).updateStatusByIdIn(
+                List.of(1L),
+                Set.of(ReservationStatusType.READY),
+                ReservationStatusType.CANCELLED
+        );
+        Mockito.verify(reservationSlotService).vacate(100L, date, 12);
+        Mockito.verify(storeDailyStatsService).recordStatusChanges(
+                Mockito.argThat(reservations -> reservations.size() == 1
+                                                && reservations.get(0).getReservationId().equals(1L)),
+                Mockito.eq(ReservationStatusType.CANCELLED)
+        );
+    }
+
+    @Test
+    @DisplayName("Testing bulk start of reservations of a store hour")
+    void testBulkStartServiceBySelector() {
+        LocalDate date = LocalDate.now();
+        ReservationBulkManageRequest request = new ReservationBulkManageRequest();
+        request.setStoreId(100L);
+        request.setDate(date);
+        request.setHour(12);
+
+        Mockito.when(reservationQueryRepository.findManageTargetsForUpdate(10L, request)).thenReturn(List.of(
+                new ReservationManageTargetDto(1L, 100L, date, 12, ReservationStatusType.READY),
+                new ReservationManageTargetDto(2L, 100L, date, 12, ReservationStatusType.READY)
+        ));
+
+        ReservationBulkManageResponse response = reservationManageService.bulkStartService(10L, request);
+
+        assertEquals(2, response.getChangedCount());
+        assertEquals(List.of(1L, 2L), response.changedReservationIds());
+        Mockito.verify(reservationRepository).updateStatusByIdIn(
+                List.of(1L, 2L),
+                Set.of(ReservationStatusType.READY),
+                ReservationStatusType.IN_SERVICE
+        );
+        Mockito.verifyNoInteractions(reservationSlotService);
+    }
+
+    @Test
+    @DisplayName("Testing bulk completion without any selector")
+    void testBulkCompletionWithoutSelector() {
+        InvalidRequestException e = assertThrows(
+                InvalidRequestException.class,
+                () -> reservationManageService.bulkComplete(10L, new ReservationBulkManageRequest())
+        );
+        assertEquals(ErrorCode.INVALID_REQUEST, e.getErrorCode());
+        Mockito.verifyNoInteractions(reservationRepository);
     }
 
 }
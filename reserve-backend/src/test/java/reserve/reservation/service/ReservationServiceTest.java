@@ -10,9 +10,15 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import reserve.auth.infrastructure.AuthorizationFactCache;
+import reserve.global.exception.ErrorCode;
+import reserve.global.exception.InvalidRequestException;
+import reserve.global.exception.ReservationCapacityException;
 import reserve.menu.domain.Menu;
 import reserve.menu.infrastructure.MenuRepository;
 import reserve.reservation.domain.Reservation;
+import reserve.reservation.dto.ReservationSearchCursor;
 import reserve.reservation.dto.request.ReservationCreateRequest;
 import reserve.reservation.dto.request.ReservationMenuCreateRequest;
 import reserve.reservation.dto.request.ReservationSearchRequest;
@@ -56,6 +62,15 @@ class ReservationServiceTest {
     @Mock
     UserRepository userRepository;
 
+    @Mock
+    ReservationSlotService reservationSlotService;
+
+    @Mock
+    StoreDailyStatsService storeDailyStatsService;
+
+    @Mock
+    AuthorizationFactCache authorizationFactCache;
+
     @InjectMocks
     ReservationService reservationService;
 
@@ -77,14 +92,13 @@ class ReservationServiceTest {
 
         reservationCreateRequest.setMenus(List.of(menuCreateRequest1, menuCreateRequest2));
 
-        Mockito.when(userRepository.existsById(1L)).thenReturn(true);
-        Mockito.when(storeRepository.existsById(1L)).thenReturn(true);
+        Mockito.when(authorizationFactCache.isUserAvailable(1L)).thenReturn(true);
         Mockito.when(reservationRepository.save(Mockito.any())).thenAnswer(invocation -> invocation.getArgument(0));
 
         Store storeMock = Mockito.mock();
         Mockito.when(storeMock.getId()).thenReturn(1L);
 
-        Mockito.when(storeRepository.getReferenceById(1L)).thenReturn(storeMock);
+        Mockito.when(storeRepository.findById(1L)).thenReturn(Optional.of(storeMock));
 
         Menu menuMock1 = Mockito.mock();
         Mockito.when(menuMock1.getId()).thenReturn(10L);
@@ -107,7 +121,30 @@ class ReservationServiceTest {
             assertEquals(result, 1L);
         }
 
+        Mockito.verify(reservationSlotService).occupy(storeMock, reservationCreateRequest.getDate(), 1);
         Mockito.verify(reservationMenuRepository, Mockito.times(1)).saveAll(Mockito.anyList());
+        Mockito.verify(storeDailyStatsService).recordCreated(Mockito.any(), Mockito.eq(0L));
+    }
+
+    @Test
+    @DisplayName("Testing reservation creation is rejected when the slot is full")
+    void testReservationCreationOnFullSlot() {
+        ReservationCreateRequest reservationCreateRequest = new ReservationCreateRequest();
+        reservationCreateRequest.setStoreId(1L);
+        reservationCreateRequest.setDate(LocalDate.now());
+        reservationCreateRequest.setHour(1);
+
+        Store storeMock = Mockito.mock();
+        Mockito.when(authorizationFactCache.isUserAvailable(1L)).thenReturn(true);
+        Mockito.when(storeRepository.findById(1L)).thenReturn(Optional.of(storeMock));
+        Mockito.doThrow(new ReservationCapacityException(ErrorCode.RESERVATION_SLOT_FULL))
+                .when(reservationSlotService).occupy(storeMock, reservationCreateRequest.getDate(), 1);
+
+        assertThrows(
+                ReservationCapacityException.class,
+                () -> reservationService.create(1L, reservationCreateRequest)
+        );
+        Mockito.verify(reservationRepository, Mockito.never()).save(Mockito.any());
     }
 
     @Test
@@ -150,7 +187,7 @@ class ReservationServiceTest {
         ReservationInfoResponse reservationInfo3 =
                 new ReservationInfoResponse(1L, 1L, "registrant", "username", LocalDate.now(), 3);
 
-        Mockito.when(userRepository.existsById(1L)).thenReturn(true);
+        Mockito.when(authorizationFactCache.isUserAvailable(1L)).thenReturn(true);
         Mockito.when(reservationQueryRepository.findResponsesBySearch(1L, reservationSearchRequest, pageable))
                 .thenReturn(new PageImpl<>(List.of(reservationInfo1, reservationInfo2, reservationInfo3), pageable, 3));
 
@@ -164,6 +201,53 @@ class ReservationServiceTest {
         assertThat(response.getResults()).contains(reservationInfo1, reservationInfo2, reservationInfo3);
     }
 
+    @Test
+    @DisplayName("Testing reservation search by cursor")
+    void testReservationSearchByCursor() {
+        ReservationSearchRequest reservationSearchRequest = new ReservationSearchRequest();
+        reservationSearchRequest.setCursor(new ReservationSearchCursor(LocalDate.now(), 1, 1L).encode());
+        ReservationInfoResponse reservationInfo1 =
+                new ReservationInfoResponse(2L, 1L, "registrant", "username", LocalDate.now(), 2);
+        ReservationInfoResponse reservationInfo2 =
+                new ReservationInfoResponse(3L, 1L, "registrant", "username", LocalDate.now(), 3);
+
+        Mockito.when(authorizationFactCache.isUserAvailable(1L)).thenReturn(true);
+        Mockito.when(reservationQueryRepository.findResponsesBySearchAfter(
+                Mockito.eq(1L),
+                Mockito.eq(reservationSearchRequest),
+                Mockito.argThat(cursor -> cursor.getHour() == 1 && cursor.getReservationId() == 1L),
+                Mockito.eq(2)
+        )).thenReturn(new SliceImpl<>(List.of(reservationInfo1, reservationInfo2), PageRequest.ofSize(2), true));
+
+        ReservationInfoListResponse response =
+                reservationService.search(1L, reservationSearchRequest, PageRequest.of(0, 2));
+
+        assertEquals(2, response.getCount());
+        assertTrue(response.hasNext());
+        ReservationSearchCursor nextCursor = ReservationSearchCursor.decode(response.getNextCursor());
+        assertEquals(LocalDate.now(), nextCursor.getDate());
+        assertEquals(3, nextCursor.getHour());
+        assertEquals(3L, nextCursor.getReservationId());
+        Mockito.verify(reservationQueryRepository, Mockito.never()).findResponsesBySearch(
+                Mockito.any(), Mockito.any(), Mockito.any()
+        );
+    }
+
+    @Test
+    @DisplayName("Testing reservation search with an invalid cursor")
+    void testReservationSearchWithInvalidCursor() {
+        ReservationSearchRequest reservationSearchRequest = new ReservationSearchRequest();
+        reservationSearchRequest.setCursor("not-a-cursor");
+
+        Mockito.when(authorizationFactCache.isUserAvailable(1L)).thenReturn(true);
+
+        InvalidRequestException e = assertThrows(
+                InvalidRequestException.class,
+                () -> reservationService.search(1L, reservationSearchRequest, PageRequest.of(0, 20))
+        );
+        assertEquals(ErrorCode.INVALID_CURSOR, e.getErrorCode());
+    }
+
     @Test
     @DisplayName("Testing reservation update functionality")
     void testReservationUpdating() {
@@ -181,6 +265,8 @@ class ReservationServiceTest {
 
         assertEquals(newDate, reservation.getDate());
         assertEquals(10, reservation.getHour());
+        Mockito.verify(reservationSlotService).move(reservation, newDate, 10);
+        Mockito.verify(storeDailyStatsService).recordChange(Mockito.any(), Mockito.eq(reservation));
     }
 
     @Test
@@ -192,6 +278,8 @@ class ReservationServiceTest {
         reservationService.cancel(1L, 1L);
 
         Mockito.verify(reservation, Mockito.times(1)).cancel();
+        Mockito.verify(reservationSlotService).vacate(reservation);
+        Mockito.verify(storeDailyStatsService).recordChange(Mockito.any(), Mockito.eq(reservation));
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,122 @@
+package reserve.reservation.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reserve.global.exception.InvalidRequestException;
+import reserve.global.exception.ReservationCapacityException;
+import reserve.reservation.domain.Reservation;
+import reserve.reservation.dto.request.StoreAvailabilityRequest;
+import reserve.reservation.dto.response.DailyAvailabilityResponse;
+import reserve.reservation.dto.response.StoreAvailabilityResponse;
+import reserve.reservation.infrastructure.ReservationSlotCounter;
+import reserve.reservation.infrastructure.ReservationSlotDay;
+import reserve.store.domain.Store;
+import reserve.store.infrastructure.StoreRepository;
+import reserve.user.domain.User;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationSlotServiceTest {
+
+    @Mock
+    ReservationSlotCounter reservationSlotCounter;
+
+    @Mock
+    StoreRepository storeRepository;
+
+    @InjectMocks
+    ReservationSlotService reservationSlotService;
+
+    @Test
+    @DisplayName("Testing occupying, moving and vacating reservation slots")
+    void testOccupyMoveAndVacate() {
+        LocalDate date = LocalDate.now();
+        Store store = Mockito.spy(new Store(Mockito.mock(User.class), "Pasta", "address", "description"));
+        Mockito.when(store.getId()).thenReturn(1L);
+        store.setCapacity(1);
+        Mockito.when(reservationSlotCounter.tryAcquire(1L, date, 12, 1)).thenReturn(true).thenReturn(false);
+        Mockito.when(reservationSlotCounter.tryAcquire(1L, date, 13, 1)).thenReturn(true);
+
+        reservationSlotService.occupy(store, date, 12);
+        assertThrows(ReservationCapacityException.class, () -> reservationSlotService.occupy(store, date, 12));
+
+        Reservation reservation = new Reservation(Mockito.mock(User.class), store, date, 12);
+        reservationSlotService.move(reservation, date, 13);
+        Mockito.verify(reservationSlotCounter).tryAcquire(1L, date, 13, 1);
+        Mockito.verify(reservationSlotCounter).release(1L, date, 12);
+
+        reservation.setHour(13);
+        reservationSlotService.vacate(reservation);
+        Mockito.verify(reservationSlotCounter).release(1L, date, 13);
+    }
+
+    @Test
+    @DisplayName("Testing store availability retrieval")
+    void testAvailabilityRetrieval() {
+        LocalDate from = LocalDate.now();
+        Store store = Mockito.mock(Store.class);
+        Mockito.when(store.getCapacity()).thenReturn(2);
+        Mockito.when(storeRepository.findById(1L)).thenReturn(Optional.of(store));
+        int[] firstCounts = new int[ReservationSlotDay.HOURS_PER_DAY];
+        firstCounts[12] = 2;
+        int[] secondCounts = new int[ReservationSlotDay.HOURS_PER_DAY];
+        secondCounts[18] = 1;
+        Mockito.when(reservationSlotCounter.getSlotDays(1L, from, from.plusDays(2), 2)).thenReturn(List.of(
+                new ReservationSlotDay(firstCounts, 2),
+                new ReservationSlotDay(secondCounts, 2),
+                new ReservationSlotDay(new int[ReservationSlotDay.HOURS_PER_DAY], 2)
+        ));
+
+        StoreAvailabilityRequest request = new StoreAvailabilityRequest();
+        request.setFrom(from);
+        request.setTo(from.plusDays(2));
+        StoreAvailabilityResponse response = reservationSlotService.getAvailability(1L, request);
+
+        assertEquals(2, response.getCapacity());
+        assertThat(response.getResults())
+                .extracting(DailyAvailabilityResponse::getDate)
+                .containsExactly(from, from.plusDays(1), from.plusDays(2));
+
+        DailyAvailabilityResponse first = response.getResults().get(0);
+        assertThat(first.getFullHours()).containsExactly(12);
+        assertThat(first.getAvailableHours()).hasSize(23).doesNotContain(12);
+        assertEquals(2, first.getReservationCounts().get(12));
+
+        DailyAvailabilityResponse second = response.getResults().get(1);
+        assertThat(second.getFullHours()).isEmpty();
+        assertEquals(1, second.getReservationCounts().get(18));
+
+        assertThat(response.getResults().get(2).getAvailableHours()).hasSize(24);
+    }
+
+    @Test
+    @DisplayName("Testing store availability retrieval with an invalid or past date range")
+    void testAvailabilityRetrievalWithInvalidRange() {
+        LocalDate from = LocalDate.now();
+        StoreAvailabilityRequest reversed = new StoreAvailabilityRequest();
+        reversed.setFrom(from);
+        reversed.setTo(from.minusDays(1));
+        StoreAvailabilityRequest tooLong = new StoreAvailabilityRequest();
+        tooLong.setFrom(from);
+        tooLong.setTo(from.plusDays(ReservationSlotService.MAX_AVAILABILITY_DAYS));
+        StoreAvailabilityRequest past = new StoreAvailabilityRequest();
+        past.setFrom(from.minusDays(1));
+        past.setTo(from);
+
+        assertThrows(InvalidRequestException.class, () -> reservationSlotService.getAvailability(1L, reversed));
+        assertThrows(InvalidRequestException.class, () -> reservationSlotService.getAvailability(1L, tooLong));
+        assertThrows(InvalidRequestException.class, () -> reservationSlotService.getAvailability(1L, past));
+    }
+
+}
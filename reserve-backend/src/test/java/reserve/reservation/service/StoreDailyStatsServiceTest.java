@@ -0,0 +1,314 @@
+package reserve.reservation.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import reserve.auth.infrastructure.AuthorizationFactCache;
+import reserve.global.exception.ErrorCode;
+import reserve.global.exception.InvalidRequestException;
+import reserve.global.exception.ResourceNotFoundException;
+import reserve.global.lock.JobLease;
+import reserve.reservation.domain.Reservation;
+import reserve.reservation.domain.ReservationStatusType;
+import reserve.reservation.domain.StoreDailyStats;
+import reserve.reservation.domain.StoreDailyStatsId;
+import reserve.reservation.dto.ReservationDailyStatusCountDto;
+import reserve.reservation.dto.ReservationManageTargetDto;
+import reserve.reservation.dto.ReservationRevenueDto;
+import reserve.reservation.dto.ReservationStatsSnapshot;
+import reserve.reservation.dto.request.StoreStatsRequest;
+import reserve.reservation.dto.response.StoreStatsResponse;
+import reserve.reservation.infrastructure.ReservationMenuRepository;
+import reserve.reservation.infrastructure.ReservationQueryRepository;
+import reserve.reservation.infrastructure.StoreDailyStatsRepository;
+import reserve.store.domain.Store;
+import reserve.user.domain.User;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class StoreDailyStatsServiceTest {
+
+    @Mock
+    StoreDailyStatsRepository storeDailyStatsRepository;
+
+    @Mock
+    ReservationMenuRepository reservationMenuRepository;
+
+    @Mock
+    ReservationQueryRepository reservationQueryRepository;
+
+    @Mock
+    AuthorizationFactCache authorizationFactCache;
+
+    @Mock
+    JobLease jobLease;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    StoreDailyStatsService storeDailyStatsService;
+
+    @BeforeEach
+    void setUp() {
+        storeDailyStatsService = new StoreDailyStatsService(
+                storeDailyStatsRepository,
+                reservationMenuRepository,
+                reservationQueryRepository,
+                authorizationFactCache,
+                jobLease,
+                transactionManager,
+                7,
+                Duration.ofMinutes(30)
+        );
+    }
+
+    @Test
+    @DisplayName("Testing a new reservation is added to the rollup of its day")
+    void testRecordCreated() {
+        LocalDate date = LocalDate.now();
+        Reservation reservation = reservation(date);
+        StoreDailyStats stats = new StoreDailyStats(new StoreDailyStatsId(1L, date));
+        Mockito.when(storeDailyStatsRepository.findForUpdateById(new StoreDailyStatsId(1L, date)))
+                .thenReturn(Optional.of(stats));
+
+        storeDailyStatsService.recordCreated(reservation, 30000);
+
+        Mockito.verify(storeDailyStatsRepository).insertOrLock(1L, date);
+        assertEquals(1, stats.getReservationCount());
+        assertEquals(1, stats.getReadyCount());
+        assertEquals(30000, stats.getRevenue());
+    }
+
+    @Test
+    @DisplayName("Testing a moved reservation is moved between the rollups of two days")
+    void testRecordChangeOfDate() {
+        LocalDate date = LocalDate.now();
+        LocalDate newDate = date.plusDays(1);
+        Reservation reservation = reservation(date);
+        Mockito.when(reservationMenuRepository.sumRevenueByReservationId(reservation.getId())).thenReturn(30000L);
+
+        StoreDailyStats before = new StoreDailyStats(new StoreDailyStatsId(1L, date));
+        before.add(ReservationStatsSnapshot.of(reservation, 30000));
+        StoreDailyStats after = new StoreDailyStats(new StoreDailyStatsId(1L, newDate));
+        Mockito.when(storeDailyStatsRepository.findForUpdateById(new StoreDailyStatsId(1L, date)))
+                .thenReturn(Optional.of(before));
+        Mockito.when(storeDailyStatsRepository.findForUpdateById(new StoreDailyStatsId(1L, newDate)))
+                .thenReturn(Optional.of(after));
+
+        ReservationStatsSnapshot snapshot = storeDailyStatsService.snapshot(reservation);
+        reservation.setDate(newDate);
+        storeDailyStatsService.recordChange(snapshot, reservation);
+
+        assertEquals(0, before.getReservationCount());
+        assertEquals(0, before.getRevenue());
+        assertEquals(1, after.getReservationCount());
+        assertEquals(30000, after.getRevenue());
+    }
+
+    @Test
+    @DisplayName("Testing cancellation keeps the reservation count and removes the revenue")
+    void testRecordCancellation() {
+        LocalDate date = LocalDate.now();
+        Reservation reservation = reservation(date);
+        Mockito.when(reservationMenuRepository.sumRevenueByReservationId(reservation.getId())).thenReturn(30000L);
+
+        StoreDailyStats stats = new StoreDailyStats(new StoreDailyStatsId(1L, date));
+        stats.add(ReservationStatsSnapshot.of(reservation, 30000));
+        Mockito.when(storeDailyStatsRepository.findForUpdateById(new StoreDailyStatsId(1L, date)))
+                .thenReturn(Optional.of(stats));
+
+        ReservationStatsSnapshot snapshot = storeDailyStatsService.snapshot(reservation);
+        reservation.cancel();
+        storeDailyStatsService.recordChange(snapshot, reservation);
+
+        assertEquals(1, stats.getReservationCount());
+        assertEquals(0, stats.getReadyCount());
+        assertEquals(1, stats.getCancelledCount());
+        assertEquals(0, stats.getRevenue());
+    }
+
+    @Test
+    @DisplayName("Testing status changes of multiple reservations are applied to the rollups at once")
+    void testRecordStatusChanges() {
+        LocalDate date = LocalDate.now();
+        StoreDailyStats stats = new StoreDailyStats(new StoreDailyStatsId(1L, date));
+        stats.addCount(ReservationStatusType.READY, 2);
+        stats.addRevenue(50000);
+        Mockito.when(reservationMenuRepository.findRevenuesByReservationIdIn(List.of(10L, 11L))).thenReturn(List.of(
+                new ReservationRevenueDto(10L, 30000L),
+                new ReservationRevenueDto(11L, 20000L)
+        ));
+        Mockito.when(storeDailyStatsRepository.findForUpdateById(new StoreDailyStatsId(1L, date)))
+                .thenReturn(Optional.of(stats));
+
+        storeDailyStatsService.recordStatusChanges(
+                List.of(
+                        new ReservationManageTargetDto(10L, 1L, date, 12, ReservationStatusType.READY),
+                        new ReservationManageTargetDto(11L, 1L, date, 13, ReservationStatusType.READY)
+                ),
+                ReservationStatusType.NO_SHOW
+        );
+
+        Mockito.verify(storeDailyStatsRepository, Mockito.times(1)).findForUpdateById(Mockito.any());
+        assertEquals(2, stats.getReservationCount());
+        assertEquals(0, stats.getReadyCount());
+        assertEquals(2, stats.getNoShowCount());
+        assertEquals(0, stats.getRevenue());
+    }
+
+    @Test
+    @DisplayName("Testing unchanged reservation does not touch the rollups")
+    void testRecordWithoutChange() {
+        Reservation reservation = reservation(LocalDate.now());
+        Mockito.when(reservationMenuRepository.sumRevenueByReservationId(reservation.getId())).thenReturn(30000L);
+
+        ReservationStatsSnapshot snapshot = storeDailyStatsService.snapshot(reservation);
+        reservation.setHour(13);
+        storeDailyStatsService.recordChange(snapshot, reservation);
+
+        Mockito.verifyNoInteractions(storeDailyStatsRepository);
+    }
+
+    @Test
+    @DisplayName("Testing rows are created or locked in date order in the same transaction before being read")
+    void testRecordLockOrder() {
+        LocalDate date = LocalDate.now();
+        LocalDate newDate = date.plusDays(1);
+        Reservation reservation = reservation(newDate);
+        Mockito.when(reservationMenuRepository.sumRevenueByReservationId(reservation.getId())).thenReturn(0L);
+        Mockito.when(storeDailyStatsRepository.findForUpdateById(Mockito.any()))
+                .thenAnswer(invocation -> Optional.of(new StoreDailyStats(invocation.getArgument(0))));
+
+        ReservationStatsSnapshot snapshot = storeDailyStatsService.snapshot(reservation);
+        reservation.setDate(date);
+        storeDailyStatsService.recordChange(snapshot, reservation);
+
+        InOrder inOrder = Mockito.inOrder(storeDailyStatsRepository);
+        inOrder.verify(storeDailyStatsRepository).insertOrLock(1L, date);
+        inOrder.verify(storeDailyStatsRepository).insertOrLock(1L, newDate);
+        inOrder.verify(storeDailyStatsRepository).findForUpdateById(new StoreDailyStatsId(1L, date));
+        inOrder.verify(storeDailyStatsRepository).findForUpdateById(new StoreDailyStatsId(1L, newDate));
+        Mockito.verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    @DisplayName("Testing each row is rebuilt from the reservations after it is locked")
+    void testRebuild() {
+        LocalDate date = LocalDate.now();
+        StoreDailyStatsId id = new StoreDailyStatsId(1L, date);
+        StoreDailyStats stats = new StoreDailyStats(id);
+        stats.addCount(ReservationStatusType.READY, 5);
+        stats.addRevenue(90000);
+        Mockito.when(storeDailyStatsRepository.findIdsFrom(date)).thenReturn(List.of(id));
+        Mockito.when(storeDailyStatsRepository.findForUpdateById(id)).thenReturn(Optional.of(stats));
+        Mockito.when(reservationQueryRepository.findDailyStatusCounts(1L, date)).thenReturn(List.of(
+                new ReservationDailyStatusCountDto(1L, date, ReservationStatusType.COMPLETED, 2),
+                new ReservationDailyStatusCountDto(1L, date, ReservationStatusType.CANCELLED, 1)
+        ));
+        Mockito.when(reservationQueryRepository.findDailyRevenue(1L, date)).thenReturn(50000L);
+
+        assertEquals(1, storeDailyStatsService.rebuild(date));
+
+        InOrder inOrder = Mockito.inOrder(storeDailyStatsRepository, reservationQueryRepository);
+        inOrder.verify(storeDailyStatsRepository).findForUpdateById(id);
+        inOrder.verify(reservationQueryRepository).findDailyStatusCounts(1L, date);
+        assertEquals(3, stats.getReservationCount());
+        assertEquals(0, stats.getReadyCount());
+        assertEquals(2, stats.getCompletedCount());
+        assertEquals(1, stats.getCancelledCount());
+        assertEquals(50000, stats.getRevenue());
+    }
+
+    @Test
+    @DisplayName("Testing reconciliation runs under the job lease")
+    void testReconcile() {
+        storeDailyStatsService.reconcile();
+
+        Mockito.verify(jobLease).runExclusively(
+                Mockito.eq("store-daily-stats-reconcile"),
+                Mockito.eq(Duration.ofMinutes(30)),
+                Mockito.any()
+        );
+        Mockito.verifyNoInteractions(storeDailyStatsRepository);
+    }
+
+    @Test
+    @DisplayName("Testing stats retrieval fills days without reservations with zeros")
+    void testGetStats() {
+        LocalDate from = LocalDate.now();
+        LocalDate to = from.plusDays(2);
+        StoreDailyStats stats = new StoreDailyStats(new StoreDailyStatsId(1L, from.plusDays(1)));
+        stats.addCount(ReservationStatusType.COMPLETED, 2);
+        stats.addRevenue(50000);
+
+        Mockito.when(authorizationFactCache.isStoreOwner(1L, 10L)).thenReturn(true);
+        Mockito.when(storeDailyStatsRepository.findAllByStoreIdAndDateBetween(1L, from, to))
+                .thenReturn(List.of(stats));
+
+        StoreStatsResponse response = storeDailyStatsService.getStats(10L, 1L, statsRequest(from, to));
+
+        assertEquals(2, response.getReservationCount());
+        assertEquals(50000, response.getRevenue());
+        assertThat(response.getResults()).hasSize(3);
+        assertEquals(0, response.getResults().get(0).getReservationCount());
+        assertEquals(2, response.getResults().get(1).getCompletedCount());
+        assertEquals(to, response.getResults().get(2).getDate());
+    }
+
+    @Test
+    @DisplayName("Testing stats retrieval of a store of another user")
+    void testGetStatsOfOtherStore() {
+        LocalDate from = LocalDate.now();
+        Mockito.when(authorizationFactCache.isStoreOwner(1L, 10L)).thenReturn(false);
+
+        ResourceNotFoundException e = assertThrows(
+                ResourceNotFoundException.class,
+                () -> storeDailyStatsService.getStats(10L, 1L, statsRequest(from, from))
+        );
+        assertEquals(ErrorCode.STORE_NOT_FOUND, e.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("Testing stats retrieval with invalid date range")
+    void testGetStatsWithInvalidRange() {
+        LocalDate from = LocalDate.now();
+
+        assertThrows(
+                InvalidRequestException.class,
+                () -> storeDailyStatsService.getStats(10L, 1L, statsRequest(from, from.minusDays(1)))
+        );
+        assertThrows(
+                InvalidRequestException.class,
+                () -> storeDailyStatsService.getStats(
+                        10L, 1L, statsRequest(from, from.plusDays(StoreDailyStatsService.MAX_STATS_DAYS))
+                )
+        );
+    }
+
+    private static Reservation reservation(LocalDate date) {
+        Store store = Mockito.spy(new Store(Mockito.mock(User.class), "Pasta", "address", "description"));
+        Mockito.lenient().when(store.getId()).thenReturn(1L);
+        return new Reservation(Mockito.mock(User.class), store, date, 12);
+    }
+
+    private static StoreStatsRequest statsRequest(LocalDate from, LocalDate to) {
+        StoreStatsRequest request = new StoreStatsRequest();
+        request.setFrom(from);
+        request.setTo(to);
+        return request;
+    }
+
+}
@@ -0,0 +1,79 @@
+package reserve.signin.infrastructure;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reserve.global.TestUtils;
+import reserve.signin.domain.TokenDetails;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares resolving the details of an access token by verifying it twice with a new parser each time,
+ * as the argument resolver used to, by verifying it once with the pre-built parser, and by a cache hit.
+ */
+@Slf4j
+class JwtVerificationBenchmarkTest {
+
+    static final String ACCESS_TOKEN_SECRET = "1234567890123456789012345678901234567890123456789012345678901234";
+    static final String REFRESH_TOKEN_SECRET = "9876543210987654321098765432109876543210987654321098765432109876";
+    static final int WARMUP_ROUNDS = 2000;
+    static final int ROUNDS = 20000;
+
+    final Key accessTokenSigningKey = new SecretKeySpec(
+            ACCESS_TOKEN_SECRET.getBytes(StandardCharsets.UTF_8),
+            JwtProvider.SIGNATURE_ALGORITHM.getJcaName()
+    );
+
+    @Test
+    @DisplayName("Benchmarking access token verification with and without the verified token cache")
+    void benchmarkAccessTokenVerification() {
+        JwtProvider uncached = new JwtProvider(ACCESS_TOKEN_SECRET, REFRESH_TOKEN_SECRET, 600, 604800, 0);
+        JwtProvider cached = new JwtProvider(ACCESS_TOKEN_SECRET, REFRESH_TOKEN_SECRET, 600, 604800, 100);
+        String accessToken = cached.generateSignInToken(TestUtils.getTokenDetails(1L)).getAccessToken();
+
+        long doubleParse = run(accessToken, this::parseTwice);
+        long singleParse = run(accessToken, uncached::findAccessTokenDetails);
+        long cacheHit = run(accessToken, cached::findAccessTokenDetails);
+
+        log.info(
+                "Resolving an access token: {} ns with two fresh parsers, {} ns with one pre-built parser, " +
+                "{} ns with a cache hit",
+                doubleParse,
+                singleParse,
+                cacheHit
+        );
+
+        assertEquals("1", uncached.findAccessTokenDetails(accessToken).getUserId());
+        assertEquals("1", cached.findAccessTokenDetails(accessToken).getUserId());
+    }
+
+    private TokenDetails parseTwice(String jwt) {
+        Jwts.parserBuilder().setSigningKey(accessTokenSigningKey).build().parseClaimsJws(jwt);
+        Claims body = Jwts.parserBuilder().setSigningKey(accessTokenSigningKey).build().parseClaimsJws(jwt).getBody();
+        return new TokenDetails(
+                body.getSubject(),
+                body.get("username", String.class),
+                body.get("nickname", String.class)
+        );
+    }
+
+    private static long run(String jwt, Function<String, TokenDetails> resolver) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            resolver.apply(jwt);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            assertNotNull(resolver.apply(jwt));
+        }
+        return (System.nanoTime() - start) / ROUNDS;
+    }
+
+}
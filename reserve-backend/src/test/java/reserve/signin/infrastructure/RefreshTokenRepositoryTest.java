@@ -5,8 +5,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import reserve.signin.domain.RefreshToken;
 
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
@@ -15,20 +18,80 @@ class RefreshTokenRepositoryTest {
     @Autowired
     RefreshTokenRepository refreshTokenRepository;
 
+    @Autowired
+    StringRedisTemplate redisTemplate;
+
     @AfterEach
     void tearDown() {
-        refreshTokenRepository.deleteAll();
+        refreshTokenRepository.deleteAllByUserId(1L);
+        refreshTokenRepository.deleteAllByUserId(2L);
+        redisTemplate.delete(RedisRefreshTokenRepository.LEGACY_KEY_PREFIX + "legacy");
     }
 
     @Test
     @DisplayName("Testing RefreshToken persistence and retrieval")
     void testRefreshTokenPersistence() {
         refreshTokenRepository.save(new RefreshToken("token1", 1L, 604800));
-        refreshTokenRepository.findById("token1").ifPresentOrElse(refreshToken -> {
+        refreshTokenRepository.findById(1L, "token1").ifPresentOrElse(refreshToken -> {
             assertEquals("token1", refreshToken.getTokenValue());
             assertEquals(1L, refreshToken.getUserId());
-            assertEquals(604800, refreshToken.getExpiration());
+            assertTrue(refreshToken.getExpiration() > 604700 && refreshToken.getExpiration() <= 604800);
         }, () -> fail("RefreshToken not found"));
+        assertTrue(redisTemplate.getExpire(RedisRefreshTokenRepository.key(1L, "token1")) > 0);
+        assertTrue(redisTemplate.getExpire(RedisRefreshTokenRepository.userKey(1L)) > 0);
+    }
+
+    @Test
+    @DisplayName("Testing refresh token rotation")
+    void testRotation() {
+        refreshTokenRepository.save(new RefreshToken("token1", 1L, 604800));
+
+        assertTrue(refreshTokenRepository.rotate("token1", new RefreshToken("token2", 1L, 604800)));
+        assertFalse(refreshTokenRepository.rotate("token1", new RefreshToken("token3", 1L, 604800)));
+        assertFalse(refreshTokenRepository.rotate("token2", new RefreshToken("token4", 2L, 604800)));
+
+        assertTrue(refreshTokenRepository.findById(1L, "token1").isEmpty());
+        assertTrue(refreshTokenRepository.findById(1L, "token2").isPresent());
+        assertTrue(refreshTokenRepository.findById(1L, "token3").isEmpty());
+        assertTrue(refreshTokenRepository.findById(2L, "token4").isEmpty());
+        assertEquals(1, redisTemplate.opsForZSet().size(RedisRefreshTokenRepository.userKey(1L)));
+    }
+
+    @Test
+    @DisplayName("Testing rotation of a refresh token saved as a Spring Data Redis hash")
+    void testLegacyRotation() {
+        String legacyKey = RedisRefreshTokenRepository.LEGACY_KEY_PREFIX + "legacy";
+        redisTemplate.opsForHash().putAll(legacyKey, Map.of("tokenValue", "legacy", "userId", "1"));
+
+        assertTrue(refreshTokenRepository.rotate("legacy", new RefreshToken("token1", 1L, 604800)));
+
+        assertFalse(redisTemplate.hasKey(legacyKey));
+        assertTrue(refreshTokenRepository.findById(1L, "token1").isPresent());
+    }
+
+    @Test
+    @DisplayName("Testing refresh token deletion")
+    void testDeletion() {
+        refreshTokenRepository.save(new RefreshToken("token1", 1L, 604800));
+
+        refreshTokenRepository.deleteById(1L, "token1");
+
+        assertTrue(refreshTokenRepository.findById(1L, "token1").isEmpty());
+        assertEquals(0, redisTemplate.opsForZSet().size(RedisRefreshTokenRepository.userKey(1L)));
+    }
+
+    @Test
+    @DisplayName("Testing revocation of all refresh tokens of a user")
+    void testDeletionByUserId() {
+        refreshTokenRepository.save(new RefreshToken("token1", 1L, 604800));
+        refreshTokenRepository.save(new RefreshToken("token2", 1L, 604800));
+        refreshTokenRepository.save(new RefreshToken("token3", 2L, 604800));
+
+        assertEquals(2, refreshTokenRepository.deleteAllByUserId(1L));
+
+        assertTrue(refreshTokenRepository.findById(1L, "token1").isEmpty());
+        assertTrue(refreshTokenRepository.findById(1L, "token2").isEmpty());
+        assertTrue(refreshTokenRepository.findById(2L, "token3").isPresent());
     }
 
 }
@@ -78,10 +78,10 @@ class SignInControllerTest extends BaseRestAssuredTest {
 
         response.then().statusCode(200);
 
-        assertFalse(jwtProvider.isAccessTokenExpired(response.getHeader("Authorization")));
+        assertNotNull(jwtProvider.findAccessTokenDetails(response.getHeader("Authorization")));
         assertFalse(jwtProvider.isRefreshTokenExpired(response.getCookie("refresh")));
 
-        refreshTokenRepository.findById(response.getCookie("refresh")).ifPresentOrElse(
+        refreshTokenRepository.findById(user.getId(), response.getCookie("refresh")).ifPresentOrElse(
                 refreshToken -> assertEquals(user.getId(), refreshToken.getUserId()),
                 () -> fail("Refresh token not found")
         );
@@ -115,12 +115,13 @@ class SignInControllerTest extends BaseRestAssuredTest {
 
         response.then().statusCode(200);
 
-        assertFalse(jwtProvider.isAccessTokenExpired(response.getHeader("Authorization")));
+        assertNotNull(jwtProvider.findAccessTokenDetails(response.getHeader("Authorization")));
         assertFalse(jwtProvider.isRefreshTokenExpired(response.getCookie("refresh")));
         assertNotEquals(refreshToken, response.getCookie("refresh"));
 
-        refreshTokenRepository.findById(refreshToken).ifPresent(ignored1 -> fail("Old refresh token not deleted"));
-        refreshTokenRepository.findById(response.getCookie("refresh")).ifPresentOrElse(
+        refreshTokenRepository.findById(user.getId(), refreshToken)
+                .ifPresent(ignored1 -> fail("Old refresh token not deleted"));
+        refreshTokenRepository.findById(user.getId(), response.getCookie("refresh")).ifPresentOrElse(
                 refreshToken1 -> assertEquals(user.getId(), refreshToken1.getUserId()),
                 () -> fail("New refresh token not found")
         );
@@ -153,7 +154,8 @@ class SignInControllerTest extends BaseRestAssuredTest {
         response1.then().statusCode(200).cookie("refresh", "");
         assertEquals(0, response1.getDetailedCookie("refresh").getMaxAge());
 
-        refreshTokenRepository.findById(refreshToken).ifPresent(refreshToken1 -> fail("Refresh token not deleted"));
+        refreshTokenRepository.findById(user.getId(), refreshToken)
+                .ifPresent(refreshToken1 -> fail("Refresh token not deleted"));
     }
 
 }
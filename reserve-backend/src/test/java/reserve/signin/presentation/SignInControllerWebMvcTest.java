@@ -11,6 +11,8 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import reserve.global.exception.ErrorCode;
+import reserve.global.exception.ServiceUnavailableException;
 import reserve.signin.dto.SignInToken;
 import reserve.signin.dto.request.SignInRequest;
 import reserve.signin.infrastructure.JwtProvider;
@@ -53,6 +55,26 @@ class SignInControllerWebMvcTest {
         );
     }
 
+    @Test
+    @DisplayName("Testing POST /v1/sign-in endpoint when password hashing is saturated")
+    void testSignInEndpointWhenHashingSaturated() throws Exception {
+        SignInRequest signInRequest = new SignInRequest();
+        signInRequest.setUsername("username");
+        signInRequest.setPassword("password");
+
+        Mockito.when(signInService.signIn(Mockito.any()))
+                .thenThrow(new ServiceUnavailableException(ErrorCode.TOO_MANY_SIGN_IN_REQUESTS));
+
+        mockMvc.perform(
+                post("/v1/sign-in")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(signInRequest))
+        ).andExpectAll(
+                status().isServiceUnavailable(),
+                jsonPath("$.code").value(ErrorCode.TOO_MANY_SIGN_IN_REQUESTS.getCode())
+        );
+    }
+
     @Test
     @DisplayName("Testing POST /v1/token-refresh endpoint")
     void testRefreshAccessTokenEndpoint() throws Exception {
@@ -9,7 +9,9 @@ import org.mockito.Mockito;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reserve.global.TestUtils;
-import reserve.signin.domain.RefreshToken;
+import reserve.global.exception.ErrorCode;
+import reserve.global.exception.RefreshTokenException;
+import reserve.global.exception.ServiceUnavailableException;
 import reserve.signin.dto.SignInToken;
 import reserve.signin.dto.request.SignInRequest;
 import reserve.signin.infrastructure.JwtProvider;
@@ -39,7 +41,7 @@ class SignInServiceTest {
     PasswordEncoder passwordEncoder = new Pbkdf2PasswordEncoder();
 
     @Spy
-    JwtProvider jwtProvider = new JwtProvider(ACCESS_TOKEN_SECRET, REFRESH_TOKEN_SECRET, 600, 604800);
+    JwtProvider jwtProvider = new JwtProvider(ACCESS_TOKEN_SECRET, REFRESH_TOKEN_SECRET, 600, 604800, 100);
 
     SignInService signInService;
 
@@ -69,12 +71,55 @@ class SignInServiceTest {
         ));
     }
 
+    @Test
+    @DisplayName("Testing sign-in re-hashes a password hashed with outdated parameters")
+    void testSignInUpgradesPasswordHash() {
+        String outdatedHash = new Pbkdf2PasswordEncoder(1024, 256, 20).encode("password");
+        User user = new User("username", outdatedHash, "nickname", "description");
+        user = Mockito.spy(user);
+        Mockito.when(user.getId()).thenReturn(1L);
+        Mockito.when(userRepository.findByUsername("username")).thenReturn(Optional.of(user));
+
+        SignInRequest signInRequest = new SignInRequest();
+        signInRequest.setUsername("username");
+        signInRequest.setPassword("password");
+        signInService.signIn(signInRequest);
+
+        Mockito.verify(userRepository).changePasswordHash(
+                Mockito.eq(1L),
+                Mockito.eq(outdatedHash),
+                Mockito.argThat(hash -> !passwordEncoder.upgradeEncoding(hash) &&
+                                        passwordEncoder.matches("password", hash))
+        );
+    }
+
+    @Test
+    @DisplayName("Testing sign-in succeeds without re-hashing when the hashing pool is busy")
+    void testSignInSkipsPasswordHashUpgradeWhenBusy() {
+        String outdatedHash = new Pbkdf2PasswordEncoder(1024, 256, 20).encode("password");
+        User user = new User("username", outdatedHash, "nickname", "description");
+        user = Mockito.spy(user);
+        Mockito.when(user.getId()).thenReturn(1L);
+        Mockito.when(userRepository.findByUsername("username")).thenReturn(Optional.of(user));
+        Mockito.doThrow(new ServiceUnavailableException(ErrorCode.TOO_MANY_SIGN_IN_REQUESTS))
+                .when(passwordEncoder).encode("password");
+
+        SignInRequest signInRequest = new SignInRequest();
+        signInRequest.setUsername("username");
+        signInRequest.setPassword("password");
+        SignInToken signInToken = signInService.signIn(signInRequest);
+
+        assertNotNull(signInToken.getAccessToken());
+        Mockito.verify(refreshTokenRepository).save(Mockito.any());
+        Mockito.verify(userRepository, Mockito.never())
+                .changePasswordHash(Mockito.anyLong(), Mockito.any(), Mockito.any());
+    }
+
     @Test
     @DisplayName("Testing access token refresh functionality")
     void testRefreshAccessToken() {
         String refreshTokenString = jwtProvider.generateSignInToken(TestUtils.getTokenDetails(1L)).getRefreshToken();
-        RefreshToken refreshToken = new RefreshToken(refreshTokenString, 1L, 604800);
-        Mockito.when(refreshTokenRepository.findById(refreshTokenString)).thenReturn(Optional.of(refreshToken));
+        Mockito.when(refreshTokenRepository.rotate(Mockito.eq(refreshTokenString), Mockito.any())).thenReturn(true);
 
         User user = Mockito.mock(User.class);
         Mockito.when(user.getId()).thenReturn(1L);
@@ -85,16 +130,39 @@ class SignInServiceTest {
         SignInToken signInToken = signInService.refreshAccessToken(refreshTokenString);
 
         assertNotNull(signInToken.getAccessToken());
+        Mockito.verify(refreshTokenRepository).rotate(Mockito.eq(refreshTokenString), Mockito.argThat(
+                refreshToken -> refreshToken.getTokenValue().equals(signInToken.getRefreshToken()) &&
+                                refreshToken.getUserId().equals(1L) &&
+                                refreshToken.getExpiration() == 604800
+        ));
+    }
+
+    @Test
+    @DisplayName("Testing access token refresh with a refresh token already used or revoked")
+    void testRefreshAccessTokenWithUsedToken() {
+        String refreshTokenString = jwtProvider.generateSignInToken(TestUtils.getTokenDetails(1L)).getRefreshToken();
+        Mockito.when(refreshTokenRepository.rotate(Mockito.eq(refreshTokenString), Mockito.any())).thenReturn(false);
+
+        User user = Mockito.mock(User.class);
+        Mockito.when(user.getId()).thenReturn(1L);
+        Mockito.when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        RefreshTokenException e = assertThrows(
+                RefreshTokenException.class,
+                () -> signInService.refreshAccessToken(refreshTokenString)
+        );
+        assertEquals(ErrorCode.EXPIRED_REFRESH_TOKEN, e.getErrorCode());
     }
 
     @Test
     @DisplayName("Testing sign-out functionality")
     void testSignOut() {
         Mockito.doReturn(false).when(jwtProvider).isRefreshTokenExpired("refreshToken");
+        Mockito.doReturn("1").when(jwtProvider).extractRefreshTokenSubject("refreshToken");
 
         signInService.signOut("refreshToken");
 
-        Mockito.verify(refreshTokenRepository).deleteById("refreshToken");
+        Mockito.verify(refreshTokenRepository).deleteById(1L, "refreshToken");
     }
 
 }
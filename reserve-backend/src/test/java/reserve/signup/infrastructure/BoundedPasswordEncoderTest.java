@@ -0,0 +1,100 @@
+package reserve.signup.infrastructure;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reserve.global.exception.ErrorCode;
+import reserve.global.exception.ServiceUnavailableException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    CountDownLatch release = new CountDownLatch(1);
+
+    BoundedPasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        passwordEncoder.close();
+    }
+
+    @Test
+    @DisplayName("Testing hashing is delegated to the wrapped encoder")
+    void testDelegation() {
+        passwordEncoder = new BoundedPasswordEncoder(
+                new Pbkdf2PasswordEncoder(), meterRegistry, 1, 10, Duration.ofSeconds(10)
+        );
+
+        String encoded = passwordEncoder.encode("password");
+
+        assertTrue(passwordEncoder.matches("password", encoded));
+        assertFalse(passwordEncoder.matches("wrong password", encoded));
+        assertEquals(3, meterRegistry.get("password.hashing.latency").timer().count());
+    }
+
+    @Test
+    @DisplayName("Testing hashing is rejected when the queue is full")
+    void testRejectionWhenQueueIsFull() throws InterruptedException {
+        passwordEncoder = new BoundedPasswordEncoder(
+                new BlockingPasswordEncoder(), meterRegistry, 1, 1, Duration.ofSeconds(10)
+        );
+        CompletableFuture.runAsync(() -> passwordEncoder.encode("running"));
+        CompletableFuture.runAsync(() -> passwordEncoder.encode("queued"));
+        waitUntilQueued(1);
+
+        ServiceUnavailableException e =
+                assertThrows(ServiceUnavailableException.class, () -> passwordEncoder.encode("rejected"));
+        assertEquals(ErrorCode.TOO_MANY_SIGN_IN_REQUESTS, e.getErrorCode());
+        assertEquals(1, meterRegistry.get("password.hashing.rejections").counter().count());
+    }
+
+    @Test
+    @DisplayName("Testing hashing is rejected when not done within the wait timeout")
+    void testRejectionOnWaitTimeout() {
+        passwordEncoder = new BoundedPasswordEncoder(
+                new BlockingPasswordEncoder(), meterRegistry, 1, 10, Duration.ofMillis(50)
+        );
+
+        assertThrows(ServiceUnavailableException.class, () -> passwordEncoder.encode("password"));
+        assertEquals(1, meterRegistry.get("password.hashing.rejections").counter().count());
+    }
+
+    private void waitUntilQueued(int size) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("password.hashing.queue.size").gauge().value() < size) {
+            assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private class BlockingPasswordEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, CharSequence encodedPassword) {
+            return encode(rawPassword).contentEquals(encodedPassword);
+        }
+
+    }
+
+}
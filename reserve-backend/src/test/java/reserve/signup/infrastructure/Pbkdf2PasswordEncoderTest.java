@@ -3,10 +3,16 @@ package reserve.signup.infrastructure;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.*;
 
 class Pbkdf2PasswordEncoderTest {
 
+    // "password" hashed in the original format: the hex of a 20-byte salt followed by the hash.
+    static final String LEGACY_HASH = "000102030405060708090A0B0C0D0E0F10111213" +
+                                      "B9C16FD991AE61D97B9B2A28A08437911C4361F2C5F4C6863CC6E5BAD367D5EC";
+
     final PasswordEncoder passwordEncoder = new Pbkdf2PasswordEncoder();
 
     @Test
@@ -15,6 +21,7 @@ class Pbkdf2PasswordEncoderTest {
         String test = "1234";
         String encode = passwordEncoder.encode(test);
         assertThat(encode).isNotNull();
+        assertThat(encode).startsWith("$pbkdf2-sha256$1$65536$20$");
     }
 
     @Test
@@ -23,6 +30,43 @@ class Pbkdf2PasswordEncoderTest {
         String test = "1324";
         String encode = passwordEncoder.encode(test);
         assertThat(passwordEncoder.matches(test, encode)).isTrue();
+        assertThat(passwordEncoder.matches("4231", encode)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Testing password match against a hash in the original format")
+    void testLegacyPasswordMatch() {
+        assertThat(passwordEncoder.matches("password", LEGACY_HASH)).isTrue();
+        assertThat(passwordEncoder.matches("wrong password", LEGACY_HASH)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Testing password match against a hash with other parameters")
+    void testPasswordMatchWithOtherParameters() {
+        String encode = new Pbkdf2PasswordEncoder(1024, 512, 16).encode("password");
+
+        assertThat(passwordEncoder.matches("password", encode)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Testing outdated hash detection")
+    void testUpgradeEncoding() {
+        PasswordEncoder stronger = new Pbkdf2PasswordEncoder(131072, 256, 20);
+
+        assertThat(passwordEncoder.upgradeEncoding(LEGACY_HASH)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(passwordEncoder.encode("password"))).isFalse();
+        assertThat(stronger.upgradeEncoding(passwordEncoder.encode("password"))).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(stronger.encode("password"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Testing iteration count calibration")
+    void testCalibration() {
+        Pbkdf2PasswordEncoder calibrated = Pbkdf2PasswordEncoder.calibrated(Duration.ofMillis(50), 1024);
+
+        assertThat(calibrated.getIterations()).isGreaterThanOrEqualTo(1024);
+        assertThat(Integer.bitCount(calibrated.getIterations())).isEqualTo(1);
+        assertThat(calibrated.matches("password", calibrated.encode("password"))).isTrue();
     }
 
-}
\ No newline at end of file
+}
@@ -8,12 +8,17 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import reserve.global.exception.ErrorCode;
+import reserve.global.exception.UsernameDuplicateException;
 import reserve.signup.dto.request.SignUpRequest;
 import reserve.signup.infrastructure.PasswordEncoder;
 import reserve.signup.infrastructure.Pbkdf2PasswordEncoder;
 import reserve.user.domain.User;
 import reserve.user.infrastructure.UserRepository;
 
+import static org.junit.jupiter.api.Assertions.*;
+
 @ExtendWith(MockitoExtension.class)
 class SignUpServiceTest {
 
@@ -37,7 +42,23 @@ class SignUpServiceTest {
 
         signUpService.signUp(signUpRequest);
 
-        Mockito.verify(userRepository).save(Mockito.any(User.class));
+        Mockito.verify(userRepository).saveAndFlush(Mockito.any(User.class));
+    }
+
+    @Test
+    @DisplayName("Testing user sign up with a username taken while hashing the password")
+    void testSignUpWithUsernameTakenMeanwhile() {
+        SignUpRequest signUpRequest = new SignUpRequest();
+        signUpRequest.setUsername("username");
+        signUpRequest.setPassword("password");
+        signUpRequest.setNickname("nickname");
+        Mockito.when(userRepository.existsByUsername("username")).thenReturn(false);
+        Mockito.when(userRepository.saveAndFlush(Mockito.any(User.class)))
+                .thenThrow(new DataIntegrityViolationException("Duplicate username"));
+
+        UsernameDuplicateException e =
+                assertThrows(UsernameDuplicateException.class, () -> signUpService.signUp(signUpRequest));
+        assertEquals(ErrorCode.USERNAME_DUPLICATE, e.getErrorCode());
     }
 
 }
\ No newline at end of file
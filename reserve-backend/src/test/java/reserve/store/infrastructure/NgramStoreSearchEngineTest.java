@@ -0,0 +1,79 @@
+package reserve.store.infrastructure;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import reserve.store.dto.StoreChange;
+import reserve.store.dto.response.StoreInfoResponse;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class NgramStoreSearchEngineTest {
+
+    @Mock
+    StoreRepository storeRepository;
+
+    NgramStoreSearchEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new NgramStoreSearchEngine(storeRepository, 100, 2);
+    }
+
+    @Test
+    @DisplayName("Testing index rebuild from stores read in batches")
+    void testRebuild() {
+        Mockito.when(storeRepository.findResponsesAfter(0L, PageRequest.ofSize(2))).thenReturn(List.of(
+                new StoreInfoResponse(1L, "user1", "Pasta", "address", "Pasta only"),
+                new StoreInfoResponse(2L, "user1", "Pizza", "address", "Pizza and Pasta")
+        ));
+        Mockito.when(storeRepository.findResponsesAfter(2L, PageRequest.ofSize(2))).thenReturn(List.of(
+                new StoreInfoResponse(3L, "user2", "Ramen", "address", "Ramen and Gyoza")
+        ));
+
+        assertThat(engine.rebuild()).isEqualTo(3);
+        assertThat(engine.match("pasta", null).getRankedIds()).containsExactly(1L, 2L);
+        assertThat(engine.match("pasta", "user2").getRankedIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Testing reload of changed and deleted stores")
+    void testStoreChanged() {
+        Mockito.when(storeRepository.findResponseById(1L))
+                .thenReturn(Optional.of(new StoreInfoResponse(1L, "user1", "Pasta", "address", "Pasta only")))
+                .thenReturn(Optional.empty());
+
+        engine.storeChanged(StoreChange.changed(1L));
+        assertThat(engine.match("pasta", null).getRankedIds()).containsExactly(1L);
+
+        engine.storeChanged(StoreChange.deleted(1L));
+        assertThat(engine.match("pasta", null).getRankedIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Testing reload of stores changed while the index is rebuilt")
+    void testStoreChangedDuringRebuild() {
+        Mockito.when(storeRepository.findResponsesAfter(0L, PageRequest.ofSize(2))).thenAnswer(invocation -> {
+            // Changed after it has been read, and applied to the index being replaced.
+            engine.storeChanged(StoreChange.changed(1L));
+            return List.of(new StoreInfoResponse(1L, "user1", "Pasta", "address", "Pasta only"));
+        });
+        Mockito.when(storeRepository.findResponseById(1L))
+                .thenReturn(Optional.of(new StoreInfoResponse(1L, "user1", "Ramen", "address", "Ramen only")));
+
+        engine.rebuild();
+
+        assertThat(engine.match("pasta", null).getRankedIds()).isEmpty();
+        assertThat(engine.match("ramen", null).getRankedIds()).containsExactly(1L);
+    }
+
+}
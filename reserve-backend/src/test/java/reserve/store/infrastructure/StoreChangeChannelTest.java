@@ -0,0 +1,70 @@
+package reserve.store.infrastructure;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import reserve.store.dto.StoreChange;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class StoreChangeChannelTest {
+
+    @Mock
+    StringRedisTemplate redisTemplate;
+
+    @Mock
+    StoreChangeListener firstListener;
+
+    @Mock
+    StoreChangeListener secondListener;
+
+    StoreChangeChannel storeChangeChannel;
+
+    @BeforeEach
+    void setUp() {
+        storeChangeChannel = new StoreChangeChannel(redisTemplate, List.of(firstListener, secondListener), true);
+    }
+
+    @Test
+    @DisplayName("Testing a store change is delivered to every listener and broadcast once")
+    void testStoreChanged() {
+        Mockito.doThrow(new IllegalStateException()).when(firstListener).storeChanged(StoreChange.changed(1L));
+
+        storeChangeChannel.storeChanged(1L);
+        storeChangeChannel.storeDeleted(2L);
+
+        Mockito.verify(secondListener).storeChanged(StoreChange.changed(1L));
+        Mockito.verify(firstListener).storeChanged(StoreChange.deleted(2L));
+        Mockito.verify(secondListener).storeChanged(StoreChange.deleted(2L));
+        Mockito.verify(redisTemplate).convertAndSend(StoreChangeChannel.CHANNEL, "1");
+        Mockito.verify(redisTemplate).convertAndSend(StoreChangeChannel.CHANNEL, "2:deleted");
+    }
+
+    @Test
+    @DisplayName("Testing a store change broadcast by another node is delivered without broadcasting again")
+    void testStoreChangeMessage() {
+        storeChangeChannel.onMessage(message("2:deleted"), null);
+        storeChangeChannel.onMessage(message("store:2"), null);
+
+        Mockito.verify(firstListener).storeChanged(StoreChange.deleted(2L));
+        Mockito.verify(secondListener).storeChanged(StoreChange.deleted(2L));
+        Mockito.verifyNoMoreInteractions(firstListener, secondListener);
+        Mockito.verifyNoInteractions(redisTemplate);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(
+                StoreChangeChannel.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+}
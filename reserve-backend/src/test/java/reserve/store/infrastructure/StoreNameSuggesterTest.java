@@ -0,0 +1,82 @@
+package reserve.store.infrastructure;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import reserve.reservation.dto.StoreReservationCountDto;
+import reserve.reservation.infrastructure.StoreDailyStatsRepository;
+import reserve.store.dto.StoreChange;
+import reserve.store.dto.response.StoreInfoResponse;
+import reserve.store.dto.response.StoreSuggestionResponse;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class StoreNameSuggesterTest {
+
+    @Mock
+    StoreRepository storeRepository;
+
+    @Mock
+    StoreDailyStatsRepository storeDailyStatsRepository;
+
+    StoreNameSuggester suggester;
+
+    @BeforeEach
+    void setUp() {
+        suggester = new StoreNameSuggester(
+                storeRepository,
+                storeDailyStatsRepository,
+                10,
+                Duration.ofDays(30),
+                2
+        );
+    }
+
+    @Test
+    @DisplayName("Testing suggestions rebuilt from stores read in batches and ranked by reservation count")
+    void testRebuild() {
+        Mockito.when(storeDailyStatsRepository.sumReservationCountsFrom(LocalDate.now().minusDays(30)))
+                .thenReturn(List.of(new StoreReservationCountDto(2L, 5L), new StoreReservationCountDto(3L, 1L)));
+        Mockito.when(storeRepository.findResponsesAfter(0L, PageRequest.ofSize(2))).thenReturn(List.of(
+                new StoreInfoResponse(1L, "user1", "Pasta", "address", "Pasta only"),
+                new StoreInfoResponse(2L, "user1", "Pizza", "address", "Pizza and Pasta")
+        ));
+        Mockito.when(storeRepository.findResponsesAfter(2L, PageRequest.ofSize(2))).thenReturn(List.of(
+                new StoreInfoResponse(3L, "user2", "Gangnam Pasta", "address", "Pasta")
+        ));
+
+        assertThat(suggester.rebuild()).isEqualTo(3);
+        assertThat(suggester.suggest("p"))
+                .extracting(StoreSuggestionResponse::getStoreId)
+                .containsExactly(2L, 3L, 1L);
+        assertThat(suggester.suggest("pas"))
+                .extracting(StoreSuggestionResponse::getName)
+                .containsExactly("Gangnam Pasta", "Pasta");
+    }
+
+    @Test
+    @DisplayName("Testing reload of changed and deleted stores")
+    void testStoreChanged() {
+        Mockito.when(storeRepository.findResponseById(1L))
+                .thenReturn(Optional.of(new StoreInfoResponse(1L, "user1", "Pasta", "address", "Pasta only")))
+                .thenReturn(Optional.empty());
+
+        suggester.storeChanged(StoreChange.changed(1L));
+        assertThat(suggester.suggest("pa")).extracting(StoreSuggestionResponse::getStoreId).containsExactly(1L);
+
+        suggester.storeChanged(StoreChange.deleted(1L));
+        assertThat(suggester.suggest("pa")).isEmpty();
+    }
+
+}
@@ -0,0 +1,64 @@
+package reserve.store.infrastructure;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class StoreNameTrieTest {
+
+    StoreNameTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new StoreNameTrie(2);
+        trie.putAll(List.of(
+                new StoreNameTrie.Suggestion(1L, "Pasta", 10),
+                new StoreNameTrie.Suggestion(2L, "Pizza", 30),
+                new StoreNameTrie.Suggestion(3L, "Gangnam  Pasta House", 20),
+                new StoreNameTrie.Suggestion(4L, "강남역 파스타", 5)
+        ));
+    }
+
+    @Test
+    @DisplayName("Testing suggestions by name and word prefix ranked by popularity")
+    void testFind() {
+        assertThat(storeIds(trie.find("PAS"))).containsExactly(3L, 1L);
+        assertThat(storeIds(trie.find("p"))).containsExactly(2L, 3L);
+        assertThat(storeIds(trie.find("gangnam pasta h"))).containsExactly(3L);
+        assertThat(storeIds(trie.find("house"))).containsExactly(3L);
+        assertThat(storeIds(trie.find("파스"))).containsExactly(4L);
+        assertThat(trie.find("sushi")).isEmpty();
+        assertThat(trie.find("  ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Testing suggestions for prefixes longer than the keys")
+    void testFindLongPrefix() {
+        trie.put(new StoreNameTrie.Suggestion(5L, "Pasta and pizza by the river", 1));
+        trie.put(new StoreNameTrie.Suggestion(6L, "Pasta and pizza by the sea", 2));
+
+        assertThat(storeIds(trie.find("pasta and pizza by the r"))).containsExactly(5L);
+        assertThat(storeIds(trie.find("pasta and pizza by the"))).containsExactly(6L, 5L);
+    }
+
+    @Test
+    @DisplayName("Testing suggestions after renaming and removing stores")
+    void testPutAndRemove() {
+        trie.put(new StoreNameTrie.Suggestion(1L, "Ramen", 10));
+        trie.remove(3L);
+
+        assertThat(storeIds(trie.find("pas"))).isEmpty();
+        assertThat(storeIds(trie.find("ra"))).containsExactly(1L);
+        assertThat(trie.find("house")).isEmpty();
+        assertThat(trie.size()).isEqualTo(3);
+    }
+
+    private static List<Long> storeIds(List<StoreNameTrie.Suggestion> suggestions) {
+        return suggestions.stream().map(StoreNameTrie.Suggestion::storeId).toList();
+    }
+
+}
@@ -0,0 +1,80 @@
+package reserve.store.infrastructure;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reserve.store.dto.response.StoreInfoResponse;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+class StoreNgramIndexTest {
+
+    StoreNgramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new StoreNgramIndex();
+        index.put(new StoreInfoResponse(1L, "user1", "Pasta", "address", "Pasta only"));
+        index.put(new StoreInfoResponse(2L, "user1", "Pizza", "address", "Pizza and Pasta"));
+        index.put(new StoreInfoResponse(3L, "user1", "Hamburger", "pasta street", "Hamburger"));
+        index.put(new StoreInfoResponse(4L, "user2", "강남역 파스타", "서울 강남구", "생면 파스타 전문점"));
+        index.put(new StoreInfoResponse(5L, "user2", "Ramen", "address", "Ramen and Gyoza"));
+    }
+
+    @Test
+    @DisplayName("Testing splitting of words into bigrams")
+    void testGrams() {
+        assertThat(StoreNgramIndex.words("  Pasta,  PIZZA! ")).containsExactly("pasta", "pizza");
+        assertThat(StoreNgramIndex.grams("pasta")).containsExactly("pa", "as", "st", "ta");
+        assertThat(StoreNgramIndex.grams("파스타")).containsExactly("파스", "스타");
+        assertThat(StoreNgramIndex.grams("a")).containsExactly("a");
+    }
+
+    @Test
+    @DisplayName("Testing ranking of name matches before address and description matches")
+    void testRanking() {
+        List<Long> result = index.search("pasta", null, 10);
+
+        assertThat(result).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(result.get(0)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Testing search of words inside longer Korean words")
+    void testKoreanSearch() {
+        assertThat(index.search("파스타", null, 10)).containsExactly(4L);
+        assertThat(index.search("강남", null, 10)).containsExactly(4L);
+        assertThat(index.search("스타 전문", null, 10)).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("Testing search among candidate stores, including stores not in the index")
+    void testCandidates() {
+        assertThat(index.search("pasta", null, Set.of(2L, 3L, 5L, 99L), 10)).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(index.search("pasta", "user1", Set.of(4L, 99L), 10)).isEmpty();
+        assertThat(index.search("pasta", null, Set.of(), 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Testing search restricted to a registrant and limited in size")
+    void testRegistrantAndLimit() {
+        assertThat(index.search("pasta ramen", "user2", 10)).containsExactly(5L);
+        assertThat(index.search("pasta", null, 2)).hasSize(2);
+        assertThat(index.search("sushi", null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Testing replacement and removal of stores")
+    void testPutAndRemove() {
+        index.put(new StoreInfoResponse(5L, "user2", "Ramen", "address", "Ramen and Pasta"));
+        index.remove(1L);
+
+        assertThat(index.search("pasta", null, 10)).containsExactlyInAnyOrder(2L, 3L, 5L);
+        assertThat(index.search("gyoza", null, 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+}
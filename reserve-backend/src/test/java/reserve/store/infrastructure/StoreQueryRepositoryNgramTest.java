@@ -0,0 +1,167 @@
+package reserve.store.infrastructure;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.annotation.Commit;
+import org.springframework.transaction.annotation.Transactional;
+import reserve.store.domain.Store;
+import reserve.store.dto.request.StoreNearbyRequest;
+import reserve.store.dto.request.StoreSearchRequest;
+import reserve.store.dto.response.StoreInfoResponse;
+import reserve.store.dto.response.StoreNearbyResponse;
+import reserve.user.domain.User;
+import reserve.user.infrastructure.UserRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = "application.store.searchEngine=ngram")
+class StoreQueryRepositoryNgramTest {
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    StoreRepository storeRepository;
+
+    @Autowired
+    StoreQueryRepository storeQueryRepository;
+
+    @Autowired
+    NgramStoreSearchEngine ngramStoreSearchEngine;
+
+    @Transactional
+    @Commit
+    @BeforeEach
+    void setUp() {
+        User user1 = userRepository.save(new User("user1", "password", "hello", "description"));
+        User user2 = userRepository.save(new User("user2", "password", "hello", "description"));
+        storeRepository.save(new Store(user1, "Hamburger", "pasta street", "Hamburger"));
+        storeRepository.save(new Store(user1, "Pasta", "address", "Pasta only"));
+        storeRepository.save(new Store(user1, "Korean food", "address", "Kimchi and Bulgogi"));
+        storeRepository.save(new Store(user2, "Italian", "address", "Steak and Pasta"));
+        storeRepository.save(new Store(user2, "Ramen", "address", "Ramen and Gyoza"));
+    }
+
+    @Transactional
+    @Commit
+    @AfterEach
+    void tearDown() {
+        storeRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Testing ranked store search by query")
+    void testRankedSearch() {
+        ngramStoreSearchEngine.rebuild();
+        StoreSearchRequest request = searchRequest("pasta", null);
+
+        Page<StoreInfoResponse> page = storeQueryRepository.findResponsesBySearch(request, PageRequest.of(0, 2));
+        Slice<StoreInfoResponse> lastSlice = storeQueryRepository.findSliceBySearch(request, PageRequest.of(1, 2));
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(StoreInfoResponse::getName).first().isEqualTo("Pasta");
+        assertThat(lastSlice.getNumberOfElements()).isEqualTo(1);
+        assertThat(lastSlice.hasNext()).isFalse();
+        assertThat(storeQueryRepository.countBySearch(request)).isEqualTo(3);
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Testing ranked store search skips stores deleted since they were ranked")
+    void testRankedSearchAfterDeletion() {
+        ngramStoreSearchEngine.rebuild();
+        Store pasta = storeRepository.findAll().stream()
+                .filter(store -> store.getName().equals("Pasta"))
+                .findFirst()
+                .orElseThrow();
+        storeRepository.deleteById(pasta.getId());
+        StoreSearchRequest request = searchRequest("pasta", null);
+
+        Page<StoreInfoResponse> page = storeQueryRepository.findResponsesBySearch(request, PageRequest.of(0, 2));
+
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).extracting(StoreInfoResponse::getName).doesNotContain("Pasta").hasSize(2);
+        assertThat(storeQueryRepository.countBySearch(request)).isEqualTo(2);
+        assertThat(storeQueryRepository.findSliceBySearch(request, PageRequest.of(0, 2)).hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Testing ranked store search by user and query")
+    void testRankedSearchByUser() {
+        ngramStoreSearchEngine.rebuild();
+
+        Page<StoreInfoResponse> page =
+                storeQueryRepository.findResponsesBySearch(searchRequest("pasta", "user2"), PageRequest.of(0, 20));
+
+        assertThat(page.getContent()).extracting(StoreInfoResponse::getName).containsExactly("Italian");
+    }
+
+    @Test
+    @DisplayName("Testing nearby store search matches the query among the stores nearby, read nearest first")
+    void testNearbySearch() {
+        User user = userRepository.findByUsername("user1").orElseThrow();
+        saveStoreAt(user, "Pasta street", "Pasta only", 37.4985, 127.0280);
+        saveStoreAt(user, "Ramen", "Ramen and Pasta", 37.4990, 127.0276);
+        saveStoreAt(user, "Sushi", "Sushi only", 37.4980, 127.0277);
+        saveStoreAt(user, "Gyoza", "Gyoza only", 37.4981, 127.0276);
+        saveStoreAt(user, "Pasta far", "Pasta only", 37.5665, 126.9780);
+        ngramStoreSearchEngine.rebuild();
+
+        List<StoreNearbyResponse> response = storeQueryRepository.findResponsesNearby(nearbyRequest("pasta", 1));
+        List<StoreNearbyResponse> all = storeQueryRepository.findResponsesNearby(nearbyRequest("pasta", 20));
+
+        assertThat(response).extracting(StoreNearbyResponse::getName).containsExactly("Pasta street");
+        assertThat(all).extracting(StoreNearbyResponse::getName).containsExactly("Pasta street", "Ramen");
+    }
+
+    @Test
+    @DisplayName("Testing nearby store search stops after reading a bounded number of batches")
+    void testNearbySearchBatchLimit() {
+        User user = userRepository.findByUsername("user1").orElseThrow();
+        // One store in each of the 10 batches of 2 read for a single result, all nearer than the matching store.
+        for (int i = 1; i <= 20; i++) {
+            saveStoreAt(user, "Sushi " + i, "Sushi only", 37.4979 + i * 0.00001, 127.0276);
+        }
+        saveStoreAt(user, "Pasta street", "Pasta only", 37.4990, 127.0276);
+        ngramStoreSearchEngine.rebuild();
+
+        assertThat(storeQueryRepository.findResponsesNearby(nearbyRequest("pasta", 1))).isEmpty();
+        assertThat(storeQueryRepository.findResponsesNearby(nearbyRequest("pasta", 20)))
+                .extracting(StoreNearbyResponse::getName)
+                .containsExactly("Pasta street");
+    }
+
+    private void saveStoreAt(User user, String name, String description, double latitude, double longitude) {
+        Store store = new Store(user, name, "address", description);
+        store.setLocation(latitude, longitude);
+        storeRepository.save(store);
+    }
+
+    private static StoreNearbyRequest nearbyRequest(String query, int size) {
+        StoreNearbyRequest request = new StoreNearbyRequest();
+        request.setLat(37.4979);
+        request.setLng(127.0276);
+        request.setRadius(500);
+        request.setSize(size);
+        request.setQuery(query);
+        return request;
+    }
+
+    private static StoreSearchRequest searchRequest(String query, String registrant) {
+        StoreSearchRequest storeSearchRequest = new StoreSearchRequest();
+        storeSearchRequest.setQuery(query);
+        storeSearchRequest.setRegistrant(registrant);
+        return storeSearchRequest;
+    }
+
+}
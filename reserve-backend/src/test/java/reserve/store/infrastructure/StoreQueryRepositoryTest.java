@@ -10,14 +10,19 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.annotation.Commit;
 import org.springframework.transaction.annotation.Transactional;
 import reserve.store.domain.Store;
+import reserve.store.dto.request.StoreNearbyRequest;
 import reserve.store.dto.request.StoreSearchRequest;
 import reserve.store.dto.response.StoreInfoResponse;
+import reserve.store.dto.response.StoreNearbyResponse;
 import reserve.user.domain.User;
 import reserve.user.infrastructure.UserRepository;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
@@ -75,4 +80,91 @@ class StoreQueryRepositoryTest {
         });
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Testing store search slice and count by query")
+    void testStoreSearchSliceAndCount() {
+        StoreSearchRequest request = new StoreSearchRequest();
+        request.setQuery("pasta");
+        Pageable pageable = PageRequest.of(0, 2);
+
+        Slice<StoreInfoResponse> firstSlice = storeQueryRepository.findSliceBySearch(request, pageable);
+        Slice<StoreInfoResponse> lastSlice = storeQueryRepository.findSliceBySearch(request, pageable.next());
+
+        assertEquals(2, firstSlice.getNumberOfElements());
+        assertTrue(firstSlice.hasNext());
+        assertEquals(2, lastSlice.getNumberOfElements());
+        assertFalse(lastSlice.hasNext());
+        assertEquals(4, storeQueryRepository.countBySearch(request));
+    }
+
+    @Test
+    @DisplayName("Testing nearby store search by query")
+    void testNearbyStoreSearchByQuery() {
+        User user = userRepository.findByUsername("user1").orElseThrow();
+        saveStoreAt(user, "Pasta near", 37.4985, 127.0280);
+        saveStoreAt(user, "Pasta mid", 37.5010, 127.0276);
+        saveStoreAt(user, "Pasta corner", 37.5015, 127.0316);
+        saveStoreAt(user, "Pasta far", 37.5665, 126.9780);
+        saveStoreAt(user, "Ramen near", 37.4980, 127.0277);
+
+        List<StoreNearbyResponse> response = storeQueryRepository.findResponsesNearby(
+                nearbyRequest(37.4979, 127.0276, 500, 20, "pasta")
+        );
+
+        assertEquals(List.of("Pasta near", "Pasta mid"), response.stream().map(StoreNearbyResponse::getName).toList());
+        assertTrue(response.get(0).getDistance() < response.get(1).getDistance());
+        assertTrue(response.get(1).getDistance() <= 500);
+    }
+
+    @Test
+    @DisplayName("Testing nearby store search limited in size")
+    void testNearbyStoreSearchWithSize() {
+        User user = userRepository.findByUsername("user1").orElseThrow();
+        saveStoreAt(user, "Pasta near", 37.4985, 127.0280);
+        saveStoreAt(user, "Pasta mid", 37.5010, 127.0276);
+        saveStoreAt(user, "Ramen near", 37.4980, 127.0277);
+
+        List<StoreNearbyResponse> response = storeQueryRepository.findResponsesNearby(
+                nearbyRequest(37.4979, 127.0276, 500, 2, null)
+        );
+
+        assertEquals(List.of("Ramen near", "Pasta near"), response.stream().map(StoreNearbyResponse::getName).toList());
+    }
+
+    @Test
+    @DisplayName("Testing nearby store search across the antimeridian")
+    void testNearbyStoreSearchAcrossAntimeridian() {
+        User user = userRepository.findByUsername("user1").orElseThrow();
+        saveStoreAt(user, "East", 0, 179.9995);
+        saveStoreAt(user, "West", 0, -179.9990);
+
+        List<StoreNearbyResponse> response = storeQueryRepository.findResponsesNearby(
+                nearbyRequest(0, -179.9995, 500, 20, null)
+        );
+
+        assertEquals(List.of("West", "East"), response.stream().map(StoreNearbyResponse::getName).toList());
+    }
+
+    private void saveStoreAt(User user, String name, double latitude, double longitude) {
+        Store store = new Store(user, name, "address", "description");
+        store.setLocation(latitude, longitude);
+        storeRepository.save(store);
+    }
+
+    private static StoreNearbyRequest nearbyRequest(
+            double latitude,
+            double longitude,
+            int radius,
+            int size,
+            String query
+    ) {
+        StoreNearbyRequest request = new StoreNearbyRequest();
+        request.setLat(latitude);
+        request.setLng(longitude);
+        request.setRadius(radius);
+        request.setSize(size);
+        request.setQuery(query);
+        return request;
+    }
+
+}
@@ -0,0 +1,41 @@
+package reserve.store.infrastructure;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reserve.store.dto.request.StoreSearchRequest;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StoreSearchCountCacheTest {
+
+    @Test
+    @DisplayName("Testing count cache keyed by normalized query and exact registrant")
+    void testNormalizedKey() {
+        StoreSearchCountCache cache = new StoreSearchCountCache(Duration.ofMinutes(1), 100);
+        cache.put(searchRequest("  Pasta   Pizza ", "user1"), 3);
+
+        assertEquals(3, cache.get(searchRequest("pasta pizza", "user1")));
+        assertNull(cache.get(searchRequest("pasta pizza", "USER1")));
+        assertNull(cache.get(searchRequest("pasta pizza", null)));
+        assertNull(cache.get(searchRequest("pasta", "user1")));
+    }
+
+    @Test
+    @DisplayName("Testing expiration of cached counts")
+    void testExpiration() {
+        StoreSearchCountCache cache = new StoreSearchCountCache(Duration.ZERO, 100);
+        cache.put(searchRequest("pasta", null), 3);
+
+        assertNull(cache.get(searchRequest("pasta", null)));
+    }
+
+    private static StoreSearchRequest searchRequest(String query, String registrant) {
+        StoreSearchRequest storeSearchRequest = new StoreSearchRequest();
+        storeSearchRequest.setQuery(query);
+        storeSearchRequest.setRegistrant(registrant);
+        return storeSearchRequest;
+    }
+
+}
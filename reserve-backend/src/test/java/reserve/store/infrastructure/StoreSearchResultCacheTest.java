@@ -0,0 +1,80 @@
+package reserve.store.infrastructure;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import reserve.store.dto.StoreChange;
+import reserve.store.dto.request.StoreSearchRequest;
+import reserve.store.dto.response.StoreInfoResponse;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class StoreSearchResultCacheTest {
+
+    @Mock
+    StoreQueryRepository storeQueryRepository;
+
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    StoreSearchResultCache cache;
+
+    Page<StoreInfoResponse> page = new PageImpl<>(
+            List.of(new StoreInfoResponse(1L, "username", "Pasta", "address", "Pasta")), PageRequest.of(0, 20), 1
+    );
+
+    @BeforeEach
+    void setUp() {
+        cache = new StoreSearchResultCache(storeQueryRepository, meterRegistry, Duration.ofMinutes(1), 100);
+    }
+
+    @Test
+    @DisplayName("Testing result cache keyed by normalized query, exact registrant and page")
+    void testNormalizedKey() {
+        Mockito.when(storeQueryRepository.findResponsesBySearch(Mockito.any(), Mockito.any())).thenReturn(page);
+
+        PageRequest first = PageRequest.of(0, 20);
+        assertSame(page, cache.findResponsesBySearch(searchRequest("  Pasta   Pizza ", "user1"), first));
+        assertSame(page, cache.findResponsesBySearch(searchRequest("pasta pizza", "user1"), first));
+        cache.findResponsesBySearch(searchRequest("pasta pizza", "USER1"), first);
+        cache.findResponsesBySearch(searchRequest("pasta pizza", null), first);
+        cache.findResponsesBySearch(searchRequest("pasta pizza", "user1"), first.next());
+
+        Mockito.verify(storeQueryRepository, Mockito.times(4)).findResponsesBySearch(Mockito.any(), Mockito.any());
+        assertEquals(1, meterRegistry.counter("store.search.cache.hits").count());
+        assertEquals(4, meterRegistry.counter("store.search.cache.misses").count());
+    }
+
+    @Test
+    @DisplayName("Testing invalidation of cached results by catalog version bump on a store change")
+    void testStoreChanged() {
+        StoreSearchRequest storeSearchRequest = searchRequest("pasta", null);
+        Mockito.when(storeQueryRepository.findResponsesBySearch(Mockito.any(), Mockito.any())).thenReturn(page);
+
+        cache.findResponsesBySearch(storeSearchRequest, PageRequest.of(0, 20));
+        cache.storeChanged(StoreChange.changed(2L));
+        cache.findResponsesBySearch(storeSearchRequest, PageRequest.of(0, 20));
+
+        Mockito.verify(storeQueryRepository, Mockito.times(2)).findResponsesBySearch(Mockito.any(), Mockito.any());
+    }
+
+    private static StoreSearchRequest searchRequest(String query, String registrant) {
+        StoreSearchRequest storeSearchRequest = new StoreSearchRequest();
+        storeSearchRequest.setQuery(query);
+        storeSearchRequest.setRegistrant(registrant);
+        return storeSearchRequest;
+    }
+
+}
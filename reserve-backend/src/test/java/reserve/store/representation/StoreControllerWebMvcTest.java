@@ -18,6 +18,10 @@ import reserve.store.dto.request.StoreCreateRequest;
 import reserve.store.dto.request.StoreUpdateRequest;
 import reserve.store.dto.response.StoreInfoListResponse;
 import reserve.store.dto.response.StoreInfoResponse;
+import reserve.store.dto.response.StoreNearbyListResponse;
+import reserve.store.dto.response.StoreNearbyResponse;
+import reserve.store.dto.response.StoreSuggestionListResponse;
+import reserve.store.dto.response.StoreSuggestionResponse;
 import reserve.store.service.StoreService;
 
 import java.util.List;
@@ -126,6 +130,75 @@ class StoreControllerWebMvcTest {
         );
     }
 
+    @Test
+    @DisplayName("Testing GET /v1/stores/nearby endpoint")
+    void testNearbyEndpoint() throws Exception {
+        Mockito.when(storeService.nearby(Mockito.argThat(request -> request.getLat() == 37.4979 &&
+                                                                    request.getLng() == 127.0276 &&
+                                                                    request.getRadius() == 500 &&
+                                                                    "pasta".equals(request.getQuery()))))
+                .thenReturn(StoreNearbyListResponse.from(List.of(new StoreNearbyResponse(
+                        1L, "user", "Pasta", "address", "description", 37.4981, 127.0279, 35
+                ))));
+
+        mockMvc.perform(
+                get("/v1/stores/nearby")
+                        .param("lat", "37.4979")
+                        .param("lng", "127.0276")
+                        .param("radius", "500")
+                        .param("query", "pasta")
+        ).andExpectAll(
+                status().isOk(),
+                jsonPath("$.count").value(1),
+                jsonPath("$.results[0].storeId").value(1L),
+                jsonPath("$.results[0].latitude").value(37.4981),
+                jsonPath("$.results[0].distance").value(35)
+        );
+    }
+
+    @Test
+    @DisplayName("Testing GET /v1/stores/nearby endpoint with invalid location or radius")
+    void testNearbyEndpointWithInvalidLocation() throws Exception {
+        mockMvc.perform(get("/v1/stores/nearby").param("lng", "127.0276")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/v1/stores/nearby").param("lat", "91").param("lng", "127.0276"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/v1/stores/nearby")
+                        .param("lat", "37.4979")
+                        .param("lng", "127.0276")
+                        .param("radius", "20000"))
+                .andExpect(status().isBadRequest());
+
+        Mockito.verifyNoInteractions(storeService);
+    }
+
+    @Test
+    @DisplayName("Testing GET /v1/stores/suggest endpoint")
+    void testSuggestEndpoint() throws Exception {
+        Mockito.when(storeService.suggest(Mockito.argThat(request -> "pas".equals(request.getPrefix()))))
+                .thenReturn(StoreSuggestionListResponse.from(List.of(
+                        new StoreSuggestionResponse(1L, "Pasta"),
+                        new StoreSuggestionResponse(4L, "Gangnam Pasta")
+                )));
+
+        mockMvc.perform(
+                get("/v1/stores/suggest").param("prefix", "pas")
+        ).andExpectAll(
+                status().isOk(),
+                jsonPath("$.count").value(2),
+                jsonPath("$.results[0].storeId").value(1L),
+                jsonPath("$.results[0].name").value("Pasta"),
+                jsonPath("$.results[1].name").value("Gangnam Pasta")
+        );
+    }
+
+    @Test
+    @DisplayName("Testing GET /v1/stores/suggest endpoint without prefix")
+    void testSuggestEndpointWithoutPrefix() throws Exception {
+        mockMvc.perform(get("/v1/stores/suggest")).andExpect(status().isBadRequest());
+
+        Mockito.verifyNoInteractions(storeService);
+    }
+
     @Test
     @DisplayName("Testing PUT /v1/stores/{id} endpoint")
     void testUpdateEndpoint() throws Exception {
@@ -11,14 +11,28 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import reserve.auth.infrastructure.AuthorizationFactCache;
+import reserve.global.exception.ErrorCode;
+import reserve.global.exception.InvalidRequestException;
 import reserve.store.domain.Store;
 import reserve.store.dto.request.StoreCreateRequest;
+import reserve.store.dto.request.StoreNearbyRequest;
 import reserve.store.dto.request.StoreSearchRequest;
+import reserve.store.dto.request.StoreSuggestRequest;
 import reserve.store.dto.request.StoreUpdateRequest;
 import reserve.store.dto.response.StoreInfoListResponse;
 import reserve.store.dto.response.StoreInfoResponse;
+import reserve.store.dto.response.StoreNearbyListResponse;
+import reserve.store.dto.response.StoreNearbyResponse;
+import reserve.store.dto.response.StoreSuggestionListResponse;
+import reserve.store.dto.response.StoreSuggestionResponse;
+import reserve.store.infrastructure.StoreChangeChannel;
+import reserve.store.infrastructure.StoreNameSuggester;
 import reserve.store.infrastructure.StoreQueryRepository;
 import reserve.store.infrastructure.StoreRepository;
+import reserve.store.infrastructure.StoreSearchCountCache;
+import reserve.store.infrastructure.StoreSearchResultCache;
 import reserve.user.domain.User;
 import reserve.user.infrastructure.UserRepository;
 
@@ -40,6 +54,21 @@ class StoreServiceTest {
     @Mock
     UserRepository userRepository;
 
+    @Mock
+    StoreSearchCountCache storeSearchCountCache;
+
+    @Mock
+    StoreSearchResultCache storeSearchResultCache;
+
+    @Mock
+    StoreNameSuggester storeNameSuggester;
+
+    @Mock
+    StoreChangeChannel storeChangeChannel;
+
+    @Mock
+    AuthorizationFactCache authorizationFactCache;
+
     @InjectMocks
     StoreService storeService;
 
@@ -50,7 +79,7 @@ class StoreServiceTest {
         Mockito.when(storeCreateRequest.getName()).thenReturn("name");
         Mockito.when(storeCreateRequest.getAddress()).thenReturn("address");
         Mockito.when(storeCreateRequest.getDescription()).thenReturn("description");
-        Mockito.when(userRepository.existsById(1L)).thenReturn(true);
+        Mockito.when(authorizationFactCache.isUserAvailable(1L)).thenReturn(true);
         Mockito.when(storeRepository.save(Mockito.any())).thenAnswer(invocation -> invocation.getArgument(0));
 
         try (MockedConstruction<Store> ignored = Mockito.mockConstruction(
@@ -62,9 +91,27 @@ class StoreServiceTest {
 
             assertEquals(1L, result);
             Mockito.verify(storeRepository).save(Mockito.any());
+            Mockito.verify(storeChangeChannel).storeChanged(1L);
         }
     }
 
+    @Test
+    @DisplayName("Testing store creation with latitude but no longitude")
+    void testStoreCreationWithPartialLocation() {
+        StoreCreateRequest storeCreateRequest = new StoreCreateRequest();
+        storeCreateRequest.setName("name");
+        storeCreateRequest.setAddress("address");
+        storeCreateRequest.setDescription("description");
+        storeCreateRequest.setLatitude(37.4979);
+        Mockito.when(authorizationFactCache.isUserAvailable(1L)).thenReturn(true);
+
+        InvalidRequestException e =
+                assertThrows(InvalidRequestException.class, () -> storeService.create(1L, storeCreateRequest));
+
+        assertEquals(ErrorCode.INVALID_LOCATION, e.getErrorCode());
+        Mockito.verify(storeRepository, Mockito.never()).save(Mockito.any());
+    }
+
     @Test
     @DisplayName("Testing retrieval of store information")
     void testStoreInfoRetrieval() {
@@ -86,7 +133,7 @@ class StoreServiceTest {
                 new StoreInfoResponse(1L, "username", "Italian", "address", "Steak and pasta");
         StoreInfoResponse storeInfo3 =
                 new StoreInfoResponse(1L, "username", "Pizza", "address", "Pizza and pasta");
-        Mockito.when(storeQueryRepository.findResponsesBySearch(storeSearchRequest, pageable))
+        Mockito.when(storeSearchResultCache.findResponsesBySearch(storeSearchRequest, pageable))
                 .thenReturn(new PageImpl<>(List.of(storeInfo1, storeInfo2, storeInfo3), pageable, 3));
 
         StoreInfoListResponse response = storeService.search(storeSearchRequest, pageable);
@@ -99,6 +146,113 @@ class StoreServiceTest {
         assertThat(response.getResults()).contains(storeInfo1, storeInfo2, storeInfo3);
     }
 
+    @Test
+    @DisplayName("Testing store search without counting")
+    void testStoreSearchWithoutCount() {
+        StoreSearchRequest storeSearchRequest = new StoreSearchRequest();
+        storeSearchRequest.setCountMode(StoreSearchRequest.CountMode.NONE);
+        Pageable pageable = PageRequest.of(0, 1);
+
+        StoreInfoResponse storeInfo = new StoreInfoResponse(1L, "username", "Pasta", "address", "Pasta");
+        Mockito.when(storeQueryRepository.findSliceBySearch(storeSearchRequest, pageable))
+                .thenReturn(new SliceImpl<>(List.of(storeInfo), pageable, true));
+
+        StoreInfoListResponse response = storeService.search(storeSearchRequest, pageable);
+
+        assertNull(response.getCount());
+        assertEquals(StoreInfoListResponse.CountType.NONE, response.getCountType());
+        assertTrue(response.hasNext());
+        Mockito.verify(storeQueryRepository, Mockito.never()).countBySearch(Mockito.any());
+    }
+
+    @Test
+    @DisplayName("Testing store search with cached count")
+    void testStoreSearchWithCachedCount() {
+        StoreSearchRequest storeSearchRequest = new StoreSearchRequest();
+        storeSearchRequest.setQuery("pasta");
+        storeSearchRequest.setCountMode(StoreSearchRequest.CountMode.CACHED);
+        Pageable pageable = PageRequest.of(0, 1);
+
+        StoreInfoResponse storeInfo = new StoreInfoResponse(1L, "username", "Pasta", "address", "Pasta");
+        Mockito.when(storeQueryRepository.findSliceBySearch(storeSearchRequest, pageable))
+                .thenReturn(new SliceImpl<>(List.of(storeInfo), pageable, true));
+        Mockito.when(storeSearchCountCache.get(storeSearchRequest)).thenReturn(null, 3L);
+        Mockito.when(storeQueryRepository.countBySearch(storeSearchRequest)).thenReturn(3L);
+
+        StoreInfoListResponse first = storeService.search(storeSearchRequest, pageable);
+        StoreInfoListResponse second = storeService.search(storeSearchRequest, pageable);
+
+        assertEquals(3, first.getCount());
+        assertEquals(StoreInfoListResponse.CountType.EXACT, first.getCountType());
+        assertEquals(3, second.getCount());
+        assertEquals(StoreInfoListResponse.CountType.CACHED, second.getCountType());
+        Mockito.verify(storeSearchCountCache).put(storeSearchRequest, 3L);
+        Mockito.verify(storeQueryRepository, Mockito.times(1)).countBySearch(storeSearchRequest);
+    }
+
+    @Test
+    @DisplayName("Testing nearby store search")
+    void testStoreNearby() {
+        StoreNearbyRequest storeNearbyRequest = new StoreNearbyRequest();
+        storeNearbyRequest.setLat(37.4979);
+        storeNearbyRequest.setLng(127.0276);
+        List<StoreNearbyResponse> stores = List.of(
+                new StoreNearbyResponse(1L, "user", "Pasta", "address", "description", 37.4981, 127.0279, 35)
+        );
+        Mockito.when(storeQueryRepository.findResponsesNearby(storeNearbyRequest)).thenReturn(stores);
+
+        StoreNearbyListResponse response = storeService.nearby(storeNearbyRequest);
+
+        assertEquals(1, response.getCount());
+        assertEquals(stores, response.getResults());
+    }
+
+    @Test
+    @DisplayName("Testing store name suggestions")
+    void testStoreSuggestion() {
+        StoreSuggestRequest storeSuggestRequest = new StoreSuggestRequest();
+        storeSuggestRequest.setPrefix("pas");
+        List<StoreSuggestionResponse> suggestions = List.of(new StoreSuggestionResponse(1L, "Pasta"));
+        Mockito.when(storeNameSuggester.suggest("pas")).thenReturn(suggestions);
+
+        StoreSuggestionListResponse response = storeService.suggest(storeSuggestRequest);
+
+        assertEquals(1, response.getCount());
+        assertEquals(suggestions, response.getResults());
+    }
+
+    @Test
+    @DisplayName("Testing store update without renaming")
+    void testStoreUpdateWithoutRenaming() {
+        Store store = new Store(Mockito.mock(User.class), "name", "address", "description");
+        Mockito.when(storeRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(store));
+
+        StoreUpdateRequest storeUpdateRequest = new StoreUpdateRequest();
+        storeUpdateRequest.setDescription("newDescription");
+
+        storeService.update(1L, 1L, storeUpdateRequest);
+
+        assertEquals("newDescription", store.getDescription());
+        assertEquals("name", store.getName());
+        Mockito.verify(storeChangeChannel).storeChanged(1L);
+    }
+
+    @Test
+    @DisplayName("Testing store location update")
+    void testStoreLocationUpdate() {
+        Store store = new Store(Mockito.mock(User.class), "name", "address", "description");
+        Mockito.when(storeRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(store));
+
+        StoreUpdateRequest storeUpdateRequest = new StoreUpdateRequest();
+        storeUpdateRequest.setLatitude(37.4979);
+        storeUpdateRequest.setLongitude(127.0276);
+
+        storeService.update(1L, 1L, storeUpdateRequest);
+
+        assertEquals(37.4979, store.getLatitude());
+        assertEquals(127.0276, store.getLongitude());
+    }
+
     @Test
     @DisplayName("Testing store update")
     void testStoreUpdate() {
@@ -109,22 +263,26 @@ class StoreServiceTest {
         Mockito.when(storeUpdateRequest.getName()).thenReturn("newName");
         Mockito.when(storeUpdateRequest.getAddress()).thenReturn("newAddress");
         Mockito.when(storeUpdateRequest.getDescription()).thenReturn("newDescription");
+        Mockito.when(storeUpdateRequest.getCapacity()).thenReturn(5);
 
         storeService.update(1L, 1L, storeUpdateRequest);
 
         Mockito.verify(store).setName("newName");
         Mockito.verify(store).setAddress("newAddress");
         Mockito.verify(store).setDescription("newDescription");
+        Mockito.verify(store).setCapacity(5);
+        Mockito.verify(storeChangeChannel).storeChanged(1L);
     }
 
     @Test
     @DisplayName("Testing store deletion")
     void testStoreDeletion() {
-        Mockito.when(storeRepository.existsByIdAndUserId(1L, 1L)).thenReturn(true);
+        Mockito.when(authorizationFactCache.isStoreOwner(1L, 1L)).thenReturn(true);
 
         storeService.delete(1L, 1L);
 
         Mockito.verify(storeRepository).deleteById(1L);
+        Mockito.verify(storeChangeChannel).storeDeleted(1L);
     }
 
 }
\ No newline at end of file
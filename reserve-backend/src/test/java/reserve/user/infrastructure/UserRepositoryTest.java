@@ -24,4 +24,14 @@ class UserRepositoryTest {
         assertFalse(userRepository.existsById(user.getId()));
     }
 
+    @Test
+    @DisplayName("Testing password hash change unless it has changed meanwhile")
+    void testPasswordHashChange() {
+        User user = userRepository.save(new User("username", "password", "hello", "description"));
+
+        assertEquals(1, userRepository.changePasswordHash(user.getId(), "password", "password2"));
+        assertEquals(0, userRepository.changePasswordHash(user.getId(), "password", "password3"));
+        assertEquals(1, userRepository.changePasswordHash(user.getId(), "password2", "password3"));
+    }
+
 }
@@ -8,6 +8,11 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import reserve.auth.infrastructure.AuthorizationFactCache;
+import reserve.global.exception.AuthenticationException;
+import reserve.global.exception.ErrorCode;
+import reserve.signin.infrastructure.RefreshTokenRepository;
 import reserve.signup.infrastructure.PasswordEncoder;
 import reserve.signup.infrastructure.Pbkdf2PasswordEncoder;
 import reserve.user.domain.User;
@@ -31,6 +36,15 @@ class UserServiceTest {
     @Mock
     UserRepository userRepository;
 
+    @Mock
+    RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    AuthorizationFactCache authorizationFactCache;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
     @InjectMocks
     UserService userService;
 
@@ -67,15 +81,36 @@ class UserServiceTest {
     @Test
     @DisplayName("Testing password update")
     void testPasswordUpdate() {
-        User user = new User("username", passwordEncoder.encode("password"), "nickname", "description");
+        String passwordHash = passwordEncoder.encode("password");
+        User user = new User("username", passwordHash, "nickname", "description");
         Mockito.when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        Mockito.when(userRepository.changePasswordHash(
+                Mockito.eq(1L),
+                Mockito.eq(passwordHash),
+                Mockito.argThat(hash -> passwordEncoder.matches("newPassword", hash))
+        )).thenReturn(1);
 
         PasswordUpdateRequest passwordUpdateRequest = Mockito.spy(new PasswordUpdateRequest());
         Mockito.when(passwordUpdateRequest.getOldPassword()).thenReturn("password");
         Mockito.when(passwordUpdateRequest.getNewPassword()).thenReturn("newPassword");
-        userService.updatePassword(1L, passwordUpdateRequest);
+        assertDoesNotThrow(() -> userService.updatePassword(1L, passwordUpdateRequest));
+    }
 
-        assertTrue(passwordEncoder.matches("newPassword", user.getPasswordHash()));
+    @Test
+    @DisplayName("Testing password update is rejected when the password has been changed meanwhile")
+    void testPasswordUpdateAfterConcurrentChange() {
+        User user = new User("username", passwordEncoder.encode("password"), "nickname", "description");
+        Mockito.when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        Mockito.when(userRepository.changePasswordHash(Mockito.eq(1L), Mockito.any(), Mockito.any())).thenReturn(0);
+
+        PasswordUpdateRequest passwordUpdateRequest = new PasswordUpdateRequest();
+        passwordUpdateRequest.setOldPassword("password");
+        passwordUpdateRequest.setNewPassword("newPassword");
+        AuthenticationException e = assertThrows(
+                AuthenticationException.class,
+                () -> userService.updatePassword(1L, passwordUpdateRequest)
+        );
+        assertEquals(ErrorCode.WRONG_PASSWORD, e.getErrorCode());
     }
 
     @Test
@@ -87,6 +122,10 @@ class UserServiceTest {
         UserDeleteRequest userDeleteRequest = Mockito.spy(new UserDeleteRequest());
         Mockito.when(userDeleteRequest.getPassword()).thenReturn("password");
         userService.delete(1L, userDeleteRequest);
+
+        Mockito.verify(userRepository).deleteById(1L);
+        Mockito.verify(refreshTokenRepository).deleteAllByUserId(1L);
+        Mockito.verify(authorizationFactCache).evictUser(1L);
     }
 
 }
\ No newline at end of file